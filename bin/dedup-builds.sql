@@ -0,0 +1,26 @@
+-- Removes duplicate builds and results that have been stored by parallel writers before the builds and results got
+-- their unique keys, then adds the unique keys. Of every duplicate the first stored row (the smallest id) is kept.
+-- Stop the dashboard and back up the database before running the script, see the README.
+
+create temporary table duplicate_build as
+    select b.id from build b
+    where b.id > (select min(k.id) from build k where k.job_entity_id = b.job_entity_id and k.number = b.number);
+
+create temporary table duplicate_result as
+    select r.id from result r
+    where r.build_entity_id in (select id from duplicate_build)
+       or r.id > (select min(k.id) from result k where k.build_entity_id = r.build_entity_id and k.warning_id = r.warning_id);
+
+delete from issue where issues_id in (select p.id from report p where p.result_entity_id in (select id from duplicate_result));
+delete from report where result_entity_id in (select id from duplicate_result);
+delete from report_archive where result_id in (select id from duplicate_result);
+delete from result_entity_error_messages where result_entity_id in (select id from duplicate_result);
+delete from result_entity_info_messages where result_entity_id in (select id from duplicate_result);
+delete from result where id in (select id from duplicate_result);
+delete from build where id in (select id from duplicate_build);
+
+drop temporary table duplicate_result;
+drop temporary table duplicate_build;
+
+alter table build add constraint uk_build_job_number unique (job_entity_id, number);
+alter table result add constraint uk_result_build_warning unique (build_entity_id, warning_id);
@@ -0,0 +1,90 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the detection of anomalies in the trends of the results.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.anomaly")
+public class AnomalyProperties {
+    private double smoothing = 0.3;
+    private double threshold = 3.5;
+    private int warmupBuilds = 5;
+    private double minDeviation = 1.0;
+
+    /**
+     * Getter for the smoothing factor of the moving statistics. A higher factor forgets older builds faster.
+     *
+     * @return the smoothing factor between 0 and 1
+     */
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * Setter for the smoothing factor of the moving statistics.
+     *
+     * @param smoothing the smoothing factor between 0 and 1
+     */
+    public void setSmoothing(final double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Getter for the score a value has to reach to be an anomaly.
+     *
+     * @return the threshold of the z-scores
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Setter for the score a value has to reach to be an anomaly.
+     *
+     * @param threshold the threshold of the z-scores
+     */
+    public void setThreshold(final double threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Getter for the number of builds that are used to learn the statistics before anomalies are detected.
+     *
+     * @return the number of builds
+     */
+    public int getWarmupBuilds() {
+        return warmupBuilds;
+    }
+
+    /**
+     * Setter for the number of builds that are used to learn the statistics before anomalies are detected.
+     *
+     * @param warmupBuilds the number of builds
+     */
+    public void setWarmupBuilds(final int warmupBuilds) {
+        this.warmupBuilds = warmupBuilds;
+    }
+
+    /**
+     * Getter for the minimum deviation of the statistics. A trend without any changes would otherwise flag every
+     * change of a single warning.
+     *
+     * @return the minimum deviation in warnings
+     */
+    public double getMinDeviation() {
+        return minDeviation;
+    }
+
+    /**
+     * Setter for the minimum deviation of the statistics.
+     *
+     * @param minDeviation the minimum deviation in warnings
+     */
+    public void setMinDeviation(final double minDeviation) {
+        this.minDeviation = minDeviation;
+    }
+}
@@ -0,0 +1,89 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the archive of the issues of old builds.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.archive")
+public class ArchiveProperties {
+    private boolean enabled = false;
+    private int maxAgeInDays = 180;
+    private int batchSize = 20;
+    private int maxResultsPerRun = 1000;
+
+    /**
+     * Getter for the flag whether the issues of old builds are archived.
+     *
+     * @return {@code true} if the issues of old builds are archived
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Setter for the flag whether the issues of old builds are archived.
+     *
+     * @param enabled {@code true} if the issues of old builds are archived
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Getter for the age of the builds whose issues are archived.
+     *
+     * @return the age in days
+     */
+    public int getMaxAgeInDays() {
+        return maxAgeInDays;
+    }
+
+    /**
+     * Setter for the age of the builds whose issues are archived.
+     *
+     * @param maxAgeInDays the age in days
+     */
+    public void setMaxAgeInDays(final int maxAgeInDays) {
+        this.maxAgeInDays = maxAgeInDays;
+    }
+
+    /**
+     * Getter for the number of results that are read and archived at once.
+     *
+     * @return the number of results
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Setter for the number of results that are read and archived at once.
+     *
+     * @param batchSize the number of results
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Getter for the maximum number of results that are archived by one run of the compaction.
+     *
+     * @return the number of results
+     */
+    public int getMaxResultsPerRun() {
+        return maxResultsPerRun;
+    }
+
+    /**
+     * Setter for the maximum number of results that are archived by one run of the compaction.
+     *
+     * @param maxResultsPerRun the number of results
+     */
+    public void setMaxResultsPerRun(final int maxResultsPerRun) {
+        this.maxResultsPerRun = maxResultsPerRun;
+    }
+}
@@ -0,0 +1,91 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the offline import of report files.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.import")
+public class ImportProperties {
+    private String directory;
+    private int threads = 4;
+    private int buildsInFlight = 8;
+    private long memoryMapThresholdInBytes = 16_777_216;
+
+    /**
+     * Getter for the directory with the report files. The directory contains a folder for every job, which contains a
+     * folder for every build (named by the build number) with the report files of the build.
+     *
+     * @return the directory or {@code null} if the import is disabled
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Setter for the directory with the report files.
+     *
+     * @param directory the directory or {@code null} if the import is disabled
+     */
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Getter for the number of threads that parse the report files.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Setter for the number of threads that parse the report files.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(final int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Getter for the maximum number of builds whose report files are parsed ahead of the build that is saved. Limits the
+     * memory of the parsed reports that wait to be saved.
+     *
+     * @return the number of builds
+     */
+    public int getBuildsInFlight() {
+        return buildsInFlight;
+    }
+
+    /**
+     * Setter for the maximum number of builds whose report files are parsed ahead of the build that is saved.
+     *
+     * @param buildsInFlight the number of builds
+     */
+    public void setBuildsInFlight(final int buildsInFlight) {
+        this.buildsInFlight = buildsInFlight;
+    }
+
+    /**
+     * Getter for the size of a report file from which on the file is read by a memory mapping instead of a stream.
+     *
+     * @return the size in bytes
+     */
+    public long getMemoryMapThresholdInBytes() {
+        return memoryMapThresholdInBytes;
+    }
+
+    /**
+     * Setter for the size of a report file from which on the file is read by a memory mapping instead of a stream.
+     *
+     * @param memoryMapThresholdInBytes the size in bytes
+     */
+    public void setMemoryMapThresholdInBytes(final long memoryMapThresholdInBytes) {
+        this.memoryMapThresholdInBytes = memoryMapThresholdInBytes;
+    }
+}
@@ -3,18 +3,24 @@ package edu.hm.hafner.dashboard.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Configuration to get access to the REST Endpoint from Jenkins.
- * The Endpoint is specified in the applications.properties of this Project.
+ * Configuration to get access to the REST Endpoints from Jenkins.
+ * The Endpoints are specified in the applications.properties of this Project. Besides the single default Endpoint
+ * (rest-configuration), a list of additional Jenkins controllers can be configured to harvest several controllers in parallel.
  *
  * @author Deniz Mardin
  */
 @Configuration
 @ConfigurationProperties("jenkins.api")
 public class RestApiProperties {
+    /** Name of the controller that is configured by the single default Endpoint. */
+    public static final String DEFAULT_CONTROLLER = "default";
 
-    //TODO add security
     private RestConfiguration restConfiguration;
+    private List<RestConfiguration> controllers = new ArrayList<>();
 
     /**
      * Getter for the {@link RestConfiguration}.
@@ -35,10 +41,50 @@ public class RestApiProperties {
     }
 
     /**
-     * Configuration to get access to the REST Endpoint from Jenkins.
+     * Getter for the configurations of the additional Jenkins controllers.
+     *
+     * @return the configurations of the controllers
+     */
+    public List<RestConfiguration> getControllers() {
+        return controllers;
+    }
+
+    /**
+     * Setter for the configurations of the additional Jenkins controllers.
+     *
+     * @param controllers the configurations of the controllers
+     */
+    public void setControllers(final List<RestConfiguration> controllers) {
+        this.controllers = controllers;
+    }
+
+    /**
+     * Configuration to get access to the REST Endpoint of a Jenkins controller.
      */
     public static class RestConfiguration {
+        private String name;
         private String endPoint;
+        private String username;
+        private String apiToken;
+        private int maxConcurrentRequests = 4;
+
+        /**
+         * Getter for the name of the controller. The name is used as namespace of the jobs of the controller.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Setter for the name of the controller.
+         *
+         * @param name the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
 
         /**
          * Getter for the specified Endpoint.
@@ -57,5 +103,59 @@ public class RestApiProperties {
         public void setEndPoint(final String endPoint) {
             this.endPoint = endPoint;
         }
+
+        /**
+         * Getter for the user to authenticate at the Endpoint.
+         *
+         * @return the user or {@code null} if the Endpoint is accessed anonymously
+         */
+        public String getUsername() {
+            return username;
+        }
+
+        /**
+         * Setter for the user to authenticate at the Endpoint.
+         *
+         * @param username the new user
+         */
+        public void setUsername(final String username) {
+            this.username = username;
+        }
+
+        /**
+         * Getter for the API token of the user.
+         *
+         * @return the API token
+         */
+        public String getApiToken() {
+            return apiToken;
+        }
+
+        /**
+         * Setter for the API token of the user.
+         *
+         * @param apiToken the new API token
+         */
+        public void setApiToken(final String apiToken) {
+            this.apiToken = apiToken;
+        }
+
+        /**
+         * Getter for the maximum number of concurrent requests to the Endpoint.
+         *
+         * @return the maximum number of concurrent requests
+         */
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        /**
+         * Setter for the maximum number of concurrent requests to the Endpoint.
+         *
+         * @param maxConcurrentRequests the new maximum number of concurrent requests
+         */
+        public void setMaxConcurrentRequests(final int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
     }
 }
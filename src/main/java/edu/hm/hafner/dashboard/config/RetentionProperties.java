@@ -0,0 +1,165 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the retention policy of the builds and their issues. A limit of 0 is not used.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.retention")
+public class RetentionProperties {
+    private boolean enabled = false;
+    private int keepIssuesBuilds = 100;
+    private int keepIssuesDays = 90;
+    private int maxBuilds = 0;
+    private int maxAgeInDays = 0;
+    private int batchSize = 20;
+    private long batchDelayInMillis = 500;
+    private int maxBatchesPerRun = 200;
+
+    /**
+     * Getter for the flag whether the retention policy is enforced.
+     *
+     * @return {@code true} if the retention policy is enforced
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Setter for the flag whether the retention policy is enforced.
+     *
+     * @param enabled {@code true} if the retention policy is enforced
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Getter for the number of the latest builds of a job that keep their issues.
+     *
+     * @return the number of builds
+     */
+    public int getKeepIssuesBuilds() {
+        return keepIssuesBuilds;
+    }
+
+    /**
+     * Setter for the number of the latest builds of a job that keep their issues.
+     *
+     * @param keepIssuesBuilds the number of builds
+     */
+    public void setKeepIssuesBuilds(final int keepIssuesBuilds) {
+        this.keepIssuesBuilds = keepIssuesBuilds;
+    }
+
+    /**
+     * Getter for the age of the builds that keep their issues.
+     *
+     * @return the age in days
+     */
+    public int getKeepIssuesDays() {
+        return keepIssuesDays;
+    }
+
+    /**
+     * Setter for the age of the builds that keep their issues.
+     *
+     * @param keepIssuesDays the age in days
+     */
+    public void setKeepIssuesDays(final int keepIssuesDays) {
+        this.keepIssuesDays = keepIssuesDays;
+    }
+
+    /**
+     * Getter for the number of the latest builds of a job that are kept at all.
+     *
+     * @return the number of builds
+     */
+    public int getMaxBuilds() {
+        return maxBuilds;
+    }
+
+    /**
+     * Setter for the number of the latest builds of a job that are kept at all.
+     *
+     * @param maxBuilds the number of builds
+     */
+    public void setMaxBuilds(final int maxBuilds) {
+        this.maxBuilds = maxBuilds;
+    }
+
+    /**
+     * Getter for the age of the builds that are kept at all.
+     *
+     * @return the age in days
+     */
+    public int getMaxAgeInDays() {
+        return maxAgeInDays;
+    }
+
+    /**
+     * Setter for the age of the builds that are kept at all.
+     *
+     * @param maxAgeInDays the age in days
+     */
+    public void setMaxAgeInDays(final int maxAgeInDays) {
+        this.maxAgeInDays = maxAgeInDays;
+    }
+
+    /**
+     * Getter for the number of builds or results that are deleted in one transaction.
+     *
+     * @return the number of builds or results
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Setter for the number of builds or results that are deleted in one transaction.
+     *
+     * @param batchSize the number of builds or results
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Getter for the delay between two transactions.
+     *
+     * @return the delay in milliseconds
+     */
+    public long getBatchDelayInMillis() {
+        return batchDelayInMillis;
+    }
+
+    /**
+     * Setter for the delay between two transactions.
+     *
+     * @param batchDelayInMillis the delay in milliseconds
+     */
+    public void setBatchDelayInMillis(final long batchDelayInMillis) {
+        this.batchDelayInMillis = batchDelayInMillis;
+    }
+
+    /**
+     * Getter for the maximum number of transactions of one run.
+     *
+     * @return the number of transactions
+     */
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    /**
+     * Setter for the maximum number of transactions of one run.
+     *
+     * @param maxBatchesPerRun the number of transactions
+     */
+    public void setMaxBatchesPerRun(final int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+}
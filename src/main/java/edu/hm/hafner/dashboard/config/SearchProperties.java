@@ -0,0 +1,52 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the full-text search of the issues.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.search")
+public class SearchProperties {
+    private String indexDirectory;
+    private int maxResultWindow = 10_000;
+
+    /**
+     * Getter for the directory of the search index.
+     *
+     * @return the directory or {@code null} if the index is kept in memory
+     */
+    public String getIndexDirectory() {
+        return indexDirectory;
+    }
+
+    /**
+     * Setter for the directory of the search index.
+     *
+     * @param indexDirectory the directory or {@code null} if the index is kept in memory
+     */
+    public void setIndexDirectory(final String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    /**
+     * Getter for the maximum position of a hit that can be paged to. Deeper pages have to collect all hits before them,
+     * so they are rejected to keep the search interactive.
+     *
+     * @return the maximum position
+     */
+    public int getMaxResultWindow() {
+        return maxResultWindow;
+    }
+
+    /**
+     * Setter for the maximum position of a hit that can be paged to.
+     *
+     * @param maxResultWindow the maximum position
+     */
+    public void setMaxResultWindow(final int maxResultWindow) {
+        this.maxResultWindow = maxResultWindow;
+    }
+}
@@ -0,0 +1,339 @@
+package edu.hm.hafner.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the synchronization with Jenkins.
+ * The values are specified in the applications.properties of this Project.
+ */
+@Configuration
+@ConfigurationProperties("dashboard.sync")
+public class SyncProperties {
+    private int backfillBuildsPerRun = 20;
+    private long backfillDelayInMillis = 250;
+    private int backfillMaxAttempts = 3;
+    private long watchInitialDelayInMillis = 30_000;
+    private long watchMaxDelayInMillis = 600_000;
+    private int watchMaxPolls = 100;
+    private int discoveryThreads = 4;
+    private int discoveryFrontierSize = 256;
+    private long topologyTtlInMillis = 600_000;
+    private int ingestionBatchSize = 50;
+    private int ingestionMaxAttempts = 5;
+    private String webhookToken;
+    private boolean enabled = true;
+    private int pipelineCapacity = 64;
+    private int pipelineWriters = 1;
+    private String pipelineSpillDirectory;
+    private int eventQueueCapacity = 256;
+
+    /**
+     * Getter for the maximum number of missing builds that are fetched during a single sync run.
+     *
+     * @return the maximum number of backfilled builds per run
+     */
+    public int getBackfillBuildsPerRun() {
+        return backfillBuildsPerRun;
+    }
+
+    /**
+     * Setter for the maximum number of missing builds that are fetched during a single sync run.
+     *
+     * @param backfillBuildsPerRun the maximum number of backfilled builds per run
+     */
+    public void setBackfillBuildsPerRun(final int backfillBuildsPerRun) {
+        this.backfillBuildsPerRun = backfillBuildsPerRun;
+    }
+
+    /**
+     * Getter for the delay between two backfilled builds, to limit the load on Jenkins.
+     *
+     * @return the delay in milliseconds
+     */
+    public long getBackfillDelayInMillis() {
+        return backfillDelayInMillis;
+    }
+
+    /**
+     * Setter for the delay between two backfilled builds, to limit the load on Jenkins.
+     *
+     * @param backfillDelayInMillis the delay in milliseconds
+     */
+    public void setBackfillDelayInMillis(final long backfillDelayInMillis) {
+        this.backfillDelayInMillis = backfillDelayInMillis;
+    }
+
+    /**
+     * Getter for the number of attempts to fetch a missing build before it is dropped from the backfill queue.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getBackfillMaxAttempts() {
+        return backfillMaxAttempts;
+    }
+
+    /**
+     * Setter for the number of attempts to fetch a missing build before it is dropped from the backfill queue.
+     *
+     * @param backfillMaxAttempts the maximum number of attempts
+     */
+    public void setBackfillMaxAttempts(final int backfillMaxAttempts) {
+        this.backfillMaxAttempts = backfillMaxAttempts;
+    }
+
+    /**
+     * Getter for the delay before a running build is checked for the first time.
+     *
+     * @return the initial delay in milliseconds
+     */
+    public long getWatchInitialDelayInMillis() {
+        return watchInitialDelayInMillis;
+    }
+
+    /**
+     * Setter for the delay before a running build is checked for the first time.
+     *
+     * @param watchInitialDelayInMillis the initial delay in milliseconds
+     */
+    public void setWatchInitialDelayInMillis(final long watchInitialDelayInMillis) {
+        this.watchInitialDelayInMillis = watchInitialDelayInMillis;
+    }
+
+    /**
+     * Getter for the upper bound of the delay between two checks of a running build.
+     *
+     * @return the maximum delay in milliseconds
+     */
+    public long getWatchMaxDelayInMillis() {
+        return watchMaxDelayInMillis;
+    }
+
+    /**
+     * Setter for the upper bound of the delay between two checks of a running build.
+     *
+     * @param watchMaxDelayInMillis the maximum delay in milliseconds
+     */
+    public void setWatchMaxDelayInMillis(final long watchMaxDelayInMillis) {
+        this.watchMaxDelayInMillis = watchMaxDelayInMillis;
+    }
+
+    /**
+     * Getter for the number of checks of a running build before it is removed from the watch list.
+     *
+     * @return the maximum number of checks
+     */
+    public int getWatchMaxPolls() {
+        return watchMaxPolls;
+    }
+
+    /**
+     * Setter for the number of checks of a running build before it is removed from the watch list.
+     *
+     * @param watchMaxPolls the maximum number of checks
+     */
+    public void setWatchMaxPolls(final int watchMaxPolls) {
+        this.watchMaxPolls = watchMaxPolls;
+    }
+
+    /**
+     * Getter for the number of threads that walk the folders and multibranch projects of a controller.
+     *
+     * @return the number of threads
+     */
+    public int getDiscoveryThreads() {
+        return discoveryThreads;
+    }
+
+    /**
+     * Setter for the number of threads that walk the folders and multibranch projects of a controller.
+     *
+     * @param discoveryThreads the number of threads
+     */
+    public void setDiscoveryThreads(final int discoveryThreads) {
+        this.discoveryThreads = discoveryThreads;
+    }
+
+    /**
+     * Getter for the maximum number of folders that are waiting to be walked. If the frontier is full, the discovering
+     * thread walks the folder itself.
+     *
+     * @return the size of the frontier
+     */
+    public int getDiscoveryFrontierSize() {
+        return discoveryFrontierSize;
+    }
+
+    /**
+     * Setter for the maximum number of folders that are waiting to be walked.
+     *
+     * @param discoveryFrontierSize the size of the frontier
+     */
+    public void setDiscoveryFrontierSize(final int discoveryFrontierSize) {
+        this.discoveryFrontierSize = discoveryFrontierSize;
+    }
+
+    /**
+     * Getter for the time the content of a folder is cached, before the folder is walked again.
+     *
+     * @return the time to live in milliseconds
+     */
+    public long getTopologyTtlInMillis() {
+        return topologyTtlInMillis;
+    }
+
+    /**
+     * Setter for the time the content of a folder is cached, before the folder is walked again.
+     *
+     * @param topologyTtlInMillis the time to live in milliseconds
+     */
+    public void setTopologyTtlInMillis(final long topologyTtlInMillis) {
+        this.topologyTtlInMillis = topologyTtlInMillis;
+    }
+
+    /**
+     * Getter for the maximum number of pushed build notifications that are fetched per interval.
+     *
+     * @return the batch size
+     */
+    public int getIngestionBatchSize() {
+        return ingestionBatchSize;
+    }
+
+    /**
+     * Setter for the maximum number of pushed build notifications that are fetched per interval.
+     *
+     * @param ingestionBatchSize the batch size
+     */
+    public void setIngestionBatchSize(final int ingestionBatchSize) {
+        this.ingestionBatchSize = ingestionBatchSize;
+    }
+
+    /**
+     * Getter for the number of attempts to fetch a pushed build before the task is marked as failed.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getIngestionMaxAttempts() {
+        return ingestionMaxAttempts;
+    }
+
+    /**
+     * Setter for the number of attempts to fetch a pushed build before the task is marked as failed.
+     *
+     * @param ingestionMaxAttempts the maximum number of attempts
+     */
+    public void setIngestionMaxAttempts(final int ingestionMaxAttempts) {
+        this.ingestionMaxAttempts = ingestionMaxAttempts;
+    }
+
+    /**
+     * Getter for the shared secret that Jenkins has to send in the X-Dashboard-Token header of a build notification. If
+     * no secret is configured, then the webhook is disabled and all notifications are rejected.
+     *
+     * @return the token
+     */
+    public String getWebhookToken() {
+        return webhookToken;
+    }
+
+    /**
+     * Setter for the shared secret that Jenkins has to send in the X-Dashboard-Token header of a build notification.
+     *
+     * @param webhookToken the token
+     */
+    public void setWebhookToken(final String webhookToken) {
+        this.webhookToken = webhookToken;
+    }
+
+    /**
+     * Getter for whether the data is synchronized with Jenkins, a dashboard that only imports local report files can disable it.
+     *
+     * @return {@code true} if the sync is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Setter for whether the data is synchronized with Jenkins, a dashboard that only imports local report files can disable it.
+     *
+     * @param enabled {@code true} if the sync is enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Getter for the number of harvested builds that are kept in memory until they are written, further builds are spilled to disk.
+     *
+     * @return the capacity of the pipeline
+     */
+    public int getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    /**
+     * Setter for the number of harvested builds that are kept in memory until they are written, further builds are spilled to disk.
+     *
+     * @param pipelineCapacity the capacity of the pipeline
+     */
+    public void setPipelineCapacity(final int pipelineCapacity) {
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
+    /**
+     * Getter for the number of threads that write the harvested builds to the database.
+     *
+     * @return the number of writers
+     */
+    public int getPipelineWriters() {
+        return pipelineWriters;
+    }
+
+    /**
+     * Setter for the number of threads that write the harvested builds to the database.
+     *
+     * @param pipelineWriters the number of writers
+     */
+    public void setPipelineWriters(final int pipelineWriters) {
+        this.pipelineWriters = pipelineWriters;
+    }
+
+    /**
+     * Getter for the directory for the harvested builds that are spilled to disk.
+     *
+     * @return the directory or {@code null} for a temporary directory
+     */
+    public String getPipelineSpillDirectory() {
+        return pipelineSpillDirectory;
+    }
+
+    /**
+     * Setter for the directory for the harvested builds that are spilled to disk.
+     *
+     * @param pipelineSpillDirectory the directory or {@code null} for a temporary directory
+     */
+    public void setPipelineSpillDirectory(final String pipelineSpillDirectory) {
+        this.pipelineSpillDirectory = pipelineSpillDirectory;
+    }
+
+    /**
+     * Getter for the number of events of saved or pruned builds that are queued until their listeners have run, further
+     * events block the publisher.
+     *
+     * @return the capacity of the event queue
+     */
+    public int getEventQueueCapacity() {
+        return eventQueueCapacity;
+    }
+
+    /**
+     * Setter for the number of events of saved or pruned builds that are queued until their listeners have run.
+     *
+     * @param eventQueueCapacity the capacity of the event queue
+     */
+    public void setEventQueueCapacity(final int eventQueueCapacity) {
+        this.eventQueueCapacity = eventQueueCapacity;
+    }
+}
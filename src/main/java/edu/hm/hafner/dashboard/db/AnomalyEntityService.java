@@ -0,0 +1,84 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.AnomalyEntity;
+import edu.hm.hafner.dashboard.db.model.TrendStatisticEntity;
+import edu.hm.hafner.dashboard.db.repository.AnomalyRepository;
+import edu.hm.hafner.dashboard.db.repository.TrendStatisticRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service to handle the interactions for {@link TrendStatisticEntity}s and {@link AnomalyEntity}s with the database by
+ * using the {@link TrendStatisticRepository} and the {@link AnomalyRepository}.
+ */
+@Service
+public class AnomalyEntityService {
+    private final TrendStatisticRepository trendStatisticRepository;
+    private final AnomalyRepository anomalyRepository;
+
+    /**
+     * Creates a new instance of {@link AnomalyEntityService}.
+     *
+     * @param trendStatisticRepository the repository for the statistics of the trends
+     * @param anomalyRepository        the repository for anomalies
+     */
+    @Autowired
+    public AnomalyEntityService(final TrendStatisticRepository trendStatisticRepository,
+            final AnomalyRepository anomalyRepository) {
+        this.trendStatisticRepository = trendStatisticRepository;
+        this.anomalyRepository = anomalyRepository;
+    }
+
+    /**
+     * Finds the statistics of a metric of a tool of a job.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param metric  the name of the metric
+     * @return the {@link TrendStatisticEntity}, if a build has been added
+     */
+    public Optional<TrendStatisticEntity> findStatistic(final String jobName, final String tool, final String metric) {
+        return trendStatisticRepository.findByJobNameAndToolAndMetric(jobName, tool, metric);
+    }
+
+    /**
+     * Saves the statistics of a metric and the anomaly of the build that has been added.
+     *
+     * @param statistic the updated {@link TrendStatisticEntity}
+     * @param anomaly   the {@link AnomalyEntity} of the build, or {@code null} if the value is no anomaly
+     */
+    @Transactional
+    public void save(final TrendStatisticEntity statistic, final AnomalyEntity anomaly) {
+        trendStatisticRepository.save(statistic);
+        if (anomaly != null) {
+            anomalyRepository.save(anomaly);
+        }
+    }
+
+    /**
+     * Finds the anomalies of a job.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of anomalies
+     * @return the {@link AnomalyEntity}s, the latest build first
+     */
+    public List<AnomalyEntity> findAnomalies(final String jobName, final int limit) {
+        return anomalyRepository.findByJobNameOrderByBuildNumberDescIdAsc(jobName, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Finds the numbers of the builds with anomalies of a tool of a job.
+     *
+     * @param jobName  the name of the job
+     * @param toolName the name of the tool
+     * @return the build numbers
+     */
+    public List<Integer> findAnomalousBuilds(final String jobName, final String toolName) {
+        return anomalyRepository.findBuildNumbers(jobName, toolName);
+    }
+}
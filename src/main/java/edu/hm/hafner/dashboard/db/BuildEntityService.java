@@ -1,11 +1,18 @@
 package edu.hm.hafner.dashboard.db;
 
 import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
 import edu.hm.hafner.dashboard.db.repository.BuildRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Service to handle the interactions for {@link BuildEntity}s with the database by using the {@link BuildRepository}.
@@ -35,4 +42,167 @@ public class BuildEntityService {
     public List<BuildEntity> saveAll(final List<BuildEntity> buildEntities) {
         return buildRepository.saveAll(buildEntities);
     }
+
+    /**
+     * Finds the numbers of all stored {@link BuildEntity}s of a job.
+     *
+     * @param jobId the id of the job
+     * @return the stored build numbers
+     */
+    public List<Integer> findBuildNumbers(final int jobId) {
+        return buildRepository.findBuildNumbersByJobId(jobId);
+    }
+
+    /**
+     * Finds the {@link BuildEntity}s of a job that have been started within a time range.
+     *
+     * @param jobName    the name of the job
+     * @param from       the earliest start time in milliseconds since the epoch
+     * @param to         the latest start time in milliseconds since the epoch
+     * @param buildCount the maximum number of builds, 0 for all builds of the range
+     * @return the {@link BuildEntity}s, the newest build first
+     */
+    public List<BuildEntity> findBuildsBetween(final String jobName, final long from, final long to, final int buildCount) {
+        return buildRepository.findByJobNameAndTimestampBetween(jobName, from, to, createPageable(buildCount));
+    }
+
+    /**
+     * Finds the latest {@link BuildEntity}s of a job.
+     *
+     * @param jobName    the name of the job
+     * @param buildCount the number of builds
+     * @return the {@link BuildEntity}s, the newest build first
+     */
+    public List<BuildEntity> findLatestBuilds(final String jobName, final int buildCount) {
+        return buildRepository.findByJobEntityNameOrderByNumberDesc(jobName, createPageable(buildCount));
+    }
+
+    /**
+     * Finds the numbers of all stored {@link BuildEntity}s of a job.
+     *
+     * @param jobName the name of the job
+     * @return the stored build numbers
+     */
+    public List<Integer> findBuildNumbers(final String jobName) {
+        return buildRepository.findBuildNumbersByJobName(jobName);
+    }
+
+    /**
+     * Finds the number of the latest stored {@link BuildEntity} of a job, without loading the builds.
+     *
+     * @param jobName the name of the job
+     * @return the latest build number, or 0 if no build of the job is stored
+     */
+    public int findLatestBuildNumber(final String jobName) {
+        List<Integer> numbers = buildRepository.findLatestBuildNumbers(jobName, PageRequest.of(0, 1));
+        return numbers.isEmpty() ? 0 : numbers.get(0);
+    }
+
+    /**
+     * Finds a {@link BuildEntity} of a job.
+     *
+     * @param jobName the name of the job
+     * @param number  the build number
+     * @return the {@link BuildEntity}, or an empty {@link Optional} if the build is not stored
+     */
+    public Optional<BuildEntity> findBuild(final String jobName, final int number) {
+        return buildRepository.findByJobEntityNameAndNumber(jobName, number);
+    }
+
+    /**
+     * Returns whether a {@link BuildEntity} of a job is stored.
+     *
+     * @param jobName the name of the job
+     * @param number  the build number
+     * @return {@code true} if the build is stored
+     */
+    public boolean exists(final String jobName, final int number) {
+        return buildRepository.existsByJobEntityNameAndNumber(jobName, number);
+    }
+
+    /**
+     * Finds the numbers of the {@link BuildEntity}s of a job that have been stored without a start time.
+     *
+     * @param jobId the id of the job
+     * @return the build numbers
+     */
+    public List<Integer> findBuildNumbersWithoutTimestamp(final int jobId) {
+        return buildRepository.findBuildNumbersWithoutTimestamp(jobId);
+    }
+
+    /**
+     * Sets the start time and the duration of a {@link BuildEntity} that has been stored without a start time.
+     *
+     * @param jobId     the id of the job
+     * @param number    the build number
+     * @param timestamp the start time in milliseconds since the epoch
+     * @param duration  the duration in milliseconds
+     * @return {@code true} if the build has been updated
+     */
+    @Transactional
+    public boolean updateTimestamp(final int jobId, final int number, final long timestamp, final long duration) {
+        return buildRepository.updateTimestamp(jobId, number, timestamp, duration) > 0;
+    }
+
+    private Pageable createPageable(final int buildCount) {
+        return buildCount > 0 ? PageRequest.of(0, buildCount) : Pageable.unpaged();
+    }
+
+    /**
+     * Saves a {@link BuildEntity} in its own transaction, identified by its natural key: the job and the build number. A
+     * build that is not stored yet is inserted. The results of a stored build are merged by their tool id: unchanged
+     * results are kept, changed results are updated and new results are added. If nothing has changed, then the stored
+     * build is returned without writing to the database, so ingesting the same build again is a cheap no-op.
+     *
+     * <p>
+     * A build that has been inserted concurrently by another writer violates the unique key of the table. The caller
+     * should then call this method again, the second call will merge into the stored build.
+     * </p>
+     *
+     * @param buildEntity the {@link BuildEntity} with its {@link edu.hm.hafner.dashboard.db.model.JobEntity} and results
+     * @return the stored {@link BuildEntity}
+     * @throws org.springframework.dao.DataIntegrityViolationException if the build has been inserted concurrently
+     */
+    @Transactional
+    public BuildEntity upsert(final BuildEntity buildEntity) {
+        Optional<BuildEntity> storedBuildEntity = buildRepository.findByJobEntityIdAndNumber(
+                buildEntity.getJobEntity().getId(), buildEntity.getNumber());
+        if (!storedBuildEntity.isPresent()) {
+            return buildRepository.saveAndFlush(buildEntity);
+        }
+
+        BuildEntity stored = storedBuildEntity.get();
+        if (merge(stored, buildEntity)) {
+            return buildRepository.saveAndFlush(stored);
+        }
+        return stored;
+    }
+
+    private boolean merge(final BuildEntity stored, final BuildEntity buildEntity) {
+        boolean isChanged = false;
+        if (buildEntity.getUrl() != null && !buildEntity.getUrl().equals(stored.getUrl())) {
+            stored.setUrl(buildEntity.getUrl());
+            isChanged = true;
+        }
+        if (buildEntity.getTimestamp() != 0 && buildEntity.getTimestamp() != stored.getTimestamp()
+                || buildEntity.getDuration() != 0 && buildEntity.getDuration() != stored.getDuration()) {
+            stored.setTimestamp(buildEntity.getTimestamp());
+            stored.setDuration(buildEntity.getDuration());
+            isChanged = true;
+        }
+        for (ResultEntity resultEntity : new ArrayList<>(buildEntity.getResultEntities())) {
+            Optional<ResultEntity> storedResult = stored.getResultEntities().stream()
+                    .filter(result -> Objects.equals(result.getWarningId(), resultEntity.getWarningId()))
+                    .findFirst();
+            if (!storedResult.isPresent()) {
+                stored.addResultEntity(resultEntity);
+                isChanged = true;
+            }
+            else if (!storedResult.get().hasSameValues(resultEntity)) {
+                storedResult.get().update(resultEntity);
+                isChanged = true;
+            }
+        }
+        return isChanged;
+    }
 }
@@ -0,0 +1,146 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.HotspotBuildEntity;
+import edu.hm.hafner.dashboard.db.model.HotspotEntity;
+import edu.hm.hafner.dashboard.db.repository.HotspotBuildRepository;
+import edu.hm.hafner.dashboard.db.repository.HotspotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service to handle the interactions for {@link HotspotEntity}s with the database by using the {@link HotspotRepository}
+ * and the {@link HotspotBuildRepository}.
+ */
+@Service
+public class HotspotEntityService {
+    /** The index of the number of outstanding and new issues in the counts of a hot spot. */
+    public static final int WARNINGS = 0;
+    /** The index of the number of new issues in the counts of a hot spot. */
+    public static final int NEW_ISSUES = 1;
+    /** The index of the number of fixed issues in the counts of a hot spot. */
+    public static final int FIXED_ISSUES = 2;
+
+    private static final int MAX_NAMES_PER_QUERY = 500;
+
+    private final HotspotRepository hotspotRepository;
+    private final HotspotBuildRepository hotspotBuildRepository;
+
+    /**
+     * Creates a new instance of {@link HotspotEntityService}.
+     *
+     * @param hotspotRepository      the repository for hot spots
+     * @param hotspotBuildRepository the repository for the counted builds
+     */
+    @Autowired
+    public HotspotEntityService(final HotspotRepository hotspotRepository,
+            final HotspotBuildRepository hotspotBuildRepository) {
+        this.hotspotRepository = hotspotRepository;
+        this.hotspotBuildRepository = hotspotBuildRepository;
+    }
+
+    /**
+     * Adds the issues of a tool in a build to the counters of the hot spots. A build is counted only once. The time the
+     * warnings exist is advanced only by a build that is newer than all counted builds: the current warnings of the
+     * previous build are added for the time until this build. A build that is counted late, i.e. after a newer build,
+     * adds to the counters that do not depend on the order of the builds only.
+     *
+     * @param jobName      the name of the job
+     * @param tool         the id of the tool
+     * @param buildNumber  the number of the build
+     * @param timestamp    the start time of the build in milliseconds since the epoch
+     * @param countsByKind the counts of the hot spots by kind and name, see {@link #WARNINGS}, {@link #NEW_ISSUES} and
+     *                     {@link #FIXED_ISSUES}
+     * @return {@code true} if the build has been counted, {@code false} if it has been counted before
+     */
+    @Transactional
+    public boolean apply(final String jobName, final String tool, final int buildNumber, final long timestamp,
+            final Map<String, Map<String, int[]>> countsByKind) {
+        if (hotspotBuildRepository.existsByJobNameAndToolAndBuildNumber(jobName, tool, buildNumber)) {
+            return false;
+        }
+
+        Optional<HotspotBuildEntity> latest = hotspotBuildRepository.findFirstByJobNameAndToolOrderByBuildNumberDesc(
+                jobName, tool);
+        boolean isLatest = !latest.isPresent() || buildNumber > latest.get().getBuildNumber();
+        if (isLatest && latest.isPresent()) {
+            hotspotRepository.closeInterval(jobName, tool, Math.max(0, timestamp - latest.get().getTimestamp()));
+        }
+
+        List<HotspotEntity> changed = new ArrayList<>();
+        for (Map.Entry<String, Map<String, int[]>> kind : countsByKind.entrySet()) {
+            Map<String, HotspotEntity> stored = findByNames(jobName, tool, kind.getKey(), kind.getValue());
+            for (Map.Entry<String, int[]> counts : kind.getValue().entrySet()) {
+                HotspotEntity hotspot = stored.computeIfAbsent(counts.getKey(),
+                        name -> new HotspotEntity(jobName, tool, kind.getKey(), name));
+                int[] value = counts.getValue();
+                hotspot.count(buildNumber, value[WARNINGS], value[NEW_ISSUES], value[FIXED_ISSUES], isLatest);
+                changed.add(hotspot);
+            }
+        }
+        hotspotRepository.saveAll(changed);
+        hotspotBuildRepository.save(new HotspotBuildEntity(jobName, tool, buildNumber, timestamp));
+        return true;
+    }
+
+    /**
+     * Deletes the marks of the counted builds of a job, e.g. after the builds have been deleted. The counters of the hot
+     * spots keep the issues of these builds.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     */
+    @Transactional
+    public void deleteBuilds(final String jobName, final Collection<Integer> buildNumbers) {
+        if (!buildNumbers.isEmpty()) {
+            hotspotBuildRepository.deleteBuilds(jobName, buildNumbers);
+        }
+    }
+
+    /**
+     * Finds the numbers of the builds of a job whose issues have been counted for at least one tool.
+     *
+     * @param jobName the name of the job
+     * @return the numbers of the counted builds
+     */
+    public List<Integer> findCountedBuildNumbers(final String jobName) {
+        return hotspotBuildRepository.findBuildNumbers(jobName);
+    }
+
+    /**
+     * Finds the hot spots of a tool of a job with the highest value of a property.
+     *
+     * @param jobName  the name of the job
+     * @param tool     the id of the tool
+     * @param kind     the kind of the hot spots
+     * @param property the property of the {@link HotspotEntity} to rank by
+     * @param limit    the maximum number of hot spots
+     * @return the {@link HotspotEntity}s, the highest value first
+     */
+    public List<HotspotEntity> findHotspots(final String jobName, final String tool, final String kind,
+            final String property, final int limit) {
+        return hotspotRepository.findByJobNameAndToolAndKind(jobName, tool, kind,
+                PageRequest.of(0, limit, Sort.by(Sort.Order.desc(property), Sort.Order.asc("name"))));
+    }
+
+    private Map<String, HotspotEntity> findByNames(final String jobName, final String tool, final String kind,
+            final Map<String, int[]> counts) {
+        Map<String, HotspotEntity> hotspots = new HashMap<>();
+        List<String> all = new ArrayList<>(counts.keySet());
+        for (int start = 0; start < all.size(); start += MAX_NAMES_PER_QUERY) {
+            List<String> chunk = all.subList(start, Math.min(start + MAX_NAMES_PER_QUERY, all.size()));
+            hotspotRepository.findByJobNameAndToolAndKindAndNameIn(jobName, tool, kind, chunk)
+                    .forEach(hotspot -> hotspots.put(hotspot.getName(), hotspot));
+        }
+        return hotspots;
+    }
+}
@@ -0,0 +1,109 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.IngestionTaskEntity;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskStatusEntity;
+import edu.hm.hafner.dashboard.db.repository.IngestionTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service to handle the interactions for {@link IngestionTaskEntity}s with the database by using the
+ * {@link IngestionTaskRepository}.
+ */
+@Service
+public class IngestionTaskEntityService {
+    private final IngestionTaskRepository ingestionTaskRepository;
+
+    /**
+     * Creates a new instance of {@link IngestionTaskEntityService}.
+     *
+     * @param ingestionTaskRepository the repository for ingestion tasks
+     */
+    @Autowired
+    public IngestionTaskEntityService(final IngestionTaskRepository ingestionTaskRepository) {
+        this.ingestionTaskRepository = ingestionTaskRepository;
+    }
+
+    /**
+     * Adds a task for a build to the queue. If there is already a task for the build, then the notification is coalesced
+     * into the existing task: the url and the time of the notification are updated and a failed task is pending again with
+     * fresh attempts.
+     *
+     * @param task the new {@link IngestionTaskEntity}
+     * @return {@code true} if a new task has been added, {@code false} if the notification has been coalesced
+     */
+    public boolean enqueue(final IngestionTaskEntity task) {
+        task.setReceivedAt(LocalDateTime.now());
+        task.setNotifications(1);
+        if (coalesce(task)) {
+            return false;
+        }
+        try {
+            ingestionTaskRepository.save(task);
+            return true;
+        } catch (DataIntegrityViolationException duplicate) {
+            // a concurrent notification for the same build has been stored in the meantime
+            return !coalesce(task);
+        }
+    }
+
+    private boolean coalesce(final IngestionTaskEntity task) {
+        IngestionTaskEntity existingTask = ingestionTaskRepository.findByJobNameAndBuildNumber(task.getJobName(), task.getBuildNumber());
+        if (existingTask == null) {
+            return false;
+        }
+        existingTask.setBuildUrl(task.getBuildUrl());
+        existingTask.setReceivedAt(task.getReceivedAt());
+        existingTask.setNotifications(existingTask.getNotifications() + 1);
+        if (existingTask.getStatus() == IngestionTaskStatusEntity.FAILED) {
+            existingTask.setAttempts(0);
+        }
+        existingTask.setStatus(IngestionTaskStatusEntity.PENDING);
+        ingestionTaskRepository.save(existingTask);
+        return true;
+    }
+
+    /**
+     * Returns the pending tasks, the oldest notification first.
+     *
+     * @param limit the maximum number of tasks
+     * @return the pending {@link IngestionTaskEntity}s
+     */
+    public List<IngestionTaskEntity> findPending(final int limit) {
+        return ingestionTaskRepository.findByStatusOrderByReceivedAtAsc(IngestionTaskStatusEntity.PENDING, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Counts the tasks with the given status.
+     *
+     * @param status the status
+     * @return the number of tasks
+     */
+    public long count(final IngestionTaskStatusEntity status) {
+        return ingestionTaskRepository.countByStatus(status);
+    }
+
+    /**
+     * Saves an {@link IngestionTaskEntity}.
+     *
+     * @param task the task to save
+     * @return the saved task
+     */
+    public IngestionTaskEntity save(final IngestionTaskEntity task) {
+        return ingestionTaskRepository.save(task);
+    }
+
+    /**
+     * Removes a completed {@link IngestionTaskEntity} from the queue.
+     *
+     * @param task the completed task
+     */
+    public void delete(final IngestionTaskEntity task) {
+        ingestionTaskRepository.delete(task);
+    }
+}
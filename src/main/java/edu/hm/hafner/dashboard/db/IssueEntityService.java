@@ -0,0 +1,60 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.IssueFingerprintEntity;
+import edu.hm.hafner.dashboard.db.model.IssuePropertiesEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.db.repository.IssueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service to handle the interactions for {@link IssueEntity}s with the database by using the {@link IssueRepository}.
+ */
+@Service
+public class IssueEntityService {
+    private static final List<WarningTypeEntity> CURRENT_ISSUES = Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW);
+
+    private final IssueRepository issueRepository;
+
+    /**
+     * Creates a new instance of {@link IssueEntityService}.
+     *
+     * @param issueRepository the repository for issues
+     */
+    @Autowired
+    public IssueEntityService(final IssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+
+    /**
+     * Finds the fingerprints of the issues of a tool that are reported in a build, i.e. the outstanding and the new
+     * issues.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param tool        the id of the tool
+     * @return the {@link IssueFingerprintEntity}s
+     */
+    public List<IssueFingerprintEntity> findFingerprints(final String jobName, final int buildNumber, final String tool) {
+        return issueRepository.findFingerprints(jobName, buildNumber, tool, CURRENT_ISSUES);
+    }
+
+    /**
+     * Finds the properties of the issues of a tool in a build that are shown as columns of the issue table.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param tool         the id of the tool
+     * @param warningTypes the types of the reports, e.g. NEW and OUTSTANDING
+     * @return the {@link IssuePropertiesEntity}s
+     */
+    public List<IssuePropertiesEntity> findProperties(final String jobName, final int buildNumber, final String tool,
+            final Collection<WarningTypeEntity> warningTypes) {
+        return issueRepository.findProperties(jobName, buildNumber, tool, warningTypes);
+    }
+}
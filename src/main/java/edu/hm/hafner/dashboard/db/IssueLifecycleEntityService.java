@@ -0,0 +1,126 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.IssueLifecycleEntity;
+import edu.hm.hafner.dashboard.db.repository.IssueLifecycleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service to handle the interactions for {@link IssueLifecycleEntity}s with the database by using the
+ * {@link IssueLifecycleRepository}.
+ */
+@Service
+public class IssueLifecycleEntityService {
+    private static final int MAX_FINGERPRINTS_PER_QUERY = 500;
+
+    private final IssueLifecycleRepository issueLifecycleRepository;
+
+    /**
+     * Creates a new instance of {@link IssueLifecycleEntityService}.
+     *
+     * @param issueLifecycleRepository the repository for the lifecycles of issues
+     */
+    @Autowired
+    public IssueLifecycleEntityService(final IssueLifecycleRepository issueLifecycleRepository) {
+        this.issueLifecycleRepository = issueLifecycleRepository;
+    }
+
+    /**
+     * Returns whether the issues of a tool of a job are tracked already.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @return {@code true} if the issues are tracked
+     */
+    public boolean isTracked(final String jobName, final String tool) {
+        return issueLifecycleRepository.existsByJobNameAndTool(jobName, tool);
+    }
+
+    /**
+     * Finds the lifecycle of an issue.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param fingerprint the fingerprint of the issue
+     * @return the {@link IssueLifecycleEntity}, if the issue is tracked
+     */
+    public Optional<IssueLifecycleEntity> findLifecycle(final String jobName, final String tool, final String fingerprint) {
+        return issueLifecycleRepository.findByJobNameAndToolAndFingerprint(jobName, tool, fingerprint);
+    }
+
+    /**
+     * Finds the open issues of a job that are open for the longest time.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of issues
+     * @return the {@link IssueLifecycleEntity}s, the oldest issue first
+     */
+    public List<IssueLifecycleEntity> findOldestOpenIssues(final String jobName, final int limit) {
+        return issueLifecycleRepository.findByJobNameAndFixedInBuildOrderByFirstSeenBuildAsc(
+                jobName, IssueLifecycleEntity.OPEN, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Updates the lifecycles of the issues of a tool with a build. Only the new and the fixed issues of the build are
+     * read and written: issues that have not been seen before are inserted, issues that are reported again after a fix
+     * are reopened, and fixed issues are closed. All other open issues are marked as seen in the build with a single
+     * statement.
+     *
+     * @param jobName           the name of the job
+     * @param tool              the id of the tool
+     * @param buildNumber       the number of the build
+     * @param timestamp         the start time of the build in milliseconds since the epoch
+     * @param seenIssues        the lifecycles of the issues that are new in the build, at most one per fingerprint
+     * @param fixedFingerprints the fingerprints of the issues that have been fixed in the build
+     */
+    @Transactional
+    public void track(final String jobName, final String tool, final int buildNumber, final long timestamp,
+            final Collection<IssueLifecycleEntity> seenIssues, final Collection<String> fixedFingerprints) {
+        Map<String, IssueLifecycleEntity> stored = findByFingerprints(jobName, tool, fixedFingerprints);
+        List<IssueLifecycleEntity> changed = new ArrayList<>();
+        for (String fingerprint : fixedFingerprints) {
+            IssueLifecycleEntity lifecycle = stored.get(fingerprint);
+            if (lifecycle != null && lifecycle.fixedIn(buildNumber)) {
+                changed.add(lifecycle);
+            }
+        }
+
+        List<String> seenFingerprints = new ArrayList<>();
+        seenIssues.forEach(issue -> seenFingerprints.add(issue.getFingerprint()));
+        stored = findByFingerprints(jobName, tool, seenFingerprints);
+        for (IssueLifecycleEntity issue : seenIssues) {
+            IssueLifecycleEntity lifecycle = stored.get(issue.getFingerprint());
+            if (lifecycle == null) {
+                changed.add(issue);
+            }
+            else {
+                lifecycle.seenIn(buildNumber, timestamp);
+                changed.add(lifecycle);
+            }
+        }
+
+        issueLifecycleRepository.saveAll(changed);
+        issueLifecycleRepository.updateLastSeenBuildOfOpenIssues(jobName, tool, buildNumber);
+    }
+
+    private Map<String, IssueLifecycleEntity> findByFingerprints(final String jobName, final String tool,
+            final Collection<String> fingerprints) {
+        Map<String, IssueLifecycleEntity> lifecycles = new HashMap<>();
+        List<String> all = new ArrayList<>(fingerprints);
+        for (int start = 0; start < all.size(); start += MAX_FINGERPRINTS_PER_QUERY) {
+            List<String> chunk = all.subList(start, Math.min(start + MAX_FINGERPRINTS_PER_QUERY, all.size()));
+            issueLifecycleRepository.findByJobNameAndToolAndFingerprintIn(jobName, tool, chunk)
+                    .forEach(lifecycle -> lifecycles.put(lifecycle.getFingerprint(), lifecycle));
+        }
+        return lifecycles;
+    }
+}
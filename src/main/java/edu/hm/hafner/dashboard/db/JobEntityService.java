@@ -35,6 +35,15 @@ public class JobEntityService {
         return jobRepository.findAll();
     }
 
+    /**
+     * Fetches the names of all jobs from the database, without loading the jobs.
+     *
+     * @return the names of the jobs
+     */
+    public List<String> findAllNames() {
+        return jobRepository.findAllNames();
+    }
+
     /**
      * Searches for a job by its name.
      *
@@ -45,6 +54,16 @@ public class JobEntityService {
         return jobRepository.findByName(name);
     }
 
+    /**
+     * Searches for a job by its name, without loading its builds.
+     *
+     * @param name the name of the job
+     * @return the job without its builds
+     */
+    public JobEntity findJobReferenceByName(final String name) {
+        return jobRepository.findReferenceByName(name);
+    }
+
     /**
      * Saves all given {@link JobEntity}s.
      *
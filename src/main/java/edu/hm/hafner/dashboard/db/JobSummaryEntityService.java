@@ -0,0 +1,108 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.JobEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
+import edu.hm.hafner.dashboard.db.repository.JobSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service to handle the interactions for {@link JobSummaryEntity}s with the database by using the
+ * {@link JobSummaryRepository}.
+ */
+@Service
+public class JobSummaryEntityService {
+    private final JobSummaryRepository jobSummaryRepository;
+
+    /**
+     * Creates a new instance of {@link JobSummaryEntityService}.
+     *
+     * @param jobSummaryRepository the repository for the summaries of the jobs
+     */
+    @Autowired
+    public JobSummaryEntityService(final JobSummaryRepository jobSummaryRepository) {
+        this.jobSummaryRepository = jobSummaryRepository;
+    }
+
+    /**
+     * Returns the summaries of all jobs.
+     *
+     * @return the {@link JobSummaryEntity}s, ordered by the name of the job
+     */
+    public List<JobSummaryEntity> findAll() {
+        return jobSummaryRepository.findAllWithTools();
+    }
+
+    /**
+     * Returns new summaries of the jobs that have no stored summary yet. Only the attributes of the jobs are read, not
+     * their builds.
+     *
+     * @return the new {@link JobSummaryEntity}s, not stored yet
+     */
+    public List<JobSummaryEntity> findMissingSummaries() {
+        return jobSummaryRepository.findMissingSummaries();
+    }
+
+    /**
+     * Stores a new summary of a job, unless a summary of the job has been stored in the meantime.
+     *
+     * @param summary the new summary
+     * @return {@code true} if the summary has been stored, {@code false} if a summary of the job is already stored
+     * @throws org.springframework.dao.DataIntegrityViolationException if the summary has been stored concurrently
+     */
+    @Transactional
+    public boolean create(final JobSummaryEntity summary) {
+        if (jobSummaryRepository.findByJobName(summary.getJobName()).isPresent()) {
+            return false;
+        }
+        jobSummaryRepository.save(summary);
+        return true;
+    }
+
+    /**
+     * Updates the attributes of the jobs in their summaries. Summaries of jobs without a summary are created.
+     *
+     * @param jobEntities the saved jobs
+     */
+    @Transactional
+    public void updateJobs(final List<JobEntity> jobEntities) {
+        List<JobSummaryEntity> summaries = new ArrayList<>();
+        for (JobEntity jobEntity : jobEntities) {
+            JobSummaryEntity summary = findOrCreate(jobEntity.getName());
+            summary.setUrl(jobEntity.getUrl());
+            summary.setLastBuildStatus(jobEntity.getLastBuildStatus());
+            summary.setControllerName(jobEntity.getControllerName());
+            summaries.add(summary);
+        }
+        jobSummaryRepository.saveAll(summaries);
+    }
+
+    /**
+     * Updates the summary of a job with the warnings of a build, see {@link JobSummaryEntity#update(int, long, List)}.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     * @param tools       the number of warnings per tool of the build, one per tool
+     * @return {@code true} if the summary has been changed, {@code false} if the build is older than the latest build
+     */
+    @Transactional
+    public boolean applyBuild(final String jobName, final int buildNumber, final long timestamp,
+            final List<ToolSummaryEntity> tools) {
+        JobSummaryEntity summary = findOrCreate(jobName);
+        if (!summary.update(buildNumber, timestamp, tools)) {
+            return false;
+        }
+        jobSummaryRepository.save(summary);
+        return true;
+    }
+
+    private JobSummaryEntity findOrCreate(final String jobName) {
+        return jobSummaryRepository.findByJobName(jobName).orElseGet(() -> new JobSummaryEntity(jobName));
+    }
+}
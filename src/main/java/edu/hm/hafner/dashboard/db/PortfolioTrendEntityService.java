@@ -0,0 +1,121 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.JobWarningSnapshotEntity;
+import edu.hm.hafner.dashboard.db.model.PortfolioTrendEntity;
+import edu.hm.hafner.dashboard.db.model.WarningCountEntity;
+import edu.hm.hafner.dashboard.db.repository.JobWarningSnapshotRepository;
+import edu.hm.hafner.dashboard.db.repository.PortfolioTrendRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service to handle the interactions for {@link PortfolioTrendEntity}s and {@link JobWarningSnapshotEntity}s with the
+ * database by using the {@link PortfolioTrendRepository} and {@link JobWarningSnapshotRepository}.
+ */
+@Service
+public class PortfolioTrendEntityService {
+    private final PortfolioTrendRepository portfolioTrendRepository;
+    private final JobWarningSnapshotRepository jobWarningSnapshotRepository;
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendEntityService}.
+     *
+     * @param portfolioTrendRepository     the repository for the changes of the portfolio
+     * @param jobWarningSnapshotRepository the repository for the snapshots of the jobs
+     */
+    @Autowired
+    public PortfolioTrendEntityService(final PortfolioTrendRepository portfolioTrendRepository,
+            final JobWarningSnapshotRepository jobWarningSnapshotRepository) {
+        this.portfolioTrendRepository = portfolioTrendRepository;
+        this.jobWarningSnapshotRepository = jobWarningSnapshotRepository;
+    }
+
+    /**
+     * Returns all changes of the portfolio, the earliest day first.
+     *
+     * @return the {@link PortfolioTrendEntity}s
+     */
+    public List<PortfolioTrendEntity> findAll() {
+        return portfolioTrendRepository.findAllByOrderByDayAsc();
+    }
+
+    /**
+     * Applies the snapshot of a build to the portfolio. The snapshot replaces the stored snapshot of the job at that day,
+     * unless a newer build of that day already has been applied. The difference to the warnings the job had before is
+     * added to the changes at that day. If the job has a later snapshot, then the difference is subtracted again at the
+     * day of the later snapshot, because from that day on the later snapshot counts. So builds may be applied in any
+     * order, and applying a build again changes nothing.
+     *
+     * @param snapshot the snapshot of the build
+     * @return {@code true} if the portfolio has been changed, {@code false} otherwise
+     */
+    @Transactional
+    public boolean applySnapshot(final JobWarningSnapshotEntity snapshot) {
+        int jobId = snapshot.getJobId();
+        LocalDate day = snapshot.getDay();
+        Optional<JobWarningSnapshotEntity> stored = jobWarningSnapshotRepository.findByJobIdAndDay(jobId, day);
+        if (stored.isPresent() && stored.get().getBuildNumber() > snapshot.getBuildNumber()) {
+            return false;
+        }
+
+        Optional<JobWarningSnapshotEntity> previous = stored.isPresent()
+                ? stored : jobWarningSnapshotRepository.findFirstByJobIdAndDayLessThanOrderByDayDesc(jobId, day);
+        Optional<LocalDate> nextDay = jobWarningSnapshotRepository.findFirstByJobIdAndDayGreaterThanOrderByDayAsc(jobId, day)
+                .map(JobWarningSnapshotEntity::getDay);
+
+        boolean isChanged = false;
+        for (Entry<String, String> key : collectKeys(previous, snapshot)) {
+            int before = previous.map(entity -> entity.getCount(key.getKey(), key.getValue())).orElse(0);
+            int delta = snapshot.getCount(key.getKey(), key.getValue()) - before;
+            if (delta != 0) {
+                addDelta(day, key, delta);
+                nextDay.ifPresent(next -> addDelta(next, key, -delta));
+                isChanged = true;
+            }
+        }
+
+        if (stored.isPresent()) {
+            if (isChanged || stored.get().getBuildNumber() != snapshot.getBuildNumber()) {
+                stored.get().setBuildNumber(snapshot.getBuildNumber());
+                stored.get().setCounts(new ArrayList<>(snapshot.getCounts()));
+                jobWarningSnapshotRepository.save(stored.get());
+            }
+        }
+        else {
+            jobWarningSnapshotRepository.save(snapshot);
+        }
+
+        return isChanged;
+    }
+
+    private Set<Entry<String, String>> collectKeys(final Optional<JobWarningSnapshotEntity> previous,
+            final JobWarningSnapshotEntity snapshot) {
+        Set<Entry<String, String>> keys = new LinkedHashSet<>();
+        previous.ifPresent(entity -> addKeys(keys, entity));
+        addKeys(keys, snapshot);
+        return keys;
+    }
+
+    private void addKeys(final Set<Entry<String, String>> keys, final JobWarningSnapshotEntity snapshot) {
+        for (WarningCountEntity count : snapshot.getCounts()) {
+            keys.add(new SimpleImmutableEntry<>(count.getTool(), count.getSeverity()));
+        }
+    }
+
+    private void addDelta(final LocalDate day, final Entry<String, String> key, final int delta) {
+        PortfolioTrendEntity change = portfolioTrendRepository.findByDayAndToolAndSeverity(day, key.getKey(), key.getValue())
+                .orElseGet(() -> new PortfolioTrendEntity(day, key.getKey(), key.getValue()));
+        change.setDelta(change.getDelta() + delta);
+        portfolioTrendRepository.save(change);
+    }
+}
@@ -0,0 +1,109 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.QualityGateBuildEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatisticEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.repository.QualityGateBuildRepository;
+import edu.hm.hafner.dashboard.db.repository.QualityGateStatisticRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service to handle the interactions for {@link QualityGateBuildEntity}s and {@link QualityGateStatisticEntity}s with the
+ * database by using the {@link QualityGateBuildRepository} and the {@link QualityGateStatisticRepository}.
+ */
+@Service
+public class QualityGateEntityService {
+    private final QualityGateBuildRepository qualityGateBuildRepository;
+    private final QualityGateStatisticRepository qualityGateStatisticRepository;
+
+    /**
+     * Creates a new instance of {@link QualityGateEntityService}.
+     *
+     * @param qualityGateBuildRepository     the repository for the quality gates of the builds
+     * @param qualityGateStatisticRepository the repository for the aggregates of the quality gates
+     */
+    @Autowired
+    public QualityGateEntityService(final QualityGateBuildRepository qualityGateBuildRepository,
+            final QualityGateStatisticRepository qualityGateStatisticRepository) {
+        this.qualityGateBuildRepository = qualityGateBuildRepository;
+        this.qualityGateStatisticRepository = qualityGateStatisticRepository;
+    }
+
+    /**
+     * Adds the quality gates of the tools of a build to the history and to the aggregates of the job. A build is counted
+     * only once.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param timestamp    the start time of the build in milliseconds since the epoch
+     * @param statusByTool the status of the quality gate per id of the tool
+     * @return {@code true} if the build has been counted, {@code false} if it has been counted before
+     */
+    @Transactional
+    public boolean apply(final String jobName, final int buildNumber, final long timestamp,
+            final Map<String, QualityGateStatusEntity> statusByTool) {
+        if (qualityGateBuildRepository.existsByJobNameAndBuildNumber(jobName, buildNumber)) {
+            return false;
+        }
+
+        Map<String, QualityGateStatisticEntity> statistics = new HashMap<>();
+        qualityGateStatisticRepository.findByJobName(jobName)
+                .forEach(statistic -> statistics.put(statistic.getTool(), statistic));
+        QualityGateBuildEntity build = new QualityGateBuildEntity(jobName, buildNumber, timestamp);
+        List<QualityGateStatisticEntity> changed = new ArrayList<>();
+        statusByTool.forEach((tool, status) -> {
+            build.count(status);
+            QualityGateStatisticEntity statistic = statistics.computeIfAbsent(tool,
+                    key -> new QualityGateStatisticEntity(jobName, key));
+            statistic.add(buildNumber, status);
+            changed.add(statistic);
+        });
+
+        qualityGateStatisticRepository.saveAll(changed);
+        qualityGateBuildRepository.save(build);
+        return true;
+    }
+
+    /**
+     * Deletes the quality gates of builds of a job from the history, e.g. after the builds have been deleted. The
+     * aggregates of the job keep these builds.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     */
+    @Transactional
+    public void deleteBuilds(final String jobName, final Collection<Integer> buildNumbers) {
+        if (!buildNumbers.isEmpty()) {
+            qualityGateBuildRepository.deleteBuilds(jobName, buildNumbers);
+        }
+    }
+
+    /**
+     * Finds the quality gates of the latest builds of a job.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of builds
+     * @return the {@link QualityGateBuildEntity}s, the latest build first
+     */
+    public List<QualityGateBuildEntity> findBuilds(final String jobName, final int limit) {
+        return qualityGateBuildRepository.findByJobNameOrderByBuildNumberDesc(jobName, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Finds the aggregates of the quality gates of all jobs.
+     *
+     * @return the {@link QualityGateStatisticEntity}s, ordered by job and tool
+     */
+    public List<QualityGateStatisticEntity> findStatistics() {
+        return qualityGateStatisticRepository.findAllByOrderByJobNameAscToolAsc();
+    }
+}
@@ -0,0 +1,100 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.ReportArchiveEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.db.repository.IssueRepository;
+import edu.hm.hafner.dashboard.db.repository.ReportArchiveRepository;
+import edu.hm.hafner.dashboard.db.repository.ResultRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service to handle the interactions for {@link ReportArchiveEntity}s with the database by using the
+ * {@link ReportArchiveRepository}. Archiving a {@link ResultEntity} replaces its issue rows with the archive.
+ */
+@Service
+public class ReportArchiveEntityService {
+    private final ReportArchiveRepository reportArchiveRepository;
+    private final ResultRepository resultRepository;
+    private final IssueRepository issueRepository;
+
+    /**
+     * Creates a new instance of {@link ReportArchiveEntityService}.
+     *
+     * @param reportArchiveRepository the repository for the archives
+     * @param resultRepository        the repository for the results
+     * @param issueRepository         the repository for the issues
+     */
+    @Autowired
+    public ReportArchiveEntityService(final ReportArchiveRepository reportArchiveRepository,
+            final ResultRepository resultRepository, final IssueRepository issueRepository) {
+        this.reportArchiveRepository = reportArchiveRepository;
+        this.resultRepository = resultRepository;
+        this.issueRepository = issueRepository;
+    }
+
+    /**
+     * Finds the results that are not archived yet of the builds that have been started before a time.
+     *
+     * @param timestamp the time in milliseconds since the epoch
+     * @param limit     the maximum number of results
+     * @return the {@link ResultEntity}s with their issues, the oldest build first
+     */
+    public List<ResultEntity> findResultsToArchive(final long timestamp, final int limit) {
+        return resultRepository.findNotArchivedBefore(timestamp, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Finds the archive of a result.
+     *
+     * @param resultId the id of the result
+     * @return the {@link ReportArchiveEntity}, if the result has been archived
+     */
+    public Optional<ReportArchiveEntity> findArchive(final int resultId) {
+        return reportArchiveRepository.findByResultId(resultId);
+    }
+
+    /**
+     * Finds the archive of the result of a tool in a build.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param tool        the id of the tool
+     * @return the {@link ReportArchiveEntity}, if the result has been archived
+     */
+    public Optional<ReportArchiveEntity> findArchive(final String jobName, final int buildNumber, final String tool) {
+        return reportArchiveRepository.findArchivedResult(jobName, buildNumber, tool);
+    }
+
+    /**
+     * Stores the archive of a result and deletes the issue rows of the result. A result that has been changed since it
+     * has been read is not archived.
+     *
+     * @param resultEntity the read {@link ResultEntity}
+     * @param archive      the archive with the issues of the read result
+     * @return {@code true} if the result has been archived, {@code false} if it has been changed in the meantime
+     */
+    @Transactional
+    public boolean archive(final ResultEntity resultEntity, final ReportArchiveEntity archive) {
+        if (resultRepository.markArchived(resultEntity.getId(), resultEntity.getTotalSize(), resultEntity.getNewSize(),
+                resultEntity.getFixedSize()) == 0) {
+            return false;
+        }
+
+        Optional<ReportArchiveEntity> stored = reportArchiveRepository.findByResultId(resultEntity.getId());
+        if (stored.isPresent()) {
+            stored.get().update(archive);
+            reportArchiveRepository.save(stored.get());
+        }
+        else {
+            reportArchiveRepository.save(archive);
+        }
+        issueRepository.deleteByResultId(resultEntity.getId());
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.RetentionMarkEntity;
+import edu.hm.hafner.dashboard.db.repository.BuildRepository;
+import edu.hm.hafner.dashboard.db.repository.IssueRepository;
+import edu.hm.hafner.dashboard.db.repository.ReportArchiveRepository;
+import edu.hm.hafner.dashboard.db.repository.ResultRepository;
+import edu.hm.hafner.dashboard.db.repository.RetentionMarkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service to delete old builds and issues with the database by using the {@link BuildRepository}, the
+ * {@link ResultRepository}, the {@link IssueRepository}, the {@link ReportArchiveRepository} and the
+ * {@link RetentionMarkRepository}. The issues are deleted with bulk statements before their builds, so deleting a build
+ * does not load its issues.
+ */
+@Service
+public class RetentionEntityService {
+    private final BuildRepository buildRepository;
+    private final ResultRepository resultRepository;
+    private final IssueRepository issueRepository;
+    private final ReportArchiveRepository reportArchiveRepository;
+    private final RetentionMarkRepository retentionMarkRepository;
+
+    /**
+     * Creates a new instance of {@link RetentionEntityService}.
+     *
+     * @param buildRepository         the repository for the builds
+     * @param resultRepository        the repository for the results
+     * @param issueRepository         the repository for the issues
+     * @param reportArchiveRepository the repository for the archives of the issues
+     * @param retentionMarkRepository the repository for the marks of the deleted builds
+     */
+    @Autowired
+    public RetentionEntityService(final BuildRepository buildRepository, final ResultRepository resultRepository,
+            final IssueRepository issueRepository, final ReportArchiveRepository reportArchiveRepository,
+            final RetentionMarkRepository retentionMarkRepository) {
+        this.buildRepository = buildRepository;
+        this.resultRepository = resultRepository;
+        this.issueRepository = issueRepository;
+        this.reportArchiveRepository = reportArchiveRepository;
+        this.retentionMarkRepository = retentionMarkRepository;
+    }
+
+    /**
+     * Finds the number of the latest build of a job that has been deleted.
+     *
+     * @param jobName the name of the job
+     * @return the number of the build, 0 if no build has been deleted
+     */
+    public int findDroppedBuildNumber(final String jobName) {
+        return retentionMarkRepository.findByJobName(jobName).map(RetentionMarkEntity::getDroppedBuildNumber).orElse(0);
+    }
+
+    /**
+     * Finds the number of the newest build of a job that is not one of the latest builds.
+     *
+     * @param jobName    the name of the job
+     * @param buildCount the number of the latest builds
+     * @return the number of the build, 0 if the job has no other builds
+     */
+    public int findNumberBeforeLatestBuilds(final String jobName, final int buildCount) {
+        List<Integer> numbers = buildRepository.findLatestBuildNumbers(jobName, PageRequest.of(buildCount, 1));
+        return numbers.isEmpty() ? 0 : numbers.get(0);
+    }
+
+    /**
+     * Finds the results with issues of the builds of a job that are older than a build and that have been started before
+     * a time.
+     *
+     * @param jobName   the name of the job
+     * @param number    the number of the newest build to find
+     * @param timestamp the time in milliseconds since the epoch, 0 to find the results by number only
+     * @param limit     the maximum number of results
+     * @return the ids of the results, the oldest build first
+     */
+    public List<Integer> findResultsToCompact(final String jobName, final int number, final long timestamp,
+            final int limit) {
+        return resultRepository.findIdsToCompact(jobName, number, timestamp, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Finds the numbers of the builds of results.
+     *
+     * @param resultIds the ids of the results
+     * @return the build numbers, every build once
+     */
+    public List<Integer> findBuildNumbersOfResults(final Collection<Integer> resultIds) {
+        if (resultIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return resultRepository.findBuildNumbersOfResults(resultIds);
+    }
+
+    /**
+     * Deletes the issues and the archived issues of results. The sizes of the reports are kept.
+     *
+     * @param resultIds the ids of the results
+     * @return the number of deleted issues
+     */
+    @Transactional
+    public int compact(final Collection<Integer> resultIds) {
+        if (resultIds.isEmpty()) {
+            return 0;
+        }
+        int deletedIssues = issueRepository.deleteByResultIds(resultIds);
+        reportArchiveRepository.deleteByResultIds(resultIds);
+        resultRepository.markCompacted(resultIds);
+        return deletedIssues;
+    }
+
+    /**
+     * Finds the builds of a job that are older than a build or that have been started before a time. The newest build of
+     * the job is never found.
+     *
+     * @param jobName   the name of the job
+     * @param number    the number of the newest build to find, 0 to find the builds by time only
+     * @param timestamp the time in milliseconds since the epoch, 0 to find the builds by number only
+     * @param limit     the maximum number of builds
+     * @return the numbers of the builds, the oldest build first
+     */
+    public List<Integer> findBuildsToDrop(final String jobName, final int number, final long timestamp,
+            final int limit) {
+        return buildRepository.findBuildNumbersBefore(jobName, number, timestamp, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Deletes builds of a job with their results and issues. The newest build of the job is kept. The builds are marked
+     * as deleted, so they are not fetched from Jenkins again.
+     *
+     * @param jobName the name of the job
+     * @param numbers the numbers of the builds
+     * @return the numbers of the deleted builds
+     */
+    @Transactional
+    public List<Integer> drop(final String jobName, final Collection<Integer> numbers) {
+        int newestNumber = findNumberBeforeLatestBuilds(jobName, 0);
+        List<Integer> buildNumbers = numbers.stream()
+                .filter(number -> number < newestNumber)
+                .collect(Collectors.toList());
+        if (buildNumbers.isEmpty()) {
+            return buildNumbers;
+        }
+        List<Integer> resultIds = resultRepository.findIdsOfBuilds(jobName, buildNumbers);
+        if (!resultIds.isEmpty()) {
+            issueRepository.deleteByResultIds(resultIds);
+            reportArchiveRepository.deleteByResultIds(resultIds);
+        }
+        buildRepository.deleteAll(buildRepository.findByJobEntityNameAndNumberIn(jobName, buildNumbers));
+
+        RetentionMarkEntity mark = retentionMarkRepository.findByJobName(jobName)
+                .orElseGet(() -> new RetentionMarkEntity(jobName));
+        mark.drop(Collections.max(buildNumbers));
+        retentionMarkRepository.save(mark);
+        return buildNumbers;
+    }
+}
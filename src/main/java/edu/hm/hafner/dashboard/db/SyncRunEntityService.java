@@ -0,0 +1,106 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.SyncPhaseEntity;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseTypeEntity;
+import edu.hm.hafner.dashboard.db.model.SyncRunEntity;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import edu.hm.hafner.dashboard.db.repository.SyncPhaseRepository;
+import edu.hm.hafner.dashboard.db.repository.SyncRunRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service to handle the interactions for {@link SyncRunEntity}s and {@link SyncPhaseEntity}s with the database by using the
+ * {@link SyncRunRepository} and {@link SyncPhaseRepository}.
+ */
+@Service
+public class SyncRunEntityService {
+    private final SyncRunRepository syncRunRepository;
+    private final SyncPhaseRepository syncPhaseRepository;
+
+    /**
+     * Creates a new instance of {@link SyncRunEntityService}.
+     *
+     * @param syncRunRepository   the repository for sync runs
+     * @param syncPhaseRepository the repository for sync phases
+     */
+    @Autowired
+    public SyncRunEntityService(final SyncRunRepository syncRunRepository, final SyncPhaseRepository syncPhaseRepository) {
+        this.syncRunRepository = syncRunRepository;
+        this.syncPhaseRepository = syncPhaseRepository;
+    }
+
+    /**
+     * Searches for the latest {@link SyncRunEntity} that is still marked as running, i.e. a run that has been interrupted.
+     *
+     * @return the interrupted {@link SyncRunEntity} or {@code null} if there is none
+     */
+    public SyncRunEntity findInterruptedRun() {
+        return syncRunRepository.findFirstByStatusOrderByStartedAtDesc(SyncStatusEntity.RUNNING);
+    }
+
+    /**
+     * Returns the latest {@link SyncRunEntity}s, the newest run first.
+     *
+     * @return the {@link SyncRunEntity}s
+     */
+    public List<SyncRunEntity> findLatestRuns() {
+        return syncRunRepository.findTop50ByOrderByStartedAtDesc();
+    }
+
+    /**
+     * Saves a {@link SyncRunEntity}.
+     *
+     * @param syncRunEntity the {@link SyncRunEntity} to save
+     * @return the saved {@link SyncRunEntity}
+     */
+    public SyncRunEntity save(final SyncRunEntity syncRunEntity) {
+        return syncRunRepository.save(syncRunEntity);
+    }
+
+    /**
+     * Saves a {@link SyncPhaseEntity} as part of the given sync run.
+     *
+     * @param syncRunId       the id of the sync run
+     * @param syncPhaseEntity the {@link SyncPhaseEntity} to save
+     * @return the saved {@link SyncPhaseEntity}
+     */
+    public SyncPhaseEntity savePhase(final int syncRunId, final SyncPhaseEntity syncPhaseEntity) {
+        syncPhaseEntity.setSyncRunEntity(syncRunRepository.getOne(syncRunId));
+        return syncPhaseRepository.save(syncPhaseEntity);
+    }
+
+    /**
+     * Returns all {@link SyncPhaseEntity}s of a sync run.
+     *
+     * @param syncRunId the id of the sync run
+     * @return the {@link SyncPhaseEntity}s
+     */
+    public List<SyncPhaseEntity> findPhases(final int syncRunId) {
+        return syncPhaseRepository.findBySyncRunEntityIdOrderByIdAsc(syncRunId);
+    }
+
+    /**
+     * Returns the names of all jobs that have been harvested completely in a sync run.
+     *
+     * @param syncRunId the id of the sync run
+     * @return the job names
+     */
+    public List<String> findCompletedJobNames(final int syncRunId) {
+        return syncPhaseRepository.findJobNames(syncRunId, SyncPhaseTypeEntity.JOB, SyncStatusEntity.COMPLETED);
+    }
+
+    /**
+     * Counts the phases of a sync run with the given type and status.
+     *
+     * @param syncRunId the id of the sync run
+     * @param phaseType the type of the phase
+     * @param status    the status of the phase
+     * @return the number of phases
+     */
+    public long countPhases(final int syncRunId, final SyncPhaseTypeEntity phaseType, final SyncStatusEntity status) {
+        return syncPhaseRepository.countBySyncRunEntityIdAndPhaseTypeAndStatus(syncRunId, phaseType, status);
+    }
+}
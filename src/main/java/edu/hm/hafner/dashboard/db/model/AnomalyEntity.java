@@ -0,0 +1,174 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store an anomaly, i.e. a value of a metric of a tool in a build that deviates strongly from the previous
+ * builds of the job.
+ */
+@Entity
+@Table(name = "anomaly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool", "metric", "build_number"}),
+        indexes = @Index(name = "idx_anomaly_tool_name", columnList = "job_name, tool_name"))
+public class AnomalyEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "tool_name")
+    private String toolName;
+    @Column(name = "metric")
+    private String metric;
+    @Column(name = "build_number")
+    private int buildNumber;
+    private long timestamp;
+    private int value;
+    private double expected;
+    private double score;
+
+    /**
+     * Creates a new instance of {@link AnomalyEntity}.
+     */
+    protected AnomalyEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link AnomalyEntity}.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param toolName    the name of the tool
+     * @param metric      the name of the metric
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public AnomalyEntity(final String jobName, final String tool, final String toolName, final String metric,
+            final int buildNumber, final long timestamp) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.toolName = toolName;
+        this.metric = metric;
+        this.buildNumber = buildNumber;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the id of the {@link AnomalyEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getToolName() {
+        return toolName;
+    }
+
+    /**
+     * Returns the name of the metric.
+     *
+     * @return the name of the metric
+     */
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * Returns the number of the build.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Returns the start time of the build.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the value of the metric in the build.
+     *
+     * @return the value
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Setter to set the value of the metric in the build.
+     *
+     * @param value the value
+     */
+    public void setValue(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value that has been expected from the previous builds.
+     *
+     * @return the expected value
+     */
+    public double getExpected() {
+        return expected;
+    }
+
+    /**
+     * Setter to set the value that has been expected from the previous builds.
+     *
+     * @param expected the expected value
+     */
+    public void setExpected(final double expected) {
+        this.expected = expected;
+    }
+
+    /**
+     * Returns the robust z-score of the value.
+     *
+     * @return the score
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Setter to set the robust z-score of the value.
+     *
+     * @param score the score
+     */
+    public void setScore(final double score) {
+        this.score = score;
+    }
+}
@@ -10,14 +10,20 @@ import java.util.List;
  * @author Deniz Mardin
  */
 @Entity
-@Table(name = "build")
+@Table(name = "build",
+        uniqueConstraints = @UniqueConstraint(name = "uk_build_job_number", columnNames = {"job_entity_id", "number"}),
+        indexes = @Index(name = "idx_build_job_timestamp", columnList = "job_entity_id, build_timestamp"))
 public class BuildEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private int id;
     private int number;
     private String url;
-    @ManyToOne
+    @Column(name = "build_timestamp")
+    private long timestamp;
+    private long duration;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_entity_id")
     private JobEntity jobEntity;
     @OneToMany(mappedBy = "buildEntity", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
     private List<ResultEntity> resultEntities;
@@ -99,6 +105,42 @@ public class BuildEntity {
         this.url = url;
     }
 
+    /**
+     * Returns the start time of the {@link BuildEntity} in milliseconds since the epoch.
+     *
+     * @return the timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Setter for the start time of the {@link BuildEntity} in milliseconds since the epoch.
+     *
+     * @param timestamp the timestamp
+     */
+    public void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the duration of the {@link BuildEntity} in milliseconds.
+     *
+     * @return the duration
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Setter for the duration of the {@link BuildEntity} in milliseconds.
+     *
+     * @param duration the duration
+     */
+    public void setDuration(final long duration) {
+        this.duration = duration;
+    }
+
     /**
      * Returns the associated {@link JobEntity} from the {@link BuildEntity}.
      *
@@ -0,0 +1,89 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store that the issues of a tool in a build have been added to the {@link HotspotEntity} counters. Every build
+ * is counted once, the latest counted build is the base of the time the warnings of a hot spot exist.
+ */
+@Entity
+@Table(name = "hotspot_build",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool", "build_number"}))
+public class HotspotBuildEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "build_number")
+    private int buildNumber;
+    private long timestamp;
+
+    /**
+     * Creates a new instance of {@link HotspotBuildEntity}.
+     */
+    protected HotspotBuildEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link HotspotBuildEntity}.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public HotspotBuildEntity(final String jobName, final String tool, final int buildNumber, final long timestamp) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.buildNumber = buildNumber;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the id of the {@link HotspotBuildEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the number of the build.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Returns the start time of the build.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,231 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the counters of a hot spot, i.e. a file or a package, of a job and tool. The counters are updated
+ * incrementally with every build, so a ranking of the hot spots does not read the issues of the builds.
+ */
+@Entity
+@Table(name = "hotspot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool", "kind", "name"}))
+public class HotspotEntity {
+    /** The kind of a hot spot that is a file. */
+    public static final String FILE = "file";
+    /** The kind of a hot spot that is a package. */
+    public static final String PACKAGE = "package";
+
+    private static final double MILLIS_PER_WEEK = 7 * 24 * 60 * 60 * 1000.0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "kind")
+    private String kind;
+    @Column(name = "name", length = 1024)
+    private String name;
+    private int currentCount;
+    private int peakCount;
+    private long warningBuilds;
+    private long warningMillis;
+    private long newCount;
+    private long fixedCount;
+    private long churn;
+    private int firstBuild;
+    private int lastBuild;
+
+    /**
+     * Creates a new instance of {@link HotspotEntity}.
+     */
+    protected HotspotEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link HotspotEntity} without warnings.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param kind    the kind of the hot spot, {@link #FILE} or {@link #PACKAGE}
+     * @param name    the name of the file or package
+     */
+    public HotspotEntity(final String jobName, final String tool, final String kind, final String name) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.kind = kind;
+        this.name = name;
+    }
+
+    /**
+     * Adds the issues of a build to the counters.
+     *
+     * @param buildNumber  the number of the build
+     * @param warnings     the number of outstanding and new issues in the build
+     * @param newIssues    the number of new issues in the build
+     * @param fixedIssues  the number of fixed issues in the build
+     * @param isLatest     determines whether the build is the latest counted build, only then the current number of
+     *                     warnings is replaced
+     */
+    public void count(final int buildNumber, final int warnings, final int newIssues, final int fixedIssues,
+            final boolean isLatest) {
+        if (isLatest) {
+            currentCount = warnings;
+        }
+        peakCount = Math.max(peakCount, warnings);
+        warningBuilds += warnings;
+        newCount += newIssues;
+        fixedCount += fixedIssues;
+        churn = newCount + fixedCount;
+        if (warnings > 0) {
+            firstBuild = firstBuild == 0 ? buildNumber : Math.min(firstBuild, buildNumber);
+            lastBuild = Math.max(lastBuild, buildNumber);
+        }
+    }
+
+    /**
+     * Returns the id of the {@link HotspotEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the kind of the hot spot.
+     *
+     * @return {@link #FILE} or {@link #PACKAGE}
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the name of the file or package.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of warnings in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getCurrentCount() {
+        return currentCount;
+    }
+
+    /**
+     * Returns the maximum number of warnings in a build.
+     *
+     * @return the number of warnings
+     */
+    public int getPeakCount() {
+        return peakCount;
+    }
+
+    /**
+     * Returns the sum of the warnings of all builds.
+     *
+     * @return the number of warnings times builds
+     */
+    public long getWarningBuilds() {
+        return warningBuilds;
+    }
+
+    /**
+     * Returns the sum of the warnings of all builds, weighted with the time until the next build.
+     *
+     * @return the number of warnings times milliseconds
+     */
+    public long getWarningMillis() {
+        return warningMillis;
+    }
+
+    /**
+     * Returns the sum of the warnings of all builds, weighted with the weeks until the next build.
+     *
+     * @return the number of warnings times weeks
+     */
+    public double getWarningWeeks() {
+        return warningMillis / MILLIS_PER_WEEK;
+    }
+
+    /**
+     * Setter to set the sum of the warnings of all builds, weighted with the time until the next build.
+     *
+     * @param warningMillis the number of warnings times milliseconds
+     */
+    public void setWarningMillis(final long warningMillis) {
+        this.warningMillis = warningMillis;
+    }
+
+    /**
+     * Returns the number of new issues of all builds.
+     *
+     * @return the number of new issues
+     */
+    public long getNewCount() {
+        return newCount;
+    }
+
+    /**
+     * Returns the number of fixed issues of all builds.
+     *
+     * @return the number of fixed issues
+     */
+    public long getFixedCount() {
+        return fixedCount;
+    }
+
+    /**
+     * Returns the churn, i.e. the number of new and fixed issues of all builds.
+     *
+     * @return the churn
+     */
+    public long getChurn() {
+        return churn;
+    }
+
+    /**
+     * Returns the number of the first build with warnings.
+     *
+     * @return the build number, 0 if there were no warnings
+     */
+    public int getFirstBuild() {
+        return firstBuild;
+    }
+
+    /**
+     * Returns the number of the last build with warnings.
+     *
+     * @return the build number, 0 if there were no warnings
+     */
+    public int getLastBuild() {
+        return lastBuild;
+    }
+}
@@ -0,0 +1,250 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * POJO to store an {@link IngestionTaskEntity} to the database.
+ * An ingestion task is a pushed notification about a completed build that still needs to be fetched from Jenkins. There is at
+ * most one task for every build, repeated notifications are coalesced into the existing task.
+ */
+@Entity
+@Table(name = "ingestion_task", uniqueConstraints = @UniqueConstraint(columnNames = {"jobName", "buildNumber"}),
+        indexes = @Index(columnList = "status, receivedAt"))
+public class IngestionTaskEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    private String controllerName;
+    private String jobName;
+    private int buildNumber;
+    private String buildUrl;
+    @Enumerated(EnumType.STRING)
+    private IngestionTaskStatusEntity status;
+    private int attempts;
+    private int notifications;
+    private LocalDateTime receivedAt;
+    private LocalDateTime lastAttemptAt;
+    @Column(length = 1024)
+    private String failureMessage;
+
+    /**
+     * Creates a new instance of {@link IngestionTaskEntity}.
+     */
+    protected IngestionTaskEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link IngestionTaskEntity}.
+     *
+     * @param controllerName the name of the Jenkins controller
+     * @param jobName        the qualified name of the job
+     * @param buildNumber    the build number
+     * @param buildUrl       the url of the build
+     */
+    public IngestionTaskEntity(final String controllerName, final String jobName, final int buildNumber, final String buildUrl) {
+        this.controllerName = controllerName;
+        this.jobName = jobName;
+        this.buildNumber = buildNumber;
+        this.buildUrl = buildUrl;
+        this.status = IngestionTaskStatusEntity.PENDING;
+    }
+
+    /**
+     * Returns the id of the {@link IngestionTaskEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for the id of the {@link IngestionTaskEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the name of the Jenkins controller of the {@link IngestionTaskEntity}.
+     *
+     * @return the name of the Jenkins controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * Setter for the name of the Jenkins controller of the {@link IngestionTaskEntity}.
+     *
+     * @param controllerName the name of the Jenkins controller
+     */
+    public void setControllerName(final String controllerName) {
+        this.controllerName = controllerName;
+    }
+
+    /**
+     * Returns the qualified name of the job of the {@link IngestionTaskEntity}.
+     *
+     * @return the qualified name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Setter for the qualified name of the job of the {@link IngestionTaskEntity}.
+     *
+     * @param jobName the qualified name of the job
+     */
+    public void setJobName(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the build number of the {@link IngestionTaskEntity}.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Setter for the build number of the {@link IngestionTaskEntity}.
+     *
+     * @param buildNumber the build number
+     */
+    public void setBuildNumber(final int buildNumber) {
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the url of the build of the {@link IngestionTaskEntity}.
+     *
+     * @return the url of the build
+     */
+    public String getBuildUrl() {
+        return buildUrl;
+    }
+
+    /**
+     * Setter for the url of the build of the {@link IngestionTaskEntity}.
+     *
+     * @param buildUrl the url of the build
+     */
+    public void setBuildUrl(final String buildUrl) {
+        this.buildUrl = buildUrl;
+    }
+
+    /**
+     * Returns the status of the {@link IngestionTaskEntity}.
+     *
+     * @return the status
+     */
+    public IngestionTaskStatusEntity getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter for the status of the {@link IngestionTaskEntity}.
+     *
+     * @param status the status
+     */
+    public void setStatus(final IngestionTaskStatusEntity status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the number of failed attempts of the {@link IngestionTaskEntity}.
+     *
+     * @return the number of failed attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Setter for the number of failed attempts of the {@link IngestionTaskEntity}.
+     *
+     * @param attempts the number of failed attempts
+     */
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Returns the number of notifications that have been coalesced into this task of the {@link IngestionTaskEntity}.
+     *
+     * @return the number of notifications that have been coalesced into this task
+     */
+    public int getNotifications() {
+        return notifications;
+    }
+
+    /**
+     * Setter for the number of notifications that have been coalesced into this task of the {@link IngestionTaskEntity}.
+     *
+     * @param notifications the number of notifications that have been coalesced into this task
+     */
+    public void setNotifications(final int notifications) {
+        this.notifications = notifications;
+    }
+
+    /**
+     * Returns the time of the latest notification of the {@link IngestionTaskEntity}.
+     *
+     * @return the time of the latest notification
+     */
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    /**
+     * Setter for the time of the latest notification of the {@link IngestionTaskEntity}.
+     *
+     * @param receivedAt the time of the latest notification
+     */
+    public void setReceivedAt(final LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    /**
+     * Returns the time of the latest attempt of the {@link IngestionTaskEntity}.
+     *
+     * @return the time of the latest attempt
+     */
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    /**
+     * Setter for the time of the latest attempt of the {@link IngestionTaskEntity}.
+     *
+     * @param lastAttemptAt the time of the latest attempt
+     */
+    public void setLastAttemptAt(final LocalDateTime lastAttemptAt) {
+        this.lastAttemptAt = lastAttemptAt;
+    }
+
+    /**
+     * Returns the message of the latest failure of the {@link IngestionTaskEntity}.
+     *
+     * @return the message of the latest failure
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Setter for the message of the latest failure of the {@link IngestionTaskEntity}.
+     *
+     * @param failureMessage the message of the latest failure
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+}
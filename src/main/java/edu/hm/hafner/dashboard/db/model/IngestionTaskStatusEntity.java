@@ -0,0 +1,9 @@
+package edu.hm.hafner.dashboard.db.model;
+
+/**
+ * Status of an {@link IngestionTaskEntity} in the work queue of the pushed build notifications.
+ */
+public enum IngestionTaskStatusEntity {
+    PENDING,
+    FAILED
+}
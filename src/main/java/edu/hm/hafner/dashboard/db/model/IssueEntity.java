@@ -9,7 +9,7 @@ import java.util.UUID;
  * @author Deniz Mardin
  */
 @Entity
-@Table(name = "issue")
+@Table(name = "issue", indexes = @Index(name = "idx_issue_report_fingerprint", columnList = "issues_id, fingerprint"))
 public class IssueEntity {
     @Id
     private UUID id;
@@ -0,0 +1,76 @@
+package edu.hm.hafner.dashboard.db.model;
+
+/**
+ * Read-only projection of an {@link IssueEntity} with the fingerprint and the fields to show the issue in a table. Reading
+ * the projection instead of the {@link IssueEntity}s does not load the reports and results of the issues.
+ */
+public class IssueFingerprintEntity {
+    private final String fingerprint;
+    private final String severity;
+    private final String fileName;
+    private final int lineStart;
+    private final String message;
+
+    /**
+     * Creates a new instance of {@link IssueFingerprintEntity}.
+     *
+     * @param fingerprint the fingerprint of the issue
+     * @param severity    the severity of the issue
+     * @param fileName    the file name of the issue
+     * @param lineStart   the first line of the issue
+     * @param message     the message of the issue
+     */
+    public IssueFingerprintEntity(final String fingerprint, final String severity, final String fileName,
+            final int lineStart, final String message) {
+        this.fingerprint = fingerprint;
+        this.severity = severity;
+        this.fileName = fileName;
+        this.lineStart = lineStart;
+        this.message = message;
+    }
+
+    /**
+     * Returns the fingerprint of the issue.
+     *
+     * @return the fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the first line of the issue.
+     *
+     * @return the first line
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Returns the message of the issue.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,341 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the lifecycle of an issue of a job and tool to the database. An issue is identified by its fingerprint,
+ * so the same issue in different builds shares one {@link IssueLifecycleEntity}.
+ */
+@Entity
+@Table(name = "issue_lifecycle",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool", "fingerprint"}),
+        indexes = @Index(name = "idx_issue_lifecycle_open", columnList = "job_name, fixed_in_build, first_seen_build"))
+public class IssueLifecycleEntity {
+    /** The build number of an issue that has not been fixed. */
+    public static final int OPEN = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "fingerprint")
+    private String fingerprint;
+    @Column(length = 1024)
+    private String message;
+    private String fileName;
+    private int lineStart;
+    private String severity;
+    @Column(name = "first_seen_build")
+    private int firstSeenBuild;
+    private long firstSeenTimestamp;
+    private int lastSeenBuild;
+    @Column(name = "fixed_in_build")
+    private int fixedInBuild;
+    private int reopenCount;
+
+    /**
+     * Creates a new instance of {@link IssueLifecycleEntity}.
+     */
+    protected IssueLifecycleEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link IssueLifecycleEntity} for an issue that has been seen the first time.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param fingerprint the fingerprint of the issue
+     * @param buildNumber the number of the build the issue has been seen first
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public IssueLifecycleEntity(final String jobName, final String tool, final String fingerprint, final int buildNumber,
+            final long timestamp) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.fingerprint = fingerprint;
+        this.firstSeenBuild = buildNumber;
+        this.firstSeenTimestamp = timestamp;
+        this.lastSeenBuild = buildNumber;
+        this.fixedInBuild = OPEN;
+    }
+
+    /**
+     * Records that the issue has been reported (again) in a build. An issue that has been fixed in this or an earlier
+     * build is open again.
+     *
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public void seenIn(final int buildNumber, final long timestamp) {
+        if (fixedInBuild != OPEN && fixedInBuild <= buildNumber) {
+            fixedInBuild = OPEN;
+            reopenCount++;
+        }
+        if (buildNumber < firstSeenBuild) {
+            firstSeenBuild = buildNumber;
+            firstSeenTimestamp = timestamp;
+        }
+        lastSeenBuild = Math.max(lastSeenBuild, buildNumber);
+    }
+
+    /**
+     * Records that the issue has been fixed in a build. A fix in a build before the issue has been seen the last time is
+     * outdated and ignored.
+     *
+     * @param buildNumber the number of the build
+     * @return {@code true} if the lifecycle has been changed, {@code false} otherwise
+     */
+    public boolean fixedIn(final int buildNumber) {
+        if (buildNumber <= lastSeenBuild || fixedInBuild != OPEN && fixedInBuild <= buildNumber) {
+            return false;
+        }
+        fixedInBuild = buildNumber;
+        return true;
+    }
+
+    /**
+     * Returns whether the issue is still open.
+     *
+     * @return {@code true} if the issue has not been fixed
+     */
+    public boolean isOpen() {
+        return fixedInBuild == OPEN;
+    }
+
+    /**
+     * Returns the id of the {@link IssueLifecycleEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link IssueLifecycleEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Setter to set the name of the job.
+     *
+     * @param jobName the name of the job
+     */
+    public void setJobName(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Setter to set the id of the tool.
+     *
+     * @param tool the id of the tool
+     */
+    public void setTool(final String tool) {
+        this.tool = tool;
+    }
+
+    /**
+     * Returns the fingerprint of the issue.
+     *
+     * @return the fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Setter to set the fingerprint of the issue.
+     *
+     * @param fingerprint the fingerprint
+     */
+    public void setFingerprint(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the message of the issue.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Setter to set the message of the issue.
+     *
+     * @param message the message
+     */
+    public void setMessage(final String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Setter to set the file name of the issue.
+     *
+     * @param fileName the file name
+     */
+    public void setFileName(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the first line of the issue.
+     *
+     * @return the first line
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Setter to set the first line of the issue.
+     *
+     * @param lineStart the first line
+     */
+    public void setLineStart(final int lineStart) {
+        this.lineStart = lineStart;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Setter to set the severity of the issue.
+     *
+     * @param severity the severity
+     */
+    public void setSeverity(final String severity) {
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the number of the build the issue has been seen first.
+     *
+     * @return the build number
+     */
+    public int getFirstSeenBuild() {
+        return firstSeenBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been seen first.
+     *
+     * @param firstSeenBuild the build number
+     */
+    public void setFirstSeenBuild(final int firstSeenBuild) {
+        this.firstSeenBuild = firstSeenBuild;
+    }
+
+    /**
+     * Returns the start time of the build the issue has been seen first.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getFirstSeenTimestamp() {
+        return firstSeenTimestamp;
+    }
+
+    /**
+     * Setter to set the start time of the build the issue has been seen first.
+     *
+     * @param firstSeenTimestamp the start time in milliseconds since the epoch
+     */
+    public void setFirstSeenTimestamp(final long firstSeenTimestamp) {
+        this.firstSeenTimestamp = firstSeenTimestamp;
+    }
+
+    /**
+     * Returns the number of the build the issue has been seen last.
+     *
+     * @return the build number
+     */
+    public int getLastSeenBuild() {
+        return lastSeenBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been seen last.
+     *
+     * @param lastSeenBuild the build number
+     */
+    public void setLastSeenBuild(final int lastSeenBuild) {
+        this.lastSeenBuild = lastSeenBuild;
+    }
+
+    /**
+     * Returns the number of the build the issue has been fixed in.
+     *
+     * @return the build number, {@link #OPEN} if the issue is still open
+     */
+    public int getFixedInBuild() {
+        return fixedInBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been fixed in.
+     *
+     * @param fixedInBuild the build number, {@link #OPEN} if the issue is still open
+     */
+    public void setFixedInBuild(final int fixedInBuild) {
+        this.fixedInBuild = fixedInBuild;
+    }
+
+    /**
+     * Returns how often the issue has been reported again after it has been fixed.
+     *
+     * @return the number of reopens
+     */
+    public int getReopenCount() {
+        return reopenCount;
+    }
+
+    /**
+     * Setter to set how often the issue has been reported again after it has been fixed.
+     *
+     * @param reopenCount the number of reopens
+     */
+    public void setReopenCount(final int reopenCount) {
+        this.reopenCount = reopenCount;
+    }
+}
@@ -0,0 +1,89 @@
+package edu.hm.hafner.dashboard.db.model;
+
+/**
+ * Read-only projection of an {@link IssueEntity} with the properties that are shown as columns of the issue table and
+ * can be counted as facets. Reading the projection instead of the {@link IssueEntity}s does not load the reports and
+ * results of the issues.
+ */
+public class IssuePropertiesEntity {
+    private final String category;
+    private final String moduleName;
+    private final String packageName;
+    private final String fileName;
+    private final String type;
+    private final String severity;
+
+    /**
+     * Creates a new instance of {@link IssuePropertiesEntity}.
+     *
+     * @param category    the category of the issue
+     * @param moduleName  the module name of the issue
+     * @param packageName the package name of the issue
+     * @param fileName    the file name of the issue
+     * @param type        the type of the issue
+     * @param severity    the severity of the issue
+     */
+    public IssuePropertiesEntity(final String category, final String moduleName, final String packageName,
+            final String fileName, final String type, final String severity) {
+        this.category = category;
+        this.moduleName = moduleName;
+        this.packageName = packageName;
+        this.fileName = fileName;
+        this.type = type;
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the category of the issue.
+     *
+     * @return the category
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the module name of the issue.
+     *
+     * @return the module name
+     */
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    /**
+     * Returns the package name of the issue.
+     *
+     * @return the package name
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the type of the issue.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity
+     */
+    public String getSeverity() {
+        return severity;
+    }
+}
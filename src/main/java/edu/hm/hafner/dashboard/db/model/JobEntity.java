@@ -19,6 +19,7 @@ public class JobEntity {
     private String name;
     private String url;
     private String lastBuildStatus;
+    private String controllerName;
     @OneToMany(fetch = FetchType.EAGER, mappedBy = "jobEntity", cascade = CascadeType.ALL)
     private List<BuildEntity> buildEntities;
 
@@ -45,6 +46,21 @@ public class JobEntity {
         this.buildEntities = new ArrayList<>();
     }
 
+    /**
+     * Creates a new instance of {@link JobEntity} without its builds.
+     *
+     * @param id              the id of the {@link JobEntity}
+     * @param name            the name of the {@link JobEntity}
+     * @param url             the url of the {@link JobEntity}
+     * @param lastBuildStatus the last build status of the {@link JobEntity}
+     * @param controllerName  the name of the Jenkins controller of the {@link JobEntity}
+     */
+    public JobEntity(final int id, final String name, final String url, final String lastBuildStatus,
+            final String controllerName) {
+        this(id, name, url, lastBuildStatus);
+        this.controllerName = controllerName;
+    }
+
     /**
      * Returns the id of the {@link JobEntity}.
      *
@@ -63,6 +79,24 @@ public class JobEntity {
         this.id = id;
     }
 
+    /**
+     * Returns the name of the Jenkins controller of the {@link JobEntity}.
+     *
+     * @return the name of the controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * Setter for the name of the Jenkins controller of the {@link JobEntity}.
+     *
+     * @param controllerName the name of the controller
+     */
+    public void setControllerName(final String controllerName) {
+        this.controllerName = controllerName;
+    }
+
     /**
      * Returns the name of the {@link JobEntity}.
      *
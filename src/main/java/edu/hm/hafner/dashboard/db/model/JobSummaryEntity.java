@@ -0,0 +1,252 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POJO to store the summary of a job and its latest build. The summaries are a read model of the overview of all jobs:
+ * they are updated with every saved job and build, so the overview is read from a single table without loading the
+ * builds of the jobs.
+ */
+@Entity
+@Table(name = "job_summary", uniqueConstraints = @UniqueConstraint(columnNames = "job_name"))
+public class JobSummaryEntity {
+    private static final QualityGateStatusEntity[] STATUS_BY_SEVERITY = {
+            QualityGateStatusEntity.FAILED, QualityGateStatusEntity.WARNING, QualityGateStatusEntity.UNKNOWN,
+            QualityGateStatusEntity.PASSED};
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    private String url;
+    private String lastBuildStatus;
+    private String controllerName;
+    private int latestBuildNumber;
+    private long latestBuildTimestamp;
+    private int previousTotalSize;
+    @ElementCollection(fetch = FetchType.EAGER)
+    private List<ToolSummaryEntity> tools;
+
+    /**
+     * Creates a new instance of {@link JobSummaryEntity}.
+     */
+    protected JobSummaryEntity() {
+        this.tools = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new instance of {@link JobSummaryEntity}.
+     *
+     * @param jobName the name of the job
+     */
+    public JobSummaryEntity(final String jobName) {
+        this.jobName = jobName;
+        this.tools = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new instance of {@link JobSummaryEntity} with the attributes of a job.
+     *
+     * @param jobName         the name of the job
+     * @param url             the url of the job
+     * @param lastBuildStatus the status of the last build of the job
+     * @param controllerName  the name of the Jenkins controller of the job
+     */
+    public JobSummaryEntity(final String jobName, final String url, final String lastBuildStatus,
+            final String controllerName) {
+        this(jobName);
+        this.url = url;
+        this.lastBuildStatus = lastBuildStatus;
+        this.controllerName = controllerName;
+    }
+
+    /**
+     * Returns the id of the {@link JobSummaryEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link JobSummaryEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the url of the job.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Setter to set the url of the job.
+     *
+     * @param url the url
+     */
+    public void setUrl(final String url) {
+        this.url = url;
+    }
+
+    /**
+     * Returns the status of the last build of the job as reported by Jenkins.
+     *
+     * @return the status
+     */
+    public String getLastBuildStatus() {
+        return lastBuildStatus;
+    }
+
+    /**
+     * Setter to set the status of the last build of the job as reported by Jenkins.
+     *
+     * @param lastBuildStatus the status
+     */
+    public void setLastBuildStatus(final String lastBuildStatus) {
+        this.lastBuildStatus = lastBuildStatus;
+    }
+
+    /**
+     * Returns the name of the Jenkins controller of the job.
+     *
+     * @return the name of the controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * Setter to set the name of the Jenkins controller of the job.
+     *
+     * @param controllerName the name of the controller
+     */
+    public void setControllerName(final String controllerName) {
+        this.controllerName = controllerName;
+    }
+
+    /**
+     * Returns the number of the latest stored build, 0 if no build is stored.
+     *
+     * @return the build number
+     */
+    public int getLatestBuildNumber() {
+        return latestBuildNumber;
+    }
+
+    /**
+     * Returns the start time of the latest stored build.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getLatestBuildTimestamp() {
+        return latestBuildTimestamp;
+    }
+
+    /**
+     * Returns the number of warnings in the build before the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getPreviousTotalSize() {
+        return previousTotalSize;
+    }
+
+    /**
+     * Returns the number of warnings per tool in the latest build.
+     *
+     * @return the {@link ToolSummaryEntity}s
+     */
+    public List<ToolSummaryEntity> getTools() {
+        return tools;
+    }
+
+    /**
+     * Returns the number of warnings of all tools in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getTotalSize() {
+        return tools.stream().mapToInt(ToolSummaryEntity::getTotalSize).sum();
+    }
+
+    /**
+     * Returns the change of the number of warnings since the build before the latest build.
+     *
+     * @return the change of the number of warnings
+     */
+    public int getDelta() {
+        return getTotalSize() - previousTotalSize;
+    }
+
+    /**
+     * Returns the worst status of the quality gates of the tools in the latest build.
+     *
+     * @return the worst status, {@link QualityGateStatusEntity#INACTIVE} if no quality gate is active
+     */
+    public QualityGateStatusEntity getQualityGateStatus() {
+        for (QualityGateStatusEntity status : STATUS_BY_SEVERITY) {
+            if (tools.stream().anyMatch(tool -> tool.getQualityGateStatus() == status)) {
+                return status;
+            }
+        }
+        return QualityGateStatusEntity.INACTIVE;
+    }
+
+    /**
+     * Updates the summary with the warnings of a build. A newer build replaces the latest build, and the warnings of the
+     * replaced build become the warnings of the previous build. If the latest build is saved again, then only its
+     * warnings are replaced. Older builds are ignored. The first build of a job has no previous build, so it has no
+     * change either.
+     *
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     * @param buildTools  the number of warnings per tool of the build, one per tool
+     * @return {@code true} if the summary has been changed, {@code false} if the build is older than the latest build
+     */
+    public boolean update(final int buildNumber, final long timestamp, final List<ToolSummaryEntity> buildTools) {
+        if (buildNumber < latestBuildNumber) {
+            return false;
+        }
+
+        boolean hasBuild = latestBuildNumber > 0;
+        boolean isNewBuild = buildNumber > latestBuildNumber;
+        Map<String, Integer> previousSizes = new HashMap<>();
+        for (ToolSummaryEntity tool : tools) {
+            previousSizes.put(tool.getToolId(), isNewBuild ? tool.getTotalSize() : tool.getPreviousSize());
+        }
+        for (ToolSummaryEntity tool : buildTools) {
+            tool.setPreviousSize(hasBuild ? previousSizes.getOrDefault(tool.getToolId(), 0) : tool.getTotalSize());
+        }
+
+        if (isNewBuild) {
+            previousTotalSize = hasBuild ? getTotalSize()
+                    : buildTools.stream().mapToInt(ToolSummaryEntity::getTotalSize).sum();
+        }
+        latestBuildNumber = buildNumber;
+        latestBuildTimestamp = timestamp;
+        tools = new ArrayList<>(buildTools);
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * POJO to store the number of warnings per tool and severity of the latest build of a job at a day. The snapshots are the
+ * base of the incremental {@link PortfolioTrendEntity} aggregates: a tool and severity without a {@link WarningCountEntity}
+ * has no warnings at that day.
+ */
+@Entity
+@Table(name = "job_warning_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_entity_id", "snapshot_day"}))
+public class JobWarningSnapshotEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_entity_id")
+    private int jobId;
+    @Column(name = "snapshot_day")
+    private LocalDate day;
+    private int buildNumber;
+    @ElementCollection(fetch = FetchType.EAGER)
+    private List<WarningCountEntity> counts;
+
+    /**
+     * Creates a new instance of {@link JobWarningSnapshotEntity}.
+     */
+    protected JobWarningSnapshotEntity() {
+        this.counts = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new instance of {@link JobWarningSnapshotEntity}.
+     *
+     * @param jobId the id of the job
+     * @param day   the day of the snapshot
+     */
+    public JobWarningSnapshotEntity(final int jobId, final LocalDate day) {
+        this.jobId = jobId;
+        this.day = day;
+        this.counts = new ArrayList<>();
+    }
+
+    /**
+     * Returns the id of the {@link JobWarningSnapshotEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link JobWarningSnapshotEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the id of the job.
+     *
+     * @return the id of the job
+     */
+    public int getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Setter to set the id of the job.
+     *
+     * @param jobId the id of the job
+     */
+    public void setJobId(final int jobId) {
+        this.jobId = jobId;
+    }
+
+    /**
+     * Returns the day of the snapshot.
+     *
+     * @return the day
+     */
+    public LocalDate getDay() {
+        return day;
+    }
+
+    /**
+     * Setter to set the day of the snapshot.
+     *
+     * @param day the day
+     */
+    public void setDay(final LocalDate day) {
+        this.day = day;
+    }
+
+    /**
+     * Returns the number of the build the snapshot has been taken from.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Setter to set the number of the build the snapshot has been taken from.
+     *
+     * @param buildNumber the build number
+     */
+    public void setBuildNumber(final int buildNumber) {
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the number of warnings per tool and severity.
+     *
+     * @return the {@link WarningCountEntity}s
+     */
+    public List<WarningCountEntity> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Setter to set the number of warnings per tool and severity.
+     *
+     * @param counts the {@link WarningCountEntity}s
+     */
+    public void setCounts(final List<WarningCountEntity> counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the number of warnings of a tool and severity.
+     *
+     * @param tool     the name of the tool
+     * @param severity the name of the severity
+     * @return the number of warnings, 0 if there are none
+     */
+    public int getCount(final String tool, final String severity) {
+        return counts.stream()
+                .filter(count -> count.getTool().equals(tool) && count.getSeverity().equals(severity))
+                .mapToInt(WarningCountEntity::getCount)
+                .sum();
+    }
+}
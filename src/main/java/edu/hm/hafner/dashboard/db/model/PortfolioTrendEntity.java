@@ -0,0 +1,133 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * POJO to store the change of the number of warnings of a tool and severity over all jobs at a day. The number of warnings
+ * of the portfolio at a day is the sum of all changes up to that day.
+ */
+@Entity
+@Table(name = "portfolio_trend",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"trend_day", "tool", "severity"}))
+public class PortfolioTrendEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "trend_day")
+    private LocalDate day;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "severity")
+    private String severity;
+    private long delta;
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendEntity}.
+     */
+    protected PortfolioTrendEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendEntity}.
+     *
+     * @param day      the day
+     * @param tool     the name of the tool
+     * @param severity the name of the severity
+     */
+    public PortfolioTrendEntity(final LocalDate day, final String tool, final String severity) {
+        this.day = day;
+        this.tool = tool;
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the id of the {@link PortfolioTrendEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link PortfolioTrendEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the day of the change.
+     *
+     * @return the day
+     */
+    public LocalDate getDay() {
+        return day;
+    }
+
+    /**
+     * Setter to set the day of the change.
+     *
+     * @param day the day
+     */
+    public void setDay(final LocalDate day) {
+        this.day = day;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Setter to set the name of the tool.
+     *
+     * @param tool the name of the tool
+     */
+    public void setTool(final String tool) {
+        this.tool = tool;
+    }
+
+    /**
+     * Returns the name of the severity.
+     *
+     * @return the name of the severity
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Setter to set the name of the severity.
+     *
+     * @param severity the name of the severity
+     */
+    public void setSeverity(final String severity) {
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the change of the number of warnings.
+     *
+     * @return the change
+     */
+    public long getDelta() {
+        return delta;
+    }
+
+    /**
+     * Setter to set the change of the number of warnings.
+     *
+     * @param delta the change
+     */
+    public void setDelta(final long delta) {
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,136 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the number of tools per status of the quality gates of a build. Every build of a job is counted once,
+ * so this is the history of the quality gates of the job without reading the {@link ResultEntity}s.
+ */
+@Entity
+@Table(name = "quality_gate_build",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "build_number"}))
+public class QualityGateBuildEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "build_number")
+    private int buildNumber;
+    private long timestamp;
+    private int passedCount;
+    private int warningCount;
+    private int failedCount;
+    private int inactiveCount;
+
+    /**
+     * Creates a new instance of {@link QualityGateBuildEntity}.
+     */
+    protected QualityGateBuildEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link QualityGateBuildEntity} without tools.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public QualityGateBuildEntity(final String jobName, final int buildNumber, final long timestamp) {
+        this.jobName = jobName;
+        this.buildNumber = buildNumber;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Counts the quality gate of a tool.
+     *
+     * @param status the status of the quality gate
+     */
+    public void count(final QualityGateStatusEntity status) {
+        if (status == QualityGateStatusEntity.PASSED) {
+            passedCount++;
+        }
+        else if (status == QualityGateStatusEntity.WARNING) {
+            warningCount++;
+        }
+        else if (status == QualityGateStatusEntity.FAILED) {
+            failedCount++;
+        }
+        else {
+            inactiveCount++;
+        }
+    }
+
+    /**
+     * Returns the id of the {@link QualityGateBuildEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the number of the build.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Returns the start time of the build.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the number of tools with a passed quality gate.
+     *
+     * @return the number of tools
+     */
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    /**
+     * Returns the number of tools with a quality gate that warned.
+     *
+     * @return the number of tools
+     */
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Returns the number of tools with a failed quality gate.
+     *
+     * @return the number of tools
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the number of tools with an inactive or unknown quality gate.
+     *
+     * @return the number of tools
+     */
+    public int getInactiveCount() {
+        return inactiveCount;
+    }
+}
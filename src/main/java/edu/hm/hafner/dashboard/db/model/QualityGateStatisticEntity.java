@@ -0,0 +1,196 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the aggregates of the quality gate of a tool of a job: the number of builds per status, and the streak
+ * of the latest builds with the same status. Builds with an inactive quality gate neither extend nor break a streak.
+ */
+@Entity
+@Table(name = "quality_gate_statistic",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool"}))
+public class QualityGateStatisticEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    private int lastBuild;
+    @Enumerated(EnumType.STRING)
+    private QualityGateStatusEntity streakStatus;
+    private int streak;
+    private int longestPassedStreak;
+    private int passedCount;
+    private int warningCount;
+    private int failedCount;
+    private int inactiveCount;
+
+    /**
+     * Creates a new instance of {@link QualityGateStatisticEntity}.
+     */
+    protected QualityGateStatisticEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link QualityGateStatisticEntity} without builds.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     */
+    public QualityGateStatisticEntity(final String jobName, final String tool) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.streakStatus = QualityGateStatusEntity.INACTIVE;
+    }
+
+    /**
+     * Adds the quality gate of a build. The counts of every build are added, the streak is only continued by builds
+     * that are newer than all added builds.
+     *
+     * @param buildNumber the number of the build
+     * @param status      the status of the quality gate in the build
+     */
+    public void add(final int buildNumber, final QualityGateStatusEntity status) {
+        if (status == QualityGateStatusEntity.PASSED) {
+            passedCount++;
+        }
+        else if (status == QualityGateStatusEntity.WARNING) {
+            warningCount++;
+        }
+        else if (status == QualityGateStatusEntity.FAILED) {
+            failedCount++;
+        }
+        else {
+            inactiveCount++;
+        }
+
+        if (buildNumber <= lastBuild) {
+            return;
+        }
+        lastBuild = buildNumber;
+        if (!status.isEvaluated()) {
+            return;
+        }
+        if (status == streakStatus) {
+            streak++;
+        }
+        else {
+            streakStatus = status;
+            streak = 1;
+        }
+        if (status == QualityGateStatusEntity.PASSED) {
+            longestPassedStreak = Math.max(longestPassedStreak, streak);
+        }
+    }
+
+    /**
+     * Returns the share of the builds with a passed quality gate of all builds with an evaluated quality gate.
+     *
+     * @return the pass rate between 0 and 1, 0 if no quality gate has been evaluated
+     */
+    public double getPassRate() {
+        int evaluated = passedCount + warningCount + failedCount;
+        return evaluated == 0 ? 0 : (double) passedCount / evaluated;
+    }
+
+    /**
+     * Returns the id of the {@link QualityGateStatisticEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the number of the latest added build.
+     *
+     * @return the build number
+     */
+    public int getLastBuild() {
+        return lastBuild;
+    }
+
+    /**
+     * Returns the status of the latest evaluated quality gate.
+     *
+     * @return the status, {@link QualityGateStatusEntity#INACTIVE} if no quality gate has been evaluated
+     */
+    public QualityGateStatusEntity getStreakStatus() {
+        return streakStatus;
+    }
+
+    /**
+     * Returns the number of the latest evaluated builds with the status {@link #getStreakStatus()}.
+     *
+     * @return the number of builds
+     */
+    public int getStreak() {
+        return streak;
+    }
+
+    /**
+     * Returns the longest number of evaluated builds in a row with a passed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getLongestPassedStreak() {
+        return longestPassedStreak;
+    }
+
+    /**
+     * Returns the number of builds with a passed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    /**
+     * Returns the number of builds with a quality gate that warned.
+     *
+     * @return the number of builds
+     */
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Returns the number of builds with a failed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the number of builds with an inactive or unknown quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getInactiveCount() {
+        return inactiveCount;
+    }
+}
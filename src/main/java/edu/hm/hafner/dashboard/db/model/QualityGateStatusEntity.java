@@ -0,0 +1,54 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import java.util.Locale;
+
+/**
+ * Normalized status of the quality gate of a {@link ResultEntity}. The status is reported by Jenkins as a free string,
+ * so several spellings are mapped to the same status.
+ */
+public enum QualityGateStatusEntity {
+    PASSED,
+    WARNING,
+    FAILED,
+    INACTIVE,
+    UNKNOWN;
+
+    /**
+     * Returns whether the quality gate has been evaluated, i.e. it has passed, warned or failed.
+     *
+     * @return {@code true} if the quality gate has been evaluated
+     */
+    public boolean isEvaluated() {
+        return this == PASSED || this == WARNING || this == FAILED;
+    }
+
+    /**
+     * Normalizes the status of a quality gate as reported by Jenkins.
+     *
+     * @param status the reported status, may be {@code null}
+     * @return the normalized status, {@link #INACTIVE} if no status is reported and {@link #UNKNOWN} if the status is
+     *         not known
+     */
+    public static QualityGateStatusEntity fromString(final String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return INACTIVE;
+        }
+        switch (status.trim().toUpperCase(Locale.ENGLISH)) {
+            case "PASSED":
+            case "SUCCESS":
+                return PASSED;
+            case "WARNING":
+            case "UNSTABLE":
+                return WARNING;
+            case "FAILED":
+            case "FAILURE":
+            case "ERROR":
+                return FAILED;
+            case "INACTIVE":
+            case "NOTE":
+                return INACTIVE;
+            default:
+                return UNKNOWN;
+        }
+    }
+}
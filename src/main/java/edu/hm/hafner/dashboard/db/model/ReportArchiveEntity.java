@@ -0,0 +1,99 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the issues of an old {@link ResultEntity} as a single compressed blob instead of one row per issue. The
+ * {@link ReportEntity}s of the result are kept without their issues, the blob contains the issues of all reports.
+ */
+@Entity
+@Table(name = "report_archive", uniqueConstraints = @UniqueConstraint(columnNames = "result_id"))
+public class ReportArchiveEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "result_id")
+    private int resultId;
+    private int issueCount;
+    private long archivedAt;
+    @Lob
+    @Column(length = Integer.MAX_VALUE)
+    private byte[] data;
+
+    /**
+     * Creates a new instance of {@link ReportArchiveEntity}.
+     */
+    protected ReportArchiveEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link ReportArchiveEntity}.
+     *
+     * @param resultId   the id of the archived {@link ResultEntity}
+     * @param issueCount the number of archived issues
+     * @param archivedAt the time of the archiving in milliseconds since the epoch
+     * @param data       the compressed issues
+     */
+    public ReportArchiveEntity(final int resultId, final int issueCount, final long archivedAt, final byte[] data) {
+        this.resultId = resultId;
+        this.issueCount = issueCount;
+        this.archivedAt = archivedAt;
+        this.data = data;
+    }
+
+    /**
+     * Replaces the archived issues.
+     *
+     * @param archive the {@link ReportArchiveEntity} with the new issues
+     */
+    public void update(final ReportArchiveEntity archive) {
+        issueCount = archive.issueCount;
+        archivedAt = archive.archivedAt;
+        data = archive.data;
+    }
+
+    /**
+     * Returns the id of the {@link ReportArchiveEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the id of the archived {@link ResultEntity}.
+     *
+     * @return the id of the result
+     */
+    public int getResultId() {
+        return resultId;
+    }
+
+    /**
+     * Returns the number of archived issues.
+     *
+     * @return the number of issues
+     */
+    public int getIssueCount() {
+        return issueCount;
+    }
+
+    /**
+     * Returns the time of the archiving.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getArchivedAt() {
+        return archivedAt;
+    }
+
+    /**
+     * Returns the compressed issues.
+     *
+     * @return the compressed issues
+     */
+    public byte[] getData() {
+        return data;
+    }
+}
@@ -3,24 +3,30 @@ package edu.hm.hafner.dashboard.db.model;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * POJO to store a {@link ResultEntity} to the database.
  */
 @Entity
-@Table(name = "result")
+@Table(name = "result", uniqueConstraints = @UniqueConstraint(name = "uk_result_build_warning",
+        columnNames = {"build_entity_id", "warning_id"}))
 public class ResultEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private int id;
     private String latestUrl;
+    @Column(name = "warning_id")
     private String warningId;
     private String name;
     private int fixedSize;
     private int newSize;
     private String qualityGateStatus;
     private int totalSize;
+    private boolean archived;
+    private boolean compacted;
     @ManyToOne
+    @JoinColumn(name = "build_entity_id")
     private BuildEntity buildEntity;
     @OrderColumn
     @ElementCollection(targetClass = String.class)
@@ -28,7 +34,7 @@ public class ResultEntity {
     @OrderColumn
     @ElementCollection(targetClass = String.class)
     private List<String> infoMessages;
-    @OneToMany(mappedBy = "resultEntity", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "resultEntity", fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReportEntity> reports;
 
     /**
@@ -159,6 +165,44 @@ public class ResultEntity {
         this.totalSize = totalSize;
     }
 
+    /**
+     * Returns whether the issues of the {@link ResultEntity} have been moved to a
+     * {@link ReportArchiveEntity}. The {@link ReportEntity}s of an archived result have no issues.
+     *
+     * @return {@code true} if the issues are archived
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    /**
+     * Setter to set whether the issues of the {@link ResultEntity} have been moved to a {@link ReportArchiveEntity}.
+     *
+     * @param archived {@code true} if the issues are archived
+     */
+    public void setArchived(final boolean archived) {
+        this.archived = archived;
+    }
+
+    /**
+     * Returns whether the issues of the {@link ResultEntity} have been deleted by the retention policy. Only the sizes of
+     * the reports of a compacted result are kept.
+     *
+     * @return {@code true} if the issues have been deleted
+     */
+    public boolean isCompacted() {
+        return compacted;
+    }
+
+    /**
+     * Setter to set whether the issues of the {@link ResultEntity} have been deleted by the retention policy.
+     *
+     * @param compacted {@code true} if the issues have been deleted
+     */
+    public void setCompacted(final boolean compacted) {
+        this.compacted = compacted;
+    }
+
     /**
      * Returns the error messages of the {@link ResultEntity}.
      *
@@ -298,6 +342,48 @@ public class ResultEntity {
         return reportEntity;
     }
 
+    /**
+     * Returns whether a {@link ResultEntity} of the same tool has the same values as this {@link ResultEntity}. In contrast
+     * to {@link #equals(Object)} the ids and the issues are not compared: the sizes of the reports already identify an
+     * unchanged result of a finished build.
+     *
+     * @param resultEntity the {@link ResultEntity} to compare with
+     * @return {@code true} if the values are the same, {@code false} otherwise
+     */
+    public boolean hasSameValues(final ResultEntity resultEntity) {
+        return Objects.equals(warningId, resultEntity.warningId)
+                && Objects.equals(latestUrl, resultEntity.latestUrl)
+                && Objects.equals(name, resultEntity.name)
+                && fixedSize == resultEntity.fixedSize
+                && newSize == resultEntity.newSize
+                && totalSize == resultEntity.totalSize
+                && Objects.equals(qualityGateStatus, resultEntity.qualityGateStatus)
+                && Objects.equals(errorMessages, resultEntity.errorMessages)
+                && Objects.equals(infoMessages, resultEntity.infoMessages);
+    }
+
+    /**
+     * Replaces the values and the {@link ReportEntity}s of this {@link ResultEntity} with the ones of a {@link ResultEntity}
+     * of the same tool. The id and the associated {@link BuildEntity} are kept. The new issues are stored as rows again,
+     * so the result is neither archived nor compacted anymore.
+     *
+     * @param resultEntity the {@link ResultEntity} with the new values
+     */
+    public void update(final ResultEntity resultEntity) {
+        latestUrl = resultEntity.latestUrl;
+        name = resultEntity.name;
+        fixedSize = resultEntity.fixedSize;
+        newSize = resultEntity.newSize;
+        totalSize = resultEntity.totalSize;
+        qualityGateStatus = resultEntity.qualityGateStatus;
+        errorMessages = new ArrayList<>(resultEntity.errorMessages);
+        infoMessages = new ArrayList<>(resultEntity.infoMessages);
+        reports.clear();
+        new ArrayList<>(resultEntity.reports).forEach(this::addReportEntity);
+        archived = false;
+        compacted = false;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -0,0 +1,69 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the latest build of a job that has been deleted by the retention policy. Jenkins may still provide the
+ * deleted builds, so they must not be fetched again as missing builds.
+ */
+@Entity
+@Table(name = "retention_mark", uniqueConstraints = @UniqueConstraint(columnNames = "job_name"))
+public class RetentionMarkEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    private int droppedBuildNumber;
+
+    /**
+     * Creates a new instance of {@link RetentionMarkEntity}.
+     */
+    protected RetentionMarkEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link RetentionMarkEntity} without deleted builds.
+     *
+     * @param jobName the name of the job
+     */
+    public RetentionMarkEntity(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Marks a build as deleted. All older builds are deleted as well.
+     *
+     * @param buildNumber the number of the deleted build
+     */
+    public void drop(final int buildNumber) {
+        droppedBuildNumber = Math.max(droppedBuildNumber, buildNumber);
+    }
+
+    /**
+     * Returns the id of the {@link RetentionMarkEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the number of the latest deleted build.
+     *
+     * @return the number of the build, 0 if no build has been deleted
+     */
+    public int getDroppedBuildNumber() {
+        return droppedBuildNumber;
+    }
+}
@@ -0,0 +1,211 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * POJO to store a {@link SyncPhaseEntity} to the database.
+ * A sync phase is the harvesting of a single job or build within a {@link SyncRunEntity}.
+ */
+@Entity
+@Table(name = "sync_phase")
+public class SyncPhaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @ManyToOne
+    private SyncRunEntity syncRunEntity;
+    @Enumerated(EnumType.STRING)
+    private SyncPhaseTypeEntity phaseType;
+    private String jobName;
+    private int buildNumber;
+    @Enumerated(EnumType.STRING)
+    private SyncStatusEntity status;
+    private LocalDateTime startedAt;
+    private long durationInMillis;
+    @Column(length = 1024)
+    private String failureMessage;
+
+    /**
+     * Creates a new instance of {@link SyncPhaseEntity}.
+     */
+    protected SyncPhaseEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link SyncPhaseEntity}.
+     *
+     * @param syncRunEntity the {@link SyncRunEntity} the phase belongs to
+     * @param phaseType     the type of the phase
+     * @param jobName       the name of the harvested job
+     * @param buildNumber   the number of the harvested build, 0 for a job phase
+     */
+    public SyncPhaseEntity(final SyncRunEntity syncRunEntity, final SyncPhaseTypeEntity phaseType, final String jobName, final int buildNumber) {
+        this.syncRunEntity = syncRunEntity;
+        this.phaseType = phaseType;
+        this.jobName = jobName;
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the id of the {@link SyncPhaseEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for the id of the {@link SyncPhaseEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the {@link SyncRunEntity} of the {@link SyncPhaseEntity}.
+     *
+     * @return the {@link SyncRunEntity}
+     */
+    public SyncRunEntity getSyncRunEntity() {
+        return syncRunEntity;
+    }
+
+    /**
+     * Setter for the {@link SyncRunEntity} of the {@link SyncPhaseEntity}.
+     *
+     * @param syncRunEntity the {@link SyncRunEntity}
+     */
+    public void setSyncRunEntity(final SyncRunEntity syncRunEntity) {
+        this.syncRunEntity = syncRunEntity;
+    }
+
+    /**
+     * Returns the type of the {@link SyncPhaseEntity}.
+     *
+     * @return the type
+     */
+    public SyncPhaseTypeEntity getPhaseType() {
+        return phaseType;
+    }
+
+    /**
+     * Setter for the type of the {@link SyncPhaseEntity}.
+     *
+     * @param phaseType the type
+     */
+    public void setPhaseType(final SyncPhaseTypeEntity phaseType) {
+        this.phaseType = phaseType;
+    }
+
+    /**
+     * Returns the job name of the {@link SyncPhaseEntity}.
+     *
+     * @return the job name
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Setter for the job name of the {@link SyncPhaseEntity}.
+     *
+     * @param jobName the job name
+     */
+    public void setJobName(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the build number of the {@link SyncPhaseEntity}.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Setter for the build number of the {@link SyncPhaseEntity}.
+     *
+     * @param buildNumber the build number
+     */
+    public void setBuildNumber(final int buildNumber) {
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the status of the {@link SyncPhaseEntity}.
+     *
+     * @return the status
+     */
+    public SyncStatusEntity getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter for the status of the {@link SyncPhaseEntity}.
+     *
+     * @param status the status
+     */
+    public void setStatus(final SyncStatusEntity status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the start time of the {@link SyncPhaseEntity}.
+     *
+     * @return the start time
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Setter for the start time of the {@link SyncPhaseEntity}.
+     *
+     * @param startedAt the start time
+     */
+    public void setStartedAt(final LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the duration of the {@link SyncPhaseEntity} in milliseconds.
+     *
+     * @return the duration
+     */
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
+    /**
+     * Setter for the duration of the {@link SyncPhaseEntity} in milliseconds.
+     *
+     * @param durationInMillis the duration
+     */
+    public void setDurationInMillis(final long durationInMillis) {
+        this.durationInMillis = durationInMillis;
+    }
+
+    /**
+     * Returns the failure message of the {@link SyncPhaseEntity}.
+     *
+     * @return the failure message
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Setter for the failure message of the {@link SyncPhaseEntity}.
+     *
+     * @param failureMessage the failure message
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+}
@@ -0,0 +1,9 @@
+package edu.hm.hafner.dashboard.db.model;
+
+/**
+ * Type of a {@link SyncPhaseEntity} in the sync journal, either the harvesting of a whole job or of a single build.
+ */
+public enum SyncPhaseTypeEntity {
+    JOB,
+    BUILD
+}
@@ -0,0 +1,186 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * POJO to store a {@link SyncRunEntity} to the database.
+ * A sync run is a single harvest of the Jenkins data, the checkpoint marks the last job and build that have been stored.
+ */
+@Entity
+@Table(name = "sync_run")
+public class SyncRunEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Enumerated(EnumType.STRING)
+    private SyncStatusEntity status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int resumeCount;
+    private String checkpointJobName;
+    private int checkpointBuildNumber;
+    @Column(length = 1024)
+    private String failureMessage;
+
+    /**
+     * Creates a new instance of {@link SyncRunEntity}.
+     */
+    protected SyncRunEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link SyncRunEntity}.
+     *
+     * @param status    the status of the {@link SyncRunEntity}
+     * @param startedAt the start time of the {@link SyncRunEntity}
+     */
+    public SyncRunEntity(final SyncStatusEntity status, final LocalDateTime startedAt) {
+        this.status = status;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the id of the {@link SyncRunEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter for the id of the {@link SyncRunEntity}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the status of the {@link SyncRunEntity}.
+     *
+     * @return the status
+     */
+    public SyncStatusEntity getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter for the status of the {@link SyncRunEntity}.
+     *
+     * @param status the status
+     */
+    public void setStatus(final SyncStatusEntity status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the start time of the {@link SyncRunEntity}.
+     *
+     * @return the start time
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Setter for the start time of the {@link SyncRunEntity}.
+     *
+     * @param startedAt the start time
+     */
+    public void setStartedAt(final LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the finish time of the {@link SyncRunEntity}.
+     *
+     * @return the finish time, or {@code null} if the run is not finished yet
+     */
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Setter for the finish time of the {@link SyncRunEntity}.
+     *
+     * @param finishedAt the finish time
+     */
+    public void setFinishedAt(final LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * Returns how often the {@link SyncRunEntity} has been resumed after an interruption.
+     *
+     * @return the number of resumes
+     */
+    public int getResumeCount() {
+        return resumeCount;
+    }
+
+    /**
+     * Setter for the number of resumes of the {@link SyncRunEntity}.
+     *
+     * @param resumeCount the number of resumes
+     */
+    public void setResumeCount(final int resumeCount) {
+        this.resumeCount = resumeCount;
+    }
+
+    /**
+     * Returns the name of the job of the last checkpoint.
+     *
+     * @return the job name of the checkpoint
+     */
+    public String getCheckpointJobName() {
+        return checkpointJobName;
+    }
+
+    /**
+     * Setter for the name of the job of the last checkpoint.
+     *
+     * @param checkpointJobName the job name of the checkpoint
+     */
+    public void setCheckpointJobName(final String checkpointJobName) {
+        this.checkpointJobName = checkpointJobName;
+    }
+
+    /**
+     * Returns the build number of the last checkpoint.
+     *
+     * @return the build number of the checkpoint
+     */
+    public int getCheckpointBuildNumber() {
+        return checkpointBuildNumber;
+    }
+
+    /**
+     * Setter for the build number of the last checkpoint.
+     *
+     * @param checkpointBuildNumber the build number of the checkpoint
+     */
+    public void setCheckpointBuildNumber(final int checkpointBuildNumber) {
+        this.checkpointBuildNumber = checkpointBuildNumber;
+    }
+
+    /**
+     * Returns the failure message of the {@link SyncRunEntity}.
+     *
+     * @return the failure message
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Setter for the failure message of the {@link SyncRunEntity}.
+     *
+     * @param failureMessage the failure message
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+}
@@ -0,0 +1,10 @@
+package edu.hm.hafner.dashboard.db.model;
+
+/**
+ * Status of a {@link SyncRunEntity} or of a single {@link SyncPhaseEntity} in the sync journal.
+ */
+public enum SyncStatusEntity {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,140 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+
+/**
+ * POJO to store the number of warnings of a tool in the latest build of a job as part of a {@link JobSummaryEntity}.
+ */
+@Embeddable
+public class ToolSummaryEntity {
+    private String toolId;
+    private String name;
+    private int totalSize;
+    private int previousSize;
+    @Enumerated(EnumType.STRING)
+    private QualityGateStatusEntity qualityGateStatus;
+
+    /**
+     * Creates a new instance of {@link ToolSummaryEntity}.
+     */
+    protected ToolSummaryEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link ToolSummaryEntity}.
+     *
+     * @param toolId            the id of the tool
+     * @param name              the name of the tool
+     * @param totalSize         the number of warnings in the latest build
+     * @param qualityGateStatus the status of the quality gate in the latest build
+     */
+    public ToolSummaryEntity(final String toolId, final String name, final int totalSize,
+            final QualityGateStatusEntity qualityGateStatus) {
+        this.toolId = toolId;
+        this.name = name;
+        this.totalSize = totalSize;
+        this.previousSize = totalSize;
+        this.qualityGateStatus = qualityGateStatus;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getToolId() {
+        return toolId;
+    }
+
+    /**
+     * Setter to set the id of the tool.
+     *
+     * @param toolId the id of the tool
+     */
+    public void setToolId(final String toolId) {
+        this.toolId = toolId;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Setter to set the name of the tool.
+     *
+     * @param name the name of the tool
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the number of warnings in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Setter to set the number of warnings in the latest build.
+     *
+     * @param totalSize the number of warnings
+     */
+    public void setTotalSize(final int totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    /**
+     * Returns the number of warnings in the build before the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getPreviousSize() {
+        return previousSize;
+    }
+
+    /**
+     * Setter to set the number of warnings in the build before the latest build.
+     *
+     * @param previousSize the number of warnings
+     */
+    public void setPreviousSize(final int previousSize) {
+        this.previousSize = previousSize;
+    }
+
+    /**
+     * Returns the change of the number of warnings since the build before the latest build.
+     *
+     * @return the change of the number of warnings
+     */
+    public int getDelta() {
+        return totalSize - previousSize;
+    }
+
+    /**
+     * Returns the status of the quality gate in the latest build.
+     *
+     * @return the status
+     */
+    public QualityGateStatusEntity getQualityGateStatus() {
+        return qualityGateStatus;
+    }
+
+    /**
+     * Setter to set the status of the quality gate in the latest build.
+     *
+     * @param qualityGateStatus the status
+     */
+    public void setQualityGateStatus(final QualityGateStatusEntity qualityGateStatus) {
+        this.qualityGateStatus = qualityGateStatus;
+    }
+}
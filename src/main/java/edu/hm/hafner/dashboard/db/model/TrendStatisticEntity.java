@@ -0,0 +1,170 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.*;
+
+/**
+ * POJO to store the moving statistics of a metric of a tool of a job, e.g. the total number of warnings. The statistics
+ * are updated with every build in constant memory: an exponentially weighted moving average and variance, and a
+ * streaming estimate of the median and of the median absolute deviation that moves towards every value by a small step.
+ */
+@Entity
+@Table(name = "trend_statistic",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "tool", "metric"}))
+public class TrendStatisticEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private int id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "tool")
+    private String tool;
+    @Column(name = "metric")
+    private String metric;
+    private int count;
+    private int lastBuild;
+    private double mean;
+    private double variance;
+    private double median;
+    private double deviation;
+
+    /**
+     * Creates a new instance of {@link TrendStatisticEntity}.
+     */
+    protected TrendStatisticEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link TrendStatisticEntity} without values.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param metric  the name of the metric
+     */
+    public TrendStatisticEntity(final String jobName, final String tool, final String metric) {
+        this.jobName = jobName;
+        this.tool = tool;
+        this.metric = metric;
+    }
+
+    /**
+     * Adds the value of a build to the statistics. The median and the deviation move with steps that scale with the
+     * deviation, so they follow a lasting change of the level within a few builds while single outliers hardly move
+     * them.
+     *
+     * @param buildNumber the number of the build
+     * @param value       the value of the metric in the build
+     * @param smoothing   the weight of the new value between 0 and 1
+     */
+    public void add(final int buildNumber, final int value, final double smoothing) {
+        if (count == 0) {
+            mean = value;
+            median = value;
+        }
+        else {
+            double difference = value - mean;
+            double increment = smoothing * difference;
+            mean += increment;
+            variance = (1 - smoothing) * (variance + difference * increment);
+
+            double step = smoothing * Math.max(deviation, 1);
+            median = moveTowards(median, value, step);
+            deviation = moveTowards(deviation, Math.abs(value - median), step);
+        }
+        count++;
+        lastBuild = buildNumber;
+    }
+
+    private static double moveTowards(final double estimate, final double value, final double step) {
+        return estimate + Math.signum(value - estimate) * Math.min(step, Math.abs(value - estimate));
+    }
+
+    /**
+     * Returns the id of the {@link TrendStatisticEntity}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the name of the metric.
+     *
+     * @return the name of the metric
+     */
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * Returns the number of builds in the statistics.
+     *
+     * @return the number of builds
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of the last build in the statistics.
+     *
+     * @return the build number
+     */
+    public int getLastBuild() {
+        return lastBuild;
+    }
+
+    /**
+     * Returns the exponentially weighted moving average.
+     *
+     * @return the average
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the exponentially weighted moving variance.
+     *
+     * @return the variance
+     */
+    public double getVariance() {
+        return variance;
+    }
+
+    /**
+     * Returns the estimate of the median.
+     *
+     * @return the median
+     */
+    public double getMedian() {
+        return median;
+    }
+
+    /**
+     * Returns the estimate of the median absolute deviation.
+     *
+     * @return the deviation
+     */
+    public double getDeviation() {
+        return deviation;
+    }
+}
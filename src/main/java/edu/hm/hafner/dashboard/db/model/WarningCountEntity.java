@@ -0,0 +1,86 @@
+package edu.hm.hafner.dashboard.db.model;
+
+import javax.persistence.Embeddable;
+
+/**
+ * POJO to store the number of warnings of a tool and severity as part of a {@link JobWarningSnapshotEntity}.
+ */
+@Embeddable
+public class WarningCountEntity {
+    private String tool;
+    private String severity;
+    private int count;
+
+    /**
+     * Creates a new instance of {@link WarningCountEntity}.
+     */
+    protected WarningCountEntity() {
+    }
+
+    /**
+     * Creates a new instance of {@link WarningCountEntity}.
+     *
+     * @param tool     the name of the tool
+     * @param severity the name of the severity
+     * @param count    the number of warnings
+     */
+    public WarningCountEntity(final String tool, final String severity, final int count) {
+        this.tool = tool;
+        this.severity = severity;
+        this.count = count;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Setter to set the name of the tool.
+     *
+     * @param tool the name of the tool
+     */
+    public void setTool(final String tool) {
+        this.tool = tool;
+    }
+
+    /**
+     * Returns the name of the severity.
+     *
+     * @return the name of the severity
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Setter to set the name of the severity.
+     *
+     * @param severity the name of the severity
+     */
+    public void setSeverity(final String severity) {
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the number of warnings.
+     *
+     * @return the number of warnings
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Setter to set the number of warnings.
+     *
+     * @param count the number of warnings
+     */
+    public void setCount(final int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,35 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.AnomalyEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link AnomalyEntity}.
+ */
+@Repository
+public interface AnomalyRepository extends JpaRepository<AnomalyEntity, Integer> {
+
+    /**
+     * Searches for the anomalies of a job.
+     *
+     * @param jobName  the name of the job
+     * @param pageable the maximum number of anomalies
+     * @return the {@link AnomalyEntity}s, the latest build first
+     */
+    List<AnomalyEntity> findByJobNameOrderByBuildNumberDescIdAsc(String jobName, Pageable pageable);
+
+    /**
+     * Searches for the numbers of the builds with anomalies of a tool of a job.
+     *
+     * @param jobName  the name of the job
+     * @param toolName the name of the tool
+     * @return the build numbers
+     */
+    @Query("select distinct a.buildNumber from AnomalyEntity a where a.jobName = ?1 and a.toolName = ?2")
+    List<Integer> findBuildNumbers(String jobName, String toolName);
+}
@@ -1,9 +1,16 @@
 package edu.hm.hafner.dashboard.db.repository;
 
 import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository to handle the access to the database for the {@link BuildEntity}.
  *
@@ -11,4 +18,129 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface BuildRepository extends JpaRepository<BuildEntity, Integer> {
+
+    /**
+     * Finds the numbers of all stored builds of a job, without loading the builds and their results.
+     *
+     * @param jobId the id of the job
+     * @return the stored build numbers
+     */
+    @Query("select b.number from BuildEntity b where b.jobEntity.id = ?1")
+    List<Integer> findBuildNumbersByJobId(int jobId);
+
+    /**
+     * Finds the numbers of all stored builds of a job by the name of the job, without loading the builds.
+     *
+     * @param jobName the name of the job
+     * @return the stored build numbers
+     */
+    @Query("select b.number from BuildEntity b where b.jobEntity.name = ?1")
+    List<Integer> findBuildNumbersByJobName(String jobName);
+
+    /**
+     * Finds a build of a job by the name of the job and the build number.
+     *
+     * @param jobName the name of the job
+     * @param number  the build number
+     * @return the build, or an empty {@link Optional} if the build is not stored
+     */
+    Optional<BuildEntity> findByJobEntityNameAndNumber(String jobName, int number);
+
+    /**
+     * Finds a build of a job by its natural key.
+     *
+     * @param jobId  the id of the job
+     * @param number the build number
+     * @return the build, or an empty {@link Optional} if the build is not stored
+     */
+    Optional<BuildEntity> findByJobEntityIdAndNumber(int jobId, int number);
+
+    /**
+     * Finds the builds of a job that have been started within a time range. The query is executed as range scan on the
+     * index of the job and the timestamp, the builds of the job outside the range are not read.
+     *
+     * @param jobName  the name of the job
+     * @param from     the earliest start time in milliseconds since the epoch
+     * @param to       the latest start time in milliseconds since the epoch
+     * @param pageable the maximum number of builds, the newest builds are returned first
+     * @return the builds, the newest build first
+     */
+    @Query("select b from BuildEntity b where b.jobEntity.name = ?1 and b.timestamp between ?2 and ?3 order by b.number desc")
+    List<BuildEntity> findByJobNameAndTimestampBetween(String jobName, long from, long to, Pageable pageable);
+
+    /**
+     * Finds the latest builds of a job, using the index of the job and the build number.
+     *
+     * @param jobName  the name of the job
+     * @param pageable the maximum number of builds
+     * @return the builds, the newest build first
+     */
+    List<BuildEntity> findByJobEntityNameOrderByNumberDesc(String jobName, Pageable pageable);
+
+    /**
+     * Returns whether a build of a job is stored, without loading the build and its results.
+     *
+     * @param jobName the name of the job
+     * @param number  the build number
+     * @return {@code true} if the build is stored
+     */
+    boolean existsByJobEntityNameAndNumber(String jobName, int number);
+
+    /**
+     * Finds the numbers of the latest builds of a job, without loading the builds.
+     *
+     * @param jobName  the name of the job
+     * @param pageable the page of the build numbers
+     * @return the build numbers, the newest build first
+     */
+    @Query("select b.number from BuildEntity b where b.jobEntity.name = ?1 order by b.number desc")
+    List<Integer> findLatestBuildNumbers(String jobName, Pageable pageable);
+
+    /**
+     * Finds the numbers of the builds of a job that are older than a build or that have been started before a time. The
+     * newest build of the job is never found.
+     *
+     * @param jobName   the name of the job
+     * @param number    the number of the newest build to find
+     * @param timestamp the time in milliseconds since the epoch, builds without a start time are not found by time
+     * @param pageable  the maximum number of builds
+     * @return the build numbers, the oldest build first
+     */
+    @Query("select b.number from BuildEntity b where b.jobEntity.name = ?1 "
+            + "and (b.number <= ?2 or (b.timestamp > 0 and b.timestamp < ?3)) "
+            + "and b.number < (select max(l.number) from BuildEntity l where l.jobEntity.name = ?1) "
+            + "order by b.number asc")
+    List<Integer> findBuildNumbersBefore(String jobName, int number, long timestamp, Pageable pageable);
+
+    /**
+     * Finds builds of a job by their numbers.
+     *
+     * @param jobName the name of the job
+     * @param numbers the build numbers
+     * @return the builds
+     */
+    List<BuildEntity> findByJobEntityNameAndNumberIn(String jobName, Collection<Integer> numbers);
+
+    /**
+     * Finds the numbers of the builds of a job that have been stored without a start time.
+     *
+     * @param jobId the id of the job
+     * @return the build numbers
+     */
+    @Query("select b.number from BuildEntity b where b.jobEntity.id = ?1 and b.timestamp = 0")
+    List<Integer> findBuildNumbersWithoutTimestamp(int jobId);
+
+    /**
+     * Sets the start time and the duration of a build that has been stored without a start time.
+     *
+     * @param jobId     the id of the job
+     * @param number    the build number
+     * @param timestamp the start time in milliseconds since the epoch
+     * @param duration  the duration in milliseconds
+     * @return the number of updated builds
+     */
+    @Modifying
+    @Query("update BuildEntity b set b.timestamp = ?3, b.duration = ?4 "
+            + "where b.jobEntity.id = ?1 and b.number = ?2 and b.timestamp = 0")
+    int updateTimestamp(int jobId, int number, long timestamp, long duration);
 }
@@ -0,0 +1,57 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.HotspotBuildEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link HotspotBuildEntity}.
+ */
+@Repository
+public interface HotspotBuildRepository extends JpaRepository<HotspotBuildEntity, Integer> {
+
+    /**
+     * Returns whether the issues of a tool in a build have been counted already.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param buildNumber the number of the build
+     * @return {@code true} if the build has been counted
+     */
+    boolean existsByJobNameAndToolAndBuildNumber(String jobName, String tool, int buildNumber);
+
+    /**
+     * Searches for the latest counted build of a tool of a job.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @return the {@link HotspotBuildEntity}, if a build has been counted
+     */
+    Optional<HotspotBuildEntity> findFirstByJobNameAndToolOrderByBuildNumberDesc(String jobName, String tool);
+
+    /**
+     * Finds the numbers of the counted builds of all tools of a job.
+     *
+     * @param jobName the name of the job
+     * @return the numbers of the counted builds
+     */
+    @Query("select distinct b.buildNumber from HotspotBuildEntity b where b.jobName = ?1")
+    List<Integer> findBuildNumbers(String jobName);
+
+    /**
+     * Deletes the counted builds of all tools of a job with a single statement.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     * @return the number of deleted builds
+     */
+    @Modifying
+    @Query("delete from HotspotBuildEntity b where b.jobName = ?1 and b.buildNumber in ?2")
+    int deleteBuilds(String jobName, Collection<Integer> buildNumbers);
+}
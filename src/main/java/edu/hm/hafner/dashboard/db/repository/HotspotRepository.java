@@ -0,0 +1,55 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.HotspotEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link HotspotEntity}.
+ */
+@Repository
+public interface HotspotRepository extends JpaRepository<HotspotEntity, Integer> {
+
+    /**
+     * Searches for the hot spots of a tool of a job with the given names.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param kind    the kind of the hot spots
+     * @param names   the names of the files or packages
+     * @return the {@link HotspotEntity}s
+     */
+    List<HotspotEntity> findByJobNameAndToolAndKindAndNameIn(String jobName, String tool, String kind, Collection<String> names);
+
+    /**
+     * Searches for the hot spots of a tool of a job, ordered by the sort of the {@link Pageable}.
+     *
+     * @param jobName  the name of the job
+     * @param tool     the id of the tool
+     * @param kind     the kind of the hot spots
+     * @param pageable the order and the maximum number of hot spots
+     * @return the {@link HotspotEntity}s
+     */
+    List<HotspotEntity> findByJobNameAndToolAndKind(String jobName, String tool, String kind, Pageable pageable);
+
+    /**
+     * Closes the interval of the previous build: the current warnings of all hot spots of a tool of a job are added for
+     * the time until the next build, then the current warnings are reset. The hot spots of the next build are set again
+     * afterwards, so hot spots without warnings in the next build are updated with this single statement.
+     *
+     * @param jobName  the name of the job
+     * @param tool     the id of the tool
+     * @param interval the time between the previous and the next build in milliseconds
+     * @return the number of updated hot spots
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update HotspotEntity h set h.warningMillis = h.warningMillis + h.currentCount * ?3, h.currentCount = 0 "
+            + "where h.jobName = ?1 and h.tool = ?2 and h.currentCount > 0")
+    int closeInterval(String jobName, String tool, long interval);
+}
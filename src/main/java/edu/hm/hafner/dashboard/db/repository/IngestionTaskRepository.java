@@ -0,0 +1,42 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.IngestionTaskEntity;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskStatusEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link IngestionTaskEntity}.
+ */
+@Repository
+public interface IngestionTaskRepository extends JpaRepository<IngestionTaskEntity, Integer> {
+
+    /**
+     * Searches for the task of a build.
+     *
+     * @param jobName     the qualified name of the job
+     * @param buildNumber the build number
+     * @return the {@link IngestionTaskEntity} or {@code null} if there is none
+     */
+    IngestionTaskEntity findByJobNameAndBuildNumber(String jobName, int buildNumber);
+
+    /**
+     * Returns the tasks with the given status, the oldest notification first.
+     *
+     * @param status   the status
+     * @param pageable the maximum number of tasks
+     * @return the {@link IngestionTaskEntity}s
+     */
+    List<IngestionTaskEntity> findByStatusOrderByReceivedAtAsc(IngestionTaskStatusEntity status, Pageable pageable);
+
+    /**
+     * Counts the tasks with the given status.
+     *
+     * @param status the status
+     * @return the number of tasks
+     */
+    long countByStatus(IngestionTaskStatusEntity status);
+}
@@ -0,0 +1,72 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.IssueLifecycleEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link IssueLifecycleEntity}.
+ */
+@Repository
+public interface IssueLifecycleRepository extends JpaRepository<IssueLifecycleEntity, Integer> {
+
+    /**
+     * Searches for the lifecycle of an issue, using the unique key of the table.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param fingerprint the fingerprint of the issue
+     * @return the {@link IssueLifecycleEntity}, if stored
+     */
+    Optional<IssueLifecycleEntity> findByJobNameAndToolAndFingerprint(String jobName, String tool, String fingerprint);
+
+    /**
+     * Searches for the lifecycles of the issues with the given fingerprints.
+     *
+     * @param jobName      the name of the job
+     * @param tool         the id of the tool
+     * @param fingerprints the fingerprints of the issues
+     * @return the {@link IssueLifecycleEntity}s
+     */
+    List<IssueLifecycleEntity> findByJobNameAndToolAndFingerprintIn(String jobName, String tool, Collection<String> fingerprints);
+
+    /**
+     * Returns whether the issues of a tool of a job are tracked already.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @return {@code true} if at least one lifecycle is stored
+     */
+    boolean existsByJobNameAndTool(String jobName, String tool);
+
+    /**
+     * Searches for the open issues of a job that have been seen first, using the index of the open issues.
+     *
+     * @param jobName      the name of the job
+     * @param fixedInBuild the build number of open issues
+     * @param pageable     the maximum number of issues
+     * @return the {@link IssueLifecycleEntity}s, the oldest issue first
+     */
+    List<IssueLifecycleEntity> findByJobNameAndFixedInBuildOrderByFirstSeenBuildAsc(String jobName, int fixedInBuild, Pageable pageable);
+
+    /**
+     * Marks all open issues of a tool of a job as seen in a build. Open issues are outstanding in every build until they
+     * are fixed, so they are updated with a single statement instead of reading the outstanding issues of the build.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param buildNumber the number of the build
+     * @return the number of updated lifecycles
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update IssueLifecycleEntity i set i.lastSeenBuild = ?3 "
+            + "where i.jobName = ?1 and i.tool = ?2 and i.fixedInBuild = 0 and i.lastSeenBuild < ?3")
+    int updateLastSeenBuildOfOpenIssues(String jobName, String tool, int buildNumber);
+}
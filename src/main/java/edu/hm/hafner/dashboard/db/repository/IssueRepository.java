@@ -0,0 +1,77 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.IssueFingerprintEntity;
+import edu.hm.hafner.dashboard.db.model.IssuePropertiesEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository to handle the access to the database for the {@link IssueEntity}.
+ */
+@Repository
+public interface IssueRepository extends JpaRepository<IssueEntity, UUID> {
+
+    /**
+     * Finds the fingerprints of the issues of a tool in a build. Only the columns of the {@link IssueFingerprintEntity}
+     * are read, the reports of the issues are selected by the index of the report and the fingerprint.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param tool         the id of the tool
+     * @param warningTypes the types of the reports, e.g. NEW and OUTSTANDING
+     * @return the {@link IssueFingerprintEntity}s
+     */
+    @Query("select new edu.hm.hafner.dashboard.db.model.IssueFingerprintEntity("
+            + "i.fingerprint, i.severity, i.fileName, i.lineStart, i.message) "
+            + "from IssueEntity i join i.issues r join r.resultEntity re join re.buildEntity b "
+            + "where b.jobEntity.name = ?1 and b.number = ?2 and re.warningId = ?3 and r.warningTypeEntity in ?4")
+    List<IssueFingerprintEntity> findFingerprints(String jobName, int buildNumber, String tool,
+            Collection<WarningTypeEntity> warningTypes);
+
+    /**
+     * Finds the properties of the issues of a tool in a build that are shown as columns of the issue table. Only the
+     * columns of the {@link IssuePropertiesEntity} are read.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param tool         the id of the tool
+     * @param warningTypes the types of the reports, e.g. NEW and OUTSTANDING
+     * @return the {@link IssuePropertiesEntity}s
+     */
+    @Query("select new edu.hm.hafner.dashboard.db.model.IssuePropertiesEntity("
+            + "i.category, i.moduleName, i.packageName, i.fileName, i.type, i.severity) "
+            + "from IssueEntity i join i.issues r join r.resultEntity re join re.buildEntity b "
+            + "where b.jobEntity.name = ?1 and b.number = ?2 and re.warningId = ?3 and r.warningTypeEntity in ?4")
+    List<IssuePropertiesEntity> findProperties(String jobName, int buildNumber, String tool,
+            Collection<WarningTypeEntity> warningTypes);
+
+    /**
+     * Deletes the issues of all reports of a result with a single statement.
+     *
+     * @param resultId the id of the result
+     * @return the number of deleted issues
+     */
+    @Modifying
+    @Query("delete from IssueEntity i where i.issues.id in "
+            + "(select r.id from ReportEntity r where r.resultEntity.id = ?1)")
+    int deleteByResultId(int resultId);
+
+    /**
+     * Deletes the issues of all reports of results with a single statement.
+     *
+     * @param resultIds the ids of the results
+     * @return the number of deleted issues
+     */
+    @Modifying
+    @Query("delete from IssueEntity i where i.issues.id in "
+            + "(select r.id from ReportEntity r where r.resultEntity.id in ?1)")
+    int deleteByResultIds(Collection<Integer> resultIds);
+}
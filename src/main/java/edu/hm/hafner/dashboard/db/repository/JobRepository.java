@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository to handle the access to the database for the {@link JobEntity}.
  *
@@ -20,4 +22,22 @@ public interface JobRepository extends JpaRepository<JobEntity, Integer> {
      * @return the {@link JobEntity}
      */
     JobEntity findByName(String name);
+
+    /**
+     * Searches for a {@link JobEntity} by name, without loading its builds.
+     *
+     * @param name the name
+     * @return the {@link JobEntity} without its builds
+     */
+    @Query("select new edu.hm.hafner.dashboard.db.model.JobEntity(j.id, j.name, j.url, j.lastBuildStatus, j.controllerName) "
+            + "from JobEntity j where j.name = ?1")
+    JobEntity findReferenceByName(String name);
+
+    /**
+     * Finds the names of all jobs, without loading the jobs and their builds.
+     *
+     * @return the names of the jobs
+     */
+    @Query("select j.name from JobEntity j")
+    List<String> findAllNames();
 }
@@ -0,0 +1,43 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link JobSummaryEntity}.
+ */
+@Repository
+public interface JobSummaryRepository extends JpaRepository<JobSummaryEntity, Integer> {
+
+    /**
+     * Searches for the summary of a job.
+     *
+     * @param jobName the name of the job
+     * @return the {@link JobSummaryEntity}, if stored
+     */
+    Optional<JobSummaryEntity> findByJobName(String jobName);
+
+    /**
+     * Creates the summaries of the jobs that have no stored summary yet. Only the attributes of the jobs are read, not
+     * their builds.
+     *
+     * @return the new {@link JobSummaryEntity}s, not stored yet
+     */
+    @Query("select new edu.hm.hafner.dashboard.db.model.JobSummaryEntity(j.name, j.url, j.lastBuildStatus, j.controllerName) "
+            + "from JobEntity j where not exists (select s.id from JobSummaryEntity s where s.jobName = j.name) "
+            + "order by j.name")
+    List<JobSummaryEntity> findMissingSummaries();
+
+    /**
+     * Searches for the summaries of all jobs. The warnings per tool are fetched with the summaries in a single query.
+     *
+     * @return the {@link JobSummaryEntity}s, ordered by the name of the job
+     */
+    @Query("select distinct s from JobSummaryEntity s left join fetch s.tools order by s.jobName")
+    List<JobSummaryEntity> findAllWithTools();
+}
@@ -0,0 +1,42 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.JobWarningSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link JobWarningSnapshotEntity}.
+ */
+@Repository
+public interface JobWarningSnapshotRepository extends JpaRepository<JobWarningSnapshotEntity, Integer> {
+
+    /**
+     * Searches for the snapshot of a job at a day.
+     *
+     * @param jobId the id of the job
+     * @param day   the day
+     * @return the {@link JobWarningSnapshotEntity}, if stored
+     */
+    Optional<JobWarningSnapshotEntity> findByJobIdAndDay(int jobId, LocalDate day);
+
+    /**
+     * Searches for the latest snapshot of a job before a day.
+     *
+     * @param jobId the id of the job
+     * @param day   the day
+     * @return the {@link JobWarningSnapshotEntity}, if stored
+     */
+    Optional<JobWarningSnapshotEntity> findFirstByJobIdAndDayLessThanOrderByDayDesc(int jobId, LocalDate day);
+
+    /**
+     * Searches for the earliest snapshot of a job after a day.
+     *
+     * @param jobId the id of the job
+     * @param day   the day
+     * @return the {@link JobWarningSnapshotEntity}, if stored
+     */
+    Optional<JobWarningSnapshotEntity> findFirstByJobIdAndDayGreaterThanOrderByDayAsc(int jobId, LocalDate day);
+}
@@ -0,0 +1,33 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.PortfolioTrendEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link PortfolioTrendEntity}.
+ */
+@Repository
+public interface PortfolioTrendRepository extends JpaRepository<PortfolioTrendEntity, Integer> {
+
+    /**
+     * Searches for the change of a tool and severity at a day.
+     *
+     * @param day      the day
+     * @param tool     the name of the tool
+     * @param severity the name of the severity
+     * @return the {@link PortfolioTrendEntity}, if stored
+     */
+    Optional<PortfolioTrendEntity> findByDayAndToolAndSeverity(LocalDate day, String tool, String severity);
+
+    /**
+     * Returns all changes, the earliest day first.
+     *
+     * @return the {@link PortfolioTrendEntity}s
+     */
+    List<PortfolioTrendEntity> findAllByOrderByDayAsc();
+}
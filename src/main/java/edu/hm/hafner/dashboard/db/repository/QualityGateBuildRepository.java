@@ -0,0 +1,47 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.QualityGateBuildEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link QualityGateBuildEntity}.
+ */
+@Repository
+public interface QualityGateBuildRepository extends JpaRepository<QualityGateBuildEntity, Integer> {
+
+    /**
+     * Returns whether the quality gates of a build have been counted already.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @return {@code true} if the build has been counted
+     */
+    boolean existsByJobNameAndBuildNumber(String jobName, int buildNumber);
+
+    /**
+     * Searches for the latest counted builds of a job.
+     *
+     * @param jobName  the name of the job
+     * @param pageable the maximum number of builds
+     * @return the {@link QualityGateBuildEntity}s, the latest build first
+     */
+    List<QualityGateBuildEntity> findByJobNameOrderByBuildNumberDesc(String jobName, Pageable pageable);
+
+    /**
+     * Deletes the counted builds of a job with a single statement.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     * @return the number of deleted builds
+     */
+    @Modifying
+    @Query("delete from QualityGateBuildEntity b where b.jobName = ?1 and b.buildNumber in ?2")
+    int deleteBuilds(String jobName, Collection<Integer> buildNumbers);
+}
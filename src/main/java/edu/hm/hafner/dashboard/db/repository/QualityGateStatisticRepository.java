@@ -0,0 +1,29 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.QualityGateStatisticEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link QualityGateStatisticEntity}.
+ */
+@Repository
+public interface QualityGateStatisticRepository extends JpaRepository<QualityGateStatisticEntity, Integer> {
+
+    /**
+     * Searches for the aggregates of the quality gates of all tools of a job.
+     *
+     * @param jobName the name of the job
+     * @return the {@link QualityGateStatisticEntity}s
+     */
+    List<QualityGateStatisticEntity> findByJobName(String jobName);
+
+    /**
+     * Searches for the aggregates of the quality gates of all jobs.
+     *
+     * @return the {@link QualityGateStatisticEntity}s, ordered by job and tool
+     */
+    List<QualityGateStatisticEntity> findAllByOrderByJobNameAscToolAsc();
+}
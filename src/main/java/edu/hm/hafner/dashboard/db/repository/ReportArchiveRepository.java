@@ -0,0 +1,49 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.ReportArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link ReportArchiveEntity}.
+ */
+@Repository
+public interface ReportArchiveRepository extends JpaRepository<ReportArchiveEntity, Integer> {
+
+    /**
+     * Searches for the archive of a result.
+     *
+     * @param resultId the id of the result
+     * @return the {@link ReportArchiveEntity}, if the result has been archived
+     */
+    Optional<ReportArchiveEntity> findByResultId(int resultId);
+
+    /**
+     * Searches for the archive of the result of a tool in a build. Only the archive of a result that is still marked as
+     * archived is returned.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param tool        the id of the tool
+     * @return the {@link ReportArchiveEntity}, if the result has been archived
+     */
+    @Query("select a from ReportArchiveEntity a, ResultEntity re join re.buildEntity b "
+            + "where a.resultId = re.id and re.archived = true and b.jobEntity.name = ?1 and b.number = ?2 "
+            + "and re.warningId = ?3")
+    Optional<ReportArchiveEntity> findArchivedResult(String jobName, int buildNumber, String tool);
+
+    /**
+     * Deletes the archives of results with a single statement.
+     *
+     * @param resultIds the ids of the results
+     * @return the number of deleted archives
+     */
+    @Modifying
+    @Query("delete from ReportArchiveEntity a where a.resultId in ?1")
+    int deleteByResultIds(Collection<Integer> resultIds);
+}
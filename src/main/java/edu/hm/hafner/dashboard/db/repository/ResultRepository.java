@@ -0,0 +1,89 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link ResultEntity}.
+ */
+@Repository
+public interface ResultRepository extends JpaRepository<ResultEntity, Integer> {
+
+    /**
+     * Searches for the results that are neither archived nor compacted yet of the builds that have been started before a time.
+     *
+     * @param timestamp the time in milliseconds since the epoch
+     * @param pageable  the maximum number of results
+     * @return the {@link ResultEntity}s, the oldest build first
+     */
+    @Query("select re from ResultEntity re join re.buildEntity b "
+            + "where re.archived = false and re.compacted = false and b.timestamp > 0 and b.timestamp < ?1 order by b.timestamp asc, re.id asc")
+    List<ResultEntity> findNotArchivedBefore(long timestamp, Pageable pageable);
+
+    /**
+     * Marks a result as archived if it has not been changed since it has been read. The sizes of the reports identify an
+     * unchanged result (see {@link ResultEntity#hasSameValues(ResultEntity)}).
+     *
+     * @param id        the id of the result
+     * @param totalSize the read total size
+     * @param newSize   the read number of new issues
+     * @param fixedSize the read number of fixed issues
+     * @return the number of updated results, 0 if the result has been changed or archived in the meantime
+     */
+    @Modifying
+    @Query("update ResultEntity re set re.archived = true where re.id = ?1 and re.archived = false "
+            + "and re.totalSize = ?2 and re.newSize = ?3 and re.fixedSize = ?4")
+    int markArchived(int id, int totalSize, int newSize, int fixedSize);
+
+    /**
+     * Finds the ids of the results with issues of the builds of a job that are older than a build and that have been
+     * started before a time.
+     *
+     * @param jobName   the name of the job
+     * @param number    the number of the newest build to find
+     * @param timestamp the time in milliseconds since the epoch, 0 to find the builds by number only; builds without a
+     *                  start time are found by number only
+     * @param pageable  the maximum number of results
+     * @return the ids of the results, the oldest build first
+     */
+    @Query("select re.id from ResultEntity re join re.buildEntity b where b.jobEntity.name = ?1 "
+            + "and b.number <= ?2 and (?3 = 0 or (b.timestamp > 0 and b.timestamp < ?3)) and re.compacted = false "
+            + "order by b.number asc, re.id asc")
+    List<Integer> findIdsToCompact(String jobName, int number, long timestamp, Pageable pageable);
+
+    /**
+     * Finds the ids of the results of builds of a job.
+     *
+     * @param jobName the name of the job
+     * @param numbers the build numbers
+     * @return the ids of the results
+     */
+    @Query("select re.id from ResultEntity re join re.buildEntity b where b.jobEntity.name = ?1 and b.number in ?2")
+    List<Integer> findIdsOfBuilds(String jobName, Collection<Integer> numbers);
+
+    /**
+     * Finds the numbers of the builds of results.
+     *
+     * @param ids the ids of the results
+     * @return the build numbers, every build once
+     */
+    @Query("select distinct b.number from ResultEntity re join re.buildEntity b where re.id in ?1")
+    List<Integer> findBuildNumbersOfResults(Collection<Integer> ids);
+
+    /**
+     * Marks results as compacted: only the sizes of the reports are kept, the issues have been deleted.
+     *
+     * @param ids the ids of the results
+     * @return the number of updated results
+     */
+    @Modifying
+    @Query("update ResultEntity re set re.compacted = true, re.archived = false where re.id in ?1")
+    int markCompacted(Collection<Integer> ids);
+}
@@ -0,0 +1,22 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.RetentionMarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link RetentionMarkEntity}.
+ */
+@Repository
+public interface RetentionMarkRepository extends JpaRepository<RetentionMarkEntity, Integer> {
+
+    /**
+     * Searches for the mark of the deleted builds of a job.
+     *
+     * @param jobName the name of the job
+     * @return the {@link RetentionMarkEntity}, if builds of the job have been deleted
+     */
+    Optional<RetentionMarkEntity> findByJobName(String jobName);
+}
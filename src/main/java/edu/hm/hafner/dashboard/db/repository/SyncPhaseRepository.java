@@ -0,0 +1,46 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.SyncPhaseEntity;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseTypeEntity;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link SyncPhaseEntity}.
+ */
+@Repository
+public interface SyncPhaseRepository extends JpaRepository<SyncPhaseEntity, Integer> {
+
+    /**
+     * Searches for all {@link SyncPhaseEntity}s of a sync run in the order they have been recorded.
+     *
+     * @param syncRunId the id of the sync run
+     * @return the {@link SyncPhaseEntity}s
+     */
+    List<SyncPhaseEntity> findBySyncRunEntityIdOrderByIdAsc(int syncRunId);
+
+    /**
+     * Searches for the job names of all phases of a sync run with the given type and status.
+     *
+     * @param syncRunId the id of the sync run
+     * @param phaseType the type of the phase
+     * @param status    the status of the phase
+     * @return the job names
+     */
+    @Query("select p.jobName from SyncPhaseEntity p where p.syncRunEntity.id = ?1 and p.phaseType = ?2 and p.status = ?3")
+    List<String> findJobNames(int syncRunId, SyncPhaseTypeEntity phaseType, SyncStatusEntity status);
+
+    /**
+     * Counts the phases of a sync run with the given type and status.
+     *
+     * @param syncRunId the id of the sync run
+     * @param phaseType the type of the phase
+     * @param status    the status of the phase
+     * @return the number of phases
+     */
+    long countBySyncRunEntityIdAndPhaseTypeAndStatus(int syncRunId, SyncPhaseTypeEntity phaseType, SyncStatusEntity status);
+}
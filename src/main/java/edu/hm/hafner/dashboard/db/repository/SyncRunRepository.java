@@ -0,0 +1,30 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.SyncRunEntity;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository to handle the access to the database for the {@link SyncRunEntity}.
+ */
+@Repository
+public interface SyncRunRepository extends JpaRepository<SyncRunEntity, Integer> {
+
+    /**
+     * Searches for the latest {@link SyncRunEntity} with the given status.
+     *
+     * @param status the status
+     * @return the latest {@link SyncRunEntity} or {@code null} if there is none
+     */
+    SyncRunEntity findFirstByStatusOrderByStartedAtDesc(SyncStatusEntity status);
+
+    /**
+     * Returns the latest 50 {@link SyncRunEntity}s, the newest run first.
+     *
+     * @return the {@link SyncRunEntity}s
+     */
+    List<SyncRunEntity> findTop50ByOrderByStartedAtDesc();
+}
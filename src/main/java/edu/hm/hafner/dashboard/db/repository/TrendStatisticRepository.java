@@ -0,0 +1,24 @@
+package edu.hm.hafner.dashboard.db.repository;
+
+import edu.hm.hafner.dashboard.db.model.TrendStatisticEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository to handle the access to the database for the {@link TrendStatisticEntity}.
+ */
+@Repository
+public interface TrendStatisticRepository extends JpaRepository<TrendStatisticEntity, Integer> {
+
+    /**
+     * Searches for the statistics of a metric of a tool of a job.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param metric  the name of the metric
+     * @return the {@link TrendStatisticEntity}, if a build has been added
+     */
+    Optional<TrendStatisticEntity> findByJobNameAndToolAndMetric(String jobName, String tool, String metric);
+}
@@ -0,0 +1,126 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.AnomalyProperties;
+import edu.hm.hafner.dashboard.db.AnomalyEntityService;
+import edu.hm.hafner.dashboard.db.model.AnomalyEntity;
+import edu.hm.hafner.dashboard.db.model.TrendStatisticEntity;
+import edu.hm.hafner.dashboard.service.dto.Anomaly;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Service to detect sudden spikes in the trends of the results. Every saved build (see {@link BuildPersistedEvent}) is
+ * compared with the moving statistics of its job and tool before it is added to them, so the detection needs constant
+ * memory per job and tool. A value is an anomaly if it is above the expected value and both its z-score against the
+ * moving average and its robust z-score against the moving median reach the threshold: the moving average reacts to
+ * the level of the trend, the median and its absolute deviation are not distorted by previous outliers.
+ */
+@Service
+class AnomalyService {
+    /** The metric of the total number of warnings. */
+    static final String TOTAL = "total";
+    /** The metric of the number of new warnings. */
+    static final String NEW = "new";
+    /** The maximum number of anomalies of a query. */
+    static final int MAX_ANOMALIES = 1000;
+
+    /** Scales the median absolute deviation to the standard deviation of a normal distribution. */
+    private static final double MAD_SCALE = 0.6745;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final AnomalyEntityService anomalyEntityService;
+    private final AnomalyProperties anomalyProperties;
+
+    /**
+     * Creates a new instance of {@link AnomalyService}.
+     *
+     * @param anomalyEntityService the entity service for anomalies
+     * @param anomalyProperties    the configuration of the detection
+     */
+    @Autowired
+    AnomalyService(final AnomalyEntityService anomalyEntityService, final AnomalyProperties anomalyProperties) {
+        this.anomalyEntityService = anomalyEntityService;
+        this.anomalyProperties = anomalyProperties;
+    }
+
+    /**
+     * Checks the results of a saved build for anomalies and adds them to the statistics.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        for (Result result : event.getBuild().getResults()) {
+            if (result.getWarningId() == null) {
+                continue;
+            }
+            analyze(event.getJobName(), event.getBuild(), result, TOTAL, Result::getTotalSize);
+            analyze(event.getJobName(), event.getBuild(), result, NEW, Result::getNewSize);
+        }
+    }
+
+    private void analyze(final String jobName, final Build build, final Result result, final String metric,
+            final ToIntFunction<Result> value) {
+        String tool = result.getWarningId();
+        TrendStatisticEntity statistic = anomalyEntityService.findStatistic(jobName, tool, metric)
+                .orElseGet(() -> new TrendStatisticEntity(jobName, tool, metric));
+        if (statistic.getCount() > 0 && build.getNumber() <= statistic.getLastBuild()) {
+            return; // the statistics follow the order of the builds, older builds are not added later
+        }
+
+        int current = value.applyAsInt(result);
+        AnomalyEntity anomaly = null;
+        if (statistic.getCount() >= anomalyProperties.getWarmupBuilds()) {
+            double minDeviation = anomalyProperties.getMinDeviation();
+            double score = MAD_SCALE * (current - statistic.getMedian()) / Math.max(statistic.getDeviation(), minDeviation);
+            double movingScore = (current - statistic.getMean()) / Math.max(Math.sqrt(statistic.getVariance()), minDeviation);
+            if (score >= anomalyProperties.getThreshold() && movingScore >= anomalyProperties.getThreshold()) {
+                anomaly = new AnomalyEntity(jobName, tool, result.getName(), metric, build.getNumber(), build.getTimestamp());
+                anomaly.setValue(current);
+                anomaly.setExpected(statistic.getMedian());
+                anomaly.setScore(score);
+                logger.info("Build " + build.getNumber() + " of " + jobName + " has an anomaly of " + metric + " "
+                        + tool + " warnings: " + current + " instead of " + Math.round(statistic.getMedian()));
+            }
+        }
+        statistic.add(build.getNumber(), current, anomalyProperties.getSmoothing());
+        anomalyEntityService.save(statistic, anomaly);
+    }
+
+    /**
+     * Finds the anomalies of a job.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of anomalies, at most {@link #MAX_ANOMALIES}
+     * @return the {@link Anomaly}s, the latest build first
+     */
+    public List<Anomaly> findAnomalies(final String jobName, final int limit) {
+        return anomalyEntityService.findAnomalies(jobName, Math.max(1, Math.min(limit, MAX_ANOMALIES)))
+                .stream()
+                .map(Mapper::map)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the numbers of the builds with anomalies of a tool of a job.
+     *
+     * @param jobName  the name of the job
+     * @param toolName the name of the tool
+     * @return the build numbers
+     */
+    public Set<Integer> findAnomalousBuilds(final String jobName, final String toolName) {
+        return new HashSet<>(anomalyEntityService.findAnomalousBuilds(jobName, toolName));
+    }
+}
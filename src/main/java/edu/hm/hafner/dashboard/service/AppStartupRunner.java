@@ -2,11 +2,15 @@ package edu.hm.hafner.dashboard.service;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.config.SyncProperties;
 import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
 import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Job;
 import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
 import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import edu.hm.hafner.dashboard.service.rest.JenkinsClient;
 import edu.hm.hafner.dashboard.service.rest.RestService;
 import edu.hm.hafner.dashboard.service.rest.response.*;
 import org.slf4j.Logger;
@@ -14,133 +18,486 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * Startup Runner to request data from the Jenkins API and stores it into the database.
  * If the database is empty all fetched data (jobs. builds, results, reports, issues) will be stored, otherwise only the new jobs or new
- * builds with results, report and issues will be added to the database.
+ * builds with results, report and issues will be added to the database. Every run is recorded by the {@link SyncJournalService},
+ * builds are committed one by one in ascending order, so an interrupted run is resumed at its last checkpoint. Builds that are
+ * missing in the database (e.g. because they could not be fetched) are detected and fetched later by a rate limited backfill.
+ * Builds that are still running are not stored, they are put on the {@link BuildWatchList} and stored once they are completed.
+ * All configured Jenkins controllers are harvested in parallel, a failing controller does not affect the others. Fetching and
+ * writing are decoupled by the {@link HarvestPipeline}: every fetched build is handed over to a writer that commits it.
+ * Only one full sync runs at a time. Pushed and watched builds are stored concurrently to a running full sync, only the
+ * creation of new jobs is serialized.
  */
 @Component
 public class AppStartupRunner implements ApplicationRunner {
     private final RestService restService;
     private final AppStartupService appStartupService;
+    private final SyncJournalService syncJournalService;
+    private final BackfillQueue backfillQueue;
+    private final BuildWatchList buildWatchList;
+    private final JobDiscovery jobDiscovery;
+    private final HarvestPipeline harvestPipeline;
+    private final SyncProperties syncProperties;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Object syncLock = new Object();
+    private final Object jobCreationLock = new Object();
     private static final String SLASH = "/";
     private static final String API_JSON = "api/json";
+    private static final String BUILDS_TREE = "?tree=color,builds[number,url,building,timestamp,duration]";
+    private static final String BUILD_TREE = "?tree=number,url,building,timestamp,duration";
     private static final String WARNINGS = "warnings-ng";
 
     /**
      * Creates a new instance of {@link AppStartupRunner}.
      *
-     * @param restService       the needed REST service to Jenkins
-     * @param appStartupService the needed app startup service
+     * @param restService        the needed REST service to Jenkins
+     * @param appStartupService  the needed app startup service
+     * @param syncJournalService the service to journal the sync runs
+     * @param backfillQueue      the queue of missing builds
+     * @param buildWatchList     the watch list of running builds
+     * @param jobDiscovery       the discovery of the jobs in folders
+     * @param harvestPipeline    the pipeline between the fetching and the writing threads
+     * @param syncProperties     the configuration of the sync
      */
     @Autowired
-    public AppStartupRunner(final RestService restService, final AppStartupService appStartupService) {
+    public AppStartupRunner(final RestService restService, final AppStartupService appStartupService,
+            final SyncJournalService syncJournalService, final BackfillQueue backfillQueue, final BuildWatchList buildWatchList,
+            final JobDiscovery jobDiscovery, final HarvestPipeline harvestPipeline, final SyncProperties syncProperties) {
         this.restService = restService;
         this.appStartupService = appStartupService;
+        this.syncJournalService = syncJournalService;
+        this.backfillQueue = backfillQueue;
+        this.buildWatchList = buildWatchList;
+        this.jobDiscovery = jobDiscovery;
+        this.harvestPipeline = harvestPipeline;
+        this.syncProperties = syncProperties;
     }
 
     @Override
     public void run(ApplicationArguments args) {
+        synchronized (syncLock) {
+            runSync();
+        }
+    }
+
+    private void runSync() {
+        if (!syncProperties.isEnabled()) {
+            logger.info("The sync with Jenkins is disabled");
+            return;
+        }
         logger.info("Start requesting data from Jenkins");
-        List<Job> allJobs = new ArrayList<>();
-        JobsResponse jobsResponse = restService.getProjects();
-        if (jobsResponse != null) {
-            logger.info("Start requesting Jobs");
-            for (Job job : jobsResponse.getJobs()) {
-                logger.info("Start requesting Builds for " + job.getName());
-                BuildsResponse buildsResponse = restService.getBuilds(job.getUrl() + API_JSON);
-                Job fetchedJob = appStartupService.findJobByName(job.getName());
-                if (fetchedJob != null) {
-                    try {
-                        int buildNumberFromDatabaseJob = appStartupService.getLatestBuildNumberFromJob(fetchedJob);
-                        List<Build> newBuilds = Arrays.stream(buildsResponse.getBuilds()).filter(build -> build.getNumber() > buildNumberFromDatabaseJob).collect(Collectors.toList());
-                        if (!newBuilds.isEmpty()) {
-                            fetchedJob.setLastBuildStatus(getBuildStatusFromColor(job.getColor()));
-                            addBuildsToJob(fetchedJob, newBuilds);
-                            appStartupService.saveNewBuildsFromJob(fetchedJob, newBuilds);
-                        }
-                    } catch (NoSuchElementException noSuchElementException) {
-                        logger.warn("There are no Builds for: " + fetchedJob.getName());
-                    }
-                } else {
-                    job.setLastBuildStatus(getBuildStatusFromColor(job.getColor()));
-                    addBuildsToJob(job, Arrays.asList(buildsResponse.getBuilds()));
-                    allJobs.add(job);
-                }
+        List<JenkinsClient> clients = restService.getClients();
+        if (clients.isEmpty()) {
+            logger.warn("Application can not fetching any data, there is no Jenkins controller configured..");
+            return;
+        }
+
+        SyncRun syncRun = syncJournalService.startRun();
+        ExecutorService executor = Executors.newFixedThreadPool(clients.size());
+        try {
+            harvestPipeline.start(syncRun);
+            Map<JenkinsClient, Future<?>> harvests = new LinkedHashMap<>();
+            for (JenkinsClient client : clients) {
+                harvests.put(client, executor.submit(() -> harvestController(syncRun, client)));
             }
-            if (!allJobs.isEmpty()) {
-                appStartupService.saveNewJobs(allJobs);
+            for (Map.Entry<JenkinsClient, Future<?>> harvest : harvests.entrySet()) {
+                awaitHarvest(harvest.getKey(), harvest.getValue());
             }
+            drainBackfillQueue(syncRun);
+            harvestPipeline.finish();
+            syncJournalService.completeRun(syncRun);
             logger.info("Requested data saved to database");
-        } else {
-            logger.warn("Application can not fetching any data..");
+        } catch (RuntimeException exception) {
+            syncJournalService.failRun(syncRun, exception.getMessage());
+            throw exception;
+        } finally {
+            executor.shutdownNow();
+            harvestPipeline.finish();
         }
     }
 
     /**
-     * Adds to a given {@link Job} the corresponding {@link Build}s, with the {@link Result}s to every {@link Build} and the {@link Report} of fixed,
-     * outstanding and new {@link Issue}s.
+     * Runs a full sync periodically. Since new builds are usually pushed by Jenkins (see {@link IngestionQueueService}),
+     * the full sync is only a slow safety net for lost notifications.
+     */
+    @Scheduled(initialDelayString = "${dashboard.sync.full-sync-interval-in-millis:3600000}",
+            fixedDelayString = "${dashboard.sync.full-sync-interval-in-millis:3600000}")
+    public void runScheduledSync() {
+        run(new DefaultApplicationArguments());
+    }
+
+    /**
+     * Fetches and stores a single build that has been pushed by Jenkins. A job that is not known yet is created. A build
+     * that is already stored is skipped, a build that is still running is put on the {@link BuildWatchList}.
      *
-     * @param job       the {@link Job}
-     * @param buildList the {@link Build}s
+     * @param controllerName the name of the Jenkins controller or {@code null} for the default controller
+     * @param jobName        the qualified name of the job
+     * @param buildNumber    the number of the build
+     * @param buildUrl       the url of the build
+     * @return {@code true} if the build has been stored now, {@code false} if there was nothing to store
+     * @throws IllegalArgumentException if the controller is not configured, the url does not belong to the controller or
+     *                                  the url is not the url of the build with the given number
      */
-    private void addBuildsToJob(final Job job, final List<Build> buildList) {
-        for (Build build : buildList) {
-            job.addBuild(build);
-
-            //Get used Tools for every Build form Jenkins
-            logger.info("Start requesting Tools for build with number " + build.getNumber());
-            ToolsResponse toolsResponse = restService.getTools(build.getUrl() + WARNINGS + SLASH + API_JSON);
-            if (toolsResponse != null) {
-                ToolsResponse.Tool[] tools = toolsResponse.getTools();
-                for (ToolsResponse.Tool tool : tools) {
-
-                    logger.info("Start requesting ToolDetails for Tool with name " + tool.getName());
-                    ResultResponse resultResponse = restService.getToolsDetail(build.getUrl() + tool.getId().toLowerCase() + SLASH + API_JSON);
-
-                    Result result = new Result();
-                    result.setWarningId(tool.getId());
-                    result.setName(tool.getName());
-                    result.setLatestUrl(tool.getLatestUrl());
-                    Arrays.stream(resultResponse.getErrorMessages()).forEach(errorMessage -> result.getErrorMessages().add(errorMessage));
-                    Arrays.stream(resultResponse.getInfoMessages()).forEach(infoMessage -> result.getInfoMessages().add(infoMessage));
-                    result.setFixedSize(resultResponse.getFixedSize());
-                    result.setNewSize(resultResponse.getNewSize());
-                    result.setQualityGateStatus(resultResponse.getQualityGateStatus());
-                    result.setTotalSize(resultResponse.getTotalSize());
-                    build.addResult(result);
-
-                    for (WarningTypeEntity warningTypeEntity : WarningTypeEntity.values()) {
-                        Report report = new Report();
-                        switch (warningTypeEntity) {
-                            case OUTSTANDING:
-                                result.setOutstandingIssues(report);
-                                break;
-                            case NEW:
-                                result.setNewIssues(report);
-                                break;
-                            case FIXED:
-                                result.setFixedIssues(report);
-                                break;
-                        }
+    public boolean ingestBuild(final String controllerName, final String jobName, final int buildNumber,
+            final String buildUrl) {
+        JenkinsClient client = restService.getClient(controllerName);
+        if (client == null) {
+            throw new IllegalArgumentException("The Jenkins controller " + controllerName + " is not configured");
+        }
+        if (!client.isOwnUrl(buildUrl)) {
+            throw new IllegalArgumentException("The url " + buildUrl + " does not belong to the Jenkins controller " + client.getName());
+        }
+
+        String normalizedBuildUrl = buildUrl.endsWith(SLASH) ? buildUrl : buildUrl + SLASH;
+        String buildPath = SLASH + buildNumber + SLASH;
+        if (!normalizedBuildUrl.endsWith(buildPath)) {
+            throw new IllegalArgumentException("The url " + buildUrl + " is not the url of the Build " + buildNumber);
+        }
+        String jobUrl = normalizedBuildUrl.substring(0, normalizedBuildUrl.length() - buildPath.length() + 1);
+        Job job = new Job(0, jobName, jobUrl, getBuildStatusFromColor(null));
+        job.setControllerName(client.getName());
+        Job fetchedJob = findOrCreateJob(job);
+        Job jobReference = new Job(fetchedJob.getId(), fetchedJob.getName(), fetchedJob.getUrl(), fetchedJob.getLastBuildStatus());
+        jobReference.setControllerName(client.getName());
+
+        Build build = client.getBuild(normalizedBuildUrl + API_JSON + BUILD_TREE);
+        if (build == null || appStartupService.findMissingBuildsFromJob(jobReference, Collections.singletonList(build)).isEmpty()) {
+            return false;
+        }
+        if (deferRunningBuild(jobReference, build)) {
+            return false;
+        }
+        addResultsToBuild(client, build);
+        appStartupService.saveNewBuildsFromJob(jobReference, Collections.singletonList(build));
+        logger.info("Stored pushed Build " + build.getNumber() + " of " + jobName);
+
+        return true;
+    }
+
+    /**
+     * Waits until the harvest of a controller has been finished. A failing controller does not affect the other
+     * controllers, the failure is only logged.
+     *
+     * @param client  the {@link JenkinsClient} of the controller
+     * @param harvest the running harvest of the controller
+     */
+    private void awaitHarvest(final JenkinsClient client, final Future<?> harvest) {
+        try {
+            harvest.get();
+        } catch (ExecutionException exception) {
+            logger.error("Harvesting the Jenkins controller " + client.getName() + " failed", exception.getCause());
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while harvesting the Jenkins controller " + client.getName(),
+                    interruptedException);
+        }
+    }
+
+    /**
+     * Discovers the jobs of a single Jenkins controller (including the jobs in folders) and harvests every job that has not been harvested yet by the
+     * current {@link SyncRun}. The job names are qualified with the name of the controller.
+     *
+     * @param syncRun the current {@link SyncRun}
+     * @param client  the {@link JenkinsClient} of the controller
+     */
+    private void harvestController(final SyncRun syncRun, final JenkinsClient client) {
+        List<Job> jobs = jobDiscovery.discover(client);
+        if (jobs == null) {
+            logger.warn("Application can not fetching any data from " + client.getName() + "..");
+            return;
+        }
+
+        logger.info("Start requesting Jobs of " + client.getName());
+        for (Job job : jobs) {
+            job.setName(client.qualify(job.getName()));
+            job.setControllerName(client.getName());
+            if (syncRun.getHarvestedJobs().contains(job.getName())) {
+                logger.info("Skipping " + job.getName() + ", it has already been harvested in sync run " + syncRun.getId());
+                continue;
+            }
+            SyncPhase jobPhase = syncJournalService.startJobPhase(job.getName());
+            try {
+                if (harvestJob(syncRun, client, job)) {
+                    harvestPipeline.submitJob(jobPhase);
+                }
+                else {
+                    syncJournalService.failPhase(syncRun, jobPhase,
+                            new IllegalStateException("Not all new builds of the job could be fetched"));
+                }
+            } catch (RestClientException | DataAccessException exception) {
+                syncJournalService.failPhase(syncRun, jobPhase, exception);
+            }
+        }
+    }
 
-                        logger.info("Start requesting " + warningTypeEntity.toString() + " Issues for tool with name " + tool.getName());
-                        String url = tool.getLatestUrl() + SLASH + warningTypeEntity.name().toLowerCase() + SLASH + API_JSON;
-                        IssuesResponse issuesResponse = restService.getIssues(url);
-                        if (issuesResponse != null) {
-                            IssuesResponse.Issue[] issues = issuesResponse.getIssues();
-                            for (IssuesResponse.Issue issueEntity : issues) {
-                                report.add(Mapper.map(issueEntity));
-                            }
+    /**
+     * Requests the builds of a {@link Job} that are not stored yet. A new {@link Job} is stored immediately, so every build
+     * can be committed on its own. The builds that are newer than the latest stored build are committed in ascending order
+     * of the build numbers. Older missing builds (and new builds that could not be fetched) are handed over to the
+     * {@link BackfillQueue}. Stored builds without a start time (stored before the start times were recorded) get the
+     * start time from Jenkins.
+     *
+     * @param syncRun the current {@link SyncRun}
+     * @param client  the {@link JenkinsClient} of the controller of the job
+     * @param job     the {@link Job} from Jenkins
+     * @return {@code true} if all new builds have been fetched, {@code false} if a new build could not be fetched
+     */
+    private boolean harvestJob(final SyncRun syncRun, final JenkinsClient client, final Job job) {
+        logger.info("Start requesting Builds for " + job.getName());
+        BuildsResponse buildsResponse = client.getBuilds(job.getUrl() + API_JSON + BUILDS_TREE);
+        if (buildsResponse.getColor() != null) {
+            job.setColor(buildsResponse.getColor());
+        }
+        job.setLastBuildStatus(getBuildStatusFromColor(job.getColor()));
+        Job fetchedJob = findOrCreateJob(job);
+        fetchedJob.setLastBuildStatus(job.getLastBuildStatus());
+        int latestBuildNumber = appStartupService.getLatestBuildNumberFromJob(fetchedJob.getName());
+
+        Job jobReference = new Job(fetchedJob.getId(), fetchedJob.getName(), fetchedJob.getUrl(), fetchedJob.getLastBuildStatus());
+        jobReference.setControllerName(client.getName());
+        int backfilledTimestamps = appStartupService.backfillTimestampsFromJob(jobReference, Arrays.asList(buildsResponse.getBuilds()));
+        if (backfilledTimestamps > 0) {
+            logger.info("Set the start times of " + backfilledTimestamps + " stored Builds of " + jobReference.getName());
+        }
+        List<Build> missingBuilds = appStartupService.findMissingBuildsFromJob(jobReference, Arrays.asList(buildsResponse.getBuilds()))
+                .stream()
+                .filter(build -> !deferRunningBuild(jobReference, build))
+                .collect(Collectors.toList());
+        int buildNumberFromDatabaseJob = latestBuildNumber;
+        List<Build> newBuilds = missingBuilds.stream()
+                .filter(build -> build.getNumber() > buildNumberFromDatabaseJob)
+                .sorted(Comparator.comparingInt(Build::getNumber))
+                .collect(Collectors.toList());
+        boolean isComplete = true;
+        for (Build build : newBuilds) {
+            if (!harvestBuild(syncRun, client, jobReference, build)) {
+                backfillQueue.add(new BackfillRequest(jobReference, build, 1));
+                isComplete = false;
+            }
+        }
+
+        long gaps = missingBuilds.stream()
+                .filter(build -> build.getNumber() < buildNumberFromDatabaseJob)
+                .filter(build -> backfillQueue.add(new BackfillRequest(jobReference, build, 0)))
+                .count();
+        if (gaps > 0) {
+            logger.info("Scheduled " + gaps + " missing Builds of " + jobReference.getName() + " for backfill");
+        }
+        return isComplete;
+    }
+
+    /**
+     * Finds a stored {@link Job} by its name or stores it if it is not known yet. The full sync and the pushed builds may
+     * discover a new job at the same time, so the lookup and the creation are serialized.
+     *
+     * @param job the {@link Job} from Jenkins
+     * @return the stored {@link Job} without its builds
+     */
+    private Job findOrCreateJob(final Job job) {
+        synchronized (jobCreationLock) {
+            Job fetchedJob = appStartupService.findJobReferenceByName(job.getName());
+            if (fetchedJob == null) {
+                fetchedJob = appStartupService.saveNewJobs(Collections.singletonList(job)).get(0);
+            }
+            return fetchedJob;
+        }
+    }
+
+    /**
+     * Puts a {@link Build} that is still running on the {@link BuildWatchList}. A completed build is removed from the
+     * watch list, because it is stored by the current sync run.
+     *
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the {@link Build} from Jenkins
+     * @return {@code true} if the build is still running
+     */
+    private boolean deferRunningBuild(final Job jobReference, final Build build) {
+        if (build.isBuilding()) {
+            if (buildWatchList.watch(jobReference, build, System.currentTimeMillis())) {
+                logger.info("Build " + build.getNumber() + " of " + jobReference.getName() + " is still running, watching it");
+            }
+            return true;
+        }
+        buildWatchList.remove(jobReference.getName(), build.getNumber());
+        return false;
+    }
+
+    /**
+     * Checks the due builds of the {@link BuildWatchList}. Completed builds are stored, builds that are still running are
+     * checked again later with a doubled delay.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.sync.watch-poll-interval-in-millis:15000}")
+    public void pollWatchedBuilds() {
+        long now = System.currentTimeMillis();
+        for (WatchedBuild watchedBuild : buildWatchList.getDueBuilds(now)) {
+            Build build = watchedBuild.getBuild();
+            JenkinsClient client = restService.getClient(watchedBuild.getJobReference().getControllerName());
+            if (client == null) {
+                buildWatchList.remove(watchedBuild.getJobReference().getName(), build.getNumber());
+                continue;
+            }
+            try {
+                Build currentBuild = client.getBuild(build.getUrl() + API_JSON + BUILD_TREE);
+                if (currentBuild != null && !currentBuild.isBuilding()) {
+                    build.setBuilding(false);
+                    build.setDuration(currentBuild.getDuration());
+                    addResultsToBuild(client, build);
+                    appStartupService.saveNewBuildsFromJob(watchedBuild.getJobReference(), Collections.singletonList(build));
+                    buildWatchList.remove(watchedBuild.getJobReference().getName(), build.getNumber());
+                    logger.info("Stored completed Build " + watchedBuild.getKey());
+                    continue;
+                }
+            } catch (RestClientException | DataAccessException exception) {
+                logger.warn("Checking running Build " + watchedBuild.getKey() + " failed: " + exception.getMessage());
+            }
+            if (!buildWatchList.backOff(watchedBuild, now)) {
+                logger.warn("Stopped watching Build " + watchedBuild.getKey() + " after " + watchedBuild.getPolls() + " checks");
+            }
+        }
+    }
+
+    /**
+     * Fetches the builds of the {@link BackfillQueue} with the highest priority. The number of builds per run is limited and
+     * a delay is inserted between two builds, so the backfill does not slow down the regular sync. A build that fails again
+     * is queued again until the maximum number of attempts is reached.
+     *
+     * @param syncRun the current {@link SyncRun}
+     */
+    private void drainBackfillQueue(final SyncRun syncRun) {
+        int fetchedBuilds = 0;
+        BackfillRequest request;
+        while (fetchedBuilds < syncProperties.getBackfillBuildsPerRun() && (request = backfillQueue.poll()) != null) {
+            if (fetchedBuilds > 0 && !pause(syncProperties.getBackfillDelayInMillis())) {
+                backfillQueue.add(request);
+                return;
+            }
+            JenkinsClient client = restService.getClient(request.getJobReference().getControllerName());
+            if (client == null) {
+                continue;
+            }
+            fetchedBuilds++;
+            if (!harvestBuild(syncRun, client, request.getJobReference(), request.getBuild())) {
+                BackfillRequest retry = request.nextAttempt();
+                if (retry.getAttempts() < syncProperties.getBackfillMaxAttempts()) {
+                    backfillQueue.add(retry);
+                }
+                else {
+                    logger.warn("Giving up to backfill " + retry.getKey() + " after " + retry.getAttempts() + " attempts");
+                }
+            }
+        }
+        if (fetchedBuilds > 0) {
+            logger.info("Backfilled " + fetchedBuilds + " Builds, " + backfillQueue.size() + " Builds are still missing");
+        }
+    }
+
+    private boolean pause(final long delayInMillis) {
+        try {
+            Thread.sleep(delayInMillis);
+            return true;
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Requests the results of a single {@link Build} and hands it over to the {@link HarvestPipeline}, which commits it.
+     *
+     * @param syncRun      the current {@link SyncRun}
+     * @param client       the {@link JenkinsClient} of the controller of the job
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the {@link Build} to harvest
+     * @return {@code true} if the build has been fetched, {@code false} if it failed
+     */
+    private boolean harvestBuild(final SyncRun syncRun, final JenkinsClient client, final Job jobReference, final Build build) {
+        SyncPhase buildPhase = syncJournalService.startBuildPhase(jobReference.getName(), build.getNumber());
+        try {
+            addResultsToBuild(client, build);
+            harvestPipeline.submitBuild(jobReference, build, buildPhase);
+            return true;
+        } catch (RestClientException exception) {
+            syncJournalService.failPhase(syncRun, buildPhase, exception);
+            return false;
+        }
+    }
+
+    /**
+     * Adds to a given {@link Build} the {@link Result}s and the {@link Report} of fixed, outstanding and new {@link Issue}s.
+     *
+     * @param client the {@link JenkinsClient} of the controller of the build
+     * @param build  the {@link Build}
+     * @throws RestClientException if the details of a tool of the build could not be fetched
+     */
+    private void addResultsToBuild(final JenkinsClient client, final Build build) {
+        build.getResults().clear();
+        //Get used Tools for every Build form Jenkins
+        logger.info("Start requesting Tools for build with number " + build.getNumber());
+        ToolsResponse toolsResponse = client.getTools(build.getUrl() + WARNINGS + SLASH + API_JSON);
+        if (toolsResponse != null) {
+            ToolsResponse.Tool[] tools = toolsResponse.getTools();
+            for (ToolsResponse.Tool tool : tools) {
+
+                logger.info("Start requesting ToolDetails for Tool with name " + tool.getName());
+                ResultResponse resultResponse = client.getToolsDetail(build.getUrl() + tool.getId().toLowerCase() + SLASH + API_JSON);
+                if (resultResponse == null) {
+                    throw new RestClientException("The details of the Tool " + tool.getId() + " of Build "
+                            + build.getNumber() + " could not be fetched");
+                }
+
+                Result result = new Result();
+                result.setWarningId(tool.getId());
+                result.setName(tool.getName());
+                result.setLatestUrl(tool.getLatestUrl());
+                Arrays.stream(resultResponse.getErrorMessages()).forEach(errorMessage -> result.getErrorMessages().add(errorMessage));
+                Arrays.stream(resultResponse.getInfoMessages()).forEach(infoMessage -> result.getInfoMessages().add(infoMessage));
+                result.setFixedSize(resultResponse.getFixedSize());
+                result.setNewSize(resultResponse.getNewSize());
+                result.setQualityGateStatus(resultResponse.getQualityGateStatus());
+                result.setTotalSize(resultResponse.getTotalSize());
+                build.addResult(result);
+
+                for (WarningTypeEntity warningTypeEntity : WarningTypeEntity.values()) {
+                    Report report = new Report();
+                    switch (warningTypeEntity) {
+                        case OUTSTANDING:
+                            result.setOutstandingIssues(report);
+                            break;
+                        case NEW:
+                            result.setNewIssues(report);
+                            break;
+                        case FIXED:
+                            result.setFixedIssues(report);
+                            break;
+                    }
+
+                    logger.info("Start requesting " + warningTypeEntity.toString() + " Issues for tool with name " + tool.getName());
+                    String url = tool.getLatestUrl() + SLASH + warningTypeEntity.name().toLowerCase() + SLASH + API_JSON;
+                    IssuesResponse issuesResponse = client.getIssues(url);
+                    if (issuesResponse != null) {
+                        IssuesResponse.Issue[] issues = issuesResponse.getIssues();
+                        for (IssuesResponse.Issue issueEntity : issues) {
+                            report.add(Mapper.map(issueEntity));
                         }
                     }
                 }
@@ -155,6 +512,9 @@ public class AppStartupRunner implements ApplicationRunner {
      * @return the build status
      */
     private String getBuildStatusFromColor(final String color) {
+        if (color == null) {
+            return "Unknown Status for this Build";
+        }
         switch (color) {
             case "blue":
                 return "Success";
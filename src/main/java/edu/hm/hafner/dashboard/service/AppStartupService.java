@@ -1,11 +1,15 @@
 package edu.hm.hafner.dashboard.service;
 
+import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.Result;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service to handle interaction in the {@link AppStartupRunner} by using the services {@link JobService}, {@link BuildService}, {@link ResultService}.
@@ -16,17 +20,21 @@ import java.util.List;
 public class AppStartupService {
     private final JobService jobService;
     private final BuildService buildService;
+    private final ReportArchiveService reportArchiveService;
 
     /**
      * Creates a new instance of {@link AppStartupService}.
      *
-     * @param jobService   the needed jobService
-     * @param buildService the needed buildService
+     * @param jobService           the needed jobService
+     * @param buildService         the needed buildService
+     * @param reportArchiveService the needed reportArchiveService
      */
     @Autowired
-    public AppStartupService(final JobService jobService, final BuildService buildService) {
+    public AppStartupService(final JobService jobService, final BuildService buildService,
+            final ReportArchiveService reportArchiveService) {
         this.jobService = jobService;
         this.buildService = buildService;
+        this.reportArchiveService = reportArchiveService;
     }
 
     /**
@@ -50,13 +58,63 @@ public class AppStartupService {
     }
 
     /**
-     * Determine the latest Build number from a Job.
+     * Method to find a {@link Job} by name, without loading its builds.
      *
-     * @param job the given Job
-     * @return the latest build number
+     * @param jobName the job name
+     * @return the {@link Job} without its builds
+     */
+    public Job findJobReferenceByName(final String jobName) {
+        return jobService.findJobReferenceByName(jobName);
+    }
+
+    /**
+     * Determine the latest stored Build number from a Job, without loading the builds.
+     *
+     * @param jobName the name of the Job
+     * @return the latest build number, or 0 if no build of the job is stored
+     */
+    public int getLatestBuildNumberFromJob(final String jobName) {
+        return buildService.getLatestBuildNumber(jobName);
+    }
+
+    /**
+     * Finds the outstanding issues of the latest stored {@link Build} of a job per tool. The issues of archived results
+     * are restored.
+     *
+     * @param jobName the name of the job
+     * @return the outstanding issues per tool id, empty if no build of the job is stored
+     */
+    public Map<String, Report> findLatestReportsFromJob(final String jobName) {
+        Map<String, Report> reports = new HashMap<>();
+        for (Build build : buildService.findBuilds(jobName, BuildWindow.lastBuilds(1))) {
+            for (Result result : build.getResults()) {
+                reportArchiveService.restore(result);
+                reports.put(result.getWarningId(), result.getOutstandingIssues());
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Detects the {@link Build}s of Jenkins that are not stored for a given {@link Job}.
+     *
+     * @param job           the stored Job
+     * @param jenkinsBuilds the builds that are available in Jenkins
+     * @return the missing builds, the newest build first
+     */
+    public List<Build> findMissingBuildsFromJob(final Job job, final List<Build> jenkinsBuilds) {
+        return buildService.findMissingBuilds(job, jenkinsBuilds);
+    }
+
+    /**
+     * Sets the start times of the stored {@link Build}s of a {@link Job} that have been stored without a start time.
+     *
+     * @param job           the stored Job
+     * @param jenkinsBuilds the builds that are available in Jenkins
+     * @return the number of updated builds
      */
-    public int getLatestBuildNumberFromJob(final Job job) {
-        return buildService.getLatestBuild(job).getNumber();
+    public int backfillTimestampsFromJob(final Job job, final List<Build> jenkinsBuilds) {
+        return buildService.backfillTimestamps(job, jenkinsBuilds);
     }
 
     /**
@@ -0,0 +1,57 @@
+package edu.hm.hafner.dashboard.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Prioritized queue of missing builds. Builds that have not failed yet are fetched first, and the newest builds are preferred
+ * over older ones, because they are more relevant for the trend charts. Every build is queued at most once.
+ */
+@Component
+class BackfillQueue {
+    private static final Comparator<BackfillRequest> PRIORITY = Comparator
+            .comparingInt(BackfillRequest::getAttempts)
+            .thenComparing(request -> request.getBuild().getNumber(), Comparator.reverseOrder());
+
+    private final PriorityQueue<BackfillRequest> requests = new PriorityQueue<>(PRIORITY);
+    private final Set<String> queuedKeys = new HashSet<>();
+
+    /**
+     * Adds a request to the queue, if the build is not already queued.
+     *
+     * @param request the {@link BackfillRequest}
+     * @return {@code true} if the request has been added
+     */
+    synchronized boolean add(final BackfillRequest request) {
+        if (!queuedKeys.add(request.getKey())) {
+            return false;
+        }
+        return requests.add(request);
+    }
+
+    /**
+     * Removes the request with the highest priority from the queue.
+     *
+     * @return the request with the highest priority or {@code null} if the queue is empty
+     */
+    synchronized BackfillRequest poll() {
+        BackfillRequest request = requests.poll();
+        if (request != null) {
+            queuedKeys.remove(request.getKey());
+        }
+        return request;
+    }
+
+    /**
+     * Returns the number of queued requests.
+     *
+     * @return the size of the queue
+     */
+    synchronized int size() {
+        return requests.size();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+
+/**
+ * A missing {@link Build} of a stored {@link Job} that should be fetched from Jenkins.
+ */
+class BackfillRequest {
+    private final Job jobReference;
+    private final Build build;
+    private final int attempts;
+
+    /**
+     * Creates a new instance of {@link BackfillRequest}.
+     *
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the missing {@link Build}
+     * @param attempts     the number of failed attempts to fetch the {@link Build}
+     */
+    BackfillRequest(final Job jobReference, final Build build, final int attempts) {
+        this.jobReference = jobReference;
+        this.build = build;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Returns the stored {@link Job} without its builds.
+     *
+     * @return the job reference
+     */
+    Job getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * Returns the missing {@link Build}.
+     *
+     * @return the build
+     */
+    Build getBuild() {
+        return build;
+    }
+
+    /**
+     * Returns the number of failed attempts to fetch the {@link Build}.
+     *
+     * @return the number of attempts
+     */
+    int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Creates the request for the next attempt after a failure.
+     *
+     * @return the request with an incremented number of attempts
+     */
+    BackfillRequest nextAttempt() {
+        return new BackfillRequest(jobReference, build, attempts + 1);
+    }
+
+    /**
+     * Returns the key that identifies the {@link Build} of the {@link Job}.
+     *
+     * @return the key
+     */
+    String getKey() {
+        return jobReference.getName() + "#" + build.getNumber();
+    }
+}
@@ -0,0 +1,54 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+
+/**
+ * Event that is published after a {@link Build} of a job has been saved to the database. Listeners use it to update
+ * read models that are derived from the stored builds, so they never have to scan all builds again. The listeners run
+ * in the background, one event after another (see {@link ReadModelEventMulticaster}).
+ */
+public final class BuildPersistedEvent {
+    private final int jobId;
+    private final String jobName;
+    private final Build build;
+
+    /**
+     * Creates a new instance of {@link BuildPersistedEvent}.
+     *
+     * @param jobId   the id of the job
+     * @param jobName the name of the job
+     * @param build   the saved {@link Build} with its results
+     */
+    public BuildPersistedEvent(final int jobId, final String jobName, final Build build) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.build = build;
+    }
+
+    /**
+     * Returns the id of the job.
+     *
+     * @return the id of the job
+     */
+    public int getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the saved {@link Build}.
+     *
+     * @return the {@link Build}
+     */
+    public Build getBuild() {
+        return build;
+    }
+}
@@ -1,6 +1,7 @@
 package edu.hm.hafner.dashboard.service;
 
 import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.RetentionEntityService;
 import edu.hm.hafner.dashboard.db.model.BuildEntity;
 import edu.hm.hafner.dashboard.db.model.JobEntity;
 import edu.hm.hafner.dashboard.service.dto.Build;
@@ -11,12 +12,17 @@ import edu.hm.hafner.dashboard.service.table.build.BuildRepositoryStatistics;
 import edu.hm.hafner.dashboard.service.table.build.BuildViewTable;
 import edu.hm.hafner.echarts.BuildResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -25,19 +31,29 @@ import java.util.stream.Collectors;
 @Service
 class BuildService {
     private BuildEntityService buildEntityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetentionEntityService retentionEntityService;
 
     /**
      * Creates a new instance of {@link BuildService}.
      *
-     * @param buildEntityService the entity service for buildss
+     * @param buildEntityService     the entity service for buildss
+     * @param eventPublisher         the publisher for the {@link BuildPersistedEvent}s
+     * @param retentionEntityService the entity service for the builds deleted by the retention policy
      */
     @Autowired
-    public BuildService(final BuildEntityService buildEntityService) {
+    public BuildService(final BuildEntityService buildEntityService, final ApplicationEventPublisher eventPublisher,
+            final RetentionEntityService retentionEntityService) {
         this.buildEntityService = buildEntityService;
+        this.eventPublisher = eventPublisher;
+        this.retentionEntityService = retentionEntityService;
     }
 
     /**
-     * saves a given list of {@link Build}s by adding them to the corresponding {@link Job}.
+     * Saves a given list of {@link Build}s by adding them to the corresponding {@link Job}. Every build is committed in its
+     * own transaction and identified by the job and its build number, so saving a build again (e.g. after a retry or by a
+     * parallel writer) updates the stored build instead of duplicating it. A {@link BuildPersistedEvent} is published for
+     * every saved build, its listeners run in the background (see {@link ReadModelEventMulticaster}).
      *
      * @param fetchedJob the fetched {@link Job}
      * @param builds     list of {@link Build}s
@@ -45,10 +61,65 @@ class BuildService {
      */
     public List<Build> saveAll(final Job fetchedJob, final List<Build> builds) {
         JobEntity jobEntity = Mapper.mapToEntity(fetchedJob);
-        List<BuildEntity> buildEntities = builds.stream().map(build -> jobEntity.addBuildEntity(Mapper.mapToEntity(build))).collect(Collectors.toList());
-        List<BuildEntity> savedBuildEntities = buildEntityService.saveAll(buildEntities);
+        List<Build> savedBuilds = new ArrayList<>();
+        for (Build build : builds) {
+            Build savedBuild = Mapper.map(upsert(jobEntity, build));
+            eventPublisher.publishEvent(new BuildPersistedEvent(fetchedJob.getId(), fetchedJob.getName(), savedBuild));
+            savedBuilds.add(savedBuild);
+        }
+
+        return savedBuilds;
+    }
+
+    private BuildEntity upsert(final JobEntity jobEntity, final Build build) {
+        BuildEntity buildEntity = jobEntity.addBuildEntity(Mapper.mapToEntity(build));
+        try {
+            return buildEntityService.upsert(buildEntity);
+        } catch (DataIntegrityViolationException duplicate) {
+            // the build has been inserted by a concurrent writer in the meantime, so now it is merged into the stored build
+            return buildEntityService.upsert(buildEntity);
+        }
+    }
 
-        return savedBuildEntities.stream().map(Mapper::map).collect(Collectors.toList());
+    /**
+     * Detects the {@link Build}s of Jenkins that are not stored for a given {@link Job}. Builds that have been deleted by
+     * the retention policy are not missing.
+     *
+     * @param job           the stored {@link Job}
+     * @param jenkinsBuilds the {@link Build}s that are available in Jenkins
+     * @return the missing {@link Build}s, the newest build first
+     */
+    public List<Build> findMissingBuilds(final Job job, final List<Build> jenkinsBuilds) {
+        Set<Integer> storedBuildNumbers = new HashSet<>(buildEntityService.findBuildNumbers(job.getId()));
+        int droppedBuildNumber = retentionEntityService.findDroppedBuildNumber(job.getName());
+
+        return jenkinsBuilds.stream()
+                .filter(build -> droppedBuildNumber == 0 || build.getNumber() > droppedBuildNumber)
+                .filter(build -> !storedBuildNumbers.contains(build.getNumber()))
+                .sorted(Comparator.comparingInt(Build::getNumber).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the start times and the durations of the stored {@link Build}s of a {@link Job} that have been stored before
+     * the start times were recorded. The values are taken from the {@link Build}s of Jenkins, stored builds that are not
+     * available in Jenkins anymore keep the start time 0.
+     *
+     * @param job           the stored {@link Job}
+     * @param jenkinsBuilds the {@link Build}s that are available in Jenkins
+     * @return the number of updated builds
+     */
+    public int backfillTimestamps(final Job job, final List<Build> jenkinsBuilds) {
+        Set<Integer> buildNumbers = new HashSet<>(buildEntityService.findBuildNumbersWithoutTimestamp(job.getId()));
+        if (buildNumbers.isEmpty()) {
+            return 0;
+        }
+
+        return (int) jenkinsBuilds.stream()
+                .filter(build -> build.getTimestamp() > 0 && buildNumbers.contains(build.getNumber()))
+                .filter(build -> buildEntityService.updateTimestamp(job.getId(), build.getNumber(),
+                        build.getTimestamp(), build.getDuration()))
+                .count();
     }
 
     /**
@@ -63,6 +134,39 @@ class BuildService {
                 .orElseThrow(() -> new NoSuchElementException("No Build not found"));
     }
 
+    /**
+     * Determines the number of the last stored {@link Build} of a {@link Job}, without loading the builds.
+     *
+     * @param jobName the name of the {@link Job}
+     * @return the last build number, or 0 if no build of the job is stored
+     */
+    public int getLatestBuildNumber(final String jobName) {
+        return buildEntityService.findLatestBuildNumber(jobName);
+    }
+
+    /**
+     * Finds the {@link Build}s of a {@link Job} within a {@link BuildWindow}. Only the builds of the window are read from
+     * the database.
+     *
+     * @param jobName the name of the {@link Job}
+     * @param window  the {@link BuildWindow}
+     * @return the {@link Build}s, ordered by their build number
+     */
+    public List<Build> findBuilds(final String jobName, final BuildWindow window) {
+        List<BuildEntity> buildEntities;
+        if (window.isTimeRangeDefined()) {
+            buildEntities = buildEntityService.findBuildsBetween(jobName, window.getFrom(), window.getTo(), window.getBuildCount());
+        }
+        else {
+            buildEntities = buildEntityService.findLatestBuilds(jobName, window.getBuildCount());
+        }
+
+        return buildEntities.stream()
+                .map(Mapper::map)
+                .sorted(Comparator.comparingInt(Build::getNumber))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Creates a list of {@link BuildResult}s of {@link Build}s for a given {@link Job}.
      *
@@ -70,11 +174,19 @@ class BuildService {
      * @return the needed list of {@link BuildResult}s for the echarts
      */
     public List<BuildResult<Build>> createBuildResults(final Job job) {
+        return createBuildResults(job.getBuilds());
+    }
+
+    /**
+     * Creates a list of {@link BuildResult}s for the given {@link Build}s.
+     *
+     * @param builds the {@link Build}s
+     * @return the needed list of {@link BuildResult}s for the echarts
+     */
+    public List<BuildResult<Build>> createBuildResults(final List<Build> builds) {
         List<BuildResult<Build>> buildResults = new ArrayList<>();
-        for (Build b : job.getBuilds()) {
-            //TODO BuildTime
-            edu.hm.hafner.echarts.Build build = new edu.hm.hafner.echarts.Build(b.getNumber(), "#" + b.getNumber(), 0);
-            BuildResult<Build> buildBuildResult = new BuildResult<>(build, b);
+        for (Build b : builds) {
+            BuildResult<Build> buildBuildResult = new BuildResult<>(createChartBuild(b), b);
             buildResults.add(buildBuildResult);
         }
 
@@ -89,10 +201,20 @@ class BuildService {
      * @return the needed list of {@link BuildResult}s for the echarts
      */
     public List<BuildResult<Build>> createBuildResultsForTool(final Job job, final String toolName) {
+        return createBuildResultsForTool(job.getBuilds(), toolName);
+    }
+
+    /**
+     * Creates a list of {@link BuildResult}s for the given {@link Build}s and tool name (e.g. checkstyle).
+     *
+     * @param builds   the {@link Build}s
+     * @param toolName the tool name
+     * @return the needed list of {@link BuildResult}s for the echarts
+     */
+    public List<BuildResult<Build>> createBuildResultsForTool(final List<Build> builds, final String toolName) {
         List<BuildResult<Build>> results = new ArrayList<>();
 
-        job.getBuilds().forEach(b -> {
-            edu.hm.hafner.echarts.Build build = new edu.hm.hafner.echarts.Build(b.getNumber(), "#" + b.getNumber(), 0);
+        builds.forEach(b -> {
             Build neededBuild = new Build();
             ArrayList<Result> resultArrayList = new ArrayList<>();
             for (Result result : b.getResults()) {
@@ -102,13 +224,20 @@ class BuildService {
                 }
             }
 
-            BuildResult<Build> buildResult = new BuildResult<>(build, neededBuild);
+            BuildResult<Build> buildResult = new BuildResult<>(createChartBuild(b), neededBuild);
             results.add(buildResult);
         });
 
         return results;
     }
 
+    private edu.hm.hafner.echarts.Build createChartBuild(final Build build) {
+        // the charts expect the build time in seconds since the epoch
+        int buildTime = (int) TimeUnit.MILLISECONDS.toSeconds(build.getTimestamp());
+
+        return new edu.hm.hafner.echarts.Build(build.getNumber(), "#" + build.getNumber(), buildTime);
+    }
+
     /**
      * Determines the {@link Build} from a {@link Job} by given build number.
      *
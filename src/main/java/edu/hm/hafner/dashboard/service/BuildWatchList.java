@@ -0,0 +1,95 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Watch list of {@link Build}s that are still running in Jenkins. Running builds are not stored, because their results are
+ * not final yet. Instead they are checked again with an exponential backoff until they have been completed.
+ */
+@Component
+class BuildWatchList {
+    private final SyncProperties syncProperties;
+    private final Map<String, WatchedBuild> watchedBuilds = new LinkedHashMap<>();
+
+    /**
+     * Creates a new instance of {@link BuildWatchList}.
+     *
+     * @param syncProperties the configuration of the sync
+     */
+    @Autowired
+    BuildWatchList(final SyncProperties syncProperties) {
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * Adds a running {@link Build} to the watch list, if it is not already watched.
+     *
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the running {@link Build}
+     * @param now          the current time in milliseconds
+     * @return {@code true} if the build has been added
+     */
+    synchronized boolean watch(final Job jobReference, final Build build, final long now) {
+        long delay = syncProperties.getWatchInitialDelayInMillis();
+        WatchedBuild watchedBuild = new WatchedBuild(jobReference, build, now + delay, delay);
+
+        return watchedBuilds.putIfAbsent(watchedBuild.getKey(), watchedBuild) == null;
+    }
+
+    /**
+     * Returns the watched builds that should be checked now.
+     *
+     * @param now the current time in milliseconds
+     * @return the due builds
+     */
+    synchronized List<WatchedBuild> getDueBuilds(final long now) {
+        return watchedBuilds.values().stream()
+                .filter(watchedBuild -> watchedBuild.getNextCheckInMillis() <= now)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Schedules the next check of a build that is still running. If the maximum number of checks has been reached, the
+     * build is removed from the watch list.
+     *
+     * @param watchedBuild the still running build
+     * @param now          the current time in milliseconds
+     * @return {@code true} if the build is still watched
+     */
+    synchronized boolean backOff(final WatchedBuild watchedBuild, final long now) {
+        watchedBuild.backOff(now, syncProperties.getWatchMaxDelayInMillis());
+        if (watchedBuild.getPolls() >= syncProperties.getWatchMaxPolls()) {
+            watchedBuilds.remove(watchedBuild.getKey());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes a {@link Build} from the watch list.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     */
+    synchronized void remove(final String jobName, final int buildNumber) {
+        watchedBuilds.remove(jobName + "#" + buildNumber);
+    }
+
+    /**
+     * Returns the number of watched builds.
+     *
+     * @return the size of the watch list
+     */
+    synchronized int size() {
+        return watchedBuilds.size();
+    }
+}
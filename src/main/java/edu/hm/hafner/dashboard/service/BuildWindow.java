@@ -0,0 +1,165 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The range of {@link Build}s of a job that should be shown in a chart or table: either all builds, the latest builds or
+ * the builds that have been started within a time range. The window is part of the database query, so builds outside
+ * the window are not read at all.
+ */
+public final class BuildWindow {
+    /** The number of builds that are shown in a chart if no window is requested. */
+    public static final int DEFAULT_BUILD_COUNT = 50;
+
+    private static final BuildWindow ALL = new BuildWindow(0, 0, Long.MAX_VALUE);
+
+    private final int buildCount;
+    private final long from;
+    private final long to;
+
+    private BuildWindow(final int buildCount, final long from, final long to) {
+        this.buildCount = buildCount;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the window that contains all builds.
+     *
+     * @return the window
+     */
+    public static BuildWindow all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the window that contains the latest builds.
+     *
+     * @param buildCount the number of builds
+     * @return the window
+     * @throws IllegalArgumentException if the number of builds is not positive
+     */
+    public static BuildWindow lastBuilds(final int buildCount) {
+        if (buildCount < 1) {
+            throw new IllegalArgumentException("The number of builds must be positive: " + buildCount);
+        }
+        return new BuildWindow(buildCount, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the window that contains the builds that have been started within the last days.
+     *
+     * @param days the number of days
+     * @return the window
+     * @throws IllegalArgumentException if the number of days is not positive
+     */
+    public static BuildWindow lastDays(final int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("The number of days must be positive: " + days);
+        }
+        return new BuildWindow(0, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days), Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the window that contains the builds that have been started between two days (inclusive). The days are
+     * interpreted in the time zone of the server.
+     *
+     * @param from the first day, {@code null} for no lower bound
+     * @param to   the last day, {@code null} for no upper bound
+     * @return the window
+     * @throws IllegalArgumentException if the first day is after the last day
+     */
+    public static BuildWindow between(final LocalDate from, final LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("The first day " + from + " is after the last day " + to);
+        }
+        long start = from == null ? 0 : from.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long end = to == null ? Long.MAX_VALUE : to.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() - 1;
+
+        return new BuildWindow(0, start, end);
+    }
+
+    /**
+     * Creates the window for the parameters of a request. A date range takes precedence over a number of days, a number
+     * of days takes precedence over a number of builds.
+     *
+     * @param buildCount    the number of the latest builds, may be {@code null}
+     * @param days          the number of days, may be {@code null}
+     * @param from          the first day, may be {@code null}
+     * @param to            the last day, may be {@code null}
+     * @param defaultWindow the window if no parameter is given
+     * @return the window
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    public static BuildWindow of(final Integer buildCount, final Integer days, final LocalDate from, final LocalDate to,
+            final BuildWindow defaultWindow) {
+        if (from != null || to != null) {
+            return between(from, to);
+        }
+        if (days != null) {
+            return lastDays(days);
+        }
+        if (buildCount != null) {
+            return lastBuilds(buildCount);
+        }
+        return defaultWindow;
+    }
+
+    /**
+     * Returns whether the window contains all builds.
+     *
+     * @return {@code true} if all builds are contained
+     */
+    public boolean isAll() {
+        return !isBuildCountDefined() && !isTimeRangeDefined();
+    }
+
+    /**
+     * Returns whether the window is limited to a number of latest builds.
+     *
+     * @return {@code true} if the number of builds is limited
+     */
+    public boolean isBuildCountDefined() {
+        return buildCount > 0;
+    }
+
+    /**
+     * Returns whether the window is limited to a time range.
+     *
+     * @return {@code true} if the time range is limited
+     */
+    public boolean isTimeRangeDefined() {
+        return from > 0 || to < Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of latest builds, 0 if the number is not limited.
+     *
+     * @return the number of builds
+     */
+    public int getBuildCount() {
+        return buildCount;
+    }
+
+    /**
+     * Returns the earliest start time of the builds in milliseconds since the epoch.
+     *
+     * @return the lower bound of the time range
+     */
+    public long getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the latest start time of the builds in milliseconds since the epoch.
+     *
+     * @return the upper bound of the time range
+     */
+    public long getTo() {
+        return to;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.hm.hafner.dashboard.service;
+
+import java.util.List;
+
+/**
+ * Event that is published after the retention policy deleted old builds of a job or the issues of old builds (see
+ * {@link RetentionService}). Listeners use it to delete the parts of their read models that belong to these builds. The
+ * newest build of a job is never deleted, so read models of the latest build, like the summaries of the jobs, stay valid.
+ * Aggregates over the whole history of a job, like the counters of the hot spots or the streaks of the quality gates,
+ * are kept as well.
+ */
+public final class BuildsPrunedEvent {
+    private final String jobName;
+    private final List<Integer> buildNumbers;
+    private final boolean dropped;
+
+    /**
+     * Creates a new instance of {@link BuildsPrunedEvent}.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     * @param dropped      {@code true} if the builds have been deleted, {@code false} if only their issues have been
+     *                     deleted
+     */
+    public BuildsPrunedEvent(final String jobName, final List<Integer> buildNumbers, final boolean dropped) {
+        this.jobName = jobName;
+        this.buildNumbers = buildNumbers;
+        this.dropped = dropped;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the numbers of the builds.
+     *
+     * @return the numbers of the builds
+     */
+    public List<Integer> getBuildNumbers() {
+        return buildNumbers;
+    }
+
+    /**
+     * Returns whether the builds have been deleted completely or only their issues.
+     *
+     * @return {@code true} if the builds have been deleted, {@code false} if only their issues have been deleted
+     */
+    public boolean isDropped() {
+        return dropped;
+    }
+}
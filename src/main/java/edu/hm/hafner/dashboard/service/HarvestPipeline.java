@@ -0,0 +1,260 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pipeline between the threads that fetch the builds from Jenkins and the threads that write them to the database. The
+ * fetched builds are handed over through bounded queues that spill to disk, so a fast crawl does not keep all fetched builds
+ * on the heap. Every build is committed by a writer as soon as it has been fetched completely. All builds of a job are
+ * written by the same writer in the order they have been fetched, the job is marked as harvested after its builds. A
+ * job with a build that could not be written is not marked as harvested, so it is harvested again by the next sync run.
+ * A failure of a single element never stops a writer. The depth of the queues is exposed as metric.
+ */
+@Component
+class HarvestPipeline implements MeterBinder {
+    private final AppStartupService appStartupService;
+    private final SyncJournalService syncJournalService;
+    private final BackfillQueue backfillQueue;
+    private final SyncProperties syncProperties;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private volatile List<Writer> writers = Collections.emptyList();
+    private Path temporarySpillDirectory;
+
+    /**
+     * Creates a new instance of {@link HarvestPipeline}.
+     *
+     * @param appStartupService  the needed app startup service
+     * @param syncJournalService the service to journal the sync runs
+     * @param backfillQueue      the queue of missing builds
+     * @param syncProperties     the configuration of the sync
+     */
+    @Autowired
+    HarvestPipeline(final AppStartupService appStartupService, final SyncJournalService syncJournalService,
+            final BackfillQueue backfillQueue, final SyncProperties syncProperties) {
+        this.appStartupService = appStartupService;
+        this.syncJournalService = syncJournalService;
+        this.backfillQueue = backfillQueue;
+        this.syncProperties = syncProperties;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("dashboard.sync.pipeline.depth", this, HarvestPipeline::getDepth)
+                .description("Number of fetched builds that are waiting to be written to the database")
+                .register(registry);
+        Gauge.builder("dashboard.sync.pipeline.spilled", this, HarvestPipeline::getSpilledDepth)
+                .description("Number of fetched builds that have been spilled to disk")
+                .register(registry);
+    }
+
+    /**
+     * Starts the writers for a {@link SyncRun}.
+     *
+     * @param syncRun the current {@link SyncRun}
+     * @throws UncheckedIOException if the spill directory can not be created
+     */
+    synchronized void start(final SyncRun syncRun) {
+        if (!writers.isEmpty()) {
+            throw new IllegalStateException("The pipeline has already been started");
+        }
+        Path spillDirectory = createSpillDirectory();
+        int writerCount = Math.max(1, syncProperties.getPipelineWriters());
+        int capacity = Math.max(1, syncProperties.getPipelineCapacity() / writerCount);
+        List<Writer> startedWriters = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            Path writerDirectory = spillDirectory.resolve("writer-" + i);
+            try {
+                Files.createDirectories(writerDirectory);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Creating the spill directory " + writerDirectory + " failed", exception);
+            }
+            Writer writer = new Writer(syncRun, new SpillingQueue<>(capacity, writerDirectory), writerDirectory, "harvest-writer-" + i);
+            writer.start();
+            startedWriters.add(writer);
+        }
+        writers = Collections.unmodifiableList(startedWriters);
+    }
+
+    /**
+     * Hands a completely fetched {@link Build} over to its writer.
+     *
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the {@link Build} with its results
+     * @param buildPhase   the running phase of the build
+     */
+    void submitBuild(final Job jobReference, final Build build, final SyncPhase buildPhase) {
+        getWriter(jobReference.getName()).queue.put(PipelineItem.ofBuild(jobReference, build, buildPhase));
+    }
+
+    /**
+     * Marks a job as completely fetched. The phase of the job is completed after all of its builds have been written.
+     *
+     * @param jobPhase the running phase of the job
+     */
+    void submitJob(final SyncPhase jobPhase) {
+        getWriter(jobPhase.getJobName()).queue.put(PipelineItem.ofJob(jobPhase));
+    }
+
+    /**
+     * Waits until all submitted builds have been written and stops the writers. Does nothing if the pipeline has not been
+     * started.
+     */
+    synchronized void finish() {
+        List<Writer> runningWriters = writers;
+        for (Writer writer : runningWriters) {
+            writer.queue.put(PipelineItem.stop());
+        }
+        for (Writer writer : runningWriters) {
+            try {
+                writer.join();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the writers", interruptedException);
+            }
+            finally {
+                writer.queue.clear();
+                deleteDirectory(writer.spillDirectory);
+            }
+        }
+        writers = Collections.emptyList();
+        if (temporarySpillDirectory != null) {
+            deleteDirectory(temporarySpillDirectory);
+            temporarySpillDirectory = null;
+        }
+    }
+
+    /**
+     * Returns the number of builds and jobs that are waiting to be written.
+     *
+     * @return the depth of the queues
+     */
+    int getDepth() {
+        return writers.stream().mapToInt(writer -> writer.queue.size()).sum();
+    }
+
+    /**
+     * Returns the number of builds and jobs that have been spilled to disk.
+     *
+     * @return the number of spilled elements
+     */
+    int getSpilledDepth() {
+        return writers.stream().mapToInt(writer -> writer.queue.spilledSize()).sum();
+    }
+
+    private Writer getWriter(final String jobName) {
+        List<Writer> runningWriters = writers;
+        if (runningWriters.isEmpty()) {
+            throw new IllegalStateException("The pipeline has not been started");
+        }
+        return runningWriters.get(Math.floorMod(jobName.hashCode(), runningWriters.size()));
+    }
+
+    private Path createSpillDirectory() {
+        try {
+            String configuredDirectory = syncProperties.getPipelineSpillDirectory();
+            if (configuredDirectory == null || configuredDirectory.trim().isEmpty()) {
+                temporarySpillDirectory = Files.createTempDirectory("dashboard-pipeline");
+                return temporarySpillDirectory;
+            }
+            return Files.createDirectories(Paths.get(configuredDirectory));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Creating the spill directory failed", exception);
+        }
+    }
+
+    private void deleteDirectory(final Path directory) {
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException exception) {
+            logger.warn("Deleting the spill directory " + directory + " failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * A thread that writes the elements of its queue to the database.
+     */
+    private class Writer extends Thread {
+        private final SyncRun syncRun;
+        private final SpillingQueue<PipelineItem> queue;
+        private final Path spillDirectory;
+        private final Set<String> incompleteJobs = new HashSet<>();
+
+        Writer(final SyncRun syncRun, final SpillingQueue<PipelineItem> queue, final Path spillDirectory, final String name) {
+            super(name);
+            this.syncRun = syncRun;
+            this.queue = queue;
+            this.spillDirectory = spillDirectory;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                PipelineItem item = queue.take();
+                while (item.getType() != PipelineItem.Type.STOP) {
+                    try {
+                        write(item);
+                    } catch (RuntimeException exception) {
+                        logger.error("Writing the " + item.getType() + " phase of " + item.getPhase().getJobName() + " #"
+                                + item.getPhase().getBuildNumber() + " failed", exception);
+                        incompleteJobs.add(item.getPhase().getJobName());
+                    }
+                    item = queue.take();
+                }
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            } catch (UncheckedIOException exception) {
+                logger.error("Reading the spilled builds failed, the remaining builds are fetched by the next sync run", exception);
+            }
+        }
+
+        private void write(final PipelineItem item) {
+            if (item.getType() == PipelineItem.Type.JOB) {
+                if (incompleteJobs.remove(item.getPhase().getJobName())) {
+                    syncJournalService.failPhase(syncRun, item.getPhase(),
+                            new IllegalStateException("Not all builds of the job have been written"));
+                }
+                else {
+                    syncJournalService.completePhase(syncRun, item.getPhase());
+                }
+                return;
+            }
+            Job jobReference = item.getJobReference();
+            Build build = item.getBuild();
+            try {
+                appStartupService.saveNewBuildsFromJob(jobReference, Collections.singletonList(build));
+                syncJournalService.completePhase(syncRun, item.getPhase());
+            } catch (RuntimeException exception) {
+                incompleteJobs.add(jobReference.getName());
+                syncJournalService.failPhase(syncRun, item.getPhase(), exception);
+                Build missingBuild = new Build(0, build.getNumber(), build.getUrl());
+                missingBuild.setTimestamp(build.getTimestamp());
+                missingBuild.setDuration(build.getDuration());
+                backfillQueue.add(new BackfillRequest(jobReference, missingBuild, 1));
+            }
+        }
+    }
+}
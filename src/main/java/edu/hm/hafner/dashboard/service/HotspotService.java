@@ -0,0 +1,223 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.HotspotEntityService;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.HotspotEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Hotspot;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service to rank the files and packages of a job by their warnings over the history of the job. The counters of the hot
+ * spots are updated with every saved build (see {@link BuildPersistedEvent}), so a ranking reads the counters only and
+ * never the issues of the builds. Stored builds that have not been counted, e.g. after the first start with an existing
+ * database, are counted in the background when the application is ready. Builds that have been deleted before are not
+ * part of the counters.
+ */
+@Service
+class HotspotService {
+    /** The maximum number of hot spots of a ranking. */
+    static final int MAX_HOTSPOTS = 1000;
+
+    /** Ranks by the sum of the warnings, weighted with the weeks they existed. */
+    static final String WARNING_WEEKS = "warningWeeks";
+    /** Ranks by the sum of the warnings of all builds. */
+    static final String WARNING_BUILDS = "warningBuilds";
+    /** Ranks by the number of new and fixed issues. */
+    static final String CHURN = "churn";
+    /** Ranks by the number of warnings in the latest build. */
+    static final String CURRENT = "current";
+
+    private static final Map<String, String> PROPERTIES = new HashMap<>();
+
+    static {
+        PROPERTIES.put(WARNING_WEEKS, "warningMillis");
+        PROPERTIES.put(WARNING_BUILDS, "warningBuilds");
+        PROPERTIES.put(CHURN, "churn");
+        PROPERTIES.put(CURRENT, "currentCount");
+    }
+
+    private static final String UNDEFINED_NAME = "-";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final HotspotEntityService hotspotEntityService;
+    private final JobEntityService jobEntityService;
+    private final BuildEntityService buildEntityService;
+    private final ReportArchiveService reportArchiveService;
+
+    /**
+     * Creates a new instance of {@link HotspotService}.
+     *
+     * @param hotspotEntityService the entity service for hot spots
+     * @param jobEntityService     the entity service for jobs
+     * @param buildEntityService   the entity service for builds
+     * @param reportArchiveService the service for archived issues
+     */
+    @Autowired
+    HotspotService(final HotspotEntityService hotspotEntityService, final JobEntityService jobEntityService,
+            final BuildEntityService buildEntityService, final ReportArchiveService reportArchiveService) {
+        this.hotspotEntityService = hotspotEntityService;
+        this.jobEntityService = jobEntityService;
+        this.buildEntityService = buildEntityService;
+        this.reportArchiveService = reportArchiveService;
+    }
+
+    /**
+     * Counts the issues of a saved build per file and package.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        countBuild(event.getJobName(), event.getBuild());
+    }
+
+    /**
+     * Starts to count the stored builds that have not been counted yet in a background thread, so the startup is not
+     * delayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::countStoredBuilds, "hotspot-counter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Counts the stored builds that have not been counted yet, oldest first. The counted builds are determined per job,
+     * since a sync may count new builds in the meantime. A build that is counted after a newer build of its job adds to
+     * the counters that do not depend on the order of the builds only (see {@link HotspotEntityService#apply}). The
+     * builds are read one after another, the issues of archived results are restored from the archive.
+     */
+    void countStoredBuilds() {
+        int countedBuilds = 0;
+        try {
+            for (String jobName : jobEntityService.findAllNames()) {
+                Set<Integer> counted = new HashSet<>(hotspotEntityService.findCountedBuildNumbers(jobName));
+                List<Integer> buildNumbers = buildEntityService.findBuildNumbers(jobName).stream()
+                        .filter(number -> !counted.contains(number))
+                        .sorted()
+                        .collect(Collectors.toList());
+                for (Integer buildNumber : buildNumbers) {
+                    Optional<BuildEntity> buildEntity = buildEntityService.findBuild(jobName, buildNumber);
+                    if (buildEntity.isPresent()) {
+                        countStoredBuild(jobName, restore(Mapper.map(buildEntity.get())));
+                        countedBuilds++;
+                    }
+                }
+            }
+        }
+        catch (DataAccessException exception) {
+            logger.warn("Counting the hot spots failed after " + countedBuilds + " Builds: " + exception.getMessage());
+        }
+        if (countedBuilds > 0) {
+            logger.info("Counted the hot spots of " + countedBuilds + " stored Builds");
+        }
+    }
+
+    private synchronized void countStoredBuild(final String jobName, final Build build) {
+        countBuild(jobName, build);
+    }
+
+    private Build restore(final Build build) {
+        build.getResults().forEach(reportArchiveService::restore);
+        return build;
+    }
+
+    private void countBuild(final String jobName, final Build build) {
+        for (Result result : build.getResults()) {
+            String tool = result.getWarningId();
+            if (tool == null) {
+                continue;
+            }
+
+            Map<String, Map<String, int[]>> countsByKind = new LinkedHashMap<>();
+            countsByKind.put(HotspotEntity.FILE, count(result, Issue::getFileName));
+            countsByKind.put(HotspotEntity.PACKAGE, count(result, Issue::getPackageName));
+            hotspotEntityService.apply(jobName, tool, build.getNumber(), build.getTimestamp(), countsByKind);
+        }
+    }
+
+    /**
+     * Deletes the marks of the counted builds that have been deleted by the retention policy. The counters keep their
+     * issues, so the ranking still covers the whole history of the job.
+     *
+     * @param event the event of the deleted builds
+     */
+    @EventListener
+    public synchronized void onBuildsPruned(final BuildsPrunedEvent event) {
+        if (event.isDropped()) {
+            hotspotEntityService.deleteBuilds(event.getJobName(), event.getBuildNumbers());
+        }
+    }
+
+    private Map<String, int[]> count(final Result result, final Function<Issue, String> name) {
+        Map<String, int[]> counts = new HashMap<>();
+        count(counts, result.getOutstandingIssues(), name, HotspotEntityService.WARNINGS);
+        count(counts, result.getNewIssues(), name, HotspotEntityService.WARNINGS);
+        count(counts, result.getNewIssues(), name, HotspotEntityService.NEW_ISSUES);
+        count(counts, result.getFixedIssues(), name, HotspotEntityService.FIXED_ISSUES);
+        return counts;
+    }
+
+    private void count(final Map<String, int[]> counts, final Report report, final Function<Issue, String> name,
+            final int counter) {
+        for (Issue issue : report) {
+            String key = name.apply(issue);
+            if (StringUtils.isNotEmpty(key) && !UNDEFINED_NAME.equals(key)) {
+                counts.computeIfAbsent(key, k -> new int[3])[counter]++;
+            }
+        }
+    }
+
+    /**
+     * Finds the files or packages of a tool of a job with the most warnings.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     * @param kind    the kind of the hot spots, {@link HotspotEntity#FILE} or {@link HotspotEntity#PACKAGE}
+     * @param metric  the metric to rank by, one of {@link #WARNING_WEEKS}, {@link #WARNING_BUILDS}, {@link #CHURN} or
+     *                {@link #CURRENT}
+     * @param limit   the maximum number of hot spots, at most {@link #MAX_HOTSPOTS}
+     * @return the {@link Hotspot}s, the highest value first
+     * @throws IllegalArgumentException if the kind or the metric is unknown
+     */
+    public List<Hotspot> findHotspots(final String jobName, final String tool, final String kind, final String metric,
+            final int limit) {
+        if (!HotspotEntity.FILE.equals(kind) && !HotspotEntity.PACKAGE.equals(kind)) {
+            throw new IllegalArgumentException("Unknown kind of hot spots: " + kind);
+        }
+        String property = PROPERTIES.get(metric);
+        if (property == null) {
+            throw new IllegalArgumentException("Unknown metric of hot spots: " + metric);
+        }
+
+        return hotspotEntityService.findHotspots(jobName, tool, kind, property, Math.max(1, Math.min(limit, MAX_HOTSPOTS)))
+                .stream()
+                .map(Mapper::map)
+                .collect(Collectors.toList());
+    }
+}
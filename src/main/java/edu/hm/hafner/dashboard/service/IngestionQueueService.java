@@ -0,0 +1,123 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.db.IngestionTaskEntityService;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskEntity;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.BuildNotification;
+import edu.hm.hafner.dashboard.service.rest.JenkinsClient;
+import edu.hm.hafner.dashboard.service.rest.RestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service for the durable queue of pushed build notifications. Jenkins notifies the dashboard about every completed build,
+ * each notification is stored as an {@link IngestionTaskEntity} and only this build is fetched afterwards. Repeated
+ * notifications for the same build are coalesced into one task. Failed tasks are retried until the maximum number of
+ * attempts is reached.
+ */
+@Service
+public class IngestionQueueService {
+    private static final int MAX_MESSAGE_LENGTH = 1024;
+    private static final String SLASH = "/";
+
+    private final IngestionTaskEntityService ingestionTaskEntityService;
+    private final AppStartupRunner appStartupRunner;
+    private final RestService restService;
+    private final SyncProperties syncProperties;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link IngestionQueueService}.
+     *
+     * @param ingestionTaskEntityService the entity service for ingestion tasks
+     * @param appStartupRunner           the runner that fetches the builds from Jenkins
+     * @param restService                the needed REST service to Jenkins
+     * @param syncProperties             the configuration of the sync
+     */
+    @Autowired
+    public IngestionQueueService(final IngestionTaskEntityService ingestionTaskEntityService,
+            final AppStartupRunner appStartupRunner, final RestService restService, final SyncProperties syncProperties) {
+        this.ingestionTaskEntityService = ingestionTaskEntityService;
+        this.appStartupRunner = appStartupRunner;
+        this.restService = restService;
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * Adds a pushed {@link BuildNotification} to the queue. The name of a nested job (e.g. folder/job) is converted to the
+     * name used by the sync and qualified with the name of the controller.
+     *
+     * @param notification the {@link BuildNotification} from Jenkins
+     * @return {@code true} if a new task has been queued, {@code false} if the notification has been coalesced
+     * @throws IllegalArgumentException if the notification is incomplete, the controller is not configured or the url
+     *                                  does not belong to the controller
+     */
+    public boolean enqueue(final BuildNotification notification) {
+        if (notification.getJobName() == null || notification.getJobName().trim().isEmpty()
+                || notification.getUrl() == null || notification.getUrl().trim().isEmpty()
+                || notification.getBuildNumber() <= 0) {
+            throw new IllegalArgumentException("A build notification requires a job name, a build number and an url");
+        }
+        JenkinsClient client = restService.getClient(notification.getController());
+        if (client == null) {
+            throw new IllegalArgumentException("The Jenkins controller " + notification.getController() + " is not configured");
+        }
+        if (!client.isOwnUrl(notification.getUrl())) {
+            throw new IllegalArgumentException("The url " + notification.getUrl() + " does not belong to the Jenkins controller "
+                    + client.getName());
+        }
+
+        String jobName = client.qualify(String.join(JobDiscovery.NAME_SEPARATOR, notification.getJobName().trim().split(SLASH)));
+        String buildUrl = notification.getUrl().endsWith(SLASH) ? notification.getUrl() : notification.getUrl() + SLASH;
+        boolean queued = ingestionTaskEntityService.enqueue(
+                new IngestionTaskEntity(client.getName(), jobName, notification.getBuildNumber(), buildUrl));
+        logger.info((queued ? "Queued" : "Coalesced") + " notification for Build " + notification.getBuildNumber() + " of " + jobName);
+
+        return queued;
+    }
+
+    /**
+     * Fetches the builds of the pending tasks, the oldest notification first. A completed task is removed from the queue,
+     * a failed task is kept and retried with the next drain.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.sync.ingestion-interval-in-millis:5000}")
+    public void drain() {
+        List<IngestionTaskEntity> tasks = ingestionTaskEntityService.findPending(Math.max(1, syncProperties.getIngestionBatchSize()));
+        for (IngestionTaskEntity task : tasks) {
+            try {
+                appStartupRunner.ingestBuild(task.getControllerName(), task.getJobName(), task.getBuildNumber(), task.getBuildUrl());
+                ingestionTaskEntityService.delete(task);
+            } catch (RuntimeException exception) {
+                // every failure of a task is counted, so a broken task can neither block the queue nor stop the drain
+                failTask(task, exception);
+            }
+        }
+        if (!tasks.isEmpty()) {
+            logger.info("Ingested " + tasks.size() + " notified Builds, "
+                    + ingestionTaskEntityService.count(IngestionTaskStatusEntity.PENDING) + " are still pending");
+        }
+    }
+
+    private void failTask(final IngestionTaskEntity task, final Exception exception) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastAttemptAt(LocalDateTime.now());
+        String message = exception.getMessage();
+        task.setFailureMessage(message == null || message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH));
+        if (task.getAttempts() >= syncProperties.getIngestionMaxAttempts()) {
+            task.setStatus(IngestionTaskStatusEntity.FAILED);
+            logger.warn("Giving up to ingest Build " + task.getBuildNumber() + " of " + task.getJobName() + " after "
+                    + task.getAttempts() + " attempts: " + message);
+        }
+        else {
+            logger.warn("Ingesting Build " + task.getBuildNumber() + " of " + task.getJobName() + " failed: " + message);
+        }
+        ingestionTaskEntityService.save(task);
+    }
+}
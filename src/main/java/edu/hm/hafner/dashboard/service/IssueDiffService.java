@@ -0,0 +1,168 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.IssueEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueFingerprintEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.dto.IssueDiff;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Service to compare the issues of a tool in any two stored builds of a job. The issues are matched by their fingerprints
+ * with a hash join: the fingerprints of the first build are counted in a hash map, then every issue of the second build
+ * consumes one occurrence of its fingerprint. So the diff is computed in linear time of the issues, duplicate fingerprints
+ * are matched as often as they occur in both builds. The issues of archived results are read from the archive (see
+ * {@link ReportArchiveService}).
+ */
+@Service
+class IssueDiffService {
+    /** The maximum number of rows of a page. */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String UNDEFINED_FINGERPRINT = "-";
+    private static final List<WarningTypeEntity> CURRENT_ISSUES = Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW);
+
+    private final IssueEntityService issueEntityService;
+    private final BuildEntityService buildEntityService;
+    private final ReportArchiveService reportArchiveService;
+
+    /**
+     * Creates a new instance of {@link IssueDiffService}.
+     *
+     * @param issueEntityService   the entity service for issues
+     * @param buildEntityService   the entity service for builds
+     * @param reportArchiveService the service for archived issues
+     */
+    @Autowired
+    IssueDiffService(final IssueEntityService issueEntityService, final BuildEntityService buildEntityService,
+            final ReportArchiveService reportArchiveService) {
+        this.issueEntityService = issueEntityService;
+        this.buildEntityService = buildEntityService;
+        this.reportArchiveService = reportArchiveService;
+    }
+
+    /**
+     * Compares the issues of a tool in two builds of a job.
+     *
+     * @param jobName   the name of the job
+     * @param fromBuild the number of the first build
+     * @param toBuild   the number of the second build
+     * @param tool      the id of the tool
+     * @param type      the type of the issues of the rows, one of {@link IssueDiff#ADDED}, {@link IssueDiff#REMOVED} or
+     *                  {@link IssueDiff#UNCHANGED}
+     * @param page      the number of the page of the rows, starting with 0
+     * @param pageSize  the maximum number of rows of the page, at most {@link #MAX_PAGE_SIZE}
+     * @return the {@link IssueDiff}
+     * @throws IllegalArgumentException if the type or the page is invalid
+     * @throws NoSuchElementException   if one of the builds is not stored
+     */
+    public IssueDiff diff(final String jobName, final int fromBuild, final int toBuild, final String tool,
+            final String type, final int page, final int pageSize) {
+        if (!IssueDiff.ADDED.equals(type) && !IssueDiff.REMOVED.equals(type) && !IssueDiff.UNCHANGED.equals(type)) {
+            throw new IllegalArgumentException("Unknown type of issues: " + type);
+        }
+        if (page < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page " + page + " with size " + pageSize);
+        }
+        for (int buildNumber : new int[] {fromBuild, toBuild}) {
+            if (!buildEntityService.exists(jobName, buildNumber)) {
+                throw new NoSuchElementException("Build number " + buildNumber + " for the Job " + jobName + " not found");
+            }
+        }
+
+        List<IssueFingerprintEntity> fromIssues = findFingerprints(jobName, fromBuild, tool);
+        List<IssueFingerprintEntity> toIssues = findFingerprints(jobName, toBuild, tool);
+
+        Map<String, int[]> occurrences = new HashMap<>(fromIssues.size() * 2);
+        for (IssueFingerprintEntity issue : fromIssues) {
+            occurrences.computeIfAbsent(getKey(issue), key -> new int[1])[0]++;
+        }
+        List<IssueFingerprintEntity> added = new ArrayList<>();
+        List<IssueFingerprintEntity> unchanged = new ArrayList<>();
+        for (IssueFingerprintEntity issue : toIssues) {
+            if (consume(occurrences, issue)) {
+                unchanged.add(issue);
+            }
+            else {
+                added.add(issue);
+            }
+        }
+        List<IssueFingerprintEntity> removed = new ArrayList<>();
+        for (IssueFingerprintEntity issue : fromIssues) {
+            if (consume(occurrences, issue)) {
+                removed.add(issue);
+            }
+        }
+
+        IssueDiff diff = new IssueDiff(tool, fromBuild, toBuild);
+        diff.setAddedSize(added.size());
+        diff.setRemovedSize(removed.size());
+        diff.setUnchangedSize(unchanged.size());
+        diff.setType(type);
+        diff.setPage(page);
+        diff.setPageSize(Math.min(pageSize, MAX_PAGE_SIZE));
+
+        List<IssueFingerprintEntity> issues = IssueDiff.ADDED.equals(type) ? added
+                : IssueDiff.REMOVED.equals(type) ? removed : unchanged;
+        diff.setRows(issues.stream()
+                .skip((long) page * diff.getPageSize())
+                .limit(diff.getPageSize())
+                .map(Mapper::map)
+                .collect(Collectors.toList()));
+        return diff;
+    }
+
+    /**
+     * Finds the fingerprints of the issues of a tool in a build. An archived result has no issue rows, so its issues are
+     * read from the archive. The rows are read first: a result is archived together with the deletion of its rows, so
+     * the issues are found even if the result is archived in between.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param tool        the id of the tool
+     * @return the {@link IssueFingerprintEntity}s
+     */
+    private List<IssueFingerprintEntity> findFingerprints(final String jobName, final int buildNumber, final String tool) {
+        List<IssueFingerprintEntity> issues = issueEntityService.findFingerprints(jobName, buildNumber, tool);
+        if (!issues.isEmpty()) {
+            return issues;
+        }
+        return reportArchiveService.findArchivedIssues(jobName, buildNumber, tool, CURRENT_ISSUES).stream()
+                .map(issue -> new IssueFingerprintEntity(issue.getFingerprint(), issue.getSeverity(),
+                        issue.getFileName(), issue.getLineStart(), issue.getMessage()))
+                .collect(Collectors.toList());
+    }
+
+    private boolean consume(final Map<String, int[]> occurrences, final IssueFingerprintEntity issue) {
+        int[] count = occurrences.get(getKey(issue));
+        if (count == null || count[0] == 0) {
+            return false;
+        }
+        count[0]--;
+        return true;
+    }
+
+    /**
+     * Returns the key to match an issue. Issues without a fingerprint are matched by their location and message instead.
+     *
+     * @param issue the issue
+     * @return the key
+     */
+    private String getKey(final IssueFingerprintEntity issue) {
+        if (StringUtils.isEmpty(issue.getFingerprint()) || UNDEFINED_FINGERPRINT.equals(issue.getFingerprint())) {
+            return issue.getSeverity() + ':' + issue.getFileName() + ':' + issue.getLineStart() + ':' + issue.getMessage();
+        }
+        return issue.getFingerprint();
+    }
+}
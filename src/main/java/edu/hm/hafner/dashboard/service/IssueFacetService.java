@@ -0,0 +1,181 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.IssueEntityService;
+import edu.hm.hafner.dashboard.db.model.IssuePropertiesEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.columnar.ColumnarReport;
+import edu.hm.hafner.dashboard.service.columnar.ColumnarReport.Column;
+import edu.hm.hafner.dashboard.service.dto.IssueFacets;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Service to count the issues of a tool in a build per value of the columns of the issue table. The counts of all columns
+ * are computed on a {@link ColumnarReport} of a projection of the issues, so every column is counted with a loop over an
+ * array of dictionary codes. The issues of a stored build do not change, so the counts are cached until the build is saved
+ * again (see {@link BuildPersistedEvent}). The issues of archived results are read from the archive (see
+ * {@link ReportArchiveService}).
+ */
+@Service
+class IssueFacetService {
+    /** The maximum number of values of a facet. */
+    static final int MAX_VALUES = 100;
+
+    private static final int CACHE_SIZE = 256;
+    private static final char SEPARATOR = '\u0000';
+
+    private static final Map<String, Column> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("category", Column.CATEGORY);
+        COLUMNS.put("moduleName", Column.MODULE_NAME);
+        COLUMNS.put("package", Column.PACKAGE_NAME);
+        COLUMNS.put("fileName", Column.FILE_NAME);
+        COLUMNS.put("type", Column.TYPE);
+        COLUMNS.put("severity", Column.SEVERITY);
+    }
+
+    private final IssueEntityService issueEntityService;
+    private final ReportArchiveService reportArchiveService;
+    private final Map<String, IssueFacets> cache = new LinkedHashMap<String, IssueFacets>(CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, IssueFacets> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Creates a new instance of {@link IssueFacetService}.
+     *
+     * @param issueEntityService   the entity service for issues
+     * @param reportArchiveService the service for archived issues
+     */
+    @Autowired
+    IssueFacetService(final IssueEntityService issueEntityService, final ReportArchiveService reportArchiveService) {
+        this.issueEntityService = issueEntityService;
+        this.reportArchiveService = reportArchiveService;
+    }
+
+    /**
+     * Counts the issues of a tool in a build per value of the columns of the issue table.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @param tool        the id of the tool
+     * @param issueType   the issue type (e.g. total, new, fixed or outstanding)
+     * @param maxValues   the maximum number of values of a facet, at most {@link #MAX_VALUES}
+     * @return the {@link IssueFacets}
+     * @throws IllegalArgumentException if the issue type is unknown
+     */
+    public IssueFacets getFacets(final String jobName, final int buildNumber, final String tool, final String issueType,
+            final int maxValues) {
+        List<WarningTypeEntity> warningTypes = getWarningTypes(issueType);
+        int limit = Math.max(1, Math.min(maxValues, MAX_VALUES));
+        String key = getBuildKey(jobName, buildNumber) + tool + SEPARATOR + issueType + SEPARATOR + limit;
+        synchronized (cache) {
+            IssueFacets cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        IssueFacets facets = count(findProperties(jobName, buildNumber, tool, warningTypes), limit);
+        synchronized (cache) {
+            cache.put(key, facets);
+        }
+        return facets;
+    }
+
+    /**
+     * Evicts the cached counts of a build that has been saved (again).
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public void onBuildPersisted(final BuildPersistedEvent event) {
+        String prefix = getBuildKey(event.getJobName(), event.getBuild().getNumber());
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Finds the properties of the issues of a tool in a build. An archived result has no issue rows, so its issues are
+     * read from the archive. The rows are read first: a result is archived together with the deletion of its rows, so
+     * the issues are found even if the result is archived in between.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param tool         the id of the tool
+     * @param warningTypes the types of the reports, e.g. NEW and OUTSTANDING
+     * @return the {@link IssuePropertiesEntity}s
+     */
+    private List<IssuePropertiesEntity> findProperties(final String jobName, final int buildNumber, final String tool,
+            final List<WarningTypeEntity> warningTypes) {
+        List<IssuePropertiesEntity> issues = issueEntityService.findProperties(jobName, buildNumber, tool, warningTypes);
+        if (!issues.isEmpty()) {
+            return issues;
+        }
+        return reportArchiveService.findArchivedIssues(jobName, buildNumber, tool, warningTypes).stream()
+                .map(issue -> new IssuePropertiesEntity(issue.getCategory(), issue.getModuleName(),
+                        issue.getPackageName(), issue.getFileName(), issue.getType(), issue.getSeverity()))
+                .collect(Collectors.toList());
+    }
+
+    private String getBuildKey(final String jobName, final int buildNumber) {
+        return jobName + SEPARATOR + buildNumber + SEPARATOR;
+    }
+
+    private List<WarningTypeEntity> getWarningTypes(final String issueType) {
+        switch (issueType) {
+            case "total":
+                return Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW);
+            case "outstanding":
+                return Collections.singletonList(WarningTypeEntity.OUTSTANDING);
+            case "fixed":
+                return Collections.singletonList(WarningTypeEntity.FIXED);
+            case "new":
+                return Collections.singletonList(WarningTypeEntity.NEW);
+            default:
+                throw new IllegalArgumentException("Parameter issueType must be total, outstanding, fixed or new but was: " + issueType);
+        }
+    }
+
+    private IssueFacets count(final List<IssuePropertiesEntity> issues, final int limit) {
+        ColumnarReport.Builder builder = new ColumnarReport.Builder();
+        for (IssuePropertiesEntity issue : issues) {
+            builder.add(issue.getCategory(), issue.getModuleName(), issue.getPackageName(), issue.getFileName(),
+                    issue.getType(), issue.getSeverity());
+        }
+        ColumnarReport report = builder.build();
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        Map<String, Integer> distinctValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Column> column : COLUMNS.entrySet()) {
+            int[] counts = new int[report.getDistinctValues(column.getValue())];
+            report.countValues(column.getValue(), counts);
+
+            Map<String, Integer> facet = new LinkedHashMap<>();
+            IntStream.range(0, counts.length).boxed()
+                    .sorted((left, right) -> counts[left] == counts[right]
+                            ? report.getValue(column.getValue(), left).compareTo(report.getValue(column.getValue(), right))
+                            : Integer.compare(counts[right], counts[left]))
+                    .limit(limit)
+                    .forEach(code -> facet.put(report.getValue(column.getValue(), code), counts[code]));
+            facets.put(column.getKey(), facet);
+            distinctValues.put(column.getKey(), counts.length);
+        }
+        return new IssueFacets(report.size(), facets, distinctValues);
+    }
+}
@@ -0,0 +1,117 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.db.IssueLifecycleEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueLifecycleEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueLifecycle;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service to track the lifecycle of the issues of the jobs by their fingerprints. The lifecycles are updated with every
+ * saved build from its new and fixed issues (see {@link BuildPersistedEvent}), so the age of an issue or the oldest open
+ * issues of a job are read from a single index without scanning the reports of older builds.
+ */
+@Service
+class IssueLifecycleService {
+    /** The maximum number of issues of a query. */
+    static final int MAX_ISSUES = 1000;
+
+    private final IssueLifecycleEntityService issueLifecycleEntityService;
+
+    /**
+     * Creates a new instance of {@link IssueLifecycleService}.
+     *
+     * @param issueLifecycleEntityService the entity service for the lifecycles of issues
+     */
+    @Autowired
+    IssueLifecycleService(final IssueLifecycleEntityService issueLifecycleEntityService) {
+        this.issueLifecycleEntityService = issueLifecycleEntityService;
+    }
+
+    /**
+     * Updates the lifecycles of the issues with a saved build. The outstanding issues are only read for the first build of
+     * a tool, later builds report the changes as new and fixed issues.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        String jobName = event.getJobName();
+        Build build = event.getBuild();
+        for (Result result : build.getResults()) {
+            String tool = result.getWarningId();
+            if (tool == null) {
+                continue;
+            }
+
+            Map<String, IssueLifecycleEntity> seenIssues = new LinkedHashMap<>();
+            addLifecycles(seenIssues, jobName, tool, build, result.getNewIssues());
+            if (!issueLifecycleEntityService.isTracked(jobName, tool)) {
+                addLifecycles(seenIssues, jobName, tool, build, result.getOutstandingIssues());
+            }
+            List<String> fixedFingerprints = new ArrayList<>();
+            for (Issue issue : result.getFixedIssues()) {
+                if (issue.hasFingerprint()) {
+                    fixedFingerprints.add(issue.getFingerprint());
+                }
+            }
+
+            issueLifecycleEntityService.track(jobName, tool, build.getNumber(), build.getTimestamp(),
+                    seenIssues.values(), fixedFingerprints);
+        }
+    }
+
+    private void addLifecycles(final Map<String, IssueLifecycleEntity> lifecycles, final String jobName, final String tool,
+            final Build build, final Report report) {
+        for (Issue issue : report) {
+            if (issue.hasFingerprint() && !lifecycles.containsKey(issue.getFingerprint())) {
+                IssueLifecycleEntity lifecycle = new IssueLifecycleEntity(jobName, tool, issue.getFingerprint(),
+                        build.getNumber(), build.getTimestamp());
+                lifecycle.setMessage(issue.getMessage());
+                lifecycle.setFileName(issue.getFileName());
+                lifecycle.setLineStart(issue.getLineStart());
+                lifecycle.setSeverity(issue.getSeverity().getName());
+                lifecycles.put(issue.getFingerprint(), lifecycle);
+            }
+        }
+    }
+
+    /**
+     * Finds the lifecycle of an issue.
+     *
+     * @param jobName     the name of the job
+     * @param tool        the id of the tool
+     * @param fingerprint the fingerprint of the issue
+     * @return the {@link IssueLifecycle}, if the issue is tracked
+     */
+    public Optional<IssueLifecycle> findLifecycle(final String jobName, final String tool, final String fingerprint) {
+        return issueLifecycleEntityService.findLifecycle(jobName, tool, fingerprint).map(Mapper::map);
+    }
+
+    /**
+     * Finds the open issues of a job that are open for the longest time.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of issues, at most {@link #MAX_ISSUES}
+     * @return the {@link IssueLifecycle}s, the oldest issue first
+     */
+    public List<IssueLifecycle> findOldestOpenIssues(final String jobName, final int limit) {
+        return issueLifecycleEntityService.findOldestOpenIssues(jobName, Math.max(1, Math.min(limit, MAX_ISSUES)))
+                .stream()
+                .map(Mapper::map)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,158 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchResult;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import edu.hm.hafner.dashboard.service.search.IssueSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Service to search the issues of all stored builds. The {@link IssueSearchIndex} is updated incrementally with every
+ * saved build (see {@link BuildPersistedEvent}) and committed periodically. An empty index, e.g. after the first start,
+ * is built from the stored builds in the background when the application is ready, so the startup is not delayed. The
+ * issues of archived results are restored from the archive before they are indexed (see {@link ReportArchiveService}).
+ */
+@Service
+class IssueSearchService {
+    /** The maximum number of hits of a page. */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IssueSearchIndex issueSearchIndex;
+    private final JobEntityService jobEntityService;
+    private final BuildEntityService buildEntityService;
+    private final ReportArchiveService reportArchiveService;
+
+    /**
+     * Creates a new instance of {@link IssueSearchService}.
+     *
+     * @param issueSearchIndex     the full-text index of the issues
+     * @param jobEntityService     the entity service for jobs
+     * @param buildEntityService   the entity service for builds
+     * @param reportArchiveService the service for archived issues
+     */
+    @Autowired
+    IssueSearchService(final IssueSearchIndex issueSearchIndex, final JobEntityService jobEntityService,
+            final BuildEntityService buildEntityService, final ReportArchiveService reportArchiveService) {
+        this.issueSearchIndex = issueSearchIndex;
+        this.jobEntityService = jobEntityService;
+        this.buildEntityService = buildEntityService;
+        this.reportArchiveService = reportArchiveService;
+    }
+
+    /**
+     * Indexes the issues of a saved build. A failure is logged only, the build is stored anyway.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public void onBuildPersisted(final BuildPersistedEvent event) {
+        try {
+            issueSearchIndex.index(event.getJobName(), event.getBuild());
+        }
+        catch (UncheckedIOException exception) {
+            logger.warn("Indexing the issues of Build " + event.getBuild().getNumber() + " of " + event.getJobName()
+                    + " failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Removes the issues that have been seen last in builds that have been deleted by the retention policy, or whose
+     * issues have been deleted. A failure is logged only.
+     *
+     * @param event the event of the deleted builds
+     */
+    @EventListener
+    public void onBuildsPruned(final BuildsPrunedEvent event) {
+        try {
+            issueSearchIndex.delete(event.getJobName(), event.getBuildNumbers());
+        }
+        catch (UncheckedIOException exception) {
+            logger.warn("Removing the issues of the Builds " + event.getBuildNumbers() + " of " + event.getJobName()
+                    + " from the search index failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Starts to build the index from the stored builds in a background thread if it is empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::buildIndexIfEmpty, "search-index-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Builds the index from the stored builds if it is empty. The builds are read and indexed one after another. Builds
+     * that are saved meanwhile are indexed by {@link #onBuildPersisted(BuildPersistedEvent)} as well, indexing a build
+     * twice has no effect.
+     */
+    void buildIndexIfEmpty() {
+        if (!issueSearchIndex.isEmpty()) {
+            return;
+        }
+
+        int indexedBuilds = 0;
+        try {
+            for (String jobName : jobEntityService.findAllNames()) {
+                for (Integer buildNumber : buildEntityService.findBuildNumbers(jobName)) {
+                    buildEntityService.findBuild(jobName, buildNumber)
+                            .ifPresent(buildEntity -> issueSearchIndex.index(jobName, restore(Mapper.map(buildEntity))));
+                    indexedBuilds++;
+                }
+            }
+            issueSearchIndex.commit();
+            logger.info("Built the search index from " + indexedBuilds + " stored Builds");
+        }
+        catch (UncheckedIOException exception) {
+            logger.warn("Building the search index failed after " + indexedBuilds + " Builds: " + exception.getMessage());
+        }
+    }
+
+    private Build restore(final Build build) {
+        build.getResults().forEach(reportArchiveService::restore);
+        return build;
+    }
+
+    /**
+     * Commits the issues that have been indexed since the last commit. Committing in batches instead of after every
+     * build keeps the indexing cheap; at most the issues of the last interval are lost if the application crashes.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.search.commit-interval-in-millis:10000}")
+    public void commitIndex() {
+        try {
+            issueSearchIndex.commit();
+        }
+        catch (UncheckedIOException exception) {
+            logger.warn("Committing the search index failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Searches for issues.
+     *
+     * @param text     the text to search for, may be empty
+     * @param jobName  the name of the job to filter, or {@code null} for all jobs
+     * @param tool     the id of the tool to filter, or {@code null} for all tools
+     * @param severity the severity to filter, or {@code null} for all severities
+     * @param page     the number of the page, starting with 0
+     * @param pageSize the maximum number of hits of a page, at most {@link #MAX_PAGE_SIZE}
+     * @return the {@link IssueSearchResult}
+     * @throws IllegalArgumentException if the text is no valid query or the page is too deep
+     */
+    public IssueSearchResult search(final String text, final String jobName, final String tool, final String severity,
+            final int page, final int pageSize) {
+        return issueSearchIndex.search(text, jobName, tool, severity, page, Math.min(pageSize, MAX_PAGE_SIZE));
+    }
+}
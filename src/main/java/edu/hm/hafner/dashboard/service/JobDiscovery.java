@@ -0,0 +1,173 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.rest.JenkinsClient;
+import edu.hm.hafner.dashboard.service.rest.response.JobsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Discovers the jobs of a Jenkins controller. Folders, organization folders and multibranch projects are walked
+ * recursively and concurrently, the folders that are waiting to be walked are kept in a bounded frontier. If the frontier
+ * is full, the discovering thread walks the folder itself. The content of every folder is cached for a configured time, so
+ * unchanged subtrees are not walked again by every sync run.
+ */
+@Component
+class JobDiscovery {
+    /** Separator of the names of nested jobs, as used by Jenkins for the full display name. */
+    static final String NAME_SEPARATOR = " \u00bb ";
+
+    private static final String API_JSON = "api/json";
+    private static final Set<String> CONTAINER_CLASSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "com.cloudbees.hudson.plugins.folder.Folder",
+            "jenkins.branch.OrganizationFolder",
+            "org.jenkinsci.plugins.workflow.multibranch.WorkflowMultiBranchProject")));
+
+    private final SyncProperties syncProperties;
+    private final Map<String, CachedFolder> topology = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link JobDiscovery}.
+     *
+     * @param syncProperties the configuration of the sync
+     */
+    @Autowired
+    JobDiscovery(final SyncProperties syncProperties) {
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * Discovers all jobs of a Jenkins controller. The names of nested jobs contain the names of their folders.
+     *
+     * @param client the {@link JenkinsClient} of the controller
+     * @return the discovered {@link Job}s or {@code null} if the controller is not available
+     */
+    List<Job> discover(final JenkinsClient client) {
+        JobsResponse jobsResponse = client.getProjects();
+        if (jobsResponse == null) {
+            return null;
+        }
+
+        int threads = Math.max(1, syncProperties.getDiscoveryThreads());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, syncProperties.getDiscoveryFrontierSize())),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Phaser pendingFolders = new Phaser(1);
+        Queue<Job> jobs = new ConcurrentLinkedQueue<>();
+        try {
+            classify(client, jobsResponse.getJobs(), null, jobs, executor, pendingFolders);
+            pendingFolders.arriveAndAwaitAdvance();
+        }
+        finally {
+            executor.shutdown();
+        }
+        logger.info("Discovered " + jobs.size() + " Jobs of " + client.getName());
+
+        return new ArrayList<>(jobs);
+    }
+
+    /**
+     * Returns whether the given {@link Job} is a folder or multibranch project that contains other jobs.
+     *
+     * @param job the {@link Job}
+     * @return {@code true} if the job contains other jobs
+     */
+    static boolean isFolder(final Job job) {
+        String className = job.getClassName();
+        if (className == null) {
+            return false;
+        }
+        return CONTAINER_CLASSES.contains(className) || className.endsWith("Folder") || className.endsWith("MultiBranchProject");
+    }
+
+    private void classify(final JenkinsClient client, final Job[] children, final String parentName, final Queue<Job> jobs,
+            final ThreadPoolExecutor executor, final Phaser pendingFolders) {
+        if (children == null) {
+            return;
+        }
+        for (Job child : children) {
+            if (parentName != null) {
+                child.setName(parentName + NAME_SEPARATOR + child.getName());
+            }
+            if (isFolder(child)) {
+                pendingFolders.register();
+                executor.execute(() -> walk(client, child, jobs, executor, pendingFolders));
+            }
+            else {
+                jobs.add(child);
+            }
+        }
+    }
+
+    private void walk(final JenkinsClient client, final Job folder, final Queue<Job> jobs, final ThreadPoolExecutor executor,
+            final Phaser pendingFolders) {
+        try {
+            classify(client, getChildren(client, folder), folder.getName(), jobs, executor, pendingFolders);
+        } catch (RestClientException exception) {
+            logger.warn("Discovering the Jobs of " + folder.getName() + " failed: " + exception.getMessage());
+        }
+        finally {
+            pendingFolders.arriveAndDeregister();
+        }
+    }
+
+    private Job[] getChildren(final JenkinsClient client, final Job folder) {
+        long now = System.currentTimeMillis();
+        CachedFolder cachedFolder = topology.get(folder.getUrl());
+        if (cachedFolder == null || now - cachedFolder.fetchedAt > syncProperties.getTopologyTtlInMillis()) {
+            JobsResponse jobsResponse = client.getJobs(folder.getUrl() + API_JSON);
+            Job[] children = jobsResponse == null || jobsResponse.getJobs() == null ? new Job[0] : jobsResponse.getJobs();
+            cachedFolder = new CachedFolder(children, now);
+            topology.put(folder.getUrl(), cachedFolder);
+        }
+
+        return cachedFolder.copyChildren();
+    }
+
+    /**
+     * The cached content of a folder.
+     */
+    private static class CachedFolder {
+        private final Job[] children;
+        private final long fetchedAt;
+
+        CachedFolder(final Job[] children, final long fetchedAt) {
+            this.children = children;
+            this.fetchedAt = fetchedAt;
+        }
+
+        /**
+         * Returns copies of the children, because the names of the children are qualified with the name of the folder.
+         *
+         * @return the children of the folder
+         */
+        Job[] copyChildren() {
+            return Arrays.stream(children).map(child -> {
+                Job copy = new Job(child.getId(), child.getName(), child.getUrl(), child.getLastBuildStatus());
+                copy.setColor(child.getColor());
+                copy.setClassName(child.getClassName());
+                return copy;
+            }).toArray(Job[]::new);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package edu.hm.hafner.dashboard.service;
 
 import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.JobSummaryEntityService;
 import edu.hm.hafner.dashboard.db.model.JobEntity;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.JobSummary;
 import edu.hm.hafner.dashboard.service.mapper.Mapper;
 import edu.hm.hafner.dashboard.service.table.job.JobRepositoryStatistics;
 import edu.hm.hafner.dashboard.service.table.job.JobViewTable;
@@ -10,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Service to handle {@link Job}s between the ui and database.
@@ -17,15 +20,18 @@ import java.util.List;
 @Service
 class JobService {
     private JobEntityService jobEntityService;
+    private JobSummaryEntityService jobSummaryEntityService;
 
     /**
      * Creates a new instance of {@link JobService}.
      *
-     * @param jobEntityService the entity service for jobs
+     * @param jobEntityService        the entity service for jobs
+     * @param jobSummaryEntityService the entity service for the summaries of the jobs
      */
     @Autowired
-    public JobService(JobEntityService jobEntityService) {
+    public JobService(JobEntityService jobEntityService, JobSummaryEntityService jobSummaryEntityService) {
         this.jobEntityService = jobEntityService;
+        this.jobSummaryEntityService = jobSummaryEntityService;
     }
 
     /**
@@ -37,6 +43,15 @@ class JobService {
         return Mapper.map(jobEntityService.findAll());
     }
 
+    /**
+     * Returns the summaries of all jobs with their latest builds. The summaries are read without loading the builds.
+     *
+     * @return the {@link JobSummary}s, ordered by the name of the job
+     */
+    public List<JobSummary> getJobSummaries() {
+        return jobSummaryEntityService.findAll().stream().map(Mapper::map).collect(Collectors.toList());
+    }
+
     /**
      * Searches for a job by its name.
      *
@@ -52,7 +67,21 @@ class JobService {
     }
 
     /**
-     * Saves a given list of {@link Job}.
+     * Searches for a job by its name, without loading its builds.
+     *
+     * @param name the job name
+     * @return the job without its builds
+     */
+    public Job findJobReferenceByName(final String name) {
+        JobEntity jobEntity = jobEntityService.findJobReferenceByName(name);
+        if (jobEntity != null) {
+            return Mapper.map(jobEntity);
+        }
+        return null;
+    }
+
+    /**
+     * Saves a given list of {@link Job}. The summaries of the jobs are updated with the saved jobs.
      *
      * @param jobs the {@link Job}s to save
      * @return the saves jobs
@@ -60,16 +89,17 @@ class JobService {
     public List<Job> saveAll(final List<Job> jobs) {
         List<JobEntity> jobEntities = Mapper.mapToEntities(jobs);
         List<JobEntity> savedJobs = jobEntityService.saveAll(jobEntities);
+        jobSummaryEntityService.updateJobs(savedJobs);
         return Mapper.map(savedJobs);
     }
 
     /**
-     * Method to convert a list of jobs to the needed format of table rows.
+     * Method to convert a list of job summaries to the needed format of table rows.
      *
-     * @param jobs the jobs to convert
+     * @param jobs the summaries of the jobs to convert
      * @return converted table rows
      */
-    public List<Object> convertRowsForTheJobViewTable(final List<Job> jobs) {
+    public List<Object> convertRowsForTheJobViewTable(final List<JobSummary> jobs) {
         JobRepositoryStatistics jobRepositoryStatistics = new JobRepositoryStatistics();
         jobRepositoryStatistics.addAll(jobs);
         JobViewTable jobViewTable = new JobViewTable(jobRepositoryStatistics);
@@ -0,0 +1,135 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.JobSummaryEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service to keep the summaries of the jobs up to date. Every saved build updates the summary of its job (see
+ * {@link BuildPersistedEvent}), so the overview of all jobs never loads the builds of the jobs. Missing summaries, e.g.
+ * after the first start, are created from the two latest stored builds of their jobs in the background when the
+ * application is ready.
+ */
+@Service
+class JobSummaryService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final JobSummaryEntityService jobSummaryEntityService;
+    private final BuildEntityService buildEntityService;
+
+    /**
+     * Creates a new instance of {@link JobSummaryService}.
+     *
+     * @param jobSummaryEntityService the entity service for the summaries of the jobs
+     * @param buildEntityService      the entity service for builds
+     */
+    @Autowired
+    JobSummaryService(final JobSummaryEntityService jobSummaryEntityService,
+            final BuildEntityService buildEntityService) {
+        this.jobSummaryEntityService = jobSummaryEntityService;
+        this.buildEntityService = buildEntityService;
+    }
+
+    /**
+     * Updates the summary of the job of a saved build. The builds of all writers are applied one after another, so
+     * concurrent builds of the same job do not lose updates.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        applyBuild(event.getJobName(), event.getBuild());
+    }
+
+    /**
+     * Starts to create the missing summaries in a background thread, so the startup is not delayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::createMissingSummaries, "job-summary-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Creates the summaries of all jobs that have no summary, e.g. after the first start with an existing database. The
+     * summaries of jobs that have been saved by a sync in the meantime are kept, so the jobs without a summary are
+     * determined per job instead of checking whether any summary is stored. Only the attributes of the jobs and their two
+     * latest builds are read.
+     */
+    void createMissingSummaries() {
+        int summarizedJobs = 0;
+        try {
+            for (JobSummaryEntity summary : jobSummaryEntityService.findMissingSummaries()) {
+                createSummary(summary);
+                summarizedJobs++;
+            }
+        }
+        catch (DataAccessException exception) {
+            logger.warn("Creating the summaries failed after " + summarizedJobs + " Jobs: " + exception.getMessage());
+        }
+        if (summarizedJobs > 0) {
+            logger.info("Created the summaries of " + summarizedJobs + " Jobs");
+        }
+    }
+
+    private synchronized void createSummary(final JobSummaryEntity summary) {
+        try {
+            jobSummaryEntityService.create(summary);
+        }
+        catch (DataIntegrityViolationException duplicate) {
+            // the summary has been stored by a concurrent sync in the meantime, so only the latest builds are applied
+        }
+        String jobName = summary.getJobName();
+        List<BuildEntity> latestBuilds = new ArrayList<>(buildEntityService.findLatestBuilds(jobName, 2));
+        Collections.reverse(latestBuilds);
+        latestBuilds.forEach(buildEntity -> applyBuild(jobName, Mapper.map(buildEntity)));
+    }
+
+    private void applyBuild(final String jobName, final Build build) {
+        Map<String, ToolSummaryEntity> tools = new LinkedHashMap<>();
+        for (Result result : build.getResults()) {
+            String toolId = result.getWarningId();
+            if (toolId == null) {
+                continue;
+            }
+
+            QualityGateStatusEntity status = QualityGateStatusEntity.fromString(result.getQualityGateStatus());
+            ToolSummaryEntity tool = tools.get(toolId);
+            if (tool == null) {
+                tools.put(toolId, new ToolSummaryEntity(toolId, result.getName(), result.getTotalSize(), status));
+            }
+            else {
+                tool.setTotalSize(tool.getTotalSize() + result.getTotalSize());
+                QualityGateStatusEntity stored = tool.getQualityGateStatus();
+                if (status.isEvaluated() && (!stored.isEvaluated() || status.ordinal() > stored.ordinal())) {
+                    tool.setQualityGateStatus(status);
+                }
+            }
+        }
+
+        if (!jobSummaryEntityService.applyBuild(jobName, build.getNumber(), build.getTimestamp(),
+                new ArrayList<>(tools.values()))) {
+            logger.debug("Ignored Build " + build.getNumber() + " of " + jobName + " in the summary, a newer build is stored");
+        }
+    }
+}
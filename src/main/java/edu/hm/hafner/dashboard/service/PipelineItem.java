@@ -0,0 +1,101 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+
+import java.io.Serializable;
+
+/**
+ * An element of the {@link HarvestPipeline}: either a completely fetched {@link Build} that should be written to the
+ * database, the completion of a job after all of its builds or the signal for a writer to stop.
+ */
+class PipelineItem implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The kind of a {@link PipelineItem}.
+     */
+    enum Type {
+        BUILD, JOB, STOP
+    }
+
+    private final Type type;
+    private final Job jobReference;
+    private final Build build;
+    private final SyncPhase phase;
+
+    private PipelineItem(final Type type, final Job jobReference, final Build build, final SyncPhase phase) {
+        this.type = type;
+        this.jobReference = jobReference;
+        this.build = build;
+        this.phase = phase;
+    }
+
+    /**
+     * Creates the item for a fetched {@link Build}.
+     *
+     * @param jobReference the stored {@link Job} without its builds
+     * @param build        the {@link Build} with its results
+     * @param buildPhase   the running phase of the build
+     * @return the item
+     */
+    static PipelineItem ofBuild(final Job jobReference, final Build build, final SyncPhase buildPhase) {
+        return new PipelineItem(Type.BUILD, jobReference, build, buildPhase);
+    }
+
+    /**
+     * Creates the item for a job whose builds have all been fetched.
+     *
+     * @param jobPhase the running phase of the job
+     * @return the item
+     */
+    static PipelineItem ofJob(final SyncPhase jobPhase) {
+        return new PipelineItem(Type.JOB, null, null, jobPhase);
+    }
+
+    /**
+     * Creates the item that stops a writer.
+     *
+     * @return the item
+     */
+    static PipelineItem stop() {
+        return new PipelineItem(Type.STOP, null, null, null);
+    }
+
+    /**
+     * Returns the kind of the item.
+     *
+     * @return the type
+     */
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the stored {@link Job} of a fetched build.
+     *
+     * @return the job reference
+     */
+    Job getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * Returns the fetched {@link Build}.
+     *
+     * @return the build
+     */
+    Build getBuild() {
+        return build;
+    }
+
+    /**
+     * Returns the running phase of the job or build.
+     *
+     * @return the phase
+     */
+    SyncPhase getPhase() {
+        return phase;
+    }
+}
@@ -0,0 +1,142 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.db.PortfolioTrendEntityService;
+import edu.hm.hafner.dashboard.db.model.JobWarningSnapshotEntity;
+import edu.hm.hafner.dashboard.db.model.PortfolioTrendEntity;
+import edu.hm.hafner.dashboard.db.model.WarningCountEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.echart.portfoliotrendchart.PortfolioTrendChart;
+import edu.hm.hafner.echarts.LinesChartModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Service for the trend of the warnings of all jobs (the portfolio). The trend is never computed from the stored builds:
+ * every saved build updates the daily aggregates of its job incrementally (see {@link BuildPersistedEvent}), and the
+ * trend just sums up the changes of all days. So the trend is cheap no matter how many jobs and builds are stored.
+ */
+@Service
+class PortfolioTrendService {
+    /** Groups the warnings by severity instead of by tool. */
+    static final String GROUP_BY_SEVERITY = "severity";
+
+    private final PortfolioTrendEntityService portfolioTrendEntityService;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendService}.
+     *
+     * @param portfolioTrendEntityService the entity service for the aggregates of the portfolio
+     */
+    @Autowired
+    PortfolioTrendService(final PortfolioTrendEntityService portfolioTrendEntityService) {
+        this.portfolioTrendEntityService = portfolioTrendEntityService;
+    }
+
+    /**
+     * Adds the warnings of a saved build to the aggregates of the portfolio. The builds of all writers are applied one
+     * after another, so concurrent builds of the same day do not lose updates.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        JobWarningSnapshotEntity snapshot = createSnapshot(event.getJobId(), event.getBuild());
+        if (portfolioTrendEntityService.applySnapshot(snapshot)) {
+            logger.debug("Updated the portfolio trend with build " + event.getBuild().getNumber() + " of job " + event.getJobName());
+        }
+    }
+
+    private JobWarningSnapshotEntity createSnapshot(final int jobId, final Build build) {
+        JobWarningSnapshotEntity snapshot = new JobWarningSnapshotEntity(jobId, getDay(build));
+        snapshot.setBuildNumber(build.getNumber());
+
+        Map<String, Map<String, Integer>> countsByTool = new LinkedHashMap<>();
+        for (Result result : build.getResults()) {
+            Map<String, Integer> counts = countsByTool.computeIfAbsent(result.getName(), tool -> new LinkedHashMap<>());
+            for (Severity severity : Severity.getPredefinedValues()) {
+                int size = result.getOutstandingIssues().getSizeOf(severity) + result.getNewIssues().getSizeOf(severity);
+                counts.merge(severity.getName(), size, Integer::sum);
+            }
+        }
+        countsByTool.forEach((tool, counts) -> counts.forEach((severity, count) -> {
+            if (count > 0) {
+                snapshot.getCounts().add(new WarningCountEntity(tool, severity, count));
+            }
+        }));
+
+        return snapshot;
+    }
+
+    private LocalDate getDay(final Build build) {
+        if (build.getTimestamp() <= 0) {
+            return LocalDate.now();
+        }
+        return Instant.ofEpochMilli(build.getTimestamp()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Creates the trend chart of the warnings of all jobs, one point per day.
+     *
+     * @param groupBy   {@link #GROUP_BY_SEVERITY} to show a series per severity, otherwise a series per tool is shown
+     * @param days      the number of days to show, 0 to show all days
+     * @param maxPoints the maximum number of points of the chart, 0 to show all days
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel createTrendChart(final String groupBy, final int days, final int maxPoints) {
+        return new PortfolioTrendChart(maxPoints).create(sumUpChanges(groupBy, days));
+    }
+
+    /**
+     * Sums up the changes of all days to the number of warnings per day.
+     *
+     * @param groupBy the name of the grouping
+     * @param days    the number of days to show, 0 to show all days
+     * @return the number of warnings per series for every day
+     */
+    SortedMap<LocalDate, Map<String, Integer>> sumUpChanges(final String groupBy, final int days) {
+        List<PortfolioTrendEntity> changes = portfolioTrendEntityService.findAll();
+        SortedMap<LocalDate, Map<String, Integer>> warningsPerDay = new TreeMap<>();
+        if (changes.isEmpty()) {
+            return warningsPerDay;
+        }
+
+        boolean isGroupedBySeverity = GROUP_BY_SEVERITY.equalsIgnoreCase(groupBy);
+        SortedMap<LocalDate, Map<String, Long>> changesPerDay = new TreeMap<>();
+        Map<String, Long> totals = new HashMap<>();
+        for (PortfolioTrendEntity change : changes) {
+            String name = isGroupedBySeverity ? change.getSeverity() : change.getTool();
+            changesPerDay.computeIfAbsent(change.getDay(), day -> new HashMap<>()).merge(name, change.getDelta(), Long::sum);
+            totals.put(name, 0L);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate last = changesPerDay.lastKey().isAfter(today) ? changesPerDay.lastKey() : today;
+        LocalDate start = days > 0 ? today.minusDays(days - 1) : changesPerDay.firstKey();
+        for (LocalDate day = changesPerDay.firstKey(); !day.isAfter(last); day = day.plusDays(1)) {
+            changesPerDay.getOrDefault(day, new HashMap<>()).forEach((name, delta) -> totals.merge(name, delta, Long::sum));
+            if (!day.isBefore(start)) {
+                Map<String, Integer> warnings = new HashMap<>();
+                totals.forEach((name, total) -> warnings.put(name, total.intValue()));
+                warningsPerDay.put(day, warnings);
+            }
+        }
+
+        return warningsPerDay;
+    }
+}
@@ -0,0 +1,108 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.QualityGateEntityService;
+import edu.hm.hafner.dashboard.db.model.QualityGateBuildEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.QualityGateSummary;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.echart.qualitygatechart.QualityGateTrendChart;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import edu.hm.hafner.echarts.LinesChartModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the history of the quality gates. The status of the quality gates is normalized (see
+ * {@link QualityGateStatusEntity}) and every saved build updates the history and the streaks and pass rates of its job
+ * incrementally (see {@link BuildPersistedEvent}). So the trend of a job and the table of all jobs never read the stored
+ * results.
+ */
+@Service
+class QualityGateService {
+    /** The maximum number of builds of a trend. */
+    static final int MAX_BUILDS = 1000;
+
+    private final QualityGateEntityService qualityGateEntityService;
+
+    /**
+     * Creates a new instance of {@link QualityGateService}.
+     *
+     * @param qualityGateEntityService the entity service for the quality gates
+     */
+    @Autowired
+    QualityGateService(final QualityGateEntityService qualityGateEntityService) {
+        this.qualityGateEntityService = qualityGateEntityService;
+    }
+
+    /**
+     * Adds the quality gates of the results of a saved build.
+     *
+     * @param event the event of the saved build
+     */
+    @EventListener
+    public synchronized void onBuildPersisted(final BuildPersistedEvent event) {
+        Build build = event.getBuild();
+        Map<String, QualityGateStatusEntity> statusByTool = new LinkedHashMap<>();
+        for (Result result : build.getResults()) {
+            if (result.getWarningId() != null) {
+                statusByTool.put(result.getWarningId(), QualityGateStatusEntity.fromString(result.getQualityGateStatus()));
+            }
+        }
+        if (!statusByTool.isEmpty()) {
+            qualityGateEntityService.apply(event.getJobName(), build.getNumber(), build.getTimestamp(), statusByTool);
+        }
+    }
+
+    /**
+     * Deletes the quality gates of the builds that have been deleted by the retention policy from the history. The
+     * streaks and pass rates keep these builds.
+     *
+     * @param event the event of the deleted builds
+     */
+    @EventListener
+    public synchronized void onBuildsPruned(final BuildsPrunedEvent event) {
+        if (event.isDropped()) {
+            qualityGateEntityService.deleteBuilds(event.getJobName(), event.getBuildNumbers());
+        }
+    }
+
+    /**
+     * Creates the trend of the quality gates of the latest builds of a job.
+     *
+     * @param jobName   the name of the job
+     * @param builds    the maximum number of builds, at most {@link #MAX_BUILDS}
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel createTrendChart(final String jobName, final int builds, final int maxPoints) {
+        SortedMap<Integer, Map<String, Integer>> statusesPerBuild = new TreeMap<>();
+        for (QualityGateBuildEntity build : qualityGateEntityService.findBuilds(jobName, Math.max(1, Math.min(builds, MAX_BUILDS)))) {
+            Map<String, Integer> statuses = new HashMap<>();
+            statuses.put(QualityGateTrendChart.PASSED, build.getPassedCount());
+            statuses.put(QualityGateTrendChart.WARNING, build.getWarningCount());
+            statuses.put(QualityGateTrendChart.FAILED, build.getFailedCount());
+            statusesPerBuild.put(build.getBuildNumber(), statuses);
+        }
+
+        return new QualityGateTrendChart(maxPoints).create(statusesPerBuild);
+    }
+
+    /**
+     * Finds the streaks and pass rates of the quality gates of all tools of all jobs.
+     *
+     * @return the {@link QualityGateSummary}s, ordered by job and tool
+     */
+    public List<QualityGateSummary> findSummaries() {
+        return qualityGateEntityService.findStatistics().stream().map(Mapper::map).collect(Collectors.toList());
+    }
+}
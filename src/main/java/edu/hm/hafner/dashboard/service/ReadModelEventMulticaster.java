@@ -0,0 +1,115 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multicaster of the application events that runs the listeners of the read models (see {@link BuildPersistedEvent} and
+ * {@link BuildsPrunedEvent}) in a single background thread. So saving a build does not wait for the read models, and a
+ * failing listener is logged without affecting the saved build or the other listeners. The events are handled one after
+ * another in the order of their publication, which the read models rely on. If the queue of events is full, the
+ * publisher is blocked until an event has been handled. All other events are multicast in the publishing thread.
+ */
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+class ReadModelEventMulticaster extends SimpleApplicationEventMulticaster implements DisposableBean {
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a new instance of {@link ReadModelEventMulticaster}.
+     *
+     * @param syncProperties the configuration of the sync with the capacity of the event queue
+     */
+    @Autowired
+    ReadModelEventMulticaster(final SyncProperties syncProperties) {
+        super();
+
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, syncProperties.getEventQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "read-model-updater");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> enqueue(runnable, pool));
+    }
+
+    private static void enqueue(final Runnable runnable, final ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("The read models are not updated anymore");
+        }
+        try {
+            pool.getQueue().put(runnable);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the read models", exception);
+        }
+    }
+
+    @Override
+    public void multicastEvent(final ApplicationEvent event, final ResolvableType eventType) {
+        if (!isReadModelEvent(event)) {
+            super.multicastEvent(event, eventType);
+            return;
+        }
+
+        List<ApplicationListener<?>> listeners = new ArrayList<>(getApplicationListeners(event,
+                eventType == null ? ResolvableType.forInstance(event) : eventType));
+        executor.execute(() -> {
+            for (ApplicationListener<?> listener : listeners) {
+                try {
+                    invokeListener(listener, event);
+                }
+                catch (RuntimeException exception) {
+                    logger.error("Updating the read model " + listener + " failed for " + getPayload(event), exception);
+                }
+            }
+        });
+    }
+
+    private boolean isReadModelEvent(final ApplicationEvent event) {
+        Object payload = getPayload(event);
+        return payload instanceof BuildPersistedEvent || payload instanceof BuildsPrunedEvent;
+    }
+
+    private Object getPayload(final ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent) {
+            return ((PayloadApplicationEvent<?>) event).getPayload();
+        }
+        return event;
+    }
+
+    /**
+     * Handles the queued events before the application is stopped.
+     *
+     * @throws InterruptedException if interrupted while waiting for the queued events
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("Stopped the updates of the read models with " + executor.getQueue().size() + " queued events");
+            executor.shutdownNow();
+        }
+    }
+}
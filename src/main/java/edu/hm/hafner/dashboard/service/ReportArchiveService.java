@@ -0,0 +1,156 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.config.ArchiveProperties;
+import edu.hm.hafner.dashboard.db.ReportArchiveEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.ReportArchiveEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.columnar.ReportArchiveCodec;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Service to archive the issues of old builds. Old builds are rarely viewed, so the issue rows of their results are
+ * periodically replaced with a compressed columnar archive per build and tool (see {@link ReportArchiveCodec}). The
+ * issues of an archived {@link Result} are restored from the archive when they are requested.
+ */
+@Service
+class ReportArchiveService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ReportArchiveEntityService reportArchiveEntityService;
+    private final ArchiveProperties archiveProperties;
+
+    /**
+     * Creates a new instance of {@link ReportArchiveService}.
+     *
+     * @param reportArchiveEntityService the entity service for archives
+     * @param archiveProperties          the configuration of the archive
+     */
+    @Autowired
+    ReportArchiveService(final ReportArchiveEntityService reportArchiveEntityService,
+            final ArchiveProperties archiveProperties) {
+        this.reportArchiveEntityService = reportArchiveEntityService;
+        this.archiveProperties = archiveProperties;
+    }
+
+    /**
+     * Archives the results of the builds that are older than the configured age, if the archive is enabled.
+     */
+    @Scheduled(initialDelayString = "${dashboard.archive.compaction-interval-in-millis:3600000}",
+            fixedDelayString = "${dashboard.archive.compaction-interval-in-millis:3600000}")
+    public void compact() {
+        if (archiveProperties.isEnabled()) {
+            compact(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(archiveProperties.getMaxAgeInDays()));
+        }
+    }
+
+    /**
+     * Archives the results of the builds that have been started before a time. The results are read and archived in
+     * batches, at most the configured number of results is archived per call.
+     *
+     * @param timestamp the time in milliseconds since the epoch
+     * @return the number of archived results
+     */
+    public synchronized int compact(final long timestamp) {
+        int batchSize = Math.max(1, archiveProperties.getBatchSize());
+        int archivedResults = 0;
+        long archivedIssues = 0;
+        long archiveSize = 0;
+        try {
+            while (archivedResults < archiveProperties.getMaxResultsPerRun()) {
+                List<ResultEntity> results = reportArchiveEntityService.findResultsToArchive(timestamp,
+                        Math.min(batchSize, archiveProperties.getMaxResultsPerRun() - archivedResults));
+                int archivedInBatch = 0;
+                for (ResultEntity result : results) {
+                    byte[] data = ReportArchiveCodec.encode(result.getReports());
+                    int issueCount = result.getReports().stream().mapToInt(report -> report.getIssues().size()).sum();
+                    if (reportArchiveEntityService.archive(result,
+                            new ReportArchiveEntity(result.getId(), issueCount, System.currentTimeMillis(), data))) {
+                        archivedInBatch++;
+                        archivedIssues += issueCount;
+                        archiveSize += data.length;
+                    }
+                }
+                archivedResults += archivedInBatch;
+                if (archivedInBatch == 0 || results.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+        catch (DataAccessException exception) {
+            logger.warn("Archiving the issues failed after " + archivedResults + " results: " + exception.getMessage());
+        }
+        if (archivedResults > 0) {
+            logger.info("Archived " + archivedIssues + " issues of " + archivedResults + " results into " + archiveSize
+                    + " bytes");
+        }
+        return archivedResults;
+    }
+
+    /**
+     * Restores the issues of an archived {@link Result}. The reports of a result that is not archived are kept.
+     *
+     * @param result the {@link Result}
+     */
+    public void restore(final Result result) {
+        if (!result.isArchived()) {
+            return;
+        }
+
+        Optional<ReportArchiveEntity> archive = reportArchiveEntityService.findArchive(result.getId());
+        if (!archive.isPresent()) {
+            logger.warn("The archive of the Result " + result.getId() + " (" + result.getWarningId() + ") is missing");
+            return;
+        }
+        Map<WarningTypeEntity, List<IssueEntity>> issues = ReportArchiveCodec.decode(archive.get().getData());
+        result.setOutstandingIssues(map(issues.get(WarningTypeEntity.OUTSTANDING)));
+        result.setNewIssues(map(issues.get(WarningTypeEntity.NEW)));
+        result.setFixedIssues(map(issues.get(WarningTypeEntity.FIXED)));
+        result.setArchived(false);
+    }
+
+    /**
+     * Finds the archived issues of the result of a tool in a build. The issues of a result that is not archived are
+     * stored as rows and have to be read from the database instead.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumber  the number of the build
+     * @param tool         the id of the tool
+     * @param warningTypes the types of the reports, e.g. NEW and OUTSTANDING
+     * @return the archived {@link IssueEntity}s, empty if the result is not archived
+     */
+    public List<IssueEntity> findArchivedIssues(final String jobName, final int buildNumber, final String tool,
+            final Collection<WarningTypeEntity> warningTypes) {
+        Optional<ReportArchiveEntity> archive = reportArchiveEntityService.findArchive(jobName, buildNumber, tool);
+        if (!archive.isPresent()) {
+            return Collections.emptyList();
+        }
+        Map<WarningTypeEntity, List<IssueEntity>> issues = ReportArchiveCodec.decode(archive.get().getData());
+        List<IssueEntity> archivedIssues = new ArrayList<>();
+        for (WarningTypeEntity warningType : warningTypes) {
+            archivedIssues.addAll(issues.getOrDefault(warningType, Collections.emptyList()));
+        }
+        return archivedIssues;
+    }
+
+    private Report map(final List<IssueEntity> issues) {
+        return new Report().addAll(issues.stream().map(Mapper::map).collect(Collectors.toList()));
+    }
+}
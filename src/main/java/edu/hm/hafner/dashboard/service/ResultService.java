@@ -6,6 +6,7 @@ import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Result;
 import edu.hm.hafner.dashboard.service.table.issue.IssueRepositoryStatistics;
 import edu.hm.hafner.dashboard.service.table.issue.IssueViewTable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -14,10 +15,22 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 /**
- * Service to handle {@link Result}s between the ui and database.
+ * Service to handle {@link Result}s between the ui and database. The issues of archived results are restored by the
+ * {@link ReportArchiveService} when they are requested.
  */
 @Service
 class ResultService {
+    private final ReportArchiveService reportArchiveService;
+
+    /**
+     * Creates a new instance of {@link ResultService}.
+     *
+     * @param reportArchiveService the service for the archive of old results
+     */
+    @Autowired
+    ResultService(final ReportArchiveService reportArchiveService) {
+        this.reportArchiveService = reportArchiveService;
+    }
 
     /**
      * Determines the used tools (e.g checkstyle or pmd) for a given {@link Build}.
@@ -78,6 +91,7 @@ class ResultService {
      */
     public List<Object> getOutstandingAndNewIssuesForTool(final Build build, final String toolId) {
         Result result = getResultByToolId(build, toolId);
+        reportArchiveService.restore(result);
         Report report = new Report();
         report.addAll(result.getOutstandingIssues());
         report.addAll(result.getNewIssues());
@@ -97,6 +111,7 @@ class ResultService {
     public List<Object> getIssuesByToolIdAndIssueType(final Build build, final String toolId, final String issueType) {
         Report report = new Report();
         Result result = getResultByToolId(build, toolId);
+        reportArchiveService.restore(result);
         switch (issueType) {
             case "outstanding":
                 report = result.getOutstandingIssues();
@@ -0,0 +1,166 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.RetentionProperties;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.RetentionEntityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service to enforce the retention policy of the builds (see {@link RetentionProperties}). The issues of old builds are
+ * deleted, only the sizes of their reports are kept for the trends. Builds beyond the hard limits are deleted completely.
+ * The newest build of a job is always kept. The builds and issues are deleted in small batches with a delay in between,
+ * so the tables are never locked for a long time, and a run stops after a maximum number of batches. After every batch a
+ * {@link BuildsPrunedEvent} is published, so the read models that are derived from the builds are pruned as well.
+ */
+@Service
+class RetentionService {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RetentionEntityService retentionEntityService;
+    private final JobEntityService jobEntityService;
+    private final RetentionProperties retentionProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private int batches;
+
+    /**
+     * Creates a new instance of {@link RetentionService}.
+     *
+     * @param retentionEntityService the entity service to delete builds and issues
+     * @param jobEntityService       the entity service for jobs
+     * @param retentionProperties    the configuration of the retention policy
+     * @param eventPublisher         the publisher of the {@link BuildsPrunedEvent}s
+     */
+    @Autowired
+    RetentionService(final RetentionEntityService retentionEntityService, final JobEntityService jobEntityService,
+            final RetentionProperties retentionProperties, final ApplicationEventPublisher eventPublisher) {
+        this.retentionEntityService = retentionEntityService;
+        this.jobEntityService = jobEntityService;
+        this.retentionProperties = retentionProperties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Enforces the retention policy periodically, if it is enabled.
+     */
+    @Scheduled(initialDelayString = "${dashboard.retention.interval-in-millis:3600000}",
+            fixedDelayString = "${dashboard.retention.interval-in-millis:3600000}")
+    public void enforce() {
+        if (retentionProperties.isEnabled()) {
+            enforce(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Enforces the retention policy for all jobs. The builds beyond the hard limits are deleted first, so their issues
+     * are not deleted separately.
+     *
+     * @param now the current time in milliseconds since the epoch
+     * @return the number of executed batches
+     */
+    public synchronized int enforce(final long now) {
+        batches = 0;
+        int droppedBuilds = 0;
+        int compactedResults = 0;
+        for (String jobName : jobEntityService.findAllNames()) {
+            try {
+                droppedBuilds += drop(jobName, now);
+                compactedResults += compact(jobName, now);
+            }
+            catch (DataAccessException exception) {
+                logger.warn("Enforcing the retention policy for " + jobName + " failed: " + exception.getMessage());
+            }
+            if (batches >= retentionProperties.getMaxBatchesPerRun()) {
+                break;
+            }
+        }
+        if (droppedBuilds > 0 || compactedResults > 0) {
+            logger.info("Deleted " + droppedBuilds + " Builds and the issues of " + compactedResults + " results in "
+                    + batches + " batches");
+        }
+        return batches;
+    }
+
+    private int drop(final String jobName, final long now) {
+        int number = retentionProperties.getMaxBuilds() > 0
+                ? retentionEntityService.findNumberBeforeLatestBuilds(jobName, retentionProperties.getMaxBuilds()) : 0;
+        long timestamp = retentionProperties.getMaxAgeInDays() > 0
+                ? now - TimeUnit.DAYS.toMillis(retentionProperties.getMaxAgeInDays()) : 0;
+        if (number <= 0 && timestamp <= 0) {
+            return 0;
+        }
+
+        int droppedBuilds = 0;
+        List<Integer> buildNumbers;
+        while (!(buildNumbers = retentionEntityService.findBuildsToDrop(jobName, number, timestamp, getBatchSize()))
+                .isEmpty() && startBatch()) {
+            List<Integer> droppedNumbers = retentionEntityService.drop(jobName, buildNumbers);
+            if (droppedNumbers.isEmpty()) {
+                break;
+            }
+            eventPublisher.publishEvent(new BuildsPrunedEvent(jobName, droppedNumbers, true));
+            droppedBuilds += droppedNumbers.size();
+        }
+        return droppedBuilds;
+    }
+
+    private int compact(final String jobName, final long now) {
+        if (retentionProperties.getKeepIssuesBuilds() <= 0 && retentionProperties.getKeepIssuesDays() <= 0) {
+            return 0;
+        }
+        int number = retentionProperties.getKeepIssuesBuilds() > 0
+                ? retentionEntityService.findNumberBeforeLatestBuilds(jobName, retentionProperties.getKeepIssuesBuilds())
+                : Integer.MAX_VALUE;
+        long timestamp = retentionProperties.getKeepIssuesDays() > 0
+                ? now - TimeUnit.DAYS.toMillis(retentionProperties.getKeepIssuesDays()) : 0;
+        if (number <= 0) {
+            return 0;
+        }
+
+        int compactedResults = 0;
+        List<Integer> resultIds;
+        while (!(resultIds = retentionEntityService.findResultsToCompact(jobName, number, timestamp, getBatchSize()))
+                .isEmpty() && startBatch()) {
+            List<Integer> buildNumbers = retentionEntityService.findBuildNumbersOfResults(resultIds);
+            retentionEntityService.compact(resultIds);
+            eventPublisher.publishEvent(new BuildsPrunedEvent(jobName, buildNumbers, false));
+            compactedResults += resultIds.size();
+        }
+        return compactedResults;
+    }
+
+    private int getBatchSize() {
+        return Math.max(1, retentionProperties.getBatchSize());
+    }
+
+    /**
+     * Starts the next batch: waits for the configured delay after the previous batch.
+     *
+     * @return {@code true} if the batch can be started, {@code false} if the maximum number of batches is reached or the
+     *         thread has been interrupted
+     */
+    private boolean startBatch() {
+        if (batches >= retentionProperties.getMaxBatchesPerRun()) {
+            return false;
+        }
+        if (batches > 0 && retentionProperties.getBatchDelayInMillis() > 0) {
+            try {
+                Thread.sleep(retentionProperties.getBatchDelayInMillis());
+            }
+            catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        batches++;
+        return true;
+    }
+}
@@ -0,0 +1,141 @@
+package edu.hm.hafner.dashboard.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A FIFO queue that keeps a bounded number of elements in memory. If the memory part is full, further elements are
+ * serialized to files of a spill directory and read back in their original order as soon as there is room in memory
+ * again. So a fast producer never blocks, but the heap only holds a bounded number of elements.
+ *
+ * @param <T> the type of the elements
+ */
+class SpillingQueue<T extends Serializable> {
+    private static final String SPILL_FILE_SUFFIX = ".ser";
+
+    private final int capacity;
+    private final Path spillDirectory;
+    private final Deque<T> memory = new ArrayDeque<>();
+    private final Deque<Path> spilledFiles = new ArrayDeque<>();
+    private long sequence;
+
+    /**
+     * Creates a new instance of {@link SpillingQueue}.
+     *
+     * @param capacity       the number of elements that are kept in memory
+     * @param spillDirectory the directory for the spilled elements, it must exist
+     */
+    SpillingQueue(final int capacity, final Path spillDirectory) {
+        this.capacity = Math.max(1, capacity);
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Appends an element to the queue. Once elements have been spilled, all further elements are spilled as well until
+     * the spilled elements have been read back, so the order of the elements is kept.
+     *
+     * @param element the element
+     * @throws UncheckedIOException if the element can not be spilled
+     */
+    synchronized void put(final T element) {
+        if (spilledFiles.isEmpty() && memory.size() < capacity) {
+            memory.addLast(element);
+        }
+        else {
+            spilledFiles.addLast(spill(element));
+        }
+        notifyAll();
+    }
+
+    /**
+     * Removes the oldest element from the queue, waiting if necessary until an element is available.
+     *
+     * @return the oldest element
+     * @throws InterruptedException if interrupted while waiting
+     * @throws UncheckedIOException if a spilled element can not be read back
+     */
+    synchronized T take() throws InterruptedException {
+        while (memory.isEmpty() && spilledFiles.isEmpty()) {
+            wait();
+        }
+        refill();
+        T element = memory.removeFirst();
+        refill();
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the queue, including the spilled elements.
+     *
+     * @return the number of elements
+     */
+    synchronized int size() {
+        return memory.size() + spilledFiles.size();
+    }
+
+    /**
+     * Returns the number of elements that have been spilled to disk.
+     *
+     * @return the number of spilled elements
+     */
+    synchronized int spilledSize() {
+        return spilledFiles.size();
+    }
+
+    /**
+     * Removes all elements and deletes the spilled elements.
+     */
+    synchronized void clear() {
+        memory.clear();
+        for (Path spilledFile : spilledFiles) {
+            try {
+                Files.deleteIfExists(spilledFile);
+            } catch (IOException ignored) {
+                // the file is part of a temporary directory
+            }
+        }
+        spilledFiles.clear();
+    }
+
+    private void refill() {
+        while (memory.size() < capacity && !spilledFiles.isEmpty()) {
+            memory.addLast(readBack(spilledFiles.removeFirst()));
+        }
+    }
+
+    private Path spill(final T element) {
+        Path spillFile = spillDirectory.resolve(String.format("%019d%s", sequence++, SPILL_FILE_SUFFIX));
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)))) {
+            outputStream.writeObject(element);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Spilling to " + spillFile + " failed", exception);
+        }
+        return spillFile;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T readBack(final Path spillFile) {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+            return (T) inputStream.readObject();
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new UncheckedIOException("Reading back " + spillFile + " failed",
+                    exception instanceof IOException ? (IOException) exception : new IOException(exception));
+        }
+        finally {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException ignored) {
+                // the file is part of a temporary directory
+            }
+        }
+    }
+}
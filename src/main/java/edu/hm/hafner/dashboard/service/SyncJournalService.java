@@ -0,0 +1,190 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.SyncRunEntityService;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseEntity;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseTypeEntity;
+import edu.hm.hafner.dashboard.db.model.SyncRunEntity;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service to journal the {@link SyncRun}s of the {@link AppStartupRunner}. Every run, every harvested job and every harvested
+ * build is recorded with its timings and failures. The checkpoint of a run is moved forward with every completed build, so
+ * an interrupted run can be resumed where it stopped.
+ */
+@Service
+class SyncJournalService {
+    private static final int MAX_MESSAGE_LENGTH = 1024;
+
+    private final SyncRunEntityService syncRunEntityService;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link SyncJournalService}.
+     *
+     * @param syncRunEntityService the entity service for sync runs
+     */
+    @Autowired
+    SyncJournalService(final SyncRunEntityService syncRunEntityService) {
+        this.syncRunEntityService = syncRunEntityService;
+    }
+
+    /**
+     * Starts a new {@link SyncRun}. If the previous run has been interrupted (i.e. it is still marked as running) then
+     * this run is resumed: the jobs that already have been harvested completely are skipped.
+     *
+     * @return the started or resumed {@link SyncRun}
+     */
+    public SyncRun startRun() {
+        SyncRunEntity interruptedRun = syncRunEntityService.findInterruptedRun();
+        if (interruptedRun != null) {
+            interruptedRun.setResumeCount(interruptedRun.getResumeCount() + 1);
+            SyncRun syncRun = Mapper.map(syncRunEntityService.save(interruptedRun));
+            syncRun.getHarvestedJobs().addAll(syncRunEntityService.findCompletedJobNames(syncRun.getId()));
+            logger.info("Resuming interrupted sync run " + syncRun.getId() + " after job " + syncRun.getCheckpointJobName()
+                    + " and build " + syncRun.getCheckpointBuildNumber());
+
+            return syncRun;
+        }
+
+        return Mapper.map(syncRunEntityService.save(new SyncRunEntity(SyncStatusEntity.RUNNING, LocalDateTime.now())));
+    }
+
+    /**
+     * Starts the phase to harvest a job.
+     *
+     * @param jobName the name of the job
+     * @return the started {@link SyncPhase}
+     */
+    public SyncPhase startJobPhase(final String jobName) {
+        return new SyncPhase(SyncPhaseTypeEntity.JOB.name(), jobName, 0, LocalDateTime.now());
+    }
+
+    /**
+     * Starts the phase to harvest a build.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the number of the build
+     * @return the started {@link SyncPhase}
+     */
+    public SyncPhase startBuildPhase(final String jobName, final int buildNumber) {
+        return new SyncPhase(SyncPhaseTypeEntity.BUILD.name(), jobName, buildNumber, LocalDateTime.now());
+    }
+
+    /**
+     * Records a completed phase and moves the checkpoint of the run forward. The phases of a run may be completed
+     * concurrently, if several Jenkins controllers are harvested in parallel.
+     *
+     * @param syncRun   the {@link SyncRun}
+     * @param syncPhase the completed {@link SyncPhase}
+     */
+    public void completePhase(final SyncRun syncRun, final SyncPhase syncPhase) {
+        savePhase(syncRun, syncPhase, SyncStatusEntity.COMPLETED, null);
+
+        synchronized (syncRun) {
+            syncRun.setCheckpointJobName(syncPhase.getJobName());
+            if (SyncPhaseTypeEntity.JOB.name().equals(syncPhase.getPhaseType())) {
+                syncRun.getHarvestedJobs().add(syncPhase.getJobName());
+            }
+            else {
+                syncRun.setCheckpointBuildNumber(syncPhase.getBuildNumber());
+            }
+            syncRunEntityService.save(Mapper.mapToEntity(syncRun));
+        }
+    }
+
+    /**
+     * Records a failed phase. The checkpoint of the run is not changed.
+     *
+     * @param syncRun   the {@link SyncRun}
+     * @param syncPhase the failed {@link SyncPhase}
+     * @param exception the cause of the failure
+     */
+    public void failPhase(final SyncRun syncRun, final SyncPhase syncPhase, final Exception exception) {
+        logger.warn("Sync phase " + syncPhase.getPhaseType() + " for " + syncPhase.getJobName() + " #"
+                + syncPhase.getBuildNumber() + " failed: " + exception.getMessage());
+        savePhase(syncRun, syncPhase, SyncStatusEntity.FAILED, exception.getMessage());
+    }
+
+    /**
+     * Marks the {@link SyncRun} as completed.
+     *
+     * @param syncRun the {@link SyncRun}
+     */
+    public void completeRun(final SyncRun syncRun) {
+        finishRun(syncRun, SyncStatusEntity.COMPLETED, null);
+    }
+
+    /**
+     * Marks the {@link SyncRun} as failed. A failed run will not be resumed.
+     *
+     * @param syncRun        the {@link SyncRun}
+     * @param failureMessage the cause of the failure
+     */
+    public void failRun(final SyncRun syncRun, final String failureMessage) {
+        finishRun(syncRun, SyncStatusEntity.FAILED, failureMessage);
+    }
+
+    /**
+     * Returns the latest {@link SyncRun}s with the number of completed and failed jobs and builds.
+     *
+     * @return the latest {@link SyncRun}s, the newest run first
+     */
+    public List<SyncRun> getLatestRuns() {
+        return syncRunEntityService.findLatestRuns().stream().map(syncRunEntity -> {
+            SyncRun syncRun = Mapper.map(syncRunEntity);
+            int id = syncRun.getId();
+            syncRun.setCompletedJobs(syncRunEntityService.countPhases(id, SyncPhaseTypeEntity.JOB, SyncStatusEntity.COMPLETED));
+            syncRun.setFailedJobs(syncRunEntityService.countPhases(id, SyncPhaseTypeEntity.JOB, SyncStatusEntity.FAILED));
+            syncRun.setCompletedBuilds(syncRunEntityService.countPhases(id, SyncPhaseTypeEntity.BUILD, SyncStatusEntity.COMPLETED));
+            syncRun.setFailedBuilds(syncRunEntityService.countPhases(id, SyncPhaseTypeEntity.BUILD, SyncStatusEntity.FAILED));
+
+            return syncRun;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns all recorded phases of a {@link SyncRun}.
+     *
+     * @param syncRunId the id of the {@link SyncRun}
+     * @return the {@link SyncPhase}s in the order they have been recorded
+     */
+    public List<SyncPhase> getPhases(final int syncRunId) {
+        return syncRunEntityService.findPhases(syncRunId).stream().map(Mapper::map).collect(Collectors.toList());
+    }
+
+    private void savePhase(final SyncRun syncRun, final SyncPhase syncPhase, final SyncStatusEntity status, final String failureMessage) {
+        syncPhase.setStatus(status.name());
+        syncPhase.setDurationInMillis(Duration.between(syncPhase.getStartedAt(), LocalDateTime.now()).toMillis());
+        syncPhase.setFailureMessage(abbreviate(failureMessage));
+        SyncPhaseEntity savedPhase = syncRunEntityService.savePhase(syncRun.getId(), Mapper.mapToEntity(syncPhase));
+        syncPhase.setId(savedPhase.getId());
+    }
+
+    private void finishRun(final SyncRun syncRun, final SyncStatusEntity status, final String failureMessage) {
+        syncRun.setStatus(status.name());
+        syncRun.setFinishedAt(LocalDateTime.now());
+        syncRun.setFailureMessage(abbreviate(failureMessage));
+        syncRunEntityService.save(Mapper.mapToEntity(syncRun));
+        logger.info("Sync run " + syncRun.getId() + " finished with status " + status + " after "
+                + syncRun.getDurationInMillis() + " ms");
+    }
+
+    private String abbreviate(final String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
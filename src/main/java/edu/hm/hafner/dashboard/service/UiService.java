@@ -1,8 +1,18 @@
 package edu.hm.hafner.dashboard.service;
 
+import edu.hm.hafner.dashboard.service.dto.Anomaly;
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Hotspot;
+import edu.hm.hafner.dashboard.service.dto.IssueDiff;
+import edu.hm.hafner.dashboard.service.dto.IssueFacets;
+import edu.hm.hafner.dashboard.service.dto.IssueLifecycle;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchResult;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.QualityGateSummary;
 import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import edu.hm.hafner.dashboard.service.echart.WindowedChartModelConfiguration;
 import edu.hm.hafner.dashboard.service.echart.newvsfixedchart.NewVersusFixedAggregatedTrendChart;
 import edu.hm.hafner.dashboard.service.echart.newvsfixedchart.NewVersusFixedTrendChart;
 import edu.hm.hafner.dashboard.service.echart.resultchart.BarChartModel;
@@ -14,7 +24,6 @@ import edu.hm.hafner.dashboard.service.table.build.BuildViewTable;
 import edu.hm.hafner.dashboard.service.table.issue.IssueViewTable;
 import edu.hm.hafner.dashboard.service.table.job.JobViewTable;
 import edu.hm.hafner.echarts.BuildResult;
-import edu.hm.hafner.echarts.ChartModelConfiguration;
 import edu.hm.hafner.echarts.LinesChartModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.DefaultApplicationArguments;
@@ -22,6 +31,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service to handle interaction in the ui by using the services {@link JobService}, {@link BuildService}, {@link ResultService}.
@@ -34,21 +44,53 @@ public class UiService {
     private final BuildService buildService;
     private final ResultService resultService;
     private final AppStartupRunner appStartupRunner;
+    private final SyncJournalService syncJournalService;
+    private final PortfolioTrendService portfolioTrendService;
+    private final IssueLifecycleService issueLifecycleService;
+    private final IssueDiffService issueDiffService;
+    private final IssueSearchService issueSearchService;
+    private final IssueFacetService issueFacetService;
+    private final HotspotService hotspotService;
+    private final AnomalyService anomalyService;
+    private final QualityGateService qualityGateService;
 
     /**
      * Creates a new instance of {@link UiService}.
      *
-     * @param jobService       the service for the jobs
-     * @param buildService     the service for the builds
-     * @param resultService    the service for the results
-     * @param appStartupRunner the AppStartupRunner
+     * @param jobService            the service for the jobs
+     * @param buildService          the service for the builds
+     * @param resultService         the service for the results
+     * @param appStartupRunner      the AppStartupRunner
+     * @param syncJournalService    the service for the journal of the sync runs
+     * @param portfolioTrendService the service for the trend of all jobs
+     * @param issueLifecycleService the service for the lifecycles of issues
+     * @param issueDiffService      the service for the diffs of the issues of two builds
+     * @param issueSearchService    the service for the full-text search of the issues
+     * @param issueFacetService     the service for the facet counts of the issues
+     * @param hotspotService        the service for the hot spots of the jobs
+     * @param anomalyService        the service for the anomalies in the trends
+     * @param qualityGateService    the service for the history of the quality gates
      */
     @Autowired
-    public UiService(final JobService jobService, final BuildService buildService, final ResultService resultService, final AppStartupRunner appStartupRunner) {
+    public UiService(final JobService jobService, final BuildService buildService, final ResultService resultService,
+            final AppStartupRunner appStartupRunner, final SyncJournalService syncJournalService,
+            final PortfolioTrendService portfolioTrendService, final IssueLifecycleService issueLifecycleService,
+            final IssueDiffService issueDiffService, final IssueSearchService issueSearchService,
+            final IssueFacetService issueFacetService, final HotspotService hotspotService,
+            final AnomalyService anomalyService, final QualityGateService qualityGateService) {
         this.jobService = jobService;
         this.buildService = buildService;
         this.resultService = resultService;
         this.appStartupRunner = appStartupRunner;
+        this.syncJournalService = syncJournalService;
+        this.portfolioTrendService = portfolioTrendService;
+        this.issueLifecycleService = issueLifecycleService;
+        this.issueDiffService = issueDiffService;
+        this.issueSearchService = issueSearchService;
+        this.issueFacetService = issueFacetService;
+        this.hotspotService = hotspotService;
+        this.anomalyService = anomalyService;
+        this.qualityGateService = qualityGateService;
     }
 
     /**
@@ -61,12 +103,24 @@ public class UiService {
     }
 
     /**
-     * Fetches all jobs from database and converts it to the needed format of table rows.
+     * Fetches the summaries of all jobs from database and converts them to the needed format of table rows.
      *
      * @return prepared table rows
      */
     public List<Object> prepareRowsForJobViewTable() {
-        return jobService.convertRowsForTheJobViewTable(jobService.getAllJobs());
+        return jobService.convertRowsForTheJobViewTable(jobService.getJobSummaries());
+    }
+
+    /**
+     * Method that prepares the trend of the warnings of all jobs as {@link LinesChartModel} to display an echart.
+     *
+     * @param groupBy   "severity" to show a series per severity, otherwise a series per tool is shown
+     * @param days      the number of days to show, 0 to show all days
+     * @param maxPoints the maximum number of points of the chart, 0 to show all days
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel getPortfolioTrendChart(final String groupBy, final int days, final int maxPoints) {
+        return portfolioTrendService.createTrendChart(groupBy, days, maxPoints);
     }
 
     /**
@@ -95,55 +149,58 @@ public class UiService {
      * Method for the table with builds that prepares the rows.
      *
      * @param jobName the name of the job
+     * @param window  the {@link BuildWindow} of the builds to show
      * @return rows of the table
      */
-    public List<Object> getRowsForBuildViewTable(final String jobName) {
-        Job job = jobService.findJobByName(jobName);
-
-        return buildService.prepareRowsForBuildViewTable(job.getBuilds());
+    public List<Object> getRowsForBuildViewTable(final String jobName, final BuildWindow window) {
+        return buildService.prepareRowsForBuildViewTable(findBuilds(jobName, window));
     }
 
     /**
      * Method that prepares the aggregated analysis results as {@link LinesChartModel} to display an echart.
      *
      * @param jobName the name of the job
+     * @param window  the {@link BuildWindow} of the builds to show
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
      * @return the {@link LinesChartModel}
      */
-    public LinesChartModel getAggregatedAnalysisResultsTrendCharts(final String jobName) {
-        Job job = jobService.findJobByName(jobName);
-        List<BuildResult<Build>> buildResults = buildService.createBuildResults(job);
-        AggregatedToolTrendChart toolTrendChart = new AggregatedToolTrendChart();
+    public LinesChartModel getAggregatedAnalysisResultsTrendCharts(final String jobName, final BuildWindow window, final int maxPoints) {
+        List<BuildResult<Build>> buildResults = buildService.createBuildResults(findBuilds(jobName, window));
+        AggregatedToolTrendChart toolTrendChart = new AggregatedToolTrendChart(maxPoints);
 
-        return toolTrendChart.create(buildResults, new ChartModelConfiguration());
+        return toolTrendChart.create(buildResults, new WindowedChartModelConfiguration());
     }
 
     /**
      * Method that prepares a single tool like checkstyle, pmd or spotbugs as {@link LinesChartModel} to display an echart.
+     * Builds with anomalies are highlighted.
      *
      * @param jobName  the name of the job
      * @param toolName the name of the used tool
+     * @param window   the {@link BuildWindow} of the builds to show
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
      * @return the {@link LinesChartModel}
      */
-    public LinesChartModel getTrendChartForTool(final String jobName, final String toolName) {
-        Job job = jobService.findJobByName(jobName);
-        List<BuildResult<Build>> results = buildService.createBuildResultsForTool(job, toolName);
-        ToolTrendChart toolTrendChart = new ToolTrendChart();
+    public LinesChartModel getTrendChartForTool(final String jobName, final String toolName, final BuildWindow window, final int maxPoints) {
+        List<BuildResult<Build>> results = buildService.createBuildResultsForTool(findBuilds(jobName, window), toolName);
+        ToolTrendChart toolTrendChart = new ToolTrendChart(maxPoints, anomalyService.findAnomalousBuilds(jobName, toolName));
 
-        return toolTrendChart.create(results, new ChartModelConfiguration());
+        return toolTrendChart.create(results, new WindowedChartModelConfiguration());
     }
 
     /**
      * Method to get the aggregated size of new vs fixed issues.
      *
      * @param jobName the name of the project
+     * @param window  the {@link BuildWindow} of the builds to show
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
      * @return the {@link LinesChartModel} model with the size of fixed and new issues for each build
      */
-    public LinesChartModel getNewVersusFixedAggregatedTrendChart(final String jobName) {
-        Job job = jobService.findJobByName(jobName);
-        List<BuildResult<Build>> buildResults = buildService.createBuildResults(job);
-        NewVersusFixedAggregatedTrendChart trendChart = new NewVersusFixedAggregatedTrendChart();
+    public LinesChartModel getNewVersusFixedAggregatedTrendChart(final String jobName, final BuildWindow window, final int maxPoints) {
+        List<BuildResult<Build>> buildResults = buildService.createBuildResults(findBuilds(jobName, window));
+        NewVersusFixedAggregatedTrendChart trendChart = new NewVersusFixedAggregatedTrendChart(maxPoints);
 
-        return trendChart.create(buildResults, new ChartModelConfiguration());
+        return trendChart.create(buildResults, new WindowedChartModelConfiguration());
     }
 
     /**
@@ -151,14 +208,15 @@ public class UiService {
      *
      * @param jobName  the name of the project
      * @param toolName the used tool
+     * @param window   the {@link BuildWindow} of the builds to show
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
      * @return the {@link LinesChartModel} with the size of fixed and new issues for each build
      */
-    public LinesChartModel getNewVersusFixedTrendChartForTool(final String jobName, final String toolName) {
-        Job job = jobService.findJobByName(jobName);
-        List<BuildResult<Build>> buildResults = buildService.createBuildResultsForTool(job, toolName);
-        NewVersusFixedTrendChart trendChart = new NewVersusFixedTrendChart();
+    public LinesChartModel getNewVersusFixedTrendChartForTool(final String jobName, final String toolName, final BuildWindow window, final int maxPoints) {
+        List<BuildResult<Build>> buildResults = buildService.createBuildResultsForTool(findBuilds(jobName, window), toolName);
+        NewVersusFixedTrendChart trendChart = new NewVersusFixedTrendChart(maxPoints);
 
-        return trendChart.create(buildResults, new ChartModelConfiguration());
+        return trendChart.create(buildResults, new WindowedChartModelConfiguration());
     }
 
     /**
@@ -231,6 +289,124 @@ public class UiService {
         return resultService.getIssuesByToolIdAndIssueType(build, toolId, issueType);
     }
 
+    /**
+     * Method to compare the issues of a tool in two builds of a job.
+     *
+     * @param jobName   the name of the job
+     * @param fromBuild the number of the first build
+     * @param toBuild   the number of the second build
+     * @param toolId    the tool id (e.g. checkstyle)
+     * @param type      the type of the issues of the rows (e.g. added, removed or unchanged)
+     * @param page      the number of the page of the rows, starting with 0
+     * @param pageSize  the maximum number of rows of the page
+     * @return the {@link IssueDiff}
+     */
+    public IssueDiff getIssueDiff(final String jobName, final int fromBuild, final int toBuild, final String toolId,
+            final String type, final int page, final int pageSize) {
+        return issueDiffService.diff(jobName, fromBuild, toBuild, toolId, type, page, pageSize);
+    }
+
+    /**
+     * Method to search for issues of all jobs.
+     *
+     * @param text     the text to search for, may be empty
+     * @param jobName  the name of the job to filter, or {@code null} for all jobs
+     * @param toolId   the tool id to filter, or {@code null} for all tools
+     * @param severity the severity to filter, or {@code null} for all severities
+     * @param page     the number of the page, starting with 0
+     * @param pageSize the maximum number of hits of a page
+     * @return the {@link IssueSearchResult}
+     */
+    public IssueSearchResult searchIssues(final String text, final String jobName, final String toolId,
+            final String severity, final int page, final int pageSize) {
+        return issueSearchService.search(text, jobName, toolId, severity, page, pageSize);
+    }
+
+    /**
+     * Method to get the lifecycle of an issue, e.g. to show the age of the issue.
+     *
+     * @param jobName     the name of the job
+     * @param toolId      the tool id (e.g. checkstyle)
+     * @param fingerprint the fingerprint of the issue
+     * @return the {@link IssueLifecycle}, if the issue is tracked
+     */
+    public Optional<IssueLifecycle> getIssueLifecycle(final String jobName, final String toolId, final String fingerprint) {
+        return issueLifecycleService.findLifecycle(jobName, toolId, fingerprint);
+    }
+
+    /**
+     * Method to get the open issues of a job that are open for the longest time.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of issues
+     * @return the {@link IssueLifecycle}s, the oldest issue first
+     */
+    public List<IssueLifecycle> getOldestOpenIssues(final String jobName, final int limit) {
+        return issueLifecycleService.findOldestOpenIssues(jobName, limit);
+    }
+
+    /**
+     * Method to count the issues for a tool of a build per value of the columns of the issue table.
+     *
+     * @param jobName     the name of the job
+     * @param buildNumber the build number
+     * @param toolId      the tool id (e.g. checkstyle)
+     * @param issueType   the issue type (e.g. total, outstanding, fixed or new)
+     * @param maxValues   the maximum number of values of a facet
+     * @return the {@link IssueFacets}
+     */
+    public IssueFacets getIssueFacets(final String jobName, final Integer buildNumber, final String toolId,
+            final String issueType, final int maxValues) {
+        return issueFacetService.getFacets(jobName, buildNumber, toolId, issueType, maxValues);
+    }
+
+    /**
+     * Method to rank the files or packages of a job by their warnings of a tool over the history of the job.
+     *
+     * @param jobName the name of the job
+     * @param toolId  the tool id (e.g. checkstyle)
+     * @param kind    the kind of the hot spots (file or package)
+     * @param metric  the metric to rank by (warningWeeks, warningBuilds, churn or current)
+     * @param limit   the maximum number of hot spots
+     * @return the {@link Hotspot}s, the highest value first
+     */
+    public List<Hotspot> getHotspots(final String jobName, final String toolId, final String kind, final String metric,
+            final int limit) {
+        return hotspotService.findHotspots(jobName, toolId, kind, metric, limit);
+    }
+
+    /**
+     * Method to get the anomalies in the trends of the tools of a job.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of anomalies
+     * @return the {@link Anomaly}s, the latest build first
+     */
+    public List<Anomaly> getAnomalies(final String jobName, final int limit) {
+        return anomalyService.findAnomalies(jobName, limit);
+    }
+
+    /**
+     * Method that prepares the trend of the quality gates of a job as {@link LinesChartModel} to display an echart.
+     *
+     * @param jobName   the name of the job
+     * @param builds    the maximum number of builds
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel getQualityGateTrendChart(final String jobName, final int builds, final int maxPoints) {
+        return qualityGateService.createTrendChart(jobName, builds, maxPoints);
+    }
+
+    /**
+     * Method to get the streaks and pass rates of the quality gates of all jobs.
+     *
+     * @return the {@link QualityGateSummary}s, ordered by job and tool
+     */
+    public List<QualityGateSummary> getQualityGateSummaries() {
+        return qualityGateService.findSummaries();
+    }
+
     /**
      * Method that returns the information messages for a {@link Result} by given {@link Build} and tool id.
      *
@@ -265,14 +441,49 @@ public class UiService {
      *
      * @param jobName  the name of the project
      * @param toolName the used tool
+     * @param window   the {@link BuildWindow} of the builds to show
+     * @param maxPoints the maximum number of points of the chart, 0 to show all builds
      * @return the {@link LinesChartModel} the LinesChartModel for the severity
      */
-    public LinesChartModel getSeverityTrendChartForTool(final String jobName, final String toolName) {
-        Job job = jobService.findJobByName(jobName);
-        List<BuildResult<Build>> results = buildService.createBuildResultsForTool(job, toolName);
-        SeverityTrendChart severityTrendChart = new SeverityTrendChart();
+    public LinesChartModel getSeverityTrendChartForTool(final String jobName, final String toolName, final BuildWindow window, final int maxPoints) {
+        List<BuildResult<Build>> results = buildService.createBuildResultsForTool(findBuilds(jobName, window), toolName);
+        SeverityTrendChart severityTrendChart = new SeverityTrendChart(maxPoints);
+
+        return severityTrendChart.create(results, new WindowedChartModelConfiguration());
+    }
+
+    /**
+     * Method to get the latest {@link SyncRun}s of the {@link AppStartupRunner}.
+     *
+     * @return the latest {@link SyncRun}s, the newest run first
+     */
+    public List<SyncRun> getSyncRuns() {
+        return syncJournalService.getLatestRuns();
+    }
 
-        return severityTrendChart.create(results, new ChartModelConfiguration());
+    /**
+     * Method to get the recorded {@link SyncPhase}s of a {@link SyncRun}.
+     *
+     * @param syncRunId the id of the {@link SyncRun}
+     * @return the {@link SyncPhase}s of the run
+     */
+    public List<SyncPhase> getSyncPhases(final int syncRunId) {
+        return syncJournalService.getPhases(syncRunId);
     }
 
+    /**
+     * Finds the {@link Build}s of a {@link Job} to show. Unless all builds are requested, only the builds of the window
+     * are read from the database.
+     *
+     * @param jobName the name of the job
+     * @param window  the {@link BuildWindow}
+     * @return the {@link Build}s
+     */
+    private List<Build> findBuilds(final String jobName, final BuildWindow window) {
+        if (window.isAll()) {
+            return jobService.findJobByName(jobName).getBuilds();
+        }
+
+        return buildService.findBuilds(jobName, window);
+    }
 }
@@ -0,0 +1,96 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+
+/**
+ * A {@link Build} that is still running in Jenkins and is checked again until it has been completed.
+ */
+class WatchedBuild {
+    private final Job jobReference;
+    private final Build build;
+    private long nextCheckInMillis;
+    private long delayInMillis;
+    private int polls;
+
+    /**
+     * Creates a new instance of {@link WatchedBuild}.
+     *
+     * @param jobReference      the stored {@link Job} without its builds
+     * @param build             the running {@link Build}
+     * @param nextCheckInMillis the time of the first check
+     * @param delayInMillis     the delay before the first check
+     */
+    WatchedBuild(final Job jobReference, final Build build, final long nextCheckInMillis, final long delayInMillis) {
+        this.jobReference = jobReference;
+        this.build = build;
+        this.nextCheckInMillis = nextCheckInMillis;
+        this.delayInMillis = delayInMillis;
+    }
+
+    /**
+     * Returns the stored {@link Job} without its builds.
+     *
+     * @return the job reference
+     */
+    Job getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * Returns the running {@link Build}.
+     *
+     * @return the build
+     */
+    Build getBuild() {
+        return build;
+    }
+
+    /**
+     * Returns the time of the next check.
+     *
+     * @return the time in milliseconds
+     */
+    long getNextCheckInMillis() {
+        return nextCheckInMillis;
+    }
+
+    /**
+     * Returns the current delay between two checks.
+     *
+     * @return the delay in milliseconds
+     */
+    long getDelayInMillis() {
+        return delayInMillis;
+    }
+
+    /**
+     * Returns the number of checks so far.
+     *
+     * @return the number of checks
+     */
+    int getPolls() {
+        return polls;
+    }
+
+    /**
+     * Schedules the next check after the build has been found still running. The delay is doubled with every check.
+     *
+     * @param now              the current time in milliseconds
+     * @param maxDelayInMillis   the upper bound of the delay
+     */
+    void backOff(final long now, final long maxDelayInMillis) {
+        polls++;
+        delayInMillis = Math.min(delayInMillis * 2, maxDelayInMillis);
+        nextCheckInMillis = now + delayInMillis;
+    }
+
+    /**
+     * Returns the key that identifies the {@link Build} of the {@link Job}.
+     *
+     * @return the key
+     */
+    String getKey() {
+        return jobReference.getName() + "#" + build.getNumber();
+    }
+}
@@ -0,0 +1,377 @@
+package edu.hm.hafner.dashboard.service.columnar;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Severity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact in-memory representation of the issues of a report for analytics queries. Every attribute is stored in a
+ * column instead of an {@link Issue} object per row: the attributes with few distinct values (see {@link Column}) are
+ * dictionary-encoded as {@code int} codes, the locations are stored in {@code int} arrays. So counting and filtering
+ * are loops over primitive arrays that do not allocate any objects.
+ *
+ * <p>
+ * A {@link ColumnarReport} is immutable, it is created with a {@link Builder}.
+ * </p>
+ */
+public final class ColumnarReport {
+    /** The value of an attribute that is not set. */
+    public static final String UNDEFINED = "-";
+    /** The code of a value that is not part of a column. */
+    public static final int NOT_FOUND = -1;
+
+    /**
+     * The dictionary-encoded columns of a {@link ColumnarReport}.
+     */
+    public enum Column {
+        CATEGORY,
+        MODULE_NAME,
+        PACKAGE_NAME,
+        FILE_NAME,
+        TYPE,
+        SEVERITY
+    }
+
+    private static final int COLUMNS = Column.values().length;
+
+    private final int size;
+    private final String[][] dictionaries;
+    private final List<Map<String, Integer>> codesByValue;
+    private final int[][] codes;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final int[] columnStarts;
+    private final int[] columnEnds;
+
+    private ColumnarReport(final Builder builder) {
+        size = builder.size;
+        dictionaries = new String[COLUMNS][];
+        codesByValue = new ArrayList<>(COLUMNS);
+        codes = new int[COLUMNS][];
+        for (int column = 0; column < COLUMNS; column++) {
+            dictionaries[column] = builder.dictionaries.get(column).toArray(new String[0]);
+            codesByValue.add(builder.codesByValue.get(column));
+            codes[column] = Arrays.copyOf(builder.codes[column], size);
+        }
+        lineStarts = Arrays.copyOf(builder.lineStarts, size);
+        lineEnds = Arrays.copyOf(builder.lineEnds, size);
+        columnStarts = Arrays.copyOf(builder.columnStarts, size);
+        columnEnds = Arrays.copyOf(builder.columnEnds, size);
+    }
+
+    /**
+     * Creates a {@link ColumnarReport} with the given issues.
+     *
+     * @param issues the issues, e.g. a {@link edu.hm.hafner.analysis.Report}
+     * @return the {@link ColumnarReport}
+     */
+    public static ColumnarReport of(final Iterable<Issue> issues) {
+        Builder builder = new Builder();
+        issues.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of issues.
+     *
+     * @return the number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct values of a column.
+     *
+     * @param column the column
+     * @return the number of distinct values, the codes of the column are {@code 0} to this number (exclusive)
+     */
+    public int getDistinctValues(final Column column) {
+        return dictionaries[column.ordinal()].length;
+    }
+
+    /**
+     * Returns the value of a code of a column.
+     *
+     * @param column the column
+     * @param code   the code
+     * @return the value
+     */
+    public String getValue(final Column column, final int code) {
+        return dictionaries[column.ordinal()][code];
+    }
+
+    /**
+     * Returns the code of a value of a column.
+     *
+     * @param column the column
+     * @param value  the value
+     * @return the code, or {@link #NOT_FOUND} if no issue has this value
+     */
+    public int getCode(final Column column, final String value) {
+        Integer code = codesByValue.get(column.ordinal()).get(normalize(value));
+        return code == null ? NOT_FOUND : code;
+    }
+
+    /**
+     * Returns the code of the value of an issue in a column.
+     *
+     * @param column the column
+     * @param row    the index of the issue
+     * @return the code
+     */
+    public int getCode(final Column column, final int row) {
+        return codes[column.ordinal()][row];
+    }
+
+    /**
+     * Returns the first line of an issue.
+     *
+     * @param row the index of the issue
+     * @return the first line
+     */
+    public int getLineStart(final int row) {
+        return lineStarts[row];
+    }
+
+    /**
+     * Returns the last line of an issue.
+     *
+     * @param row the index of the issue
+     * @return the last line
+     */
+    public int getLineEnd(final int row) {
+        return lineEnds[row];
+    }
+
+    /**
+     * Returns the first column of an issue.
+     *
+     * @param row the index of the issue
+     * @return the first column
+     */
+    public int getColumnStart(final int row) {
+        return columnStarts[row];
+    }
+
+    /**
+     * Returns the last column of an issue.
+     *
+     * @param row the index of the issue
+     * @return the last column
+     */
+    public int getColumnEnd(final int row) {
+        return columnEnds[row];
+    }
+
+    /**
+     * Returns the number of issues with a severity.
+     *
+     * @param severity the severity
+     * @return the number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return getSizeOf(Column.SEVERITY, severity.getName());
+    }
+
+    /**
+     * Returns the number of issues with a value in a column.
+     *
+     * @param column the column
+     * @param value  the value
+     * @return the number of issues
+     */
+    public int getSizeOf(final Column column, final String value) {
+        int code = getCode(column, value);
+        if (code == NOT_FOUND) {
+            return 0;
+        }
+        int[] values = codes[column.ordinal()];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (values[row] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the issues per value of a column. The counts are added to the given array.
+     *
+     * @param column the column
+     * @param counts the counts per code, at least {@link #getDistinctValues(Column)} long
+     */
+    public void countValues(final Column column, final int[] counts) {
+        int[] values = codes[column.ordinal()];
+        for (int row = 0; row < size; row++) {
+            counts[values[row]]++;
+        }
+    }
+
+    /**
+     * Counts selected issues per value of a column. The counts are added to the given array.
+     *
+     * @param column   the column
+     * @param rows     the indices of the selected issues, see {@link #select(Column, String, int[])}
+     * @param rowCount the number of selected issues
+     * @param counts   the counts per code, at least {@link #getDistinctValues(Column)} long
+     */
+    public void countValues(final Column column, final int[] rows, final int rowCount, final int[] counts) {
+        int[] values = codes[column.ordinal()];
+        for (int index = 0; index < rowCount; index++) {
+            counts[values[rows[index]]]++;
+        }
+    }
+
+    /**
+     * Selects the issues with a value in a column.
+     *
+     * @param column the column
+     * @param value  the value
+     * @param rows   the array to write the indices of the selected issues to, at least {@link #size()} long
+     * @return the number of selected issues
+     */
+    public int select(final Column column, final String value, final int[] rows) {
+        int code = getCode(column, value);
+        if (code == NOT_FOUND) {
+            return 0;
+        }
+        int[] values = codes[column.ordinal()];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (values[row] == code) {
+                rows[count++] = row;
+            }
+        }
+        return count;
+    }
+
+    private static String normalize(final String value) {
+        return value == null || value.isEmpty() ? UNDEFINED : value;
+    }
+
+    /**
+     * Creates a {@link ColumnarReport} row by row.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final List<List<String>> dictionaries = new ArrayList<>(COLUMNS);
+        private final List<Map<String, Integer>> codesByValue = new ArrayList<>(COLUMNS);
+        private int[][] codes = new int[COLUMNS][INITIAL_CAPACITY];
+        private int[] lineStarts = new int[INITIAL_CAPACITY];
+        private int[] lineEnds = new int[INITIAL_CAPACITY];
+        private int[] columnStarts = new int[INITIAL_CAPACITY];
+        private int[] columnEnds = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Creates a new instance of {@link Builder} without issues.
+         */
+        public Builder() {
+            for (int column = 0; column < COLUMNS; column++) {
+                dictionaries.add(new ArrayList<>());
+                codesByValue.add(new HashMap<>());
+            }
+        }
+
+        /**
+         * Adds an issue.
+         *
+         * @param issue the issue
+         * @return this builder
+         */
+        public Builder add(final Issue issue) {
+            return add(issue.getCategory(), issue.getModuleName(), issue.getPackageName(), issue.getFileName(),
+                    issue.getType(), issue.getSeverity().getName(), issue.getLineStart(), issue.getLineEnd(),
+                    issue.getColumnStart(), issue.getColumnEnd());
+        }
+
+        /**
+         * Adds an issue without a location, e.g. the properties of an issue that are read from the database.
+         *
+         * @param category    the category
+         * @param moduleName  the name of the module
+         * @param packageName the name of the package
+         * @param fileName    the name of the file
+         * @param type        the type
+         * @param severity    the name of the severity
+         * @return this builder
+         */
+        public Builder add(final String category, final String moduleName, final String packageName,
+                final String fileName, final String type, final String severity) {
+            return add(category, moduleName, packageName, fileName, type, severity, 0, 0, 0, 0);
+        }
+
+        /**
+         * Adds an issue.
+         *
+         * @param category    the category
+         * @param moduleName  the name of the module
+         * @param packageName the name of the package
+         * @param fileName    the name of the file
+         * @param type        the type
+         * @param severity    the name of the severity
+         * @param lineStart   the first line
+         * @param lineEnd     the last line
+         * @param columnStart the first column
+         * @param columnEnd   the last column
+         * @return this builder
+         */
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        public Builder add(final String category, final String moduleName, final String packageName,
+                final String fileName, final String type, final String severity, final int lineStart,
+                final int lineEnd, final int columnStart, final int columnEnd) {
+            if (size == lineStarts.length) {
+                grow();
+            }
+            encode(Column.CATEGORY, category);
+            encode(Column.MODULE_NAME, moduleName);
+            encode(Column.PACKAGE_NAME, packageName);
+            encode(Column.FILE_NAME, fileName);
+            encode(Column.TYPE, type);
+            encode(Column.SEVERITY, severity);
+            lineStarts[size] = lineStart;
+            lineEnds[size] = lineEnd;
+            columnStarts[size] = columnStart;
+            columnEnds[size] = columnEnd;
+            size++;
+            return this;
+        }
+
+        private void encode(final Column column, final String value) {
+            List<String> dictionary = dictionaries.get(column.ordinal());
+            codes[column.ordinal()][size] = codesByValue.get(column.ordinal()).computeIfAbsent(normalize(value),
+                    key -> {
+                        dictionary.add(key);
+                        return dictionary.size() - 1;
+                    });
+        }
+
+        private void grow() {
+            int capacity = size * 2;
+            for (int column = 0; column < COLUMNS; column++) {
+                codes[column] = Arrays.copyOf(codes[column], capacity);
+            }
+            lineStarts = Arrays.copyOf(lineStarts, capacity);
+            lineEnds = Arrays.copyOf(lineEnds, capacity);
+            columnStarts = Arrays.copyOf(columnStarts, capacity);
+            columnEnds = Arrays.copyOf(columnEnds, capacity);
+        }
+
+        /**
+         * Creates the {@link ColumnarReport} with the added issues.
+         *
+         * @return the {@link ColumnarReport}
+         */
+        public ColumnarReport build() {
+            return new ColumnarReport(this);
+        }
+    }
+}
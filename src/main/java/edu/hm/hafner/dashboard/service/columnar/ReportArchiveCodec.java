@@ -0,0 +1,248 @@
+package edu.hm.hafner.dashboard.service.columnar;
+
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.ReportEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes the issues of the reports of a result into a compact binary archive and back. The archive is columnar: every
+ * attribute of the issues is written as one column, the text attributes are dictionary-encoded, so every distinct file
+ * name or category is stored only once, and the codes and numbers are written as variable length integers. The whole
+ * archive is compressed with deflate.
+ */
+public final class ReportArchiveCodec {
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final List<Function<IssueEntity, String>> TEXT_COLUMNS = new ArrayList<>();
+    private static final List<ToIntFunction<IssueEntity>> NUMBER_COLUMNS = new ArrayList<>();
+
+    static {
+        TEXT_COLUMNS.add(IssueEntity::getCategory);
+        TEXT_COLUMNS.add(IssueEntity::getDescription);
+        TEXT_COLUMNS.add(IssueEntity::getFileName);
+        TEXT_COLUMNS.add(IssueEntity::getFingerprint);
+        TEXT_COLUMNS.add(IssueEntity::getMessage);
+        TEXT_COLUMNS.add(IssueEntity::getModuleName);
+        TEXT_COLUMNS.add(IssueEntity::getOrigin);
+        TEXT_COLUMNS.add(IssueEntity::getPackageName);
+        TEXT_COLUMNS.add(IssueEntity::getReference);
+        TEXT_COLUMNS.add(IssueEntity::getSeverity);
+        TEXT_COLUMNS.add(IssueEntity::getType);
+
+        NUMBER_COLUMNS.add(IssueEntity::getColumnStart);
+        NUMBER_COLUMNS.add(IssueEntity::getColumnEnd);
+        NUMBER_COLUMNS.add(IssueEntity::getLineStart);
+        NUMBER_COLUMNS.add(IssueEntity::getLineEnd);
+    }
+
+    private ReportArchiveCodec() {
+        // prevents instantiation
+    }
+
+    /**
+     * Encodes the issues of reports.
+     *
+     * @param reports the {@link ReportEntity}s with their issues
+     * @return the compressed archive
+     */
+    public static byte[] encode(final List<ReportEntity> reports) {
+        List<IssueEntity> issues = new ArrayList<>();
+        List<WarningTypeEntity> warningTypes = new ArrayList<>();
+        for (ReportEntity report : reports) {
+            for (IssueEntity issue : report.getIssues()) {
+                issues.add(issue);
+                warningTypes.add(report.getWarningTypeEntity());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes, deflater, BUFFER_SIZE))) {
+            output.writeInt(VERSION);
+            writeNumber(output, issues.size());
+            for (WarningTypeEntity warningType : warningTypes) {
+                output.writeByte(warningType.ordinal());
+            }
+            for (IssueEntity issue : issues) {
+                output.writeLong(issue.getId().getMostSignificantBits());
+            }
+            for (IssueEntity issue : issues) {
+                output.writeLong(issue.getId().getLeastSignificantBits());
+            }
+            for (Function<IssueEntity, String> column : TEXT_COLUMNS) {
+                writeTextColumn(output, issues, column);
+            }
+            for (ToIntFunction<IssueEntity> column : NUMBER_COLUMNS) {
+                for (IssueEntity issue : issues) {
+                    writeNumber(output, column.applyAsInt(issue));
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeTextColumn(final DataOutputStream output, final List<IssueEntity> issues,
+            final Function<IssueEntity, String> column) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] values = new int[issues.size()];
+        for (int row = 0; row < values.length; row++) {
+            String value = column.apply(issues.get(row));
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            values[row] = code;
+        }
+
+        writeNumber(output, dictionary.size());
+        for (String value : dictionary) {
+            if (value == null) {
+                writeNumber(output, 0);
+            }
+            else {
+                byte[] text = value.getBytes(StandardCharsets.UTF_8);
+                writeNumber(output, text.length + 1);
+                output.write(text);
+            }
+        }
+        for (int value : values) {
+            writeNumber(output, value);
+        }
+    }
+
+    /**
+     * Decodes the issues of an archive.
+     *
+     * @param archive the compressed archive
+     * @return the {@link IssueEntity}s per type of the report, in the order of the encoded reports
+     * @throws IllegalArgumentException if the archive has an unknown format
+     */
+    public static Map<WarningTypeEntity, List<IssueEntity>> decode(final byte[] archive) {
+        Inflater inflater = new Inflater();
+        try (DataInputStream input = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(archive), inflater, BUFFER_SIZE))) {
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported version of the archive: " + version);
+            }
+            int size = readNumber(input);
+            WarningTypeEntity[] warningTypes = new WarningTypeEntity[size];
+            for (int row = 0; row < size; row++) {
+                warningTypes[row] = WarningTypeEntity.values()[input.readByte()];
+            }
+            long[] mostSignificantBits = new long[size];
+            for (int row = 0; row < size; row++) {
+                mostSignificantBits[row] = input.readLong();
+            }
+            long[] leastSignificantBits = new long[size];
+            for (int row = 0; row < size; row++) {
+                leastSignificantBits[row] = input.readLong();
+            }
+            String[][] texts = new String[TEXT_COLUMNS.size()][];
+            for (int column = 0; column < texts.length; column++) {
+                texts[column] = readTextColumn(input, size);
+            }
+            int[][] numbers = new int[NUMBER_COLUMNS.size()][size];
+            for (int[] column : numbers) {
+                for (int row = 0; row < size; row++) {
+                    column[row] = readNumber(input);
+                }
+            }
+
+            Map<WarningTypeEntity, List<IssueEntity>> issues = new EnumMap<>(WarningTypeEntity.class);
+            for (WarningTypeEntity warningType : WarningTypeEntity.values()) {
+                issues.put(warningType, new ArrayList<>());
+            }
+            for (int row = 0; row < size; row++) {
+                issues.get(warningTypes[row]).add(new IssueEntity(
+                        new UUID(mostSignificantBits[row], leastSignificantBits[row]),
+                        numbers[0][row], numbers[1][row], numbers[2][row], numbers[3][row],
+                        texts[0][row], texts[1][row], texts[2][row], texts[3][row], texts[4][row], texts[5][row],
+                        texts[6][row], texts[7][row], texts[8][row], texts[9][row], texts[10][row]));
+            }
+            return issues;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    private static String[] readTextColumn(final DataInputStream input, final int size) throws IOException {
+        String[] dictionary = new String[readNumber(input)];
+        for (int code = 0; code < dictionary.length; code++) {
+            int length = readNumber(input);
+            if (length > 0) {
+                byte[] text = new byte[length - 1];
+                input.readFully(text);
+                dictionary[code] = new String(text, StandardCharsets.UTF_8);
+            }
+        }
+        String[] values = new String[size];
+        for (int row = 0; row < size; row++) {
+            values[row] = dictionary[readNumber(input)];
+        }
+        return values;
+    }
+
+    /**
+     * Writes a number as zigzag encoded variable length integer, so small positive and negative numbers take one byte.
+     *
+     * @param output the output
+     * @param number the number
+     * @throws IOException if the number can't be written
+     */
+    private static void writeNumber(final DataOutputStream output, final int number) throws IOException {
+        int value = (number << 1) ^ (number >> 31);
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readNumber(final DataInputStream input) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int next;
+        do {
+            next = input.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        }
+        while ((next & 0x80) != 0);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,137 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents an {@link Anomaly}, i.e. a value of a metric of a tool in a build that deviates strongly from the
+ * previous builds of the job.
+ */
+public class Anomaly implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String tool;
+    private final String toolName;
+    private final String metric;
+    private final int buildNumber;
+    private final long timestamp;
+    private int value;
+    private double expected;
+    private double score;
+
+    /**
+     * Creates a new instance of an {@link Anomaly}.
+     *
+     * @param tool        the id of the tool
+     * @param toolName    the name of the tool
+     * @param metric      the name of the metric
+     * @param buildNumber the number of the build
+     * @param timestamp   the start time of the build in milliseconds since the epoch
+     */
+    public Anomaly(final String tool, final String toolName, final String metric, final int buildNumber,
+            final long timestamp) {
+        this.tool = tool;
+        this.toolName = toolName;
+        this.metric = metric;
+        this.buildNumber = buildNumber;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getToolName() {
+        return toolName;
+    }
+
+    /**
+     * Returns the name of the metric.
+     *
+     * @return the name of the metric
+     */
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * Returns the number of the build.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Returns the start time of the build in milliseconds since the epoch.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the value of the metric in the build.
+     *
+     * @return the value of the metric in the build
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Setter to set the value of the metric in the build.
+     *
+     * @param value the value of the metric in the build
+     */
+    public void setValue(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value that has been expected from the previous builds.
+     *
+     * @return the value that has been expected from the previous builds
+     */
+    public double getExpected() {
+        return expected;
+    }
+
+    /**
+     * Setter to set the value that has been expected from the previous builds.
+     *
+     * @param expected the value that has been expected from the previous builds
+     */
+    public void setExpected(final double expected) {
+        this.expected = expected;
+    }
+
+    /**
+     * Returns the robust z-score of the value.
+     *
+     * @return the robust z-score of the value
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Setter to set the robust z-score of the value.
+     *
+     * @param score the robust z-score of the value
+     */
+    public void setScore(final double score) {
+        this.score = score;
+    }
+}
@@ -2,16 +2,22 @@ package edu.hm.hafner.dashboard.service.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * DTO that represents a {@link Build}.
  */
-public class Build {
+public class Build implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int id;
     private int number;
     private String url;
+    private boolean building;
+    private long timestamp;
+    private long duration;
     @JsonIgnoreProperties("builds")
     private Job job;
     private List<Result> results;
@@ -93,6 +99,60 @@ public class Build {
         this.url = url;
     }
 
+    /**
+     * Returns whether the {@link Build} is still running in Jenkins, i.e. its results are not final yet.
+     *
+     * @return {@code true} if the build is still running
+     */
+    public boolean isBuilding() {
+        return building;
+    }
+
+    /**
+     * Setter to set whether the {@link Build} is still running in Jenkins.
+     *
+     * @param building {@code true} if the build is still running
+     */
+    public void setBuilding(final boolean building) {
+        this.building = building;
+    }
+
+    /**
+     * Returns the start time of the {@link Build} in milliseconds since the epoch, as reported by Jenkins.
+     *
+     * @return the timestamp, 0 if unknown
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Setter to set the start time of the {@link Build} in milliseconds since the epoch.
+     *
+     * @param timestamp the timestamp
+     */
+    public void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the duration of the {@link Build} in milliseconds, as reported by Jenkins.
+     *
+     * @return the duration, 0 if unknown or if the build is still running
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Setter to set the duration of the {@link Build} in milliseconds.
+     *
+     * @param duration the duration
+     */
+    public void setDuration(final long duration) {
+        this.duration = duration;
+    }
+
     /**
      * Returns the {@link Job} of the {@link Build}.
      *
@@ -0,0 +1,83 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+/**
+ * DTO that represents a notification of Jenkins about a completed {@link Build}.
+ */
+public class BuildNotification {
+    private String controller;
+    private String jobName;
+    private int buildNumber;
+    private String url;
+
+    /**
+     * Returns the name of the Jenkins controller that sent the notification.
+     *
+     * @return the name of the controller or {@code null} for the default controller
+     */
+    public String getController() {
+        return controller;
+    }
+
+    /**
+     * Setter to set the name of the Jenkins controller that sent the notification.
+     *
+     * @param controller the name of the controller
+     */
+    public void setController(final String controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Returns the full name of the job, nested jobs are separated by a slash (e.g. folder/job).
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Setter to set the full name of the job.
+     *
+     * @param jobName the name of the job
+     */
+    public void setJobName(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the number of the completed build.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Setter to set the number of the completed build.
+     *
+     * @param buildNumber the build number
+     */
+    public void setBuildNumber(final int buildNumber) {
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the url of the completed build.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Setter to set the url of the completed build.
+     *
+     * @param url the url
+     */
+    public void setUrl(final String url) {
+        this.url = url;
+    }
+}
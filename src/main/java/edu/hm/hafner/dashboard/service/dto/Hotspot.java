@@ -0,0 +1,214 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents a {@link Hotspot}, i.e. a file or a package of a job, with the counters of its warnings over the
+ * history of the job.
+ */
+public class Hotspot implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String kind;
+    private final String name;
+    private int currentCount;
+    private int peakCount;
+    private long warningBuilds;
+    private double warningWeeks;
+    private long newCount;
+    private long fixedCount;
+    private long churn;
+    private int firstBuild;
+    private int lastBuild;
+
+    /**
+     * Creates a new instance of a {@link Hotspot}.
+     *
+     * @param kind the kind of the hot spot, a file or a package
+     * @param name the name of the file or package
+     */
+    public Hotspot(final String kind, final String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    /**
+     * Returns the kind of the hot spot.
+     *
+     * @return the kind of the hot spot
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the name of the file or package.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of warnings in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getCurrentCount() {
+        return currentCount;
+    }
+
+    /**
+     * Setter to set the number of warnings in the latest build.
+     *
+     * @param currentCount the number of warnings
+     */
+    public void setCurrentCount(final int currentCount) {
+        this.currentCount = currentCount;
+    }
+
+    /**
+     * Returns the maximum number of warnings in a build.
+     *
+     * @return the number of warnings
+     */
+    public int getPeakCount() {
+        return peakCount;
+    }
+
+    /**
+     * Setter to set the maximum number of warnings in a build.
+     *
+     * @param peakCount the number of warnings
+     */
+    public void setPeakCount(final int peakCount) {
+        this.peakCount = peakCount;
+    }
+
+    /**
+     * Returns the sum of the warnings of all builds.
+     *
+     * @return the number of warnings times builds
+     */
+    public long getWarningBuilds() {
+        return warningBuilds;
+    }
+
+    /**
+     * Setter to set the sum of the warnings of all builds.
+     *
+     * @param warningBuilds the number of warnings times builds
+     */
+    public void setWarningBuilds(final long warningBuilds) {
+        this.warningBuilds = warningBuilds;
+    }
+
+    /**
+     * Returns the sum of the warnings of all builds, weighted with the weeks until the next build.
+     *
+     * @return the number of warnings times weeks
+     */
+    public double getWarningWeeks() {
+        return warningWeeks;
+    }
+
+    /**
+     * Setter to set the sum of the warnings of all builds, weighted with the weeks until the next build.
+     *
+     * @param warningWeeks the number of warnings times weeks
+     */
+    public void setWarningWeeks(final double warningWeeks) {
+        this.warningWeeks = warningWeeks;
+    }
+
+    /**
+     * Returns the number of new issues of all builds.
+     *
+     * @return the number of new issues
+     */
+    public long getNewCount() {
+        return newCount;
+    }
+
+    /**
+     * Setter to set the number of new issues of all builds.
+     *
+     * @param newCount the number of new issues
+     */
+    public void setNewCount(final long newCount) {
+        this.newCount = newCount;
+    }
+
+    /**
+     * Returns the number of fixed issues of all builds.
+     *
+     * @return the number of fixed issues
+     */
+    public long getFixedCount() {
+        return fixedCount;
+    }
+
+    /**
+     * Setter to set the number of fixed issues of all builds.
+     *
+     * @param fixedCount the number of fixed issues
+     */
+    public void setFixedCount(final long fixedCount) {
+        this.fixedCount = fixedCount;
+    }
+
+    /**
+     * Returns the number of new and fixed issues of all builds.
+     *
+     * @return the churn
+     */
+    public long getChurn() {
+        return churn;
+    }
+
+    /**
+     * Setter to set the number of new and fixed issues of all builds.
+     *
+     * @param churn the churn
+     */
+    public void setChurn(final long churn) {
+        this.churn = churn;
+    }
+
+    /**
+     * Returns the number of the first build with warnings.
+     *
+     * @return the build number
+     */
+    public int getFirstBuild() {
+        return firstBuild;
+    }
+
+    /**
+     * Setter to set the number of the first build with warnings.
+     *
+     * @param firstBuild the build number
+     */
+    public void setFirstBuild(final int firstBuild) {
+        this.firstBuild = firstBuild;
+    }
+
+    /**
+     * Returns the number of the last build with warnings.
+     *
+     * @return the build number
+     */
+    public int getLastBuild() {
+        return lastBuild;
+    }
+
+    /**
+     * Setter to set the number of the last build with warnings.
+     *
+     * @param lastBuild the build number
+     */
+    public void setLastBuild(final int lastBuild) {
+        this.lastBuild = lastBuild;
+    }
+}
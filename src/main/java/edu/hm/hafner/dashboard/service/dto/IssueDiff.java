@@ -0,0 +1,197 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO that represents the {@link IssueDiff} of the issues of a tool in two builds of a job. The counts cover all issues,
+ * the rows are one page of the issues of the requested type.
+ */
+public class IssueDiff implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The type of the issues that are only reported in the second build. */
+    public static final String ADDED = "added";
+    /** The type of the issues that are only reported in the first build. */
+    public static final String REMOVED = "removed";
+    /** The type of the issues that are reported in both builds. */
+    public static final String UNCHANGED = "unchanged";
+
+    private final String tool;
+    private final int fromBuild;
+    private final int toBuild;
+    private int addedSize;
+    private int removedSize;
+    private int unchangedSize;
+    private String type;
+    private int page;
+    private int pageSize;
+    private List<IssueDiffRow> rows = new ArrayList<>();
+
+    /**
+     * Creates a new instance of an {@link IssueDiff}.
+     *
+     * @param tool      the id of the tool
+     * @param fromBuild the number of the first build
+     * @param toBuild   the number of the second build
+     */
+    public IssueDiff(final String tool, final int fromBuild, final int toBuild) {
+        this.tool = tool;
+        this.fromBuild = fromBuild;
+        this.toBuild = toBuild;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the number of the first build.
+     *
+     * @return the build number
+     */
+    public int getFromBuild() {
+        return fromBuild;
+    }
+
+    /**
+     * Returns the number of the second build.
+     *
+     * @return the build number
+     */
+    public int getToBuild() {
+        return toBuild;
+    }
+
+    /**
+     * Returns the number of issues that are only reported in the second build.
+     *
+     * @return the number of added issues
+     */
+    public int getAddedSize() {
+        return addedSize;
+    }
+
+    /**
+     * Setter to set the number of issues that are only reported in the second build.
+     *
+     * @param addedSize the number of added issues
+     */
+    public void setAddedSize(final int addedSize) {
+        this.addedSize = addedSize;
+    }
+
+    /**
+     * Returns the number of issues that are only reported in the first build.
+     *
+     * @return the number of removed issues
+     */
+    public int getRemovedSize() {
+        return removedSize;
+    }
+
+    /**
+     * Setter to set the number of issues that are only reported in the first build.
+     *
+     * @param removedSize the number of removed issues
+     */
+    public void setRemovedSize(final int removedSize) {
+        this.removedSize = removedSize;
+    }
+
+    /**
+     * Returns the number of issues that are reported in both builds.
+     *
+     * @return the number of unchanged issues
+     */
+    public int getUnchangedSize() {
+        return unchangedSize;
+    }
+
+    /**
+     * Setter to set the number of issues that are reported in both builds.
+     *
+     * @param unchangedSize the number of unchanged issues
+     */
+    public void setUnchangedSize(final int unchangedSize) {
+        this.unchangedSize = unchangedSize;
+    }
+
+    /**
+     * Returns the type of the issues of the rows.
+     *
+     * @return the type, one of {@link #ADDED}, {@link #REMOVED} or {@link #UNCHANGED}
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Setter to set the type of the issues of the rows.
+     *
+     * @param type the type, one of {@link #ADDED}, {@link #REMOVED} or {@link #UNCHANGED}
+     */
+    public void setType(final String type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the number of the page of the rows, starting with 0.
+     *
+     * @return the number of the page
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Setter to set the number of the page of the rows, starting with 0.
+     *
+     * @param page the number of the page
+     */
+    public void setPage(final int page) {
+        this.page = page;
+    }
+
+    /**
+     * Returns the maximum number of rows of a page.
+     *
+     * @return the size of a page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Setter to set the maximum number of rows of a page.
+     *
+     * @param pageSize the size of a page
+     */
+    public void setPageSize(final int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the issues of the page.
+     *
+     * @return the {@link IssueDiffRow}s
+     */
+    public List<IssueDiffRow> getRows() {
+        return rows;
+    }
+
+    /**
+     * Setter to set the issues of the page.
+     *
+     * @param rows the {@link IssueDiffRow}s
+     */
+    public void setRows(final List<IssueDiffRow> rows) {
+        this.rows = rows;
+    }
+}
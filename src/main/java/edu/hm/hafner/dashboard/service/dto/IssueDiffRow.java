@@ -0,0 +1,79 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents an issue in an {@link IssueDiff} of two builds.
+ */
+public class IssueDiffRow implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String fingerprint;
+    private final String severity;
+    private final String fileName;
+    private final int lineStart;
+    private final String message;
+
+    /**
+     * Creates a new instance of an {@link IssueDiffRow}.
+     *
+     * @param fingerprint the fingerprint of the issue
+     * @param severity    the severity of the issue
+     * @param fileName    the file name of the issue
+     * @param lineStart   the first line of the issue
+     * @param message     the message of the issue
+     */
+    public IssueDiffRow(final String fingerprint, final String severity, final String fileName, final int lineStart,
+            final String message) {
+        this.fingerprint = fingerprint;
+        this.severity = severity;
+        this.fileName = fileName;
+        this.lineStart = lineStart;
+        this.message = message;
+    }
+
+    /**
+     * Returns the fingerprint of the issue.
+     *
+     * @return the fingerprint of the issue
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity of the issue
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name of the issue
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the first line of the issue.
+     *
+     * @return the first line of the issue
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Returns the message of the issue.
+     *
+     * @return the message of the issue
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,58 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * DTO that represents the {@link IssueFacets} of the issues of a tool in a build: the number of issues per value of the
+ * columns of the issue table (e.g. {@code category -> (Imports -> 12)}), the most frequent values first.
+ */
+public class IssueFacets implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int totalSize;
+    private final Map<String, Map<String, Integer>> facets;
+    private final Map<String, Integer> distinctValues;
+
+    /**
+     * Creates a new instance of {@link IssueFacets}.
+     *
+     * @param totalSize      the number of issues
+     * @param facets         the number of issues per value of each column, only the most frequent values
+     * @param distinctValues the number of distinct values of each column
+     */
+    public IssueFacets(final int totalSize, final Map<String, Map<String, Integer>> facets,
+            final Map<String, Integer> distinctValues) {
+        this.totalSize = totalSize;
+        this.facets = facets;
+        this.distinctValues = distinctValues;
+    }
+
+    /**
+     * Returns the number of issues.
+     *
+     * @return the number of issues
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Returns the number of issues per value of each column, the most frequent values first.
+     *
+     * @return the counts of the facets
+     */
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    /**
+     * Returns the number of distinct values of each column. A column has more values than shown in the facets if the
+     * number is greater than the size of its facet.
+     *
+     * @return the number of distinct values
+     */
+    public Map<String, Integer> getDistinctValues() {
+        return distinctValues;
+    }
+}
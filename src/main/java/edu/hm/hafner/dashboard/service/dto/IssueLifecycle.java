@@ -0,0 +1,232 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents the {@link IssueLifecycle} of an issue of a job and tool, identified by its fingerprint.
+ */
+public class IssueLifecycle implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String tool;
+    private final String fingerprint;
+    private String message;
+    private String fileName;
+    private int lineStart;
+    private String severity;
+    private int firstSeenBuild;
+    private long firstSeenTimestamp;
+    private int lastSeenBuild;
+    private int fixedInBuild;
+    private int reopenCount;
+
+    /**
+     * Creates a new instance of an {@link IssueLifecycle}.
+     *
+     * @param tool        the id of the tool
+     * @param fingerprint the fingerprint of the issue
+     */
+    public IssueLifecycle(final String tool, final String fingerprint) {
+        this.tool = tool;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the fingerprint of the issue.
+     *
+     * @return the fingerprint of the issue
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the message of the issue.
+     *
+     * @return the message of the issue
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Setter to set the message of the issue.
+     *
+     * @param message the message of the issue
+     */
+    public void setMessage(final String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name of the issue
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Setter to set the file name of the issue.
+     *
+     * @param fileName the file name of the issue
+     */
+    public void setFileName(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the first line of the issue.
+     *
+     * @return the first line of the issue
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Setter to set the first line of the issue.
+     *
+     * @param lineStart the first line of the issue
+     */
+    public void setLineStart(final int lineStart) {
+        this.lineStart = lineStart;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity of the issue
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Setter to set the severity of the issue.
+     *
+     * @param severity the severity of the issue
+     */
+    public void setSeverity(final String severity) {
+        this.severity = severity;
+    }
+
+    /**
+     * Returns the number of the build the issue has been seen first.
+     *
+     * @return the number of the build the issue has been seen first
+     */
+    public int getFirstSeenBuild() {
+        return firstSeenBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been seen first.
+     *
+     * @param firstSeenBuild the number of the build the issue has been seen first
+     */
+    public void setFirstSeenBuild(final int firstSeenBuild) {
+        this.firstSeenBuild = firstSeenBuild;
+    }
+
+    /**
+     * Returns the start time of the build the issue has been seen first in milliseconds since the epoch.
+     *
+     * @return the start time of the build the issue has been seen first in milliseconds since the epoch
+     */
+    public long getFirstSeenTimestamp() {
+        return firstSeenTimestamp;
+    }
+
+    /**
+     * Setter to set the start time of the build the issue has been seen first in milliseconds since the epoch.
+     *
+     * @param firstSeenTimestamp the start time of the build the issue has been seen first in milliseconds since the epoch
+     */
+    public void setFirstSeenTimestamp(final long firstSeenTimestamp) {
+        this.firstSeenTimestamp = firstSeenTimestamp;
+    }
+
+    /**
+     * Returns the number of the build the issue has been seen last.
+     *
+     * @return the number of the build the issue has been seen last
+     */
+    public int getLastSeenBuild() {
+        return lastSeenBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been seen last.
+     *
+     * @param lastSeenBuild the number of the build the issue has been seen last
+     */
+    public void setLastSeenBuild(final int lastSeenBuild) {
+        this.lastSeenBuild = lastSeenBuild;
+    }
+
+    /**
+     * Returns the number of the build the issue has been fixed in, 0 if the issue is still open.
+     *
+     * @return the number of the build the issue has been fixed in, 0 if the issue is still open
+     */
+    public int getFixedInBuild() {
+        return fixedInBuild;
+    }
+
+    /**
+     * Setter to set the number of the build the issue has been fixed in, 0 if the issue is still open.
+     *
+     * @param fixedInBuild the number of the build the issue has been fixed in, 0 if the issue is still open
+     */
+    public void setFixedInBuild(final int fixedInBuild) {
+        this.fixedInBuild = fixedInBuild;
+    }
+
+    /**
+     * Returns how often the issue has been reported again after it has been fixed.
+     *
+     * @return how often the issue has been reported again after it has been fixed
+     */
+    public int getReopenCount() {
+        return reopenCount;
+    }
+
+    /**
+     * Setter to set how often the issue has been reported again after it has been fixed.
+     *
+     * @param reopenCount how often the issue has been reported again after it has been fixed
+     */
+    public void setReopenCount(final int reopenCount) {
+        this.reopenCount = reopenCount;
+    }
+
+    /**
+     * Returns whether the issue is still open.
+     *
+     * @return {@code true} if the issue has not been fixed
+     */
+    public boolean isOpen() {
+        return fixedInBuild == 0;
+    }
+
+    /**
+     * Returns the age of the issue in builds: the number of builds from the build the issue has been seen first up to the
+     * build it has been seen last or has been fixed in.
+     *
+     * @return the age in builds
+     */
+    public int getAgeInBuilds() {
+        return (isOpen() ? lastSeenBuild + 1 : fixedInBuild) - firstSeenBuild;
+    }
+}
@@ -0,0 +1,142 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents an issue of a job that has been found by a full-text search. The issue is reported once with the
+ * first and the last build that contain it.
+ */
+public class IssueSearchHit implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String jobName;
+    private final int firstBuildNumber;
+    private final int buildNumber;
+    private final String tool;
+    private final String severity;
+    private final String category;
+    private final String fileName;
+    private final int lineStart;
+    private final String message;
+    private final String fingerprint;
+
+    /**
+     * Creates a new instance of an {@link IssueSearchHit}.
+     *
+     * @param jobName          the name of the job
+     * @param firstBuildNumber the number of the first build that contains the issue
+     * @param buildNumber      the number of the last build that contains the issue
+     * @param tool             the id of the tool
+     * @param severity         the severity of the issue
+     * @param category         the category of the issue
+     * @param fileName         the file name of the issue
+     * @param lineStart        the first line of the issue
+     * @param message          the message of the issue
+     * @param fingerprint      the fingerprint of the issue
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public IssueSearchHit(final String jobName, final int firstBuildNumber, final int buildNumber, final String tool,
+            final String severity, final String category, final String fileName, final int lineStart,
+            final String message, final String fingerprint) {
+        this.jobName = jobName;
+        this.firstBuildNumber = firstBuildNumber;
+        this.buildNumber = buildNumber;
+        this.tool = tool;
+        this.severity = severity;
+        this.category = category;
+        this.fileName = fileName;
+        this.lineStart = lineStart;
+        this.message = message;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the number of the first build that contains the issue.
+     *
+     * @return the number of the first build
+     */
+    public int getFirstBuildNumber() {
+        return firstBuildNumber;
+    }
+
+    /**
+     * Returns the number of the last build that contains the issue.
+     *
+     * @return the number of the last build
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the severity of the issue.
+     *
+     * @return the severity of the issue
+     */
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Returns the category of the issue.
+     *
+     * @return the category of the issue
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the file name of the issue.
+     *
+     * @return the file name of the issue
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the first line of the issue.
+     *
+     * @return the first line of the issue
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Returns the message of the issue.
+     *
+     * @return the message of the issue
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the fingerprint of the issue.
+     *
+     * @return the fingerprint of the issue
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+}
@@ -0,0 +1,82 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO that represents the {@link IssueSearchResult} of a full-text search of the issues: one page of hits, the total
+ * number of hits and the number of hits per job, tool and severity.
+ */
+public class IssueSearchResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long totalHits;
+    private final int page;
+    private final int pageSize;
+    private final List<IssueSearchHit> hits;
+    private final Map<String, Map<String, Long>> facets;
+
+    /**
+     * Creates a new instance of an {@link IssueSearchResult}.
+     *
+     * @param totalHits the total number of hits
+     * @param page      the number of the page, starting with 0
+     * @param pageSize  the maximum number of hits of a page
+     * @param hits      the hits of the page
+     * @param facets    the number of hits per value of each facet (job, tool and severity)
+     */
+    public IssueSearchResult(final long totalHits, final int page, final int pageSize, final List<IssueSearchHit> hits,
+            final Map<String, Map<String, Long>> facets) {
+        this.totalHits = totalHits;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.hits = hits;
+        this.facets = facets;
+    }
+
+    /**
+     * Returns the total number of hits.
+     *
+     * @return the total number of hits
+     */
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Returns the number of the page, starting with 0.
+     *
+     * @return the number of the page
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the maximum number of hits of a page.
+     *
+     * @return the size of a page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the hits of the page, the best hit first.
+     *
+     * @return the {@link IssueSearchHit}s
+     */
+    public List<IssueSearchHit> getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of hits per value of each facet, e.g. {@code tool -> (checkstyle -> 12)}.
+     *
+     * @return the counts of the facets
+     */
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+}
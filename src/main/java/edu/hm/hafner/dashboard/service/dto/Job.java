@@ -1,17 +1,24 @@
 package edu.hm.hafner.dashboard.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * DTO that represents a {@link Job}.
  */
-public class Job {
+public class Job implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int id;
     private String name;
     private String url;
     private String color;
+    private String className;
     private String lastBuildStatus;
+    private String controllerName;
     private List<Build> builds;
 
     /**
@@ -91,6 +98,26 @@ public class Job {
         this.color = color;
     }
 
+    /**
+     * Returns the class of the {@link Job} in Jenkins, e.g. to distinguish folders from projects.
+     *
+     * @return the class name
+     */
+    @JsonProperty("_class")
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Setter to set the class of the {@link Job} in Jenkins.
+     *
+     * @param className the class name
+     */
+    @JsonProperty("_class")
+    public void setClassName(final String className) {
+        this.className = className;
+    }
+
     /**
      * Returns the {@link Build}s of the {@link Job}.
      *
@@ -127,6 +154,24 @@ public class Job {
         this.lastBuildStatus = lastBuildStatus;
     }
 
+    /**
+     * Returns the name of the Jenkins controller of the {@link Job}.
+     *
+     * @return the name of the controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * Setter to set the name of the Jenkins controller of the {@link Job}.
+     *
+     * @param controllerName the name of the controller
+     */
+    public void setControllerName(final String controllerName) {
+        this.controllerName = controllerName;
+    }
+
     /**
      * Returns the id of the {@link Job}.
      *
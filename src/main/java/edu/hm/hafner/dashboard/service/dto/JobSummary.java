@@ -0,0 +1,203 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO that represents the {@link JobSummary} of a job and its latest build, i.e. a row of the overview of all jobs.
+ */
+public class JobSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String jobName;
+    private String url;
+    private String lastBuildStatus;
+    private String controllerName;
+    private int latestBuildNumber;
+    private long latestBuildTimestamp;
+    private int totalSize;
+    private int delta;
+    private String qualityGateStatus;
+    private List<ToolSummary> tools = new ArrayList<>();
+
+    /**
+     * Creates a new instance of a {@link JobSummary}.
+     *
+     * @param jobName the name of the job
+     */
+    public JobSummary(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the url of the job.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Setter to set the url of the job.
+     *
+     * @param url the url
+     */
+    public void setUrl(final String url) {
+        this.url = url;
+    }
+
+    /**
+     * Returns the status of the last build of the job as reported by Jenkins.
+     *
+     * @return the status
+     */
+    public String getLastBuildStatus() {
+        return lastBuildStatus;
+    }
+
+    /**
+     * Setter to set the status of the last build of the job as reported by Jenkins.
+     *
+     * @param lastBuildStatus the status
+     */
+    public void setLastBuildStatus(final String lastBuildStatus) {
+        this.lastBuildStatus = lastBuildStatus;
+    }
+
+    /**
+     * Returns the name of the Jenkins controller of the job.
+     *
+     * @return the name of the controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * Setter to set the name of the Jenkins controller of the job.
+     *
+     * @param controllerName the name of the controller
+     */
+    public void setControllerName(final String controllerName) {
+        this.controllerName = controllerName;
+    }
+
+    /**
+     * Returns the number of the latest stored build, 0 if no build is stored.
+     *
+     * @return the build number
+     */
+    public int getLatestBuildNumber() {
+        return latestBuildNumber;
+    }
+
+    /**
+     * Setter to set the number of the latest stored build.
+     *
+     * @param latestBuildNumber the build number
+     */
+    public void setLatestBuildNumber(final int latestBuildNumber) {
+        this.latestBuildNumber = latestBuildNumber;
+    }
+
+    /**
+     * Returns the start time of the latest stored build.
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getLatestBuildTimestamp() {
+        return latestBuildTimestamp;
+    }
+
+    /**
+     * Setter to set the start time of the latest stored build.
+     *
+     * @param latestBuildTimestamp the start time in milliseconds since the epoch
+     */
+    public void setLatestBuildTimestamp(final long latestBuildTimestamp) {
+        this.latestBuildTimestamp = latestBuildTimestamp;
+    }
+
+    /**
+     * Returns the number of warnings of all tools in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Setter to set the number of warnings of all tools in the latest build.
+     *
+     * @param totalSize the number of warnings
+     */
+    public void setTotalSize(final int totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    /**
+     * Returns the change of the number of warnings since the build before the latest build.
+     *
+     * @return the change of the number of warnings
+     */
+    public int getDelta() {
+        return delta;
+    }
+
+    /**
+     * Setter to set the change of the number of warnings since the build before the latest build.
+     *
+     * @param delta the change of the number of warnings
+     */
+    public void setDelta(final int delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Returns the worst status of the quality gates in the latest build.
+     *
+     * @return the status
+     */
+    public String getQualityGateStatus() {
+        return qualityGateStatus;
+    }
+
+    /**
+     * Setter to set the worst status of the quality gates in the latest build.
+     *
+     * @param qualityGateStatus the status
+     */
+    public void setQualityGateStatus(final String qualityGateStatus) {
+        this.qualityGateStatus = qualityGateStatus;
+    }
+
+    /**
+     * Returns the number of warnings per tool in the latest build.
+     *
+     * @return the {@link ToolSummary}s
+     */
+    public List<ToolSummary> getTools() {
+        return tools;
+    }
+
+    /**
+     * Setter to set the number of warnings per tool in the latest build.
+     *
+     * @param tools the {@link ToolSummary}s
+     */
+    public void setTools(final List<ToolSummary> tools) {
+        this.tools = tools;
+    }
+}
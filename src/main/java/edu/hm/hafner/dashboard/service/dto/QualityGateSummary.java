@@ -0,0 +1,214 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents the {@link QualityGateSummary} of a tool of a job, i.e. a row of the table of the quality gates of
+ * all jobs.
+ */
+public class QualityGateSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String jobName;
+    private final String tool;
+    private String status;
+    private int streak;
+    private int longestPassedStreak;
+    private int passedCount;
+    private int warningCount;
+    private int failedCount;
+    private int inactiveCount;
+    private double passRate;
+    private int lastBuild;
+
+    /**
+     * Creates a new instance of a {@link QualityGateSummary}.
+     *
+     * @param jobName the name of the job
+     * @param tool    the id of the tool
+     */
+    public QualityGateSummary(final String jobName, final String tool) {
+        this.jobName = jobName;
+        this.tool = tool;
+    }
+
+    /**
+     * Returns the name of the job.
+     *
+     * @return the name of the job
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getTool() {
+        return tool;
+    }
+
+    /**
+     * Returns the status of the latest evaluated quality gate.
+     *
+     * @return the status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter to set the status of the latest evaluated quality gate.
+     *
+     * @param status the status
+     */
+    public void setStatus(final String status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the number of the latest evaluated builds with this status.
+     *
+     * @return the number of builds
+     */
+    public int getStreak() {
+        return streak;
+    }
+
+    /**
+     * Setter to set the number of the latest evaluated builds with this status.
+     *
+     * @param streak the number of builds
+     */
+    public void setStreak(final int streak) {
+        this.streak = streak;
+    }
+
+    /**
+     * Returns the longest number of evaluated builds in a row with a passed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getLongestPassedStreak() {
+        return longestPassedStreak;
+    }
+
+    /**
+     * Setter to set the longest number of evaluated builds in a row with a passed quality gate.
+     *
+     * @param longestPassedStreak the number of builds
+     */
+    public void setLongestPassedStreak(final int longestPassedStreak) {
+        this.longestPassedStreak = longestPassedStreak;
+    }
+
+    /**
+     * Returns the number of builds with a passed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    /**
+     * Setter to set the number of builds with a passed quality gate.
+     *
+     * @param passedCount the number of builds
+     */
+    public void setPassedCount(final int passedCount) {
+        this.passedCount = passedCount;
+    }
+
+    /**
+     * Returns the number of builds with a quality gate that warned.
+     *
+     * @return the number of builds
+     */
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Setter to set the number of builds with a quality gate that warned.
+     *
+     * @param warningCount the number of builds
+     */
+    public void setWarningCount(final int warningCount) {
+        this.warningCount = warningCount;
+    }
+
+    /**
+     * Returns the number of builds with a failed quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Setter to set the number of builds with a failed quality gate.
+     *
+     * @param failedCount the number of builds
+     */
+    public void setFailedCount(final int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * Returns the number of builds with an inactive or unknown quality gate.
+     *
+     * @return the number of builds
+     */
+    public int getInactiveCount() {
+        return inactiveCount;
+    }
+
+    /**
+     * Setter to set the number of builds with an inactive or unknown quality gate.
+     *
+     * @param inactiveCount the number of builds
+     */
+    public void setInactiveCount(final int inactiveCount) {
+        this.inactiveCount = inactiveCount;
+    }
+
+    /**
+     * Returns the share of the builds with a passed quality gate of all evaluated builds.
+     *
+     * @return the pass rate between 0 and 1
+     */
+    public double getPassRate() {
+        return passRate;
+    }
+
+    /**
+     * Setter to set the share of the builds with a passed quality gate of all evaluated builds.
+     *
+     * @param passRate the pass rate between 0 and 1
+     */
+    public void setPassRate(final double passRate) {
+        this.passRate = passRate;
+    }
+
+    /**
+     * Returns the number of the latest build.
+     *
+     * @return the build number
+     */
+    public int getLastBuild() {
+        return lastBuild;
+    }
+
+    /**
+     * Setter to set the number of the latest build.
+     *
+     * @param lastBuild the build number
+     */
+    public void setLastBuild(final int lastBuild) {
+        this.lastBuild = lastBuild;
+    }
+}
@@ -3,13 +3,16 @@ package edu.hm.hafner.dashboard.service.dto;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import edu.hm.hafner.analysis.Report;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * DTO that represents a {@link Result}.
  */
-public class Result {
+public class Result implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int id;
     private String warningId;
     private String latestUrl;
@@ -18,6 +21,7 @@ public class Result {
     private int newSize;
     private String qualityGateStatus;
     private int totalSize;
+    private boolean archived;
     @JsonIgnoreProperties("results")
     private Build build;
     private List<String> errorMessages;
@@ -238,6 +242,25 @@ public class Result {
         this.totalSize = totalSize;
     }
 
+    /**
+     * Returns whether the issues of the {@link Result} are archived. The reports of an archived result are empty until
+     * they are restored from the archive.
+     *
+     * @return {@code true} if the issues are archived
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    /**
+     * Setter to set whether the issues of the {@link Result} are archived.
+     *
+     * @param archived {@code true} if the issues are archived
+     */
+    public void setArchived(final boolean archived) {
+        this.archived = archived;
+    }
+
     /**
      * Returns the {@link Build} of the {@link Result}.
      *
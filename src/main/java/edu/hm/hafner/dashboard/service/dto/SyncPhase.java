@@ -0,0 +1,179 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * DTO that represents a {@link SyncPhase}, i.e. the harvesting of a single job or build within a {@link SyncRun}.
+ */
+public class SyncPhase implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private int id;
+    private String phaseType;
+    private String jobName;
+    private int buildNumber;
+    private String status;
+    private LocalDateTime startedAt;
+    private long durationInMillis;
+    private String failureMessage;
+
+    /**
+     * Creates a new instance of a {@link SyncPhase}.
+     *
+     * @param phaseType   the type of the {@link SyncPhase} (e.g. JOB or BUILD)
+     * @param jobName     the name of the harvested job
+     * @param buildNumber the number of the harvested build, 0 for a job phase
+     * @param startedAt   the start time of the {@link SyncPhase}
+     */
+    public SyncPhase(final String phaseType, final String jobName, final int buildNumber, final LocalDateTime startedAt) {
+        this.phaseType = phaseType;
+        this.jobName = jobName;
+        this.buildNumber = buildNumber;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the id of the {@link SyncPhase}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link SyncPhase}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the type of the {@link SyncPhase}.
+     *
+     * @return the type
+     */
+    public String getPhaseType() {
+        return phaseType;
+    }
+
+    /**
+     * Setter to set the type of the {@link SyncPhase}.
+     *
+     * @param phaseType the type
+     */
+    public void setPhaseType(final String phaseType) {
+        this.phaseType = phaseType;
+    }
+
+    /**
+     * Returns the job name of the {@link SyncPhase}.
+     *
+     * @return the job name
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Setter to set the job name of the {@link SyncPhase}.
+     *
+     * @param jobName the job name
+     */
+    public void setJobName(final String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Returns the build number of the {@link SyncPhase}.
+     *
+     * @return the build number
+     */
+    public int getBuildNumber() {
+        return buildNumber;
+    }
+
+    /**
+     * Setter to set the build number of the {@link SyncPhase}.
+     *
+     * @param buildNumber the build number
+     */
+    public void setBuildNumber(final int buildNumber) {
+        this.buildNumber = buildNumber;
+    }
+
+    /**
+     * Returns the status of the {@link SyncPhase}.
+     *
+     * @return the status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter to set the status of the {@link SyncPhase}.
+     *
+     * @param status the status
+     */
+    public void setStatus(final String status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the start time of the {@link SyncPhase}.
+     *
+     * @return the start time
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Setter to set the start time of the {@link SyncPhase}.
+     *
+     * @param startedAt the start time
+     */
+    public void setStartedAt(final LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the duration of the {@link SyncPhase} in milliseconds.
+     *
+     * @return the duration
+     */
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
+    /**
+     * Setter to set the duration of the {@link SyncPhase} in milliseconds.
+     *
+     * @param durationInMillis the duration
+     */
+    public void setDurationInMillis(final long durationInMillis) {
+        this.durationInMillis = durationInMillis;
+    }
+
+    /**
+     * Returns the failure message of the {@link SyncPhase}.
+     *
+     * @return the failure message
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Setter to set the failure message of the {@link SyncPhase}.
+     *
+     * @param failureMessage the failure message
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+}
@@ -0,0 +1,280 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DTO that represents a {@link SyncRun}, i.e. a single harvest of the data from Jenkins.
+ */
+public class SyncRun {
+    private int id;
+    private String status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int resumeCount;
+    private String checkpointJobName;
+    private int checkpointBuildNumber;
+    private String failureMessage;
+    private long completedJobs;
+    private long failedJobs;
+    private long completedBuilds;
+    private long failedBuilds;
+    @JsonIgnore
+    private final Set<String> harvestedJobs;
+
+    /**
+     * Creates a new instance of a {@link SyncRun}.
+     *
+     * @param id        the id of the {@link SyncRun}
+     * @param status    the status of the {@link SyncRun}
+     * @param startedAt the start time of the {@link SyncRun}
+     */
+    public SyncRun(final int id, final String status, final LocalDateTime startedAt) {
+        this.id = id;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.harvestedJobs = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns the id of the {@link SyncRun}.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Setter to set the id of the {@link SyncRun}.
+     *
+     * @param id the id
+     */
+    public void setId(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the status of the {@link SyncRun}.
+     *
+     * @return the status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Setter to set the status of the {@link SyncRun}.
+     *
+     * @param status the status
+     */
+    public void setStatus(final String status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns the start time of the {@link SyncRun}.
+     *
+     * @return the start time
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Setter to set the start time of the {@link SyncRun}.
+     *
+     * @param startedAt the start time
+     */
+    public void setStartedAt(final LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Returns the finish time of the {@link SyncRun}.
+     *
+     * @return the finish time, or {@code null} if the run is not finished yet
+     */
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Setter to set the finish time of the {@link SyncRun}.
+     *
+     * @param finishedAt the finish time
+     */
+    public void setFinishedAt(final LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * Returns the duration of the {@link SyncRun} in milliseconds.
+     *
+     * @return the duration, or 0 if the run is not finished yet
+     */
+    public long getDurationInMillis() {
+        if (startedAt == null || finishedAt == null) {
+            return 0;
+        }
+        return Duration.between(startedAt, finishedAt).toMillis();
+    }
+
+    /**
+     * Returns how often the {@link SyncRun} has been resumed after an interruption.
+     *
+     * @return the number of resumes
+     */
+    public int getResumeCount() {
+        return resumeCount;
+    }
+
+    /**
+     * Setter to set the number of resumes of the {@link SyncRun}.
+     *
+     * @param resumeCount the number of resumes
+     */
+    public void setResumeCount(final int resumeCount) {
+        this.resumeCount = resumeCount;
+    }
+
+    /**
+     * Returns the name of the job of the last checkpoint.
+     *
+     * @return the job name of the checkpoint
+     */
+    public String getCheckpointJobName() {
+        return checkpointJobName;
+    }
+
+    /**
+     * Setter to set the name of the job of the last checkpoint.
+     *
+     * @param checkpointJobName the job name of the checkpoint
+     */
+    public void setCheckpointJobName(final String checkpointJobName) {
+        this.checkpointJobName = checkpointJobName;
+    }
+
+    /**
+     * Returns the build number of the last checkpoint.
+     *
+     * @return the build number of the checkpoint
+     */
+    public int getCheckpointBuildNumber() {
+        return checkpointBuildNumber;
+    }
+
+    /**
+     * Setter to set the build number of the last checkpoint.
+     *
+     * @param checkpointBuildNumber the build number of the checkpoint
+     */
+    public void setCheckpointBuildNumber(final int checkpointBuildNumber) {
+        this.checkpointBuildNumber = checkpointBuildNumber;
+    }
+
+    /**
+     * Returns the failure message of the {@link SyncRun}.
+     *
+     * @return the failure message
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Setter to set the failure message of the {@link SyncRun}.
+     *
+     * @param failureMessage the failure message
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+    /**
+     * Returns the number of jobs that have been harvested completely.
+     *
+     * @return the number of completed jobs
+     */
+    public long getCompletedJobs() {
+        return completedJobs;
+    }
+
+    /**
+     * Setter to set the number of jobs that have been harvested completely.
+     *
+     * @param completedJobs the number of completed jobs
+     */
+    public void setCompletedJobs(final long completedJobs) {
+        this.completedJobs = completedJobs;
+    }
+
+    /**
+     * Returns the number of jobs that failed to be harvested.
+     *
+     * @return the number of failed jobs
+     */
+    public long getFailedJobs() {
+        return failedJobs;
+    }
+
+    /**
+     * Setter to set the number of jobs that failed to be harvested.
+     *
+     * @param failedJobs the number of failed jobs
+     */
+    public void setFailedJobs(final long failedJobs) {
+        this.failedJobs = failedJobs;
+    }
+
+    /**
+     * Returns the number of builds that have been harvested completely.
+     *
+     * @return the number of completed builds
+     */
+    public long getCompletedBuilds() {
+        return completedBuilds;
+    }
+
+    /**
+     * Setter to set the number of builds that have been harvested completely.
+     *
+     * @param completedBuilds the number of completed builds
+     */
+    public void setCompletedBuilds(final long completedBuilds) {
+        this.completedBuilds = completedBuilds;
+    }
+
+    /**
+     * Returns the number of builds that failed to be harvested.
+     *
+     * @return the number of failed builds
+     */
+    public long getFailedBuilds() {
+        return failedBuilds;
+    }
+
+    /**
+     * Setter to set the number of builds that failed to be harvested.
+     *
+     * @param failedBuilds the number of failed builds
+     */
+    public void setFailedBuilds(final long failedBuilds) {
+        this.failedBuilds = failedBuilds;
+    }
+
+    /**
+     * Returns the names of the jobs that already have been harvested completely in this run.
+     * These jobs will be skipped if an interrupted run is resumed.
+     *
+     * @return the names of the harvested jobs
+     */
+    public Set<String> getHarvestedJobs() {
+        return harvestedJobs;
+    }
+}
@@ -0,0 +1,99 @@
+package edu.hm.hafner.dashboard.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO that represents the {@link ToolSummary} of a tool in the latest build of a job.
+ */
+public class ToolSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String toolId;
+    private final String name;
+    private int totalSize;
+    private int delta;
+    private String qualityGateStatus;
+
+    /**
+     * Creates a new instance of a {@link ToolSummary}.
+     *
+     * @param toolId the id of the tool
+     * @param name   the name of the tool
+     */
+    public ToolSummary(final String toolId, final String name) {
+        this.toolId = toolId;
+        this.name = name;
+    }
+
+    /**
+     * Returns the id of the tool.
+     *
+     * @return the id of the tool
+     */
+    public String getToolId() {
+        return toolId;
+    }
+
+    /**
+     * Returns the name of the tool.
+     *
+     * @return the name of the tool
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of warnings in the latest build.
+     *
+     * @return the number of warnings
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Setter to set the number of warnings in the latest build.
+     *
+     * @param totalSize the number of warnings
+     */
+    public void setTotalSize(final int totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    /**
+     * Returns the change of the number of warnings since the build before the latest build.
+     *
+     * @return the change of the number of warnings
+     */
+    public int getDelta() {
+        return delta;
+    }
+
+    /**
+     * Setter to set the change of the number of warnings since the build before the latest build.
+     *
+     * @param delta the change of the number of warnings
+     */
+    public void setDelta(final int delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Returns the status of the quality gate in the latest build.
+     *
+     * @return the status
+     */
+    public String getQualityGateStatus() {
+        return qualityGateStatus;
+    }
+
+    /**
+     * Setter to set the status of the quality gate in the latest build.
+     *
+     * @param qualityGateStatus the status
+     */
+    public void setQualityGateStatus(final String qualityGateStatus) {
+        this.qualityGateStatus = qualityGateStatus;
+    }
+}
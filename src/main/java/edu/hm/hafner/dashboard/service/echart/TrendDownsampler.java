@@ -0,0 +1,151 @@
+package edu.hm.hafner.dashboard.service.echart;
+
+import edu.hm.hafner.echarts.LinesDataSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduces the number of points of a trend chart with the Largest-Triangle-Three-Buckets (LTTB) algorithm. The builds
+ * are split into buckets, from every bucket the build is kept that spans the largest triangle with the previously kept
+ * build and the average of the next bucket. So the shape of the trend and its spikes are preserved, while the number
+ * of points does not grow with the history of the job. All series of a chart share the domain axis, so the same builds
+ * are kept for all series: the triangles of the series are normalized by the range of the series and summed up.
+ */
+public final class TrendDownsampler {
+    /** The number of points if the width of the chart is unknown. */
+    public static final int DEFAULT_MAX_POINTS = 500;
+
+    private static final int PIXELS_PER_POINT = 2;
+    private static final int MIN_POINTS = 3;
+
+    private TrendDownsampler() {
+        // prevents instantiation
+    }
+
+    /**
+     * Returns the number of points that can be distinguished in a chart of the given width.
+     *
+     * @param width the width of the chart in pixels, {@code null} if unknown
+     * @return the number of points
+     */
+    public static int getMaxPoints(final Integer width) {
+        if (width == null || width <= 0) {
+            return DEFAULT_MAX_POINTS;
+        }
+        return Math.max(MIN_POINTS, width / PIXELS_PER_POINT);
+    }
+
+    /**
+     * Reduces a {@link LinesDataSet} to a maximum number of points. The first and the last build are always kept.
+     *
+     * @param dataSet   the {@link LinesDataSet} with all builds
+     * @param maxPoints the maximum number of points, 0 to keep all points
+     * @return the given {@link LinesDataSet} if it is small enough, otherwise a new {@link LinesDataSet} with the selected
+     *         builds
+     */
+    public static LinesDataSet downsample(final LinesDataSet dataSet, final int maxPoints) {
+        int size = dataSet.getDomainAxisSize();
+        if (maxPoints <= 0 || size <= Math.max(MIN_POINTS, maxPoints)) {
+            return dataSet;
+        }
+
+        List<String> ids = new ArrayList<>(dataSet.getDataSetIds());
+        double[][] values = new double[ids.size()][];
+        for (int series = 0; series < ids.size(); series++) {
+            values[series] = normalize(dataSet.getSeries(ids.get(series)));
+        }
+
+        LinesDataSet downsampled = new LinesDataSet();
+        boolean hasBuildNumbers = dataSet.getBuildNumbers().size() == size;
+        for (int index : selectIndices(values, size, Math.max(MIN_POINTS, maxPoints))) {
+            Map<String, Integer> point = new HashMap<>();
+            for (String id : ids) {
+                point.put(id, dataSet.getSeries(id).get(index));
+            }
+            String label = dataSet.getDomainAxisLabels().get(index);
+            if (hasBuildNumbers) {
+                downsampled.add(label, point, dataSet.getBuildNumbers().get(index));
+            }
+            else {
+                downsampled.add(label, point);
+            }
+        }
+
+        return downsampled;
+    }
+
+    /**
+     * Selects the indices of the points to keep.
+     *
+     * @param values    the normalized values of all series
+     * @param size      the number of points
+     * @param maxPoints the number of points to keep, at least 3
+     * @return the selected indices in ascending order
+     */
+    static int[] selectIndices(final double[][] values, final int size, final int maxPoints) {
+        int[] selected = new int[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+
+        int previous = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+
+            double nextX = (nextStart + nextEnd - 1) / 2.0;
+            double[] nextY = new double[values.length];
+            for (int series = 0; series < values.length; series++) {
+                nextY[series] = average(values[series], nextStart, nextEnd);
+            }
+
+            double bestArea = -1;
+            int best = start;
+            for (int index = start; index < end; index++) {
+                double area = 0;
+                for (int series = 0; series < values.length; series++) {
+                    double[] y = values[series];
+                    area += Math.abs((previous - nextX) * (y[index] - y[previous])
+                            - (previous - index) * (nextY[series] - y[previous]));
+                }
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = index;
+                }
+            }
+            selected[bucket + 1] = best;
+            previous = best;
+        }
+        selected[maxPoints - 1] = size - 1;
+
+        return selected;
+    }
+
+    private static double average(final double[] series, final int start, final int end) {
+        double sum = 0;
+        for (int index = start; index < end; index++) {
+            sum += series[index];
+        }
+        return sum / (end - start);
+    }
+
+    private static double[] normalize(final List<Integer> series) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : series) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        double[] normalized = new double[series.size()];
+        if (max > min) {
+            for (int index = 0; index < normalized.length; index++) {
+                normalized[index] = (double) (series.get(index) - min) / (max - min);
+            }
+        }
+        return normalized;
+    }
+}
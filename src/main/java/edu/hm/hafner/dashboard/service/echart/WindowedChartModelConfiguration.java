@@ -0,0 +1,26 @@
+package edu.hm.hafner.dashboard.service.echart;
+
+import edu.hm.hafner.echarts.ChartModelConfiguration;
+
+/**
+ * A {@link ChartModelConfiguration} for builds that already have been limited by the database query. The default
+ * configuration silently drops all builds after the first 50, this configuration shows all the given builds.
+ */
+public class WindowedChartModelConfiguration extends ChartModelConfiguration {
+    /**
+     * Creates a new instance of {@link WindowedChartModelConfiguration}.
+     */
+    public WindowedChartModelConfiguration() {
+        super(AxisType.BUILD);
+    }
+
+    @Override
+    public int getBuildCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isBuildCountDefined() {
+        return false;
+    }
+}
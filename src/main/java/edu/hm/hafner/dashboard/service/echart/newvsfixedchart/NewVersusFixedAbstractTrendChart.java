@@ -1,6 +1,7 @@
 package edu.hm.hafner.dashboard.service.echart.newvsfixedchart;
 
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.*;
 
 /**
@@ -10,6 +11,24 @@ import edu.hm.hafner.echarts.*;
  */
 public abstract class NewVersusFixedAbstractTrendChart {
 
+    private final int maxPoints;
+
+    /**
+     * Creates a new instance of {@link NewVersusFixedAbstractTrendChart} that shows all builds.
+     */
+    protected NewVersusFixedAbstractTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link NewVersusFixedAbstractTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    protected NewVersusFixedAbstractTrendChart(final int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
     /**
      * Creates the lines charts model depending on the builder.
      *
@@ -20,7 +39,7 @@ public abstract class NewVersusFixedAbstractTrendChart {
      */
     protected LinesChartModel createLineChart(final SeriesBuilder<Build> builder, final Iterable<? extends BuildResult<Build>> buildResults,
                                               final ChartModelConfiguration configuration) {
-        LinesDataSet dataSet = builder.createDataSet(configuration, buildResults);
+        LinesDataSet dataSet = TrendDownsampler.downsample(builder.createDataSet(configuration, buildResults), maxPoints);
 
         LinesChartModel model = new LinesChartModel();
         model.setDomainAxisLabels(dataSet.getDomainAxisLabels());
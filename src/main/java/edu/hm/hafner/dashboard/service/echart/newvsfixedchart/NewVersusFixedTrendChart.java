@@ -1,6 +1,7 @@
 package edu.hm.hafner.dashboard.service.echart.newvsfixedchart;
 
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.BuildResult;
 import edu.hm.hafner.echarts.ChartModelConfiguration;
 import edu.hm.hafner.echarts.LinesChartModel;
@@ -12,6 +13,22 @@ import edu.hm.hafner.echarts.LinesChartModel;
  */
 public class NewVersusFixedTrendChart extends NewVersusFixedAbstractTrendChart {
 
+    /**
+     * Creates a new instance of {@link NewVersusFixedTrendChart} that shows all builds.
+     */
+    public NewVersusFixedTrendChart() {
+        super();
+    }
+
+    /**
+     * Creates a new instance of {@link NewVersusFixedTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public NewVersusFixedTrendChart(final int maxPoints) {
+        super(maxPoints);
+    }
+
     /**
      * Creates the line chart model for new vs. fixed issues.
      *
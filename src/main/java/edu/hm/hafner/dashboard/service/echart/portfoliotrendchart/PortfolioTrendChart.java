@@ -0,0 +1,67 @@
+package edu.hm.hafner.dashboard.service.echart.portfoliotrendchart;
+
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
+import edu.hm.hafner.echarts.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Builds the line model for a trend chart showing the number of warnings of all jobs per day.
+ */
+public class PortfolioTrendChart {
+
+    private final int maxPoints;
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendChart} that shows all days.
+     */
+    public PortfolioTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link PortfolioTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public PortfolioTrendChart(final int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * Creates the {@link LinesChartModel} for the number of warnings per day.
+     *
+     * @param warningsPerDay the number of warnings per series (e.g. tool or severity) for every day, every day must
+     *                       contain all series
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel create(final SortedMap<LocalDate, Map<String, Integer>> warningsPerDay) {
+        LinesDataSet allDays = new LinesDataSet();
+        warningsPerDay.forEach((day, warnings) -> allDays.add(day.toString(), warnings));
+        LinesDataSet dataSet = TrendDownsampler.downsample(allDays, maxPoints);
+
+        LinesChartModel model = new LinesChartModel();
+        model.setDomainAxisLabels(dataSet.getDomainAxisLabels());
+
+        List<String> names = new ArrayList<>(dataSet.getDataSetIds());
+        Collections.sort(names);
+        Palette[] colors = Palette.values();
+        int index = 0;
+        for (String name : names) {
+            LineSeries lineSeries = new LineSeries(name, colors[index++].getNormal(), LineSeries.StackedMode.SEPARATE_LINES, LineSeries.FilledMode.LINES);
+
+            if (index == colors.length) {
+                index = 0;
+            }
+            lineSeries.addAll(dataSet.getSeries(name));
+            model.addSeries(lineSeries);
+        }
+
+        return model;
+    }
+}
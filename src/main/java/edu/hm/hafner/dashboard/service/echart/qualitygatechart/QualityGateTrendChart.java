@@ -0,0 +1,70 @@
+package edu.hm.hafner.dashboard.service.echart.qualitygatechart;
+
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
+import edu.hm.hafner.echarts.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Builds the line model for a trend chart showing the number of tools with a passed, warned or failed quality gate per
+ * build.
+ */
+public class QualityGateTrendChart {
+    /** The name of the series of the passed quality gates. */
+    public static final String PASSED = "Passed";
+    /** The name of the series of the quality gates that warned. */
+    public static final String WARNING = "Warning";
+    /** The name of the series of the failed quality gates. */
+    public static final String FAILED = "Failed";
+
+    private final int maxPoints;
+
+    /**
+     * Creates a new instance of {@link QualityGateTrendChart} that shows all builds.
+     */
+    public QualityGateTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link QualityGateTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public QualityGateTrendChart(final int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * Creates the {@link LinesChartModel} for the quality gates per build.
+     *
+     * @param statusesPerBuild the number of tools per series ({@link #PASSED}, {@link #WARNING} and {@link #FAILED}) for
+     *                         every build number
+     * @return the {@link LinesChartModel}
+     */
+    public LinesChartModel create(final SortedMap<Integer, Map<String, Integer>> statusesPerBuild) {
+        LinesDataSet allBuilds = new LinesDataSet();
+        statusesPerBuild.forEach((buildNumber, statuses) -> allBuilds.add("#" + buildNumber, statuses, buildNumber));
+        LinesDataSet dataSet = TrendDownsampler.downsample(allBuilds, maxPoints);
+
+        LinesChartModel model = new LinesChartModel();
+        model.setDomainAxisLabels(dataSet.getDomainAxisLabels());
+        model.setBuildNumbers(dataSet.getBuildNumbers());
+
+        Map<String, Palette> colors = new LinkedHashMap<>();
+        colors.put(PASSED, Palette.GREEN);
+        colors.put(WARNING, Palette.YELLOW);
+        colors.put(FAILED, Palette.RED);
+        colors.forEach((name, color) -> {
+            if (dataSet.getDataSetIds().contains(name)) {
+                LineSeries lineSeries = new LineSeries(name, color.getNormal(), LineSeries.StackedMode.SEPARATE_LINES, LineSeries.FilledMode.LINES);
+                lineSeries.addAll(dataSet.getSeries(name));
+                model.addSeries(lineSeries);
+            }
+        });
+
+        return model;
+    }
+}
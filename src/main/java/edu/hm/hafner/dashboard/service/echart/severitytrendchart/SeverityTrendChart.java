@@ -2,6 +2,7 @@ package edu.hm.hafner.dashboard.service.echart.severitytrendchart;
 
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.*;
 import edu.hm.hafner.echarts.LineSeries.FilledMode;
 import edu.hm.hafner.echarts.LineSeries.StackedMode;
@@ -15,6 +16,24 @@ import java.util.List;
  */
 public class SeverityTrendChart {
 
+    private final int maxPoints;
+
+    /**
+     * Creates a new instance of {@link SeverityTrendChart} that shows all builds.
+     */
+    public SeverityTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link SeverityTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public SeverityTrendChart(final int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
     /**
      * Method to create a LinesChartModel for a {@link SeverityTrendChart}.
      *
@@ -25,7 +44,7 @@ public class SeverityTrendChart {
     public LinesChartModel create(final Iterable<? extends BuildResult<Build>> buildResults,
                                   final ChartModelConfiguration configuration) {
         SeveritySeriesBuilder builder = new SeveritySeriesBuilder();
-        LinesDataSet dataSet = builder.createDataSet(configuration, buildResults);
+        LinesDataSet dataSet = TrendDownsampler.downsample(builder.createDataSet(configuration, buildResults), maxPoints);
 
         return createChartFromDataSet(dataSet);
     }
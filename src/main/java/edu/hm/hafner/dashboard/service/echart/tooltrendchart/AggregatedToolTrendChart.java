@@ -1,6 +1,7 @@
 package edu.hm.hafner.dashboard.service.echart.tooltrendchart;
 
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.*;
 
 /**
@@ -10,6 +11,24 @@ import edu.hm.hafner.echarts.*;
  */
 public class AggregatedToolTrendChart {
 
+    private final int maxPoints;
+
+    /**
+     * Creates a new instance of {@link AggregatedToolTrendChart} that shows all builds.
+     */
+    public AggregatedToolTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link AggregatedToolTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public AggregatedToolTrendChart(final int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
     /**
      * Creates the {@link LinesChartModel} for a given tool (e.g. checkstyle or pmd).
      *
@@ -21,7 +40,7 @@ public class AggregatedToolTrendChart {
                                   final ChartModelConfiguration configuration) {
 
         AggregatedAnalysisResultsSeriesBuilder builder = new AggregatedAnalysisResultsSeriesBuilder();
-        LinesDataSet dataSet = builder.createDataSet(configuration, buildResults);
+        LinesDataSet dataSet = TrendDownsampler.downsample(builder.createDataSet(configuration, buildResults), maxPoints);
 
         LinesChartModel model = new LinesChartModel();
         model.setDomainAxisLabels(dataSet.getDomainAxisLabels());
@@ -0,0 +1,120 @@
+package edu.hm.hafner.dashboard.service.echart.tooltrendchart;
+
+import edu.hm.hafner.echarts.LineSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link LineSeries} that highlights the builds with anomalies by mark points (see
+ * <a href="https://echarts.apache.org/en/option.html#series-line.markPoint">markPoint</a>).
+ */
+public class AnomalyLineSeries extends LineSeries {
+    private final MarkPoint markPoint = new MarkPoint();
+
+    /**
+     * Creates a new instance of {@link AnomalyLineSeries}.
+     *
+     * @param name        the name of the series
+     * @param color       the color of the series
+     * @param stackedMode determines whether the series will be stacked
+     * @param filledMode  determines whether the series will be filled
+     */
+    public AnomalyLineSeries(final String name, final String color, final StackedMode stackedMode,
+            final FilledMode filledMode) {
+        super(name, color, stackedMode, filledMode);
+    }
+
+    /**
+     * Marks a point of the series as anomaly.
+     *
+     * @param index the index of the point on the domain axis
+     * @param value the value of the point
+     */
+    public void addAnomaly(final int index, final int value) {
+        markPoint.getData().add(new MarkPointData(index, value));
+    }
+
+    /**
+     * Returns the mark points of the anomalies.
+     *
+     * @return the mark points
+     */
+    public MarkPoint getMarkPoint() {
+        return markPoint;
+    }
+
+    /**
+     * The mark points of a series.
+     */
+    public static class MarkPoint {
+        private static final String SYMBOL = "pin";
+        private static final String COLOR = "#d9534f";
+
+        private final List<MarkPointData> data = new ArrayList<>();
+
+        /**
+         * Returns the symbol of the mark points.
+         *
+         * @return the symbol
+         */
+        public String getSymbol() {
+            return SYMBOL;
+        }
+
+        /**
+         * Returns the color of the mark points.
+         *
+         * @return the color
+         */
+        public String getColor() {
+            return COLOR;
+        }
+
+        /**
+         * Returns the marked points.
+         *
+         * @return the marked points
+         */
+        public List<MarkPointData> getData() {
+            return data;
+        }
+    }
+
+    /**
+     * A marked point, identified by its coordinates.
+     */
+    public static class MarkPointData {
+        private final int[] coord;
+        private final int value;
+
+        /**
+         * Creates a new instance of {@link MarkPointData}.
+         *
+         * @param index the index of the point on the domain axis
+         * @param value the value of the point
+         */
+        MarkPointData(final int index, final int value) {
+            this.coord = new int[] {index, value};
+            this.value = value;
+        }
+
+        /**
+         * Returns the coordinates of the point.
+         *
+         * @return the index on the domain axis and the value
+         */
+        public int[] getCoord() {
+            return coord.clone();
+        }
+
+        /**
+         * Returns the value that is shown in the mark.
+         *
+         * @return the value
+         */
+        public int getValue() {
+            return value;
+        }
+    }
+}
@@ -1,15 +1,51 @@
 package edu.hm.hafner.dashboard.service.echart.tooltrendchart;
 
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.*;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Builds the line model for a trend chart showing the total number of issues per tool for a given number of builds.
+ * Builds with anomalies are highlighted by mark points (see {@link AnomalyLineSeries}).
  *
  * @author Deniz Mardin
  */
 public class ToolTrendChart {
 
+    private final int maxPoints;
+    private final Set<Integer> anomalousBuilds;
+
+    /**
+     * Creates a new instance of {@link ToolTrendChart} that shows all builds.
+     */
+    public ToolTrendChart() {
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of {@link ToolTrendChart} that shows a maximum number of points.
+     *
+     * @param maxPoints the maximum number of points, see {@link TrendDownsampler}
+     */
+    public ToolTrendChart(final int maxPoints) {
+        this(maxPoints, Collections.emptySet());
+    }
+
+    /**
+     * Creates a new instance of {@link ToolTrendChart} that shows a maximum number of points and highlights anomalies.
+     *
+     * @param maxPoints       the maximum number of points, see {@link TrendDownsampler}
+     * @param anomalousBuilds the numbers of the builds with anomalies
+     */
+    public ToolTrendChart(final int maxPoints, final Set<Integer> anomalousBuilds) {
+        this.maxPoints = maxPoints;
+        this.anomalousBuilds = anomalousBuilds;
+    }
+
     /**
      * Creates the {@link LinesChartModel} for a given tool (e.g. checkstyle or pmd).
      *
@@ -21,7 +57,7 @@ public class ToolTrendChart {
                                   final ChartModelConfiguration configuration) {
 
         AnalysisResultsSeriesBuilder builder = new AnalysisResultsSeriesBuilder();
-        LinesDataSet dataSet = builder.createDataSet(configuration, buildResults);
+        LinesDataSet dataSet = TrendDownsampler.downsample(builder.createDataSet(configuration, buildResults), maxPoints);
 
         LinesChartModel model = new LinesChartModel();
         model.setDomainAxisLabels(dataSet.getDomainAxisLabels());
@@ -30,15 +66,31 @@ public class ToolTrendChart {
         Palette[] colors = Palette.values();
         int index = 0;
         for (String name : dataSet.getDataSetIds()) {
-            LineSeries lineSeries = new LineSeries(name, colors[index++].getNormal(), LineSeries.StackedMode.SEPARATE_LINES, LineSeries.FilledMode.LINES);
+            List<Integer> values = dataSet.getSeries(name);
+            LineSeries lineSeries = createSeries(name, colors[index++].getNormal(), dataSet.getBuildNumbers(), values);
 
             if (index == colors.length) {
                 index = 0;
             }
-            lineSeries.addAll(dataSet.getSeries(name));
+            lineSeries.addAll(values);
             model.addSeries(lineSeries);
         }
 
         return model;
     }
+
+    private LineSeries createSeries(final String name, final String color, final List<Integer> buildNumbers,
+            final List<Integer> values) {
+        if (anomalousBuilds.isEmpty() || buildNumbers.size() != values.size()) {
+            return new LineSeries(name, color, LineSeries.StackedMode.SEPARATE_LINES, LineSeries.FilledMode.LINES);
+        }
+
+        AnomalyLineSeries lineSeries = new AnomalyLineSeries(name, color, LineSeries.StackedMode.SEPARATE_LINES, LineSeries.FilledMode.LINES);
+        for (int point = 0; point < buildNumbers.size(); point++) {
+            if (anomalousBuilds.contains(buildNumbers.get(point))) {
+                lineSeries.addAnomaly(point, values.get(point));
+            }
+        }
+        return lineSeries;
+    }
 }
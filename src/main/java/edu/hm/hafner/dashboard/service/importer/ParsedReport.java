@@ -0,0 +1,66 @@
+package edu.hm.hafner.dashboard.service.importer;
+
+import edu.hm.hafner.analysis.Report;
+
+import java.nio.file.Path;
+
+/**
+ * The {@link Report} of a single report file together with the static analysis tool that created it.
+ */
+class ParsedReport {
+    private final Path file;
+    private final String toolId;
+    private final String toolName;
+    private final Report report;
+
+    /**
+     * Creates a new instance of {@link ParsedReport}.
+     *
+     * @param file     the parsed report file
+     * @param toolId   the id of the tool
+     * @param toolName the name of the tool
+     * @param report   the issues of the file
+     */
+    ParsedReport(final Path file, final String toolId, final String toolName, final Report report) {
+        this.file = file;
+        this.toolId = toolId;
+        this.toolName = toolName;
+        this.report = report;
+    }
+
+    /**
+     * Returns the parsed report file.
+     *
+     * @return the file
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the id of the static analysis tool.
+     *
+     * @return the tool id
+     */
+    String getToolId() {
+        return toolId;
+    }
+
+    /**
+     * Returns the name of the static analysis tool.
+     *
+     * @return the tool name
+     */
+    String getToolName() {
+        return toolName;
+    }
+
+    /**
+     * Returns the issues of the file.
+     *
+     * @return the {@link Report}
+     */
+    Report getReport() {
+        return report;
+    }
+}
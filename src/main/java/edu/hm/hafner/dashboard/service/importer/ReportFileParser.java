@@ -0,0 +1,176 @@
+package edu.hm.hafner.dashboard.service.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.parser.checkstyle.CheckStyleParser;
+import edu.hm.hafner.analysis.parser.findbugs.FindBugsParser;
+import edu.hm.hafner.analysis.parser.findbugs.FindBugsParser.PriorityProperty;
+import edu.hm.hafner.analysis.parser.pmd.PmdParser;
+import edu.hm.hafner.dashboard.config.ImportProperties;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
+import edu.hm.hafner.dashboard.service.rest.response.IssuesResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Parses a single report file of a static analysis tool into a {@link Report}. Supported are the XML reports of
+ * CheckStyle, PMD and SpotBugs (or FindBugs), which are read by the parsers of the analysis model, and the native JSON
+ * format of the warnings-ng plugin, i.e. the format of the issues in the REST API. Files that exceed the configured size
+ * are read through a memory mapping.
+ */
+@Component
+class ReportFileParser {
+    private static final String JSON_EXTENSION = ".json";
+    private static final String XML_EXTENSION = ".xml";
+
+    private final ImportProperties importProperties;
+    private final XMLInputFactory xmlInputFactory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new instance of {@link ReportFileParser}.
+     *
+     * @param importProperties the configuration of the import
+     */
+    @Autowired
+    ReportFileParser(final ImportProperties importProperties) {
+        this.importProperties = importProperties;
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * Returns whether the given file looks like a report file.
+     *
+     * @param file the file
+     * @return {@code true} if the file is an XML or JSON file
+     */
+    static boolean isReportFile(final Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return fileName.endsWith(XML_EXTENSION) || fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Parses a report file. The format of an XML file is detected by its root element, a JSON file is expected in the
+     * native format and the name of the file (without extension) is used as id of the tool.
+     *
+     * @param file the report file
+     * @return the {@link ParsedReport} or {@code null} if the format of the file is not supported
+     * @throws IOException if the file can not be read or parsed
+     */
+    ParsedReport parse(final Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        if (fileName.toLowerCase(Locale.ENGLISH).endsWith(JSON_EXTENSION)) {
+            try (InputStream inputStream = open(file)) {
+                return parseNativeJson(file, fileName.substring(0, fileName.length() - JSON_EXTENSION.length()), inputStream);
+            }
+        }
+        switch (readRootElement(file)) {
+            case "checkstyle":
+                return parseXml(file, "checkstyle", "CheckStyle", new CheckStyleParser());
+            case "pmd":
+                return parseXml(file, "pmd", "PMD", new PmdParser());
+            case "BugCollection":
+                return parseXml(file, "spotbugs", "SpotBugs", new FindBugsParser(PriorityProperty.CONFIDENCE));
+            default:
+                return null;
+        }
+    }
+
+    private InputStream open(final Path file) throws IOException {
+        long size = Files.size(file);
+        if (size >= importProperties.getMemoryMapThresholdInBytes() && size <= Integer.MAX_VALUE) {
+            return new MappedFileInputStream(file);
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    private ParsedReport parseNativeJson(final Path file, final String toolId, final InputStream inputStream) throws IOException {
+        IssuesResponse issuesResponse = objectMapper.readValue(inputStream, IssuesResponse.class);
+        Report report = new Report();
+        if (issuesResponse.getIssues() != null) {
+            for (IssuesResponse.Issue issue : issuesResponse.getIssues()) {
+                report.add(Mapper.map(issue));
+            }
+        }
+        return new ParsedReport(file, toolId.toLowerCase(Locale.ENGLISH), toolId, report);
+    }
+
+    private String readRootElement(final Path file) throws IOException {
+        try (InputStream inputStream = open(file)) {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        return reader.getLocalName();
+                    }
+                }
+                return "";
+            }
+            finally {
+                reader.close();
+            }
+        }
+        catch (XMLStreamException exception) {
+            throw new IOException("Parsing " + file + " failed: " + exception.getMessage(), exception);
+        }
+    }
+
+    private ParsedReport parseXml(final Path file, final String toolId, final String toolName, final IssueParser parser)
+            throws IOException {
+        try {
+            return new ParsedReport(file, toolId, toolName, parser.parse(new ReportReaderFactory(file)));
+        }
+        catch (ParsingException | UncheckedIOException exception) {
+            throw new IOException("Parsing " + file + " failed: " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * {@link ReaderFactory} that reads a report file through {@link #open(Path)}, i.e. large files are memory mapped.
+     */
+    private class ReportReaderFactory extends ReaderFactory {
+        private final Path file;
+
+        ReportReaderFactory(final Path file) {
+            super(StandardCharsets.UTF_8);
+            this.file = file;
+        }
+
+        @Override
+        public String getFileName() {
+            return file.toString();
+        }
+
+        @Override
+        public Reader create() {
+            try {
+                return new InputStreamReader(open(file), StandardCharsets.UTF_8);
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
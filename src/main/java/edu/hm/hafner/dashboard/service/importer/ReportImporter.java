@@ -0,0 +1,270 @@
+package edu.hm.hafner.dashboard.service.importer;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.config.ImportProperties;
+import edu.hm.hafner.dashboard.service.AppStartupService;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Startup Runner to import the reports of static analysis tools from local files, without any Jenkins. The configured
+ * directory contains a folder for every job, which contains a folder for every build (named by the build number) with
+ * the report files of the build. The builds that are not stored yet are imported in ascending order of the build numbers
+ * through the {@link AppStartupService}, just like the builds that are fetched from Jenkins. The report files of a job are
+ * parsed in parallel, but only for a limited number of builds ahead of the build that is saved. The new and fixed issues
+ * of the first imported build are determined by comparing with the latest stored build of the job.
+ */
+@Component
+public class ReportImporter implements ApplicationRunner {
+    private static final String IMPORTED_STATUS = "Imported";
+    private static final String QUALITY_GATE_INACTIVE = "INACTIVE";
+
+    private final AppStartupService appStartupService;
+    private final ReportFileParser reportFileParser;
+    private final ImportProperties importProperties;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link ReportImporter}.
+     *
+     * @param appStartupService the needed app startup service
+     * @param reportFileParser  the parser for the report files
+     * @param importProperties  the configuration of the import
+     */
+    @Autowired
+    ReportImporter(final AppStartupService appStartupService, final ReportFileParser reportFileParser,
+            final ImportProperties importProperties) {
+        this.appStartupService = appStartupService;
+        this.reportFileParser = reportFileParser;
+        this.importProperties = importProperties;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (importProperties.getDirectory() == null || importProperties.getDirectory().trim().isEmpty()) {
+            return;
+        }
+        Path root = Paths.get(importProperties.getDirectory());
+        if (!Files.isDirectory(root)) {
+            logger.warn("The import directory " + root + " does not exist");
+            return;
+        }
+        try {
+            int importedBuilds = importDirectory(root);
+            logger.info("Imported " + importedBuilds + " Builds from " + root);
+        } catch (IOException | UncheckedIOException exception) {
+            logger.error("Importing the reports of " + root + " failed", exception);
+        }
+    }
+
+    /**
+     * Imports all builds of all jobs of the given directory that are not stored yet.
+     *
+     * @param root the directory with a folder for every job
+     * @return the number of imported builds
+     * @throws IOException if the directory can not be read
+     */
+    public synchronized int importDirectory(final Path root) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, importProperties.getThreads()));
+        try (Stream<Path> jobDirectories = Files.list(root)) {
+            int importedBuilds = 0;
+            for (Path jobDirectory : jobDirectories.filter(Files::isDirectory).sorted().collect(Collectors.toList())) {
+                importedBuilds += importJob(jobDirectory, executor);
+            }
+            return importedBuilds;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int importJob(final Path jobDirectory, final ExecutorService executor) throws IOException {
+        String jobName = jobDirectory.getFileName().toString();
+        Map<Integer, Path> buildDirectories = listBuildDirectories(jobDirectory);
+        if (buildDirectories.isEmpty()) {
+            return 0;
+        }
+
+        Job fetchedJob = appStartupService.findJobByName(jobName);
+        if (fetchedJob == null) {
+            Job job = new Job(0, jobName, jobDirectory.toUri().toString(), IMPORTED_STATUS);
+            fetchedJob = appStartupService.saveNewJobs(Collections.singletonList(job)).get(0);
+        }
+        Job jobReference = new Job(fetchedJob.getId(), fetchedJob.getName(), fetchedJob.getUrl(), fetchedJob.getLastBuildStatus());
+        List<Build> builds = new ArrayList<>();
+        for (Map.Entry<Integer, Path> buildDirectory : buildDirectories.entrySet()) {
+            Build build = new Build(0, buildDirectory.getKey(), buildDirectory.getValue().toUri().toString());
+            // the reports carry no build time, so the time the build directory has been written is used
+            build.setTimestamp(Files.getLastModifiedTime(buildDirectory.getValue()).toMillis());
+            builds.add(build);
+        }
+        List<Build> missingBuilds = appStartupService.findMissingBuildsFromJob(jobReference, builds).stream()
+                .sorted(Comparator.comparingInt(Build::getNumber))
+                .collect(Collectors.toList());
+
+        Map<String, Report> previousReports = new HashMap<>(appStartupService.findLatestReportsFromJob(jobName));
+        Deque<List<Future<ParsedReport>>> parsedReports = new ArrayDeque<>();
+        int buildsInFlight = Math.max(1, importProperties.getBuildsInFlight());
+        int submittedBuilds = 0;
+        for (Build build : missingBuilds) {
+            while (submittedBuilds < missingBuilds.size() && parsedReports.size() < buildsInFlight) {
+                Path buildDirectory = buildDirectories.get(missingBuilds.get(submittedBuilds).getNumber());
+                parsedReports.add(submitReportFiles(buildDirectory, executor));
+                submittedBuilds++;
+            }
+            addResultsToBuild(build, await(parsedReports.remove()), previousReports);
+            appStartupService.saveNewBuildsFromJob(jobReference, Collections.singletonList(build));
+            logger.info("Imported Build " + build.getNumber() + " of " + jobName + " with " + build.getResults().size() + " Results");
+        }
+
+        return missingBuilds.size();
+    }
+
+    private List<Future<ParsedReport>> submitReportFiles(final Path buildDirectory, final ExecutorService executor)
+            throws IOException {
+        List<Future<ParsedReport>> reports = new ArrayList<>();
+        for (Path file : listReportFiles(buildDirectory)) {
+            reports.add(executor.submit(() -> reportFileParser.parse(file)));
+        }
+        return reports;
+    }
+
+    private Map<Integer, Path> listBuildDirectories(final Path jobDirectory) throws IOException {
+        try (Stream<Path> buildDirectories = Files.list(jobDirectory)) {
+            return buildDirectories
+                    .filter(Files::isDirectory)
+                    .filter(directory -> directory.getFileName().toString().matches("\\d{1,9}"))
+                    .collect(Collectors.toMap(directory -> Integer.parseInt(directory.getFileName().toString()),
+                            directory -> directory, (first, second) -> first));
+        }
+    }
+
+    private List<Path> listReportFiles(final Path buildDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(buildDirectory)) {
+            return files.filter(Files::isRegularFile).filter(ReportFileParser::isReportFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<ParsedReport> await(final List<Future<ParsedReport>> futures) {
+        List<ParsedReport> reports = new ArrayList<>();
+        for (Future<ParsedReport> future : futures) {
+            try {
+                ParsedReport parsedReport = future.get();
+                if (parsedReport != null) {
+                    reports.add(parsedReport);
+                }
+            } catch (ExecutionException exception) {
+                logger.warn("Skipping report file: " + exception.getCause().getMessage());
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while parsing the report files", interruptedException);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Adds a {@link Result} for every tool to the {@link Build}. The reports of several files of the same tool are merged.
+     * The new and fixed issues are determined by comparing with the previous build that has been stored or imported for the tool.
+     *
+     * @param build           the imported {@link Build}
+     * @param parsedReports   the parsed report files of the build
+     * @param previousReports the outstanding issues of the previous build per tool, updated with the issues of this build
+     */
+    private void addResultsToBuild(final Build build, final List<ParsedReport> parsedReports, final Map<String, Report> previousReports) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (ParsedReport parsedReport : parsedReports) {
+            Result result = results.computeIfAbsent(parsedReport.getToolId(), toolId -> {
+                Result newResult = new Result();
+                newResult.setWarningId(toolId);
+                newResult.setName(parsedReport.getToolName());
+                newResult.setLatestUrl(build.getUrl() + toolId);
+                newResult.setQualityGateStatus(QUALITY_GATE_INACTIVE);
+                newResult.setOutstandingIssues(new Report());
+                return newResult;
+            });
+            parsedReport.getReport().forEach(result.getOutstandingIssues()::add);
+            result.getInfoMessages().add("Imported " + parsedReport.getReport().size() + " issues from " + parsedReport.getFile().getFileName());
+        }
+
+        for (Result result : results.values()) {
+            Report outstandingIssues = result.getOutstandingIssues();
+            Report previousIssues = previousReports.put(result.getWarningId(), outstandingIssues);
+            if (previousIssues == null) {
+                result.setNewIssues(new Report());
+                result.setFixedIssues(new Report());
+            }
+            else {
+                result.setNewIssues(difference(outstandingIssues, previousIssues));
+                result.setFixedIssues(difference(previousIssues, outstandingIssues));
+            }
+            result.setTotalSize(outstandingIssues.size());
+            result.setNewSize(result.getNewIssues().size());
+            result.setFixedSize(result.getFixedIssues().size());
+            build.addResult(result);
+        }
+    }
+
+    /**
+     * Returns the issues of the first report that are not part of the second report. Issues are compared by file, type and
+     * message, so issues that only moved to another line are not reported as new.
+     *
+     * @param report the report
+     * @param other  the report to compare with
+     * @return the issues that are only part of the first report
+     */
+    private static Report difference(final Report report, final Report other) {
+        Map<String, Integer> otherKeys = new HashMap<>();
+        for (Issue issue : other) {
+            otherKeys.merge(getKey(issue), 1, Integer::sum);
+        }
+        Report difference = new Report();
+        for (Issue issue : report) {
+            String key = getKey(issue);
+            Integer count = otherKeys.get(key);
+            if (count == null) {
+                difference.add(issue);
+            }
+            else if (count == 1) {
+                otherKeys.remove(key);
+            }
+            else {
+                otherKeys.put(key, count - 1);
+            }
+        }
+        return difference;
+    }
+
+    private static String getKey(final Issue issue) {
+        return issue.getFileName() + '\n' + issue.getType() + '\n' + issue.getMessage();
+    }
+}
@@ -5,9 +5,18 @@ import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.dashboard.db.model.*;
+import edu.hm.hafner.dashboard.service.dto.Anomaly;
 import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Hotspot;
+import edu.hm.hafner.dashboard.service.dto.IssueDiffRow;
+import edu.hm.hafner.dashboard.service.dto.IssueLifecycle;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.JobSummary;
+import edu.hm.hafner.dashboard.service.dto.QualityGateSummary;
 import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import edu.hm.hafner.dashboard.service.dto.ToolSummary;
 import edu.hm.hafner.dashboard.service.rest.response.IssuesResponse;
 
 import java.util.ArrayList;
@@ -23,6 +32,9 @@ import java.util.stream.Collectors;
  * Enables the conversion from a {@link Result} to a {@link ResultEntity} and visa versa.
  * Enables the conversion from a {@link Report} to a {@link ReportEntity} and visa versa.
  * Enables the conversion from a {@link Issue} to a {@link IssueEntity} and visa versa.
+ * Enables the conversion from a {@link SyncRun} to a {@link SyncRunEntity} and from a {@link SyncPhase} to a {@link SyncPhaseEntity}
+ * and visa versa.
+ * The attributes of issues with few distinct values are shared with the {@link StringPool}.
  *
  * @author Deniz Mardin
  */
@@ -47,6 +59,7 @@ public class Mapper {
                 jobEntity.getUrl(),
                 jobEntity.getLastBuildStatus()
         );
+        job.setControllerName(jobEntity.getControllerName());
         jobEntity.getBuildEntities().forEach(buildEntity -> job.addBuild(map(buildEntity)));
 
         return job;
@@ -80,6 +93,7 @@ public class Mapper {
                 job.getUrl(),
                 job.getLastBuildStatus()
         );
+        jobEntity.setControllerName(job.getControllerName());
         job.getBuilds().forEach(build -> {
             BuildEntity buildEntity = mapToEntity(build);
             jobEntity.addBuildEntity(buildEntity);
@@ -115,6 +129,8 @@ public class Mapper {
                 buildEntity.getNumber(),
                 buildEntity.getUrl()
         );
+        build.setTimestamp(buildEntity.getTimestamp());
+        build.setDuration(buildEntity.getDuration());
         buildEntity.getResultEntities().forEach(resultEntity -> {
             Result result = map(resultEntity);
             build.addResult(result);
@@ -135,6 +151,8 @@ public class Mapper {
                 build.getNumber(),
                 build.getUrl()
         );
+        buildEntity.setTimestamp(build.getTimestamp());
+        buildEntity.setDuration(build.getDuration());
         build.getResults().forEach(result -> {
             ResultEntity resultEntity = mapToEntity(result);
             buildEntity.addResultEntity(resultEntity);
@@ -163,6 +181,7 @@ public class Mapper {
         result.setErrorMessages(resultEntity.getErrorMessages());
         result.setInfoMessages(resultEntity.getInfoMessages());
         result.setTotalSize(resultEntity.getTotalSize());
+        result.setArchived(resultEntity.isArchived());
         for (ReportEntity reportEntity : resultEntity.getReports()) {
             switch (reportEntity.getWarningTypeEntity()) {
                 case OUTSTANDING:
@@ -260,17 +279,17 @@ public class Mapper {
                 issue.getColumnEnd(),
                 issue.getLineStart(),
                 issue.getLineEnd(),
-                issue.getCategory(),
+                StringPool.intern(issue.getCategory()),
                 issue.getDescription(),
-                issue.getFileName(),
+                StringPool.intern(issue.getFileName()),
                 issue.getFingerprint(),
                 issue.getMessage(),
-                issue.getModuleName(),
-                issue.getOrigin(),
-                issue.getPackageName(),
+                StringPool.intern(issue.getModuleName()),
+                StringPool.intern(issue.getOrigin()),
+                StringPool.intern(issue.getPackageName()),
                 issue.getReference(),
-                issue.getSeverity().toString(),
-                issue.getType()
+                StringPool.intern(issue.getSeverity().toString()),
+                StringPool.intern(issue.getType())
         );
     }
 
@@ -328,6 +347,219 @@ public class Mapper {
         );
     }
 
+    /**
+     * Converts a {@link SyncRunEntity} to a {@link SyncRun}.
+     *
+     * @param syncRunEntity the {@link SyncRunEntity}
+     * @return the converted {@link SyncRun}
+     */
+    public static SyncRun map(final SyncRunEntity syncRunEntity) {
+        SyncRun syncRun = new SyncRun(
+                syncRunEntity.getId(),
+                syncRunEntity.getStatus().name(),
+                syncRunEntity.getStartedAt()
+        );
+        syncRun.setFinishedAt(syncRunEntity.getFinishedAt());
+        syncRun.setResumeCount(syncRunEntity.getResumeCount());
+        syncRun.setCheckpointJobName(syncRunEntity.getCheckpointJobName());
+        syncRun.setCheckpointBuildNumber(syncRunEntity.getCheckpointBuildNumber());
+        syncRun.setFailureMessage(syncRunEntity.getFailureMessage());
+
+        return syncRun;
+    }
+
+    /**
+     * Converts a {@link SyncRun} to a {@link SyncRunEntity}.
+     *
+     * @param syncRun the {@link SyncRun}
+     * @return the converted {@link SyncRunEntity}
+     */
+    public static SyncRunEntity mapToEntity(final SyncRun syncRun) {
+        SyncRunEntity syncRunEntity = new SyncRunEntity(
+                SyncStatusEntity.valueOf(syncRun.getStatus()),
+                syncRun.getStartedAt()
+        );
+        syncRunEntity.setId(syncRun.getId());
+        syncRunEntity.setFinishedAt(syncRun.getFinishedAt());
+        syncRunEntity.setResumeCount(syncRun.getResumeCount());
+        syncRunEntity.setCheckpointJobName(syncRun.getCheckpointJobName());
+        syncRunEntity.setCheckpointBuildNumber(syncRun.getCheckpointBuildNumber());
+        syncRunEntity.setFailureMessage(syncRun.getFailureMessage());
+
+        return syncRunEntity;
+    }
+
+    /**
+     * Converts a {@link SyncPhaseEntity} to a {@link SyncPhase}.
+     *
+     * @param syncPhaseEntity the {@link SyncPhaseEntity}
+     * @return the converted {@link SyncPhase}
+     */
+    public static SyncPhase map(final SyncPhaseEntity syncPhaseEntity) {
+        SyncPhase syncPhase = new SyncPhase(
+                syncPhaseEntity.getPhaseType().name(),
+                syncPhaseEntity.getJobName(),
+                syncPhaseEntity.getBuildNumber(),
+                syncPhaseEntity.getStartedAt()
+        );
+        syncPhase.setId(syncPhaseEntity.getId());
+        syncPhase.setStatus(syncPhaseEntity.getStatus().name());
+        syncPhase.setDurationInMillis(syncPhaseEntity.getDurationInMillis());
+        syncPhase.setFailureMessage(syncPhaseEntity.getFailureMessage());
+
+        return syncPhase;
+    }
+
+    /**
+     * Converts a {@link SyncPhase} to a {@link SyncPhaseEntity}. The associated {@link SyncRunEntity} is not set.
+     *
+     * @param syncPhase the {@link SyncPhase}
+     * @return the converted {@link SyncPhaseEntity}
+     */
+    public static SyncPhaseEntity mapToEntity(final SyncPhase syncPhase) {
+        SyncPhaseEntity syncPhaseEntity = new SyncPhaseEntity(
+                null,
+                SyncPhaseTypeEntity.valueOf(syncPhase.getPhaseType()),
+                syncPhase.getJobName(),
+                syncPhase.getBuildNumber()
+        );
+        syncPhaseEntity.setId(syncPhase.getId());
+        syncPhaseEntity.setStatus(SyncStatusEntity.valueOf(syncPhase.getStatus()));
+        syncPhaseEntity.setStartedAt(syncPhase.getStartedAt());
+        syncPhaseEntity.setDurationInMillis(syncPhase.getDurationInMillis());
+        syncPhaseEntity.setFailureMessage(syncPhase.getFailureMessage());
+
+        return syncPhaseEntity;
+    }
+
+    /**
+     * Converts an {@link IssueFingerprintEntity} to an {@link IssueDiffRow}.
+     *
+     * @param issueFingerprintEntity the {@link IssueFingerprintEntity}
+     * @return the converted {@link IssueDiffRow}
+     */
+    public static IssueDiffRow map(final IssueFingerprintEntity issueFingerprintEntity) {
+        return new IssueDiffRow(issueFingerprintEntity.getFingerprint(), issueFingerprintEntity.getSeverity(),
+                issueFingerprintEntity.getFileName(), issueFingerprintEntity.getLineStart(), issueFingerprintEntity.getMessage());
+    }
+
+    /**
+     * Converts an {@link IssueLifecycleEntity} to an {@link IssueLifecycle}.
+     *
+     * @param issueLifecycleEntity the {@link IssueLifecycleEntity}
+     * @return the converted {@link IssueLifecycle}
+     */
+    public static IssueLifecycle map(final IssueLifecycleEntity issueLifecycleEntity) {
+        IssueLifecycle issueLifecycle = new IssueLifecycle(issueLifecycleEntity.getTool(), issueLifecycleEntity.getFingerprint());
+        issueLifecycle.setMessage(issueLifecycleEntity.getMessage());
+        issueLifecycle.setFileName(issueLifecycleEntity.getFileName());
+        issueLifecycle.setLineStart(issueLifecycleEntity.getLineStart());
+        issueLifecycle.setSeverity(issueLifecycleEntity.getSeverity());
+        issueLifecycle.setFirstSeenBuild(issueLifecycleEntity.getFirstSeenBuild());
+        issueLifecycle.setFirstSeenTimestamp(issueLifecycleEntity.getFirstSeenTimestamp());
+        issueLifecycle.setLastSeenBuild(issueLifecycleEntity.getLastSeenBuild());
+        issueLifecycle.setFixedInBuild(issueLifecycleEntity.getFixedInBuild());
+        issueLifecycle.setReopenCount(issueLifecycleEntity.getReopenCount());
+
+        return issueLifecycle;
+    }
+
+    /**
+     * Converts a {@link HotspotEntity} to a {@link Hotspot}.
+     *
+     * @param hotspotEntity the {@link HotspotEntity}
+     * @return the converted {@link Hotspot}
+     */
+    public static Hotspot map(final HotspotEntity hotspotEntity) {
+        Hotspot hotspot = new Hotspot(hotspotEntity.getKind(), hotspotEntity.getName());
+        hotspot.setCurrentCount(hotspotEntity.getCurrentCount());
+        hotspot.setPeakCount(hotspotEntity.getPeakCount());
+        hotspot.setWarningBuilds(hotspotEntity.getWarningBuilds());
+        hotspot.setWarningWeeks(hotspotEntity.getWarningWeeks());
+        hotspot.setNewCount(hotspotEntity.getNewCount());
+        hotspot.setFixedCount(hotspotEntity.getFixedCount());
+        hotspot.setChurn(hotspotEntity.getChurn());
+        hotspot.setFirstBuild(hotspotEntity.getFirstBuild());
+        hotspot.setLastBuild(hotspotEntity.getLastBuild());
+
+        return hotspot;
+    }
+
+    /**
+     * Converts an {@link AnomalyEntity} to an {@link Anomaly}.
+     *
+     * @param anomalyEntity the {@link AnomalyEntity}
+     * @return the converted {@link Anomaly}
+     */
+    public static Anomaly map(final AnomalyEntity anomalyEntity) {
+        Anomaly anomaly = new Anomaly(anomalyEntity.getTool(), anomalyEntity.getToolName(), anomalyEntity.getMetric(),
+                anomalyEntity.getBuildNumber(), anomalyEntity.getTimestamp());
+        anomaly.setValue(anomalyEntity.getValue());
+        anomaly.setExpected(anomalyEntity.getExpected());
+        anomaly.setScore(anomalyEntity.getScore());
+
+        return anomaly;
+    }
+
+    /**
+     * Converts a {@link QualityGateStatisticEntity} to a {@link QualityGateSummary}.
+     *
+     * @param qualityGateStatisticEntity the {@link QualityGateStatisticEntity}
+     * @return the converted {@link QualityGateSummary}
+     */
+    public static QualityGateSummary map(final QualityGateStatisticEntity qualityGateStatisticEntity) {
+        QualityGateSummary summary = new QualityGateSummary(qualityGateStatisticEntity.getJobName(),
+                qualityGateStatisticEntity.getTool());
+        summary.setStatus(qualityGateStatisticEntity.getStreakStatus().name());
+        summary.setStreak(qualityGateStatisticEntity.getStreak());
+        summary.setLongestPassedStreak(qualityGateStatisticEntity.getLongestPassedStreak());
+        summary.setPassedCount(qualityGateStatisticEntity.getPassedCount());
+        summary.setWarningCount(qualityGateStatisticEntity.getWarningCount());
+        summary.setFailedCount(qualityGateStatisticEntity.getFailedCount());
+        summary.setInactiveCount(qualityGateStatisticEntity.getInactiveCount());
+        summary.setPassRate(qualityGateStatisticEntity.getPassRate());
+        summary.setLastBuild(qualityGateStatisticEntity.getLastBuild());
+
+        return summary;
+    }
+
+    /**
+     * Converts a {@link JobSummaryEntity} to a {@link JobSummary}.
+     *
+     * @param jobSummaryEntity the {@link JobSummaryEntity}
+     * @return the converted {@link JobSummary}
+     */
+    public static JobSummary map(final JobSummaryEntity jobSummaryEntity) {
+        JobSummary summary = new JobSummary(jobSummaryEntity.getJobName());
+        summary.setUrl(jobSummaryEntity.getUrl());
+        summary.setLastBuildStatus(jobSummaryEntity.getLastBuildStatus());
+        summary.setControllerName(jobSummaryEntity.getControllerName());
+        summary.setLatestBuildNumber(jobSummaryEntity.getLatestBuildNumber());
+        summary.setLatestBuildTimestamp(jobSummaryEntity.getLatestBuildTimestamp());
+        summary.setTotalSize(jobSummaryEntity.getTotalSize());
+        summary.setDelta(jobSummaryEntity.getDelta());
+        summary.setQualityGateStatus(jobSummaryEntity.getQualityGateStatus().name());
+        summary.setTools(jobSummaryEntity.getTools().stream().map(Mapper::map).collect(Collectors.toList()));
+
+        return summary;
+    }
+
+    /**
+     * Converts a {@link ToolSummaryEntity} to a {@link ToolSummary}.
+     *
+     * @param toolSummaryEntity the {@link ToolSummaryEntity}
+     * @return the converted {@link ToolSummary}
+     */
+    public static ToolSummary map(final ToolSummaryEntity toolSummaryEntity) {
+        ToolSummary summary = new ToolSummary(toolSummaryEntity.getToolId(), toolSummaryEntity.getName());
+        summary.setTotalSize(toolSummaryEntity.getTotalSize());
+        summary.setDelta(toolSummaryEntity.getDelta());
+        summary.setQualityGateStatus(toolSummaryEntity.getQualityGateStatus() == null
+                ? QualityGateStatusEntity.INACTIVE.name() : toolSummaryEntity.getQualityGateStatus().name());
+
+        return summary;
+    }
+
     @SuppressWarnings("checkstyle:ParameterNumber")
     private static Issue getIssue(final UUID id, final String category, final int columnEnd, final int columnStart, final String description, final String fileName, final String fingerprint, final int lineEnd, final int lineStart, final String message, final String moduleName, final String origin, final String packageName, final String reference, final String severity, final String type) {
         IssueBuilder issueBuilder = new IssueBuilder();
@@ -336,21 +568,21 @@ public class Mapper {
         }
 
         return issueBuilder
-                .setCategory(category)
+                .setCategory(StringPool.intern(category))
                 .setColumnEnd(columnEnd)
                 .setColumnStart(columnStart)
                 .setDescription(description)
-                .setFileName(fileName)
+                .setFileName(StringPool.intern(fileName))
                 .setFingerprint(fingerprint)
                 .setLineEnd(lineEnd)
                 .setLineStart(lineStart)
                 .setMessage(message)
-                .setModuleName(moduleName)
-                .setOrigin(origin)
-                .setPackageName(packageName)
+                .setModuleName(StringPool.intern(moduleName))
+                .setOrigin(StringPool.intern(origin))
+                .setPackageName(StringPool.intern(packageName))
                 .setReference(reference)
                 .setSeverity(Severity.valueOf(severity))
-                .setType(type)
+                .setType(StringPool.intern(type))
                 .build();
     }
 }
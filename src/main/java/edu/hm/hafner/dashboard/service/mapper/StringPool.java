@@ -0,0 +1,67 @@
+package edu.hm.hafner.dashboard.service.mapper;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of strings to share the instances of repeated attributes of issues, e.g. the category, the type or the
+ * file name. These attributes have a small number of distinct values, but every parsed JSON response and every mapped
+ * entity creates new instances of them.
+ *
+ * <p>
+ * The pool is a lossy hash table of a fixed size: a string is stored in the slot of its hash code and replaces the
+ * previous string of the slot. So the pool never grows and needs no locks, a collision only costs a missed share.
+ * Concurrent writes to a slot are harmless, since strings are immutable and every slot holds a complete string.
+ * </p>
+ */
+public final class StringPool {
+    /** The pool for the attributes of issues. */
+    private static final StringPool ISSUE_ATTRIBUTES = new StringPool(16_384, 512);
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates a new instance of {@link StringPool}.
+     *
+     * @param size      the number of slots, rounded up to a power of two
+     * @param maxLength the maximum length of a pooled string, longer strings are returned as they are
+     */
+    public StringPool(final int size, final int maxLength) {
+        int capacity = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the pooled instance of the attribute of an issue.
+     *
+     * @param value the value of the attribute, may be {@code null}
+     * @return an equal pooled string or the given string
+     */
+    public static String intern(final String value) {
+        return ISSUE_ATTRIBUTES.get(value);
+    }
+
+    /**
+     * Returns the pooled instance of a string. If no equal string is pooled, the given string is pooled.
+     *
+     * @param value the string, may be {@code null}
+     * @return an equal pooled string or the given string
+     */
+    public String get(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String pooled = slots.get(slot);
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots.lazySet(slot, value);
+        return value;
+    }
+}
@@ -0,0 +1,236 @@
+package edu.hm.hafner.dashboard.service.rest;
+
+import edu.hm.hafner.dashboard.config.RestApiProperties.RestConfiguration;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.rest.response.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.support.BasicAuthenticationInterceptor;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Client to request data from the Endpoint of a single Jenkins controller. The number of concurrent requests to the
+ * controller is limited by the configuration of the controller. The credentials of the controller are only sent to the
+ * host of the Endpoint.
+ */
+public class JenkinsClient {
+    private static final String NAMESPACE_SEPARATOR = ":";
+    private static final String API_JSON = "api/json";
+    private static final String SLASH = "/";
+
+    private final String name;
+    private final boolean namespaced;
+    private final String endPoint;
+    private final URI baseUrl;
+    private final RestTemplate restTemplate;
+    private final Semaphore requestPermits;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of a {@link JenkinsClient}.
+     *
+     * @param name              the name of the controller
+     * @param restConfiguration the configuration of the Endpoint
+     * @param namespaced        {@code true} if the job names of the controller should be prefixed with the name of the controller
+     */
+    public JenkinsClient(final String name, final RestConfiguration restConfiguration, final boolean namespaced) {
+        this.name = name;
+        this.namespaced = namespaced;
+        this.endPoint = restConfiguration.getEndPoint();
+        this.baseUrl = getBaseUrl(endPoint);
+        this.restTemplate = new RestTemplate();
+        if (restConfiguration.getUsername() != null) {
+            BasicAuthenticationInterceptor authentication =
+                    new BasicAuthenticationInterceptor(restConfiguration.getUsername(), restConfiguration.getApiToken());
+            ClientHttpRequestInterceptor scopedAuthentication = (request, body, execution) ->
+                    isSameOrigin(request.getURI()) ? authentication.intercept(request, body, execution)
+                            : execution.execute(request, body);
+            restTemplate.getInterceptors().add(scopedAuthentication);
+        }
+        this.requestPermits = new Semaphore(Math.max(1, restConfiguration.getMaxConcurrentRequests()), true);
+    }
+
+    /**
+     * Returns the name of the controller.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether an url belongs to this controller, i.e. it has the scheme, host and port of the Endpoint and starts
+     * with the path of the Jenkins root.
+     *
+     * @param url the url to check
+     * @return {@code true} if the url belongs to this controller
+     */
+    public boolean isOwnUrl(final String url) {
+        if (url == null) {
+            return false;
+        }
+        try {
+            URI uri = URI.create(url).normalize();
+            return uri.getUserInfo() == null && isSameOrigin(uri) && uri.getPath() != null
+                    && (uri.getPath() + SLASH).startsWith(baseUrl.getPath());
+        }
+        catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    private boolean isSameOrigin(final URI uri) {
+        return uri.getScheme() != null && uri.getHost() != null
+                && uri.getScheme().equalsIgnoreCase(baseUrl.getScheme())
+                && uri.getHost().toLowerCase(Locale.ENGLISH).equals(baseUrl.getHost().toLowerCase(Locale.ENGLISH))
+                && getPort(uri) == getPort(baseUrl);
+    }
+
+    private static int getPort(final URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static URI getBaseUrl(final String endPoint) {
+        URI uri = URI.create(Objects.requireNonNull(endPoint, "The Endpoint of a Jenkins controller is required"));
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        if (path.endsWith(SLASH)) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (path.endsWith(API_JSON)) {
+            path = path.substring(0, path.length() - API_JSON.length());
+        }
+        if (!path.endsWith(SLASH)) {
+            path = path + SLASH;
+        }
+        return URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + path);
+    }
+
+    /**
+     * Returns the name of a job of this controller, which is unique across all controllers.
+     *
+     * @param jobName the name of the job in Jenkins
+     * @return the qualified name of the job
+     */
+    public String qualify(final String jobName) {
+        return namespaced ? name + NAMESPACE_SEPARATOR + jobName : jobName;
+    }
+
+    /**
+     * Starts a request to get the jobs as a {@link JobsResponse} from the Jenkins Endpoint.
+     *
+     * @return the {@link JobsResponse} or {@code null} if the Endpoint is not available
+     */
+    public JobsResponse getProjects() {
+        try {
+            return request(() -> restTemplate.getForObject(endPoint, JobsResponse.class));
+        }
+        catch (ResourceAccessException resourceAccessException) {
+            logger.error("The current configured Endpoint: " + endPoint + " of controller " + name
+                    + " is not available. Set the correct URL int the application.properties to fetch the data.");
+            return null;
+        }
+    }
+
+    /**
+     * Starts a request to get the child jobs of a folder or multibranch project as a {@link JobsResponse}.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link JobsResponse}
+     */
+    public JobsResponse getJobs(final String url) {
+        return request(() -> restTemplate.getForObject(url, JobsResponse.class));
+    }
+
+    /**
+     * Starts a request to get the builds as a {@link BuildsResponse} from the Jenkins Endpoint.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link BuildsResponse}
+     */
+    public BuildsResponse getBuilds(final String url) {
+        return request(() -> restTemplate.getForObject(url, BuildsResponse.class));
+    }
+
+    /**
+     * Starts a request to get a single {@link Build} from the Jenkins Endpoint, e.g. to check if it is still running.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link Build}
+     */
+    public Build getBuild(final String url) {
+        return request(() -> restTemplate.getForObject(url, Build.class));
+    }
+
+    /**
+     * Starts a request to get the tools as a {@link ToolsResponse} from the Jenkins Endpoint.
+     * The {@link ToolsResponse} is part of {@link edu.hm.hafner.dashboard.service.dto.Result}.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link ToolsResponse}
+     */
+    public ToolsResponse getTools(final String url) {
+        ToolsResponse toolsResponse = null;
+        try {
+            toolsResponse = request(() -> restTemplate.getForObject(url, ToolsResponse.class));
+        } catch (HttpClientErrorException ex) {
+            logger.info("Tools not Found for url: " + url);
+        }
+        return toolsResponse;
+    }
+
+    /**
+     * Starts a request to get the results as a {@link ResultResponse} from the Jenkins Endpoint.
+     * The {@link ResultResponse} is part of {@link edu.hm.hafner.dashboard.service.dto.Result}.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link ResultResponse}
+     */
+    public ResultResponse getToolsDetail(final String url) {
+        ResultResponse resultResponse = null;
+        try {
+            resultResponse = request(() -> restTemplate.getForObject(url, ResultResponse.class));
+        } catch (HttpClientErrorException ex) {
+            logger.info("ToolsDetail not Found for url: " + url);
+        }
+        return resultResponse;
+    }
+
+    /**
+     * Starts a request to get the issues as a {@link IssuesResponse} from the Jenkins Endpoint.
+     *
+     * @param url the url of the Endpoint
+     * @return the {@link IssuesResponse}
+     */
+    public IssuesResponse getIssues(final String url) {
+        IssuesResponse issuesResponse = null;
+        try {
+            issuesResponse = request(() -> restTemplate.getForObject(url, IssuesResponse.class));
+        } catch (HttpClientErrorException ex) {
+            logger.info("Issues not Found for url: " + url);
+        }
+        return issuesResponse;
+    }
+
+    private <T> T request(final Supplier<T> request) {
+        requestPermits.acquireUninterruptibly();
+        try {
+            return request.get();
+        }
+        finally {
+            requestPermits.release();
+        }
+    }
+}
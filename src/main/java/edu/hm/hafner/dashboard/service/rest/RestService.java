@@ -1,23 +1,25 @@
 package edu.hm.hafner.dashboard.service.rest;
 
 import edu.hm.hafner.dashboard.config.RestApiProperties;
-import edu.hm.hafner.dashboard.service.rest.response.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import edu.hm.hafner.dashboard.config.RestApiProperties.RestConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Service to request data from the Jenkins Endpoint.
+ * Service to request data from the configured Jenkins controllers. Every controller is accessed by its own
+ * {@link JenkinsClient}. The jobs of the default controller keep their plain names, the jobs of the additional
+ * controllers are prefixed with the name of the controller.
  */
 @Service
 public class RestService {
-    private final RestApiProperties restApiProperties;
-    private final RestTemplate restTemplate;
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<String, JenkinsClient> clients = new LinkedHashMap<>();
+    private JenkinsClient defaultClient;
 
     /**
      * Creates a new instance of a {@link RestService}.
@@ -26,86 +28,40 @@ public class RestService {
      */
     @Autowired
     public RestService(final RestApiProperties restApiProperties) {
-        this.restApiProperties = restApiProperties;
-        this.restTemplate = new RestTemplate();
-    }
-
-    /**
-     * Starts a request to get the jobs as a {@link JobsResponse} from the Jenkins Endpoint.
-     *
-     * @return the {@link JobsResponse}
-     */
-    public JobsResponse getProjects() {
-        JobsResponse jobsResponse;
-        try {
-            jobsResponse = restTemplate.getForObject(restApiProperties.getRestConfiguration().getEndPoint(), JobsResponse.class);
+        RestConfiguration defaultConfiguration = restApiProperties.getRestConfiguration();
+        if (defaultConfiguration != null && defaultConfiguration.getEndPoint() != null) {
+            String name = defaultConfiguration.getName() == null ? RestApiProperties.DEFAULT_CONTROLLER : defaultConfiguration.getName();
+            defaultClient = new JenkinsClient(name, defaultConfiguration, false);
+            clients.put(name, defaultClient);
         }
-        catch (ResourceAccessException resourceAccessException) {
-            logger.error("The current configured Endpoint: " + restApiProperties.getRestConfiguration().getEndPoint()
-                    + "is not available. Set the correct URL int the application.properties to fetch the data.");
-            return null;
+        for (RestConfiguration controller : restApiProperties.getControllers()) {
+            if (controller.getName() == null || clients.containsKey(controller.getName())) {
+                throw new IllegalArgumentException("Every Jenkins controller needs a unique name: " + controller.getEndPoint());
+            }
+            clients.put(controller.getName(), new JenkinsClient(controller.getName(), controller, true));
         }
-
-        return jobsResponse;
     }
 
     /**
-     * Starts a request to get the builds as a {@link BuildsResponse} from the Jenkins Endpoint.
+     * Returns the clients of all configured Jenkins controllers.
      *
-     * @param url the url of the Endpoint
-     * @return the {@link BuildsResponse}
+     * @return the {@link JenkinsClient}s
      */
-    public BuildsResponse getBuilds(final String url) {
-        return restTemplate.getForObject(url, BuildsResponse.class);
-    }
-
-    /**
-     * Starts a request to get the tools as a {@link ToolsResponse} from the Jenkins Endpoint.
-     * The {@link ToolsResponse} is part of {@link edu.hm.hafner.dashboard.service.dto.Result}.
-     *
-     * @param url the url of the Endpoint
-     * @return the {@link ToolsResponse}
-     */
-    public ToolsResponse getTools(final String url) {
-        ToolsResponse toolsResponse = null;
-        try {
-            toolsResponse = restTemplate.getForObject(url, ToolsResponse.class);
-        } catch (HttpClientErrorException ex) {
-            logger.info("Tools not Found for url: " + url);
-        }
-        return toolsResponse;
-    }
-
-    /**
-     * Starts a request to get the results as a {@link ResultResponse} from the Jenkins Endpoint.
-     * The {@link ResultResponse} is part of {@link edu.hm.hafner.dashboard.service.dto.Result}.
-     *
-     * @param url the url of the Endpoint
-     * @return the {@link ResultResponse}
-     */
-    public ResultResponse getToolsDetail(final String url) {
-        ResultResponse resultResponse = null;
-        try {
-            resultResponse = restTemplate.getForObject(url, ResultResponse.class);
-        } catch (HttpClientErrorException ex) {
-            logger.info("ToolsDetail not Found for url: " + url);
-        }
-        return resultResponse;
+    public List<JenkinsClient> getClients() {
+        return Collections.unmodifiableList(new ArrayList<>(clients.values()));
     }
 
     /**
-     * Starts a request to get the issues as a {@link IssuesResponse} from the Jenkins Endpoint.
+     * Returns the client of a configured Jenkins controller.
      *
-     * @param url the url of the Endpoint
-     * @return the {@link IssuesResponse}
+     * @param controllerName the name of the controller, {@code null} for jobs that have been stored before the controllers
+     *                       have been introduced
+     * @return the {@link JenkinsClient} or {@code null} if the controller is not configured (anymore)
      */
-    public IssuesResponse getIssues(final String url) {
-        IssuesResponse issuesResponse = null;
-        try {
-            issuesResponse = restTemplate.getForObject(url, IssuesResponse.class);
-        } catch (HttpClientErrorException ex) {
-            logger.info("Issues not Found for url: " + url);
+    public JenkinsClient getClient(final String controllerName) {
+        if (controllerName == null) {
+            return defaultClient;
         }
-        return issuesResponse;
+        return clients.get(controllerName);
     }
 }
@@ -7,6 +7,7 @@ import edu.hm.hafner.dashboard.service.dto.Build;
  */
 public class BuildsResponse {
     private Build[] builds;
+    private String color;
 
     /**
      * Returns the response of {@link Build}s.
@@ -25,4 +26,22 @@ public class BuildsResponse {
     public void setBuilds(final Build[] builds) {
         this.builds = builds;
     }
+
+    /**
+     * Returns the current color (i.e. the status) of the job.
+     *
+     * @return the color
+     */
+    public String getColor() {
+        return color;
+    }
+
+    /**
+     * Setter to set the current color of the job.
+     *
+     * @param color the color
+     */
+    public void setColor(final String color) {
+        this.color = color;
+    }
 }
@@ -1,9 +1,12 @@
 package edu.hm.hafner.dashboard.service.rest.response;
 
+import edu.hm.hafner.dashboard.service.mapper.StringPool;
+
 import java.util.UUID;
 
 /**
- * Represents a {@link Issue}s response from the Jenkins API.
+ * Represents a {@link Issue}s response from the Jenkins API. The attributes of the issues with few distinct values are
+ * shared with the {@link StringPool} while the response is parsed.
  */
 public class IssuesResponse {
     private Issue[] issues;
@@ -60,7 +63,7 @@ public class IssuesResponse {
         }
 
         public void setCategory(final String category) {
-            this.category = category;
+            this.category = StringPool.intern(category);
         }
 
         public int getColumnStart() {
@@ -92,7 +95,7 @@ public class IssuesResponse {
         }
 
         public void setFileName(final String fileName) {
-            this.fileName = fileName;
+            this.fileName = StringPool.intern(fileName);
         }
 
         public String getFingerprint() {
@@ -132,7 +135,7 @@ public class IssuesResponse {
         }
 
         public void setModuleName(final String moduleName) {
-            this.moduleName = moduleName;
+            this.moduleName = StringPool.intern(moduleName);
         }
 
         public String getOrigin() {
@@ -140,7 +143,7 @@ public class IssuesResponse {
         }
 
         public void setOrigin(final String origin) {
-            this.origin = origin;
+            this.origin = StringPool.intern(origin);
         }
 
         public String getPackageName() {
@@ -148,7 +151,7 @@ public class IssuesResponse {
         }
 
         public void setPackageName(final String packageName) {
-            this.packageName = packageName;
+            this.packageName = StringPool.intern(packageName);
         }
 
         public String getReference() {
@@ -164,7 +167,7 @@ public class IssuesResponse {
         }
 
         public void setSeverity(final String severity) {
-            this.severity = severity;
+            this.severity = StringPool.intern(severity);
         }
 
         public String getType() {
@@ -172,7 +175,7 @@ public class IssuesResponse {
         }
 
         public void setType(final String type) {
-            this.type = type;
+            this.type = StringPool.intern(type);
         }
     }
 }
@@ -0,0 +1,433 @@
+package edu.hm.hafner.dashboard.service.search;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.config.SearchProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchHit;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchResult;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded full-text index of the issues of all stored builds, based on Lucene. The index is stored in segments on disk
+ * and updated incrementally. Every issue of a job is indexed once, keyed by its tool and fingerprint, together with the
+ * first and the last build that contain it. So the index grows with the distinct issues and not with the builds, and
+ * indexing a build again is idempotent. Issues without a fingerprint are keyed by their file, line and message.
+ *
+ * <p>
+ * Searches use a near-real-time reader that is refreshed after every indexed build. The changes are committed to disk in
+ * batches with {@link #commit()}.
+ * </p>
+ *
+ * <p>
+ * The message, description, file name and category of the issues are searchable. The job, tool and severity are indexed
+ * as keywords to filter the hits and as facets to count the hits per value.
+ * </p>
+ */
+@Component
+public class IssueSearchIndex implements Closeable {
+    /** The name of the facet and the filter of the jobs. */
+    public static final String JOB = "job";
+    /** The name of the facet and the filter of the tools. */
+    public static final String TOOL = "tool";
+    /** The name of the facet and the filter of the severities. */
+    public static final String SEVERITY = "severity";
+
+    private static final String ISSUE = "issue";
+    private static final String LAST_BUILD = "lastBuild";
+    private static final String FIRST_BUILD_NUMBER = "firstBuildNumber";
+    private static final String BUILD_NUMBER = "buildNumber";
+    private static final String MESSAGE = "message";
+    private static final String DESCRIPTION = "description";
+    private static final String FILE_NAME = "fileName";
+    private static final String CATEGORY = "category";
+    private static final String LINE_START = "lineStart";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String[] SEARCHABLE_FIELDS = {MESSAGE, DESCRIPTION, FILE_NAME, CATEGORY};
+    private static final List<String> FACETS = Arrays.asList(JOB, TOOL, SEVERITY);
+    private static final int MAX_FACET_VALUES = 100;
+    private static final String UNDEFINED = "-";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final SearchProperties searchProperties;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private IndexReader facetReader;
+    private SortedSetDocValuesReaderState facetState;
+
+    /**
+     * Creates a new instance of {@link IssueSearchIndex} and opens the index.
+     *
+     * @param searchProperties the configuration of the search
+     * @throws UncheckedIOException if the index can not be opened
+     */
+    @Autowired
+    public IssueSearchIndex(final SearchProperties searchProperties) {
+        this.searchProperties = searchProperties;
+        try {
+            directory = openDirectory(searchProperties.getIndexDirectory());
+            IndexWriterConfig config = new IndexWriterConfig(analyzer);
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            indexWriter = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(indexWriter, null);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Opening the search index failed", exception);
+        }
+    }
+
+    private Directory openDirectory(final String indexDirectory) throws IOException {
+        if (indexDirectory == null || indexDirectory.trim().isEmpty()) {
+            return new ByteBuffersDirectory();
+        }
+        return FSDirectory.open(Files.createDirectories(Paths.get(indexDirectory)));
+    }
+
+    /**
+     * Returns whether the index contains no issues, e.g. after the first start.
+     *
+     * @return {@code true} if the index is empty
+     */
+    public boolean isEmpty() {
+        return indexWriter.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * Indexes the outstanding and new issues of a build. An issue that has been indexed before is replaced, its first
+     * and last build are extended by the build. The builds of a job may be indexed in any order.
+     *
+     * @param jobName the name of the job
+     * @param build   the {@link Build} with its results
+     * @throws UncheckedIOException if the index can not be written
+     */
+    public synchronized void index(final String jobName, final Build build) {
+        try {
+            Map<String, IndexedIssue> issues = new LinkedHashMap<>();
+            for (Result result : build.getResults()) {
+                addIssues(issues, jobName, result, result.getOutstandingIssues());
+                addIssues(issues, jobName, result, result.getNewIssues());
+            }
+
+            int buildNumber = build.getNumber();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (Map.Entry<String, IndexedIssue> entry : issues.entrySet()) {
+                    int firstBuildNumber = buildNumber;
+                    int lastBuildNumber = buildNumber;
+                    TopDocs indexed = searcher.search(new TermQuery(new Term(ISSUE, entry.getKey())), 1);
+                    if (indexed.scoreDocs.length > 0) {
+                        Document document = searcher.doc(indexed.scoreDocs[0].doc);
+                        firstBuildNumber = Math.min(firstBuildNumber, getNumber(document, FIRST_BUILD_NUMBER));
+                        lastBuildNumber = Math.max(lastBuildNumber, getNumber(document, BUILD_NUMBER));
+                    }
+                    indexWriter.updateDocument(new Term(ISSUE, entry.getKey()), createDocument(jobName,
+                            entry.getKey(), entry.getValue(), firstBuildNumber, lastBuildNumber));
+                }
+            }
+            finally {
+                searcherManager.release(searcher);
+            }
+            searcherManager.maybeRefreshBlocking();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Indexing Build " + build.getNumber() + " of " + jobName + " failed", exception);
+        }
+    }
+
+    /**
+     * Removes the issues of a job that have been seen last in one of the given builds. Issues that are still part of a
+     * newer build are kept.
+     *
+     * @param jobName      the name of the job
+     * @param buildNumbers the numbers of the builds
+     * @throws UncheckedIOException if the index can not be written
+     */
+    public synchronized void delete(final String jobName, final Collection<Integer> buildNumbers) {
+        try {
+            for (int buildNumber : buildNumbers) {
+                indexWriter.deleteDocuments(new Term(LAST_BUILD, getBuildKey(jobName, buildNumber)));
+            }
+            searcherManager.maybeRefreshBlocking();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Removing Builds " + buildNumbers + " of " + jobName + " failed", exception);
+        }
+    }
+
+    private void addIssues(final Map<String, IndexedIssue> issues, final String jobName, final Result result,
+            final Report report) {
+        String tool = valueOf(result.getWarningId());
+        for (Issue issue : report) {
+            issues.put(getIssueKey(jobName, tool, issue), new IndexedIssue(tool, issue));
+        }
+    }
+
+    private String getIssueKey(final String jobName, final String tool, final Issue issue) {
+        if (issue.hasFingerprint()) {
+            return jobName + '#' + tool + '#' + issue.getFingerprint();
+        }
+        return jobName + '#' + tool + '#' + issue.getFileName() + ':' + issue.getLineStart() + ':' + issue.getMessage();
+    }
+
+    private int getNumber(final Document document, final String field) {
+        return document.getField(field).numericValue().intValue();
+    }
+
+    private Document createDocument(final String jobName, final String issueKey, final IndexedIssue indexedIssue,
+            final int firstBuildNumber, final int lastBuildNumber) throws IOException {
+        String tool = indexedIssue.getTool();
+        Issue issue = indexedIssue.getIssue();
+        String severity = issue.getSeverity() == null ? UNDEFINED : issue.getSeverity().getName();
+
+        Document document = new Document();
+        document.add(new StringField(ISSUE, issueKey, Field.Store.NO));
+        document.add(new StringField(LAST_BUILD, getBuildKey(jobName, lastBuildNumber), Field.Store.NO));
+        document.add(new StringField(JOB, jobName, Field.Store.YES));
+        document.add(new StringField(TOOL, tool, Field.Store.YES));
+        document.add(new StringField(SEVERITY, severity, Field.Store.YES));
+        document.add(new SortedSetDocValuesFacetField(JOB, jobName));
+        document.add(new SortedSetDocValuesFacetField(TOOL, tool));
+        document.add(new SortedSetDocValuesFacetField(SEVERITY, severity));
+        document.add(new StoredField(FIRST_BUILD_NUMBER, firstBuildNumber));
+        document.add(new StoredField(BUILD_NUMBER, lastBuildNumber));
+        document.add(new StoredField(LINE_START, issue.getLineStart()));
+        document.add(new TextField(MESSAGE, valueOf(issue.getMessage()), Field.Store.YES));
+        document.add(new TextField(DESCRIPTION, valueOf(issue.getDescription()), Field.Store.NO));
+        document.add(new TextField(FILE_NAME, valueOf(issue.getFileName()), Field.Store.YES));
+        document.add(new TextField(CATEGORY, valueOf(issue.getCategory()), Field.Store.YES));
+        document.add(new StoredField(FINGERPRINT, valueOf(issue.getFingerprint())));
+        return facetsConfig.build(document);
+    }
+
+    private String getBuildKey(final String jobName, final int buildNumber) {
+        return jobName + '#' + buildNumber;
+    }
+
+    private String valueOf(final String value) {
+        return value == null || value.isEmpty() ? UNDEFINED : value;
+    }
+
+    /**
+     * Commits the indexed issues to disk. The issues are searchable before, but only committed issues survive a
+     * restart.
+     *
+     * @throws UncheckedIOException if the index can not be written
+     */
+    public synchronized void commit() {
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Committing the search index failed", exception);
+        }
+    }
+
+    /**
+     * Searches for issues. The text is parsed with the classic Lucene query syntax (e.g. {@code "null pointer" AND
+     * fileName:Foo*}), all terms have to match. An empty text finds all issues of the filters.
+     *
+     * @param text     the text to search for, may be empty
+     * @param jobName  the name of the job to filter, or {@code null} for all jobs
+     * @param tool     the id of the tool to filter, or {@code null} for all tools
+     * @param severity the severity to filter, or {@code null} for all severities
+     * @param page     the number of the page, starting with 0
+     * @param pageSize the maximum number of hits of a page
+     * @return the {@link IssueSearchResult}
+     * @throws IllegalArgumentException if the text is no valid query or the page is outside of the maximum result window
+     * @throws UncheckedIOException     if the index can not be read
+     */
+    public IssueSearchResult search(final String text, final String jobName, final String tool, final String severity,
+            final int page, final int pageSize) {
+        if (page < 0 || pageSize < 1 || (long) (page + 1) * pageSize > searchProperties.getMaxResultWindow()) {
+            throw new IllegalArgumentException("Page " + page + " with size " + pageSize
+                    + " is outside of the first " + searchProperties.getMaxResultWindow() + " hits");
+        }
+        Query query = createQuery(text, jobName, tool, severity);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                FacetsCollector facetsCollector = new FacetsCollector();
+                TopDocs topDocs = FacetsCollector.search(searcher, query, (page + 1) * pageSize, facetsCollector);
+
+                List<IssueSearchHit> hits = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = page * pageSize; i < scoreDocs.length; i++) {
+                    hits.add(createHit(searcher.doc(scoreDocs[i].doc)));
+                }
+                return new IssueSearchResult(topDocs.totalHits.value, page, pageSize, hits,
+                        countFacets(searcher.getIndexReader(), facetsCollector));
+            }
+            finally {
+                searcherManager.release(searcher);
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Searching for " + text + " failed", exception);
+        }
+    }
+
+    private Query createQuery(final String text, final String jobName, final String tool, final String severity) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (text == null || text.trim().isEmpty()) {
+            query.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        else {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCHABLE_FIELDS, analyzer);
+            parser.setDefaultOperator(QueryParser.Operator.AND);
+            try {
+                query.add(parser.parse(text), BooleanClause.Occur.MUST);
+            }
+            catch (ParseException exception) {
+                throw new IllegalArgumentException("Invalid query " + text + ": " + exception.getMessage(), exception);
+            }
+        }
+        addFilter(query, JOB, jobName);
+        addFilter(query, TOOL, tool);
+        addFilter(query, SEVERITY, severity);
+        return query.build();
+    }
+
+    private void addFilter(final BooleanQuery.Builder query, final String field, final String value) {
+        if (value != null && !value.isEmpty()) {
+            query.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    private IssueSearchHit createHit(final Document document) {
+        return new IssueSearchHit(document.get(JOB),
+                getNumber(document, FIRST_BUILD_NUMBER),
+                getNumber(document, BUILD_NUMBER),
+                document.get(TOOL),
+                document.get(SEVERITY),
+                document.get(CATEGORY),
+                document.get(FILE_NAME),
+                getNumber(document, LINE_START),
+                document.get(MESSAGE),
+                document.get(FINGERPRINT));
+    }
+
+    private Map<String, Map<String, Long>> countFacets(final IndexReader reader, final FacetsCollector facetsCollector)
+            throws IOException {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        FACETS.forEach(facet -> facets.put(facet, new LinkedHashMap<>()));
+        if (reader.numDocs() == 0) {
+            return facets;
+        }
+
+        Facets counts = new SortedSetDocValuesFacetCounts(getFacetState(reader), facetsCollector);
+        for (String facet : FACETS) {
+            FacetResult facetResult = counts.getTopChildren(MAX_FACET_VALUES, facet);
+            if (facetResult != null) {
+                for (LabelAndValue labelAndValue : facetResult.labelValues) {
+                    facets.get(facet).put(labelAndValue.label, labelAndValue.value.longValue());
+                }
+            }
+        }
+        return facets;
+    }
+
+    /**
+     * Returns the ordinals of the facet values of a reader. They are read once per refreshed reader.
+     *
+     * @param reader the current reader
+     * @return the state of the facets
+     * @throws IOException if the index can not be read
+     */
+    private synchronized SortedSetDocValuesReaderState getFacetState(final IndexReader reader) throws IOException {
+        if (facetReader != reader) {
+            facetState = new DefaultSortedSetDocValuesReaderState(reader);
+            facetReader = reader;
+        }
+        return facetState;
+    }
+
+    /**
+     * Commits and closes the index.
+     *
+     * @throws IOException if the index can not be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        logger.info("Closing the search index with " + indexWriter.getDocStats().numDocs + " issues");
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * An issue of a build together with the tool that reported it.
+     */
+    private static class IndexedIssue {
+        private final String tool;
+        private final Issue issue;
+
+        IndexedIssue(final String tool, final Issue issue) {
+            this.tool = tool;
+            this.issue = issue;
+        }
+
+        String getTool() {
+            return tool;
+        }
+
+        Issue getIssue() {
+            return issue;
+        }
+    }
+}
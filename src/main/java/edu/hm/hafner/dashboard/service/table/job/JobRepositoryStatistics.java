@@ -1,6 +1,6 @@
 package edu.hm.hafner.dashboard.service.table.job;
 
-import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.JobSummary;
 
 import java.util.*;
 import java.util.function.Function;
@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
  * @author Deniz Mardin
  */
 public class JobRepositoryStatistics {
-    private final Map<String, Job> statisticsPerJob = new LinkedHashMap<>();
+    private final Map<String, JobSummary> statisticsPerJob = new LinkedHashMap<>();
 
     /**
      * Returns the statistics for the given job.
@@ -20,7 +20,7 @@ public class JobRepositoryStatistics {
      * @param jobName the job name
      * @return the statistic of the job
      */
-    public Job get(final String jobName) {
+    public JobSummary get(final String jobName) {
         if (contains(jobName)) {
             return statisticsPerJob.get(jobName);
         }
@@ -69,7 +69,7 @@ public class JobRepositoryStatistics {
      *
      * @return all job statistics
      */
-    public Collection<Job> getJobStatistics() {
+    public Collection<JobSummary> getJobStatistics() {
         return statisticsPerJob.values();
     }
 
@@ -78,9 +78,9 @@ public class JobRepositoryStatistics {
      *
      * @param additionalStatistics the job statistics to add
      */
-    public void addAll(final Collection<Job> additionalStatistics) {
-        Map<String, Job> collect = additionalStatistics.stream().collect(Collectors.toMap(
-                Job::getName,
+    public void addAll(final Collection<JobSummary> additionalStatistics) {
+        Map<String, JobSummary> collect = additionalStatistics.stream().collect(Collectors.toMap(
+                JobSummary::getJobName,
                 Function.identity(),
                 (u, v) -> {
                     throw new IllegalStateException(String.format("Duplicate key %s", u));
@@ -103,7 +103,7 @@ public class JobRepositoryStatistics {
      *
      * @param additionalStatistics the additional job statistic to add
      */
-    public void add(final Job additionalStatistics) {
-        statisticsPerJob.put(additionalStatistics.getName(), additionalStatistics);
+    public void add(final JobSummary additionalStatistics) {
+        statisticsPerJob.put(additionalStatistics.getJobName(), additionalStatistics);
     }
 }
@@ -1,6 +1,6 @@
 package edu.hm.hafner.dashboard.service.table.job;
 
-import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.JobSummary;
 import io.jenkins.plugins.datatables.TableColumn;
 import io.jenkins.plugins.datatables.TableModel;
 
@@ -47,6 +47,12 @@ public class JobTableModel extends TableModel {
         columns.add(new TableColumn("Job Name", "jobName"));
         columns.add(new TableColumn("Status", "jobStatus"));
         columns.add(new TableColumn("Url", "jobUrl"));
+        columns.add(new TableColumn("Controller", "controllerName"));
+        columns.add(new TableColumn("Latest Build", "latestBuild"));
+        columns.add(new TableColumn("Warnings", "totalWarnings"));
+        columns.add(new TableColumn("Delta", "delta"));
+        columns.add(new TableColumn("Quality Gate", "qualityGate"));
+        columns.add(new TableColumn("Tools", "tools"));
 
         return columns;
     }
@@ -66,14 +72,14 @@ public class JobTableModel extends TableModel {
      */
     public static class JobsRow {
 
-        private final Job jobStatistics;
+        private final JobSummary jobStatistics;
 
         /**
          * Creates a new instance of a {@link JobsRow}.
          *
          * @param jobStatistics the job statistic for one line
          */
-        JobsRow(final Job jobStatistics) {
+        JobsRow(final JobSummary jobStatistics) {
             this.jobStatistics = jobStatistics;
         }
 
@@ -83,7 +89,7 @@ public class JobTableModel extends TableModel {
          * @return the name
          */
         public String getJobName() {
-            return jobStatistics.getName();
+            return jobStatistics.getJobName();
         }
 
         /**
@@ -103,5 +109,69 @@ public class JobTableModel extends TableModel {
         public String getJobStatus() {
             return jobStatistics.getLastBuildStatus();
         }
+
+        /**
+         * Returns the name of the Jenkins controller of the job.
+         *
+         * @return the name of the controller
+         */
+        public String getControllerName() {
+            return jobStatistics.getControllerName();
+        }
+
+        /**
+         * Returns the number of the latest stored build of the job.
+         *
+         * @return the build number, an empty string if no build is stored
+         */
+        public String getLatestBuild() {
+            if (jobStatistics.getLatestBuildNumber() == 0) {
+                return "";
+            }
+            return "#" + jobStatistics.getLatestBuildNumber();
+        }
+
+        /**
+         * Returns the number of warnings of all tools in the latest build.
+         *
+         * @return the number of warnings
+         */
+        public int getTotalWarnings() {
+            return jobStatistics.getTotalSize();
+        }
+
+        /**
+         * Returns the change of the number of warnings since the build before the latest build.
+         *
+         * @return the signed change of the number of warnings
+         */
+        public String getDelta() {
+            return formatDelta(jobStatistics.getDelta());
+        }
+
+        /**
+         * Returns the worst status of the quality gates in the latest build.
+         *
+         * @return the status
+         */
+        public String getQualityGate() {
+            return jobStatistics.getQualityGateStatus();
+        }
+
+        /**
+         * Returns the number of warnings and their change per tool in the latest build.
+         *
+         * @return the warnings per tool
+         */
+        public String getTools() {
+            return jobStatistics.getTools().stream()
+                    .map(tool -> String.format("%s: %d (%s)", tool.getName(), tool.getTotalSize(),
+                            formatDelta(tool.getDelta())))
+                    .collect(Collectors.joining(", "));
+        }
+
+        private String formatDelta(final int delta) {
+            return delta > 0 ? "+" + delta : String.valueOf(delta);
+        }
     }
 }
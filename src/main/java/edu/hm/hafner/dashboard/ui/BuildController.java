@@ -1,10 +1,14 @@
 package edu.hm.hafner.dashboard.ui;
 
+import edu.hm.hafner.dashboard.service.BuildWindow;
 import edu.hm.hafner.dashboard.service.UiService;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.echarts.LinesChartModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +22,8 @@ import java.util.List;
  */
 @Controller
 public class BuildController {
+    private static final BuildWindow CHART_WINDOW = BuildWindow.lastBuilds(BuildWindow.DEFAULT_BUILD_COUNT);
+
     private final UiService uiService;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -56,28 +62,33 @@ public class BuildController {
      * Ajax call for the table with builds that prepares the rows.
      *
      * @param jobName the name of the job
+     * @param window  the optional window of the builds, all builds by default
      * @return rows of the table
      */
     @RequestMapping(path = {"/ajax/job/{jobName}/build"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public List<Object> getRowsForBuildViewTable(final @PathVariable("jobName") String jobName) {
+    public List<Object> getRowsForBuildViewTable(final @PathVariable("jobName") String jobName,
+            final BuildWindowRequest window) {
         logger.info("getRowsForBuildViewTable is called");
 
-        return uiService.getRowsForBuildViewTable(jobName);
+        return uiService.getRowsForBuildViewTable(jobName, window.toWindow(BuildWindow.all()));
     }
 
     /**
      * Ajax call that prepares the aggregated analysis results as {@link LinesChartModel} to display an echart.
      *
      * @param jobName the name of the job
+     * @param window  the optional window of the builds, the latest builds by default
+     * @param width   the optional width of the chart in pixels, used to reduce the number of points
      * @return the {@link LinesChartModel}
      */
     @RequestMapping(path = {"/ajax/aggregatedAnalysisResults/{jobName}"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public LinesChartModel getAggregatedAnalysisResultsTrendCharts(final @PathVariable("jobName") String jobName) {
+    public LinesChartModel getAggregatedAnalysisResultsTrendCharts(final @PathVariable("jobName") String jobName,
+            final BuildWindowRequest window, final @RequestParam(required = false) Integer width) {
         logger.info("getAggregatedAnalysisResultsTrendChartsExample (ajax) is called");
 
-        return uiService.getAggregatedAnalysisResultsTrendCharts(jobName);
+        return uiService.getAggregatedAnalysisResultsTrendCharts(jobName, window.toWindow(CHART_WINDOW), TrendDownsampler.getMaxPoints(width));
     }
 
     /**
@@ -85,28 +96,34 @@ public class BuildController {
      *
      * @param jobName  the name of the job
      * @param toolName the name of the used tool
+     * @param window   the optional window of the builds, the latest builds by default
+     * @param width    the optional width of the chart in pixels, used to reduce the number of points
      * @return the {@link LinesChartModel}
      */
     @RequestMapping(path = {"/ajax/{jobName}/tool/{toolName}"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public LinesChartModel getTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName) {
+    public LinesChartModel getTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName,
+            final BuildWindowRequest window, final @RequestParam(required = false) Integer width) {
         logger.info("getTrendChartForTool (ajax) is called");
 
-        return uiService.getTrendChartForTool(jobName, toolName);
+        return uiService.getTrendChartForTool(jobName, toolName, window.toWindow(CHART_WINDOW), TrendDownsampler.getMaxPoints(width));
     }
 
     /**
      * Ajax call to get the aggregated size of new vs fixed issues.
      *
      * @param jobName the name of the project
+     * @param window  the optional window of the builds, the latest builds by default
+     * @param width   the optional width of the chart in pixels, used to reduce the number of points
      * @return the {@link LinesChartModel} model with the size of fixed and new issues for each build
      */
     @RequestMapping(path = {"/ajax/{jobName}/newVersusFixedAggregatedTrendChart"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public LinesChartModel getNewVersusFixedTrendChart(final @PathVariable("jobName") String jobName) {
+    public LinesChartModel getNewVersusFixedTrendChart(final @PathVariable("jobName") String jobName,
+            final BuildWindowRequest window, final @RequestParam(required = false) Integer width) {
         logger.info("getNewVersusFixedAggregatedTrendChart (ajax) is called");
 
-        return uiService.getNewVersusFixedAggregatedTrendChart(jobName);
+        return uiService.getNewVersusFixedAggregatedTrendChart(jobName, window.toWindow(CHART_WINDOW), TrendDownsampler.getMaxPoints(width));
     }
 
     /**
@@ -114,14 +131,17 @@ public class BuildController {
      *
      * @param jobName  the name of the project
      * @param toolName the used tool
+     * @param window   the optional window of the builds, the latest builds by default
+     * @param width    the optional width of the chart in pixels, used to reduce the number of points
      * @return the {@link LinesChartModel} with the size of fixed and new issues for each build
      */
     @RequestMapping(path = {"/ajax/{jobName}/newVersusFixedTrendChart/{toolName}"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public LinesChartModel getNewVersusFixedTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName) {
+    public LinesChartModel getNewVersusFixedTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName,
+            final BuildWindowRequest window, final @RequestParam(required = false) Integer width) {
         logger.info("getNewVersusFixedTrendChartForTool (ajax) is called");
 
-        return uiService.getNewVersusFixedTrendChartForTool(jobName, toolName);
+        return uiService.getNewVersusFixedTrendChartForTool(jobName, toolName, window.toWindow(CHART_WINDOW), TrendDownsampler.getMaxPoints(width));
     }
 
     /**
@@ -129,13 +149,27 @@ public class BuildController {
      *
      * @param jobName  the name of the project
      * @param toolName the used tool
+     * @param window   the optional window of the builds, the latest builds by default
+     * @param width    the optional width of the chart in pixels, used to reduce the number of points
      * @return the {@link LinesChartModel} the trend chart for the severity
      */
     @RequestMapping(path = {"/ajax/{jobName}/severityTrendChart/{toolName}"}, method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public LinesChartModel getSeverityTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName) {
+    public LinesChartModel getSeverityTrendChartForTool(final @PathVariable("jobName") String jobName, final @PathVariable("toolName") String toolName,
+            final BuildWindowRequest window, final @RequestParam(required = false) Integer width) {
         logger.info("getSeverityTrendChartForTool (ajax) is called");
 
-        return uiService.getSeverityTrendChartForTool(jobName, toolName);
+        return uiService.getSeverityTrendChartForTool(jobName, toolName, window.toWindow(CHART_WINDOW), TrendDownsampler.getMaxPoints(width));
+    }
+
+    /**
+     * Rejects a request with an invalid window of builds.
+     *
+     * @param exception the exception with the reason
+     * @return the response with the status 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidWindow(final IllegalArgumentException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
 }
@@ -0,0 +1,102 @@
+package edu.hm.hafner.dashboard.ui;
+
+import edu.hm.hafner.dashboard.service.BuildWindow;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * The optional request parameters that select the {@link BuildWindow} of a chart or table, e.g.
+ * {@code ?builds=100}, {@code ?days=7} or {@code ?from=2020-01-01&to=2020-03-31}.
+ */
+public class BuildWindowRequest {
+    private Integer builds;
+    private Integer days;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    /**
+     * Returns the number of the latest builds.
+     *
+     * @return the number of builds, {@code null} if not requested
+     */
+    public Integer getBuilds() {
+        return builds;
+    }
+
+    /**
+     * Setter to set the number of the latest builds.
+     *
+     * @param builds the number of builds
+     */
+    public void setBuilds(final Integer builds) {
+        this.builds = builds;
+    }
+
+    /**
+     * Returns the number of days.
+     *
+     * @return the number of days, {@code null} if not requested
+     */
+    public Integer getDays() {
+        return days;
+    }
+
+    /**
+     * Setter to set the number of days.
+     *
+     * @param days the number of days
+     */
+    public void setDays(final Integer days) {
+        this.days = days;
+    }
+
+    /**
+     * Returns the first day of the builds.
+     *
+     * @return the first day, {@code null} if not requested
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Setter to set the first day of the builds.
+     *
+     * @param from the first day
+     */
+    public void setFrom(final LocalDate from) {
+        this.from = from;
+    }
+
+    /**
+     * Returns the last day of the builds.
+     *
+     * @return the last day, {@code null} if not requested
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Setter to set the last day of the builds.
+     *
+     * @param to the last day
+     */
+    public void setTo(final LocalDate to) {
+        this.to = to;
+    }
+
+    /**
+     * Creates the {@link BuildWindow} of the request.
+     *
+     * @param defaultWindow the window if no parameter has been given
+     * @return the {@link BuildWindow}
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    public BuildWindow toWindow(final BuildWindow defaultWindow) {
+        return BuildWindow.of(builds, days, from, to, defaultWindow);
+    }
+}
@@ -1,9 +1,15 @@
 package edu.hm.hafner.dashboard.ui;
 
 import edu.hm.hafner.dashboard.service.UiService;
+import edu.hm.hafner.dashboard.service.dto.IssueDiff;
+import edu.hm.hafner.dashboard.service.dto.IssueFacets;
+import edu.hm.hafner.dashboard.service.dto.IssueLifecycle;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -122,4 +128,127 @@ public class IssueController {
 
         return uiService.getIssuesDataForToolWithIssueType(jobName, buildNumber, toolId, issueType);
     }
+
+    /**
+     * Ajax call to count the issues of a tool per value of the columns of the issue table (e.g. category or file).
+     *
+     * @param jobName the name of the job
+     * @param buildNumber the build number
+     * @param toolId the tool id (e.g. checkstyle)
+     * @param issueType the issue type (e.g. total, fixed, outstanding or new)
+     * @param top the maximum number of values of a column
+     * @return the {@link IssueFacets}
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/build/{buildNumber}/{toolId}/{issueType}/facets"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public IssueFacets getIssueFacets(
+            final @PathVariable("jobName") String jobName,
+            final @PathVariable("buildNumber") Integer buildNumber,
+            final @PathVariable("toolId") String toolId,
+            final @PathVariable("issueType") String issueType,
+            final @RequestParam(defaultValue = "10") int top) {
+        logger.info("getIssueFacets is called");
+
+        return uiService.getIssueFacets(jobName, buildNumber, toolId, issueType, top);
+    }
+
+    /**
+     * Ajax call to fetch the lifecycle of an issue, e.g. to show its age.
+     *
+     * @param jobName the name of the job
+     * @param toolId the tool id (e.g. checkstyle)
+     * @param fingerprint the fingerprint of the issue
+     * @return the {@link IssueLifecycle}, or the status 404 if the issue is not tracked
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/lifecycle/{toolId}/{fingerprint}"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<IssueLifecycle> getIssueLifecycle(
+            final @PathVariable("jobName") String jobName,
+            final @PathVariable("toolId") String toolId,
+            final @PathVariable("fingerprint") String fingerprint) {
+        logger.info("getIssueLifecycle is called");
+
+        return ResponseEntity.of(uiService.getIssueLifecycle(jobName, toolId, fingerprint));
+    }
+
+    /**
+     * Ajax call to fetch the open issues of a job that are open for the longest time.
+     *
+     * @param jobName the name of the job
+     * @param limit the maximum number of issues
+     * @return the {@link IssueLifecycle}s, the oldest issue first
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/oldestIssues"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public List<IssueLifecycle> getOldestOpenIssues(
+            final @PathVariable("jobName") String jobName,
+            final @RequestParam(defaultValue = "20") int limit) {
+        logger.info("getOldestOpenIssues is called");
+
+        return uiService.getOldestOpenIssues(jobName, limit);
+    }
+
+    /**
+     * Ajax call to compare the issues of a tool in two builds of a job.
+     *
+     * @param jobName the name of the job
+     * @param fromBuild the number of the first build
+     * @param toBuild the number of the second build
+     * @param toolId the tool id (e.g. checkstyle)
+     * @param type the type of the issues of the rows (e.g. added, removed or unchanged)
+     * @param page the number of the page of the rows, starting with 0
+     * @param size the maximum number of rows of the page
+     * @return the {@link IssueDiff} with the counts and one page of rows
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/diff/{fromBuild}/{toBuild}/{toolId}"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public IssueDiff getIssueDiff(
+            final @PathVariable("jobName") String jobName,
+            final @PathVariable("fromBuild") Integer fromBuild,
+            final @PathVariable("toBuild") Integer toBuild,
+            final @PathVariable("toolId") String toolId,
+            final @RequestParam(defaultValue = IssueDiff.ADDED) String type,
+            final @RequestParam(defaultValue = "0") int page,
+            final @RequestParam(defaultValue = "50") int size) {
+        logger.info("getIssueDiff is called");
+
+        return uiService.getIssueDiff(jobName, fromBuild, toBuild, toolId, type, page, size);
+    }
+
+    /**
+     * Ajax call to search for issues of all jobs. The text supports the Lucene query syntax, the hits can be filtered by
+     * job, tool and severity.
+     *
+     * @param query the text to search for
+     * @param job the name of the job to filter
+     * @param tool the tool id to filter (e.g. checkstyle)
+     * @param severity the severity to filter (e.g. HIGH)
+     * @param page the number of the page, starting with 0
+     * @param size the maximum number of hits of the page
+     * @return the {@link IssueSearchResult} with one page of hits and the counts of the facets
+     */
+    @RequestMapping(path = {"/ajax/issues/search"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public IssueSearchResult searchIssues(
+            final @RequestParam(name = "q", defaultValue = "") String query,
+            final @RequestParam(required = false) String job,
+            final @RequestParam(required = false) String tool,
+            final @RequestParam(required = false) String severity,
+            final @RequestParam(defaultValue = "0") int page,
+            final @RequestParam(defaultValue = "20") int size) {
+        logger.info("searchIssues is called");
+
+        return uiService.searchIssues(query, job, tool, severity, page, size);
+    }
+
+    /**
+     * Rejects a request with an invalid diff or search, e.g. an unknown type or a page that is too deep.
+     *
+     * @param exception the exception with the reason
+     * @return the response with the status 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidDiff(final IllegalArgumentException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
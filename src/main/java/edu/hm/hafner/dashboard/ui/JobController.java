@@ -1,11 +1,20 @@
 package edu.hm.hafner.dashboard.ui;
 
 import edu.hm.hafner.dashboard.service.UiService;
+import edu.hm.hafner.dashboard.service.dto.Anomaly;
+import edu.hm.hafner.dashboard.service.dto.Hotspot;
+import edu.hm.hafner.dashboard.service.dto.QualityGateSummary;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
+import edu.hm.hafner.echarts.LinesChartModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -74,4 +83,101 @@ public class JobController {
         logger.info("getRowsForJobViewTable is called");
         return uiService.prepareRowsForJobViewTable();
     }
+
+    /**
+     * Ajax call that prepares the trend of the warnings of all jobs as {@link LinesChartModel} to display an echart.
+     *
+     * @param groupBy "severity" to show a series per severity, a series per tool by default
+     * @param days    the optional number of days to show, all days by default
+     * @param width   the optional width of the chart in pixels, used to reduce the number of points
+     * @return the {@link LinesChartModel}
+     */
+    @RequestMapping(path = {"/ajax/portfolio/trend"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public LinesChartModel getPortfolioTrendChart(final @RequestParam(defaultValue = "tool") String groupBy,
+            final @RequestParam(required = false) Integer days, final @RequestParam(required = false) Integer width) {
+        logger.info("getPortfolioTrendChart (ajax) is called");
+
+        return uiService.getPortfolioTrendChart(groupBy, days == null ? 0 : Math.max(days, 0), TrendDownsampler.getMaxPoints(width));
+    }
+
+    /**
+     * Ajax call that returns the streaks and pass rates of the quality gates of all tools of all jobs.
+     *
+     * @return the rows of the table, ordered by job and tool
+     */
+    @RequestMapping(path = {"/ajax/portfolio/qualityGates"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public List<QualityGateSummary> getQualityGateSummaries() {
+        logger.info("getQualityGateSummaries (ajax) is called");
+
+        return uiService.getQualityGateSummaries();
+    }
+
+    /**
+     * Ajax call that prepares the trend of the quality gates of a job as {@link LinesChartModel} to display an echart.
+     *
+     * @param jobName the name of the job
+     * @param builds  the maximum number of the latest builds
+     * @param width   the optional width of the chart in pixels, used to reduce the number of points
+     * @return the {@link LinesChartModel}
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/qualityGate/trend"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public LinesChartModel getQualityGateTrendChart(final @PathVariable String jobName,
+            final @RequestParam(defaultValue = "100") int builds, final @RequestParam(required = false) Integer width) {
+        logger.info("getQualityGateTrendChart (ajax) is called");
+
+        return uiService.getQualityGateTrendChart(jobName, builds, TrendDownsampler.getMaxPoints(width));
+    }
+
+    /**
+     * Ajax call that ranks the files or packages of a job by their warnings of a tool over the history of the job.
+     *
+     * @param jobName the name of the job
+     * @param toolId  the tool id (e.g. checkstyle)
+     * @param kind    "file" or "package"
+     * @param metric  the metric to rank by: "warningWeeks", "warningBuilds", "churn" or "current"
+     * @param limit   the maximum number of hot spots
+     * @return the {@link Hotspot}s, the highest value first
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/hotspots/{toolId}"}, method = RequestMethod.GET,
+            produces = "application/json")
+    @ResponseBody
+    public List<Hotspot> getHotspots(final @PathVariable String jobName, final @PathVariable String toolId,
+            final @RequestParam(defaultValue = "file") String kind,
+            final @RequestParam(defaultValue = "warningWeeks") String metric,
+            final @RequestParam(defaultValue = "20") int limit) {
+        logger.info("getHotspots (ajax) is called");
+
+        return uiService.getHotspots(jobName, toolId, kind, metric, limit);
+    }
+
+    /**
+     * Ajax call that returns the anomalies in the trends of the tools of a job, i.e. builds with a sudden spike of the
+     * total or new warnings.
+     *
+     * @param jobName the name of the job
+     * @param limit   the maximum number of anomalies
+     * @return the {@link Anomaly}s, the latest build first
+     */
+    @RequestMapping(path = {"/ajax/job/{jobName}/anomalies"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public List<Anomaly> getAnomalies(final @PathVariable String jobName,
+            final @RequestParam(defaultValue = "50") int limit) {
+        logger.info("getAnomalies (ajax) is called");
+
+        return uiService.getAnomalies(jobName, limit);
+    }
+
+    /**
+     * Answers an invalid request, e.g. an unknown kind or metric of the hot spots, with the status 400.
+     *
+     * @param exception the exception with the reason
+     * @return the response with the status 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(final IllegalArgumentException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,60 @@
+package edu.hm.hafner.dashboard.ui;
+
+import edu.hm.hafner.dashboard.service.UiService;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+/**
+ * Provides the Controller to inspect the journal of the sync runs.
+ */
+@Controller
+public class SyncController {
+    private final UiService uiService;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link SyncController}.
+     *
+     * @param uiService the service for interactions with the ui
+     */
+    @Autowired
+    public SyncController(final UiService uiService) {
+        this.uiService = uiService;
+    }
+
+    /**
+     * Returns the latest sync runs with their status, timings and the number of harvested jobs and builds.
+     *
+     * @return the latest {@link SyncRun}s
+     */
+    @RequestMapping(path = {"/sync/runs"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public List<SyncRun> getSyncRuns() {
+        logger.info("getSyncRuns is called");
+        return uiService.getSyncRuns();
+    }
+
+    /**
+     * Returns the recorded phases of a sync run.
+     *
+     * @param syncRunId the id of the sync run
+     * @return the {@link SyncPhase}s of the run
+     */
+    @RequestMapping(path = {"/sync/runs/{syncRunId}"}, method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public List<SyncPhase> getSyncPhases(final @PathVariable("syncRunId") Integer syncRunId) {
+        logger.info("getSyncPhases is called");
+        return uiService.getSyncPhases(syncRunId);
+    }
+}
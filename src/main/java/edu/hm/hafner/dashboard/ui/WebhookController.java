@@ -0,0 +1,73 @@
+package edu.hm.hafner.dashboard.ui;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.IngestionQueueService;
+import edu.hm.hafner.dashboard.service.dto.BuildNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Provides the Controller to receive the notifications of Jenkins about completed builds.
+ */
+@Controller
+public class WebhookController {
+    private final IngestionQueueService ingestionQueueService;
+    private final SyncProperties syncProperties;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Creates a new instance of {@link WebhookController}.
+     *
+     * @param ingestionQueueService the service for the queue of pushed builds
+     * @param syncProperties        the configuration of the sync
+     */
+    @Autowired
+    public WebhookController(final IngestionQueueService ingestionQueueService, final SyncProperties syncProperties) {
+        this.ingestionQueueService = ingestionQueueService;
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * Accepts the notification about a completed build. The build is fetched asynchronously, so the notification is
+     * acknowledged immediately. The webhook is disabled as long as no token is configured.
+     *
+     * @param token        the shared secret of the webhook
+     * @param notification the {@link BuildNotification}
+     * @return 202 if the notification has been queued or coalesced, 400 if it is invalid, 401 if the token is wrong and
+     *         403 if the webhook is disabled
+     */
+    @RequestMapping(path = {"/webhook/build"}, method = RequestMethod.POST, consumes = "application/json", produces = "text/plain")
+    @ResponseBody
+    public ResponseEntity<String> receiveBuildNotification(
+            final @RequestHeader(name = "X-Dashboard-Token", required = false) String token,
+            final @RequestBody BuildNotification notification) {
+        logger.info("receiveBuildNotification is called");
+        String webhookToken = syncProperties.getWebhookToken();
+        if (webhookToken == null || webhookToken.isEmpty()) {
+            return new ResponseEntity<>("webhook disabled, configure dashboard.sync.webhook-token", HttpStatus.FORBIDDEN);
+        }
+        if (token == null || !MessageDigest.isEqual(webhookToken.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8))) {
+            return new ResponseEntity<>("unauthorized", HttpStatus.UNAUTHORIZED);
+        }
+        try {
+            boolean queued = ingestionQueueService.enqueue(notification);
+            return new ResponseEntity<>(queued ? "queued" : "coalesced", HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
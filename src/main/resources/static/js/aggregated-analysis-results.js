@@ -3,6 +3,7 @@ $(document).ready(
         const urlParts = window.location.href.split('/');
         const jobName = urlParts[urlParts.length - 2];
         $.get("/ajax/aggregatedAnalysisResults/"+jobName/*, {origin: origin, reference: reference}*/,
+            {width: document.getElementById("aggregated-analysis-results-history-chart").offsetWidth},
             function (builds) {
                 renderTrendChart('aggregated-analysis-results-history-chart', builds, "");
             });
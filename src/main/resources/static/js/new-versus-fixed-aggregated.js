@@ -3,6 +3,7 @@ $(document).ready(
         const urlParts = window.location.href.split('/');
         const jobName = urlParts[urlParts.length - 2];
         $.get("/ajax/"+jobName+"/newVersusFixedAggregatedTrendChart",
+            {width: document.getElementById("new-versus-fixed-history-chart").offsetWidth},
             function (builds) {
                 renderTrendChart("new-versus-fixed-history-chart", builds, "");
             });
@@ -1,16 +1,24 @@
 package edu.hm.hafner.dashboard.db;
 
 import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.JobEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
 import edu.hm.hafner.dashboard.db.repository.BuildRepository;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -41,6 +49,89 @@ class BuildEntityServiceTest {
         });
     }
 
+    @Test
+    void shouldFindLatestBuildNumberWithoutLoadingBuilds() {
+        BuildRepository buildRepository = mock(BuildRepository.class);
+        BuildEntityService buildEntityService = new BuildEntityService(buildRepository);
+        when(buildRepository.findLatestBuildNumbers(JOB_NAME, PageRequest.of(0, 1))).thenReturn(Collections.singletonList(7));
+        when(buildRepository.findLatestBuildNumbers("notExist", PageRequest.of(0, 1))).thenReturn(Collections.emptyList());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(buildEntityService.findLatestBuildNumber(JOB_NAME)).isEqualTo(7);
+            softly.assertThat(buildEntityService.findLatestBuildNumber("notExist")).isEqualTo(0);
+        });
+        verify(buildRepository, never()).findByJobEntityNameOrderByNumberDesc(any(), any());
+    }
+
+    @Test
+    void shouldInsertBuildThatIsNotStored() {
+        BuildRepository buildRepository = mock(BuildRepository.class);
+        BuildEntityService buildEntityService = new BuildEntityService(buildRepository);
+        BuildEntity buildEntity = createBuildEntityOfJob(createBuildEntity(1), createResultEntity("checkstyle", 3));
+        when(buildRepository.findByJobEntityIdAndNumber(1, 1)).thenReturn(Optional.empty());
+        when(buildRepository.saveAndFlush(buildEntity)).thenReturn(buildEntity);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(buildEntityService.upsert(buildEntity)).isSameAs(buildEntity);
+        });
+        verify(buildRepository).saveAndFlush(buildEntity);
+    }
+
+    @Test
+    void shouldNotWriteUnchangedBuild() {
+        BuildRepository buildRepository = mock(BuildRepository.class);
+        BuildEntityService buildEntityService = new BuildEntityService(buildRepository);
+        BuildEntity storedBuildEntity = createBuildEntityOfJob(createBuildEntity(1), createResultEntity("checkstyle", 3));
+        when(buildRepository.findByJobEntityIdAndNumber(1, 1)).thenReturn(Optional.of(storedBuildEntity));
+
+        BuildEntity savedBuildEntity = buildEntityService.upsert(
+                createBuildEntityOfJob(createBuildEntity(0), createResultEntity("checkstyle", 3)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(savedBuildEntity).isSameAs(storedBuildEntity);
+            softly.assertThat(savedBuildEntity.getResultEntities()).hasSize(1);
+        });
+        verify(buildRepository, never()).saveAndFlush(any(BuildEntity.class));
+    }
+
+    @Test
+    void shouldMergeResultsIntoStoredBuild() {
+        BuildRepository buildRepository = mock(BuildRepository.class);
+        BuildEntityService buildEntityService = new BuildEntityService(buildRepository);
+        ResultEntity storedResultEntity = createResultEntity("checkstyle", 3);
+        BuildEntity storedBuildEntity = createBuildEntityOfJob(createBuildEntity(1), storedResultEntity,
+                createResultEntity("pmd", 1));
+        when(buildRepository.findByJobEntityIdAndNumber(1, 1)).thenReturn(Optional.of(storedBuildEntity));
+        when(buildRepository.saveAndFlush(storedBuildEntity)).thenReturn(storedBuildEntity);
+
+        BuildEntity savedBuildEntity = buildEntityService.upsert(createBuildEntityOfJob(createBuildEntity(0),
+                createResultEntity("checkstyle", 5), createResultEntity("spotbugs", 2)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(savedBuildEntity).isSameAs(storedBuildEntity);
+            softly.assertThat(savedBuildEntity.getResultEntities())
+                    .extracting(ResultEntity::getWarningId).containsExactly("checkstyle", "pmd", "spotbugs");
+            softly.assertThat(savedBuildEntity.getResultEntities().get(0)).isSameAs(storedResultEntity);
+            softly.assertThat(storedResultEntity.getTotalSize()).isEqualTo(5);
+            softly.assertThat(savedBuildEntity.getResultEntities().get(2).getBuildEntity()).isSameAs(storedBuildEntity);
+        });
+        verify(buildRepository).saveAndFlush(storedBuildEntity);
+    }
+
+    private BuildEntity createBuildEntityOfJob(final BuildEntity buildEntity, final ResultEntity... resultEntities) {
+        buildEntity.setNumber(1);
+        buildEntity.setUrl("http://localhost:8080/jenkins/job/" + JOB_NAME + "/1/");
+        new JobEntity(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", "Success").addBuildEntity(buildEntity);
+        for (ResultEntity resultEntity : resultEntities) {
+            buildEntity.addResultEntity(resultEntity);
+        }
+        return buildEntity;
+    }
+
+    private ResultEntity createResultEntity(final String warningId, final int totalSize) {
+        return new ResultEntity(0, warningId, "latestUrl", warningId + " Warnings", 0, 0, totalSize, "INACTIVE");
+    }
+
     private List<BuildEntity> createBuildEntities() {
         return IntStream.range(0, NUMBER_OF_BUILDS).mapToObj(this::createBuildEntity).collect(Collectors.toList());
     }
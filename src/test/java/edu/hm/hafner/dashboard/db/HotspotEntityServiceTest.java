@@ -0,0 +1,140 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.HotspotBuildEntity;
+import edu.hm.hafner.dashboard.db.model.HotspotEntity;
+import edu.hm.hafner.dashboard.db.repository.HotspotBuildRepository;
+import edu.hm.hafner.dashboard.db.repository.HotspotRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link HotspotEntityService}.
+ */
+class HotspotEntityServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+    private static final long WEEK = 7 * 24 * 60 * 60 * 1000L;
+
+    @Test
+    void shouldInsertHotspotsOfFirstBuild() {
+        HotspotRepository hotspotRepository = mock(HotspotRepository.class);
+        HotspotBuildRepository hotspotBuildRepository = mock(HotspotBuildRepository.class);
+        HotspotEntityService service = new HotspotEntityService(hotspotRepository, hotspotBuildRepository);
+        when(hotspotBuildRepository.findFirstByJobNameAndToolOrderByBuildNumberDesc(JOB_NAME, CHECKSTYLE))
+                .thenReturn(Optional.empty());
+
+        boolean applied = service.apply(JOB_NAME, CHECKSTYLE, 3, 300L, createCounts("A.java", 4, 1, 2));
+
+        ArgumentCaptor<List<HotspotEntity>> changed = ArgumentCaptor.forClass(List.class);
+        verify(hotspotRepository).saveAll(changed.capture());
+        verify(hotspotRepository, never()).closeInterval(anyString(), anyString(), anyLong());
+        verify(hotspotBuildRepository).save(any(HotspotBuildEntity.class));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(applied).isTrue();
+            softly.assertThat(changed.getValue()).hasSize(1);
+            HotspotEntity hotspot = changed.getValue().get(0);
+            softly.assertThat(hotspot.getName()).isEqualTo("A.java");
+            softly.assertThat(hotspot.getKind()).isEqualTo(HotspotEntity.FILE);
+            softly.assertThat(hotspot.getCurrentCount()).isEqualTo(4);
+            softly.assertThat(hotspot.getWarningBuilds()).isEqualTo(4);
+            softly.assertThat(hotspot.getChurn()).isEqualTo(3);
+            softly.assertThat(hotspot.getFirstBuild()).isEqualTo(3);
+            softly.assertThat(hotspot.getLastBuild()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldSkipCountedBuild() {
+        HotspotRepository hotspotRepository = mock(HotspotRepository.class);
+        HotspotBuildRepository hotspotBuildRepository = mock(HotspotBuildRepository.class);
+        HotspotEntityService service = new HotspotEntityService(hotspotRepository, hotspotBuildRepository);
+        when(hotspotBuildRepository.existsByJobNameAndToolAndBuildNumber(JOB_NAME, CHECKSTYLE, 3)).thenReturn(true);
+
+        boolean applied = service.apply(JOB_NAME, CHECKSTYLE, 3, 300L, createCounts("A.java", 4, 1, 2));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(applied).isFalse());
+        verify(hotspotRepository, never()).saveAll(anyCollection());
+        verify(hotspotBuildRepository, never()).save(any(HotspotBuildEntity.class));
+    }
+
+    @Test
+    void shouldCloseIntervalOfPreviousBuild() {
+        HotspotRepository hotspotRepository = mock(HotspotRepository.class);
+        HotspotBuildRepository hotspotBuildRepository = mock(HotspotBuildRepository.class);
+        HotspotEntityService service = new HotspotEntityService(hotspotRepository, hotspotBuildRepository);
+        when(hotspotBuildRepository.findFirstByJobNameAndToolOrderByBuildNumberDesc(JOB_NAME, CHECKSTYLE))
+                .thenReturn(Optional.of(new HotspotBuildEntity(JOB_NAME, CHECKSTYLE, 3, 300L)));
+        HotspotEntity stored = new HotspotEntity(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE, "A.java");
+        stored.count(3, 4, 4, 0, true);
+        when(hotspotRepository.findByJobNameAndToolAndKindAndNameIn(eq(JOB_NAME), eq(CHECKSTYLE),
+                eq(HotspotEntity.FILE), anyCollection())).thenReturn(Collections.singletonList(stored));
+
+        service.apply(JOB_NAME, CHECKSTYLE, 5, 300L + 2 * WEEK, createCounts("A.java", 1, 0, 3));
+
+        verify(hotspotRepository).closeInterval(JOB_NAME, CHECKSTYLE, 2 * WEEK);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(stored.getCurrentCount()).isEqualTo(1);
+            softly.assertThat(stored.getPeakCount()).isEqualTo(4);
+            softly.assertThat(stored.getWarningBuilds()).isEqualTo(5);
+            softly.assertThat(stored.getChurn()).isEqualTo(7);
+            softly.assertThat(stored.getLastBuild()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void shouldOnlyAddOrderIndependentCountersOfLateBuild() {
+        HotspotRepository hotspotRepository = mock(HotspotRepository.class);
+        HotspotBuildRepository hotspotBuildRepository = mock(HotspotBuildRepository.class);
+        HotspotEntityService service = new HotspotEntityService(hotspotRepository, hotspotBuildRepository);
+        when(hotspotBuildRepository.findFirstByJobNameAndToolOrderByBuildNumberDesc(JOB_NAME, CHECKSTYLE))
+                .thenReturn(Optional.of(new HotspotBuildEntity(JOB_NAME, CHECKSTYLE, 5, 500L)));
+        HotspotEntity stored = new HotspotEntity(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE, "A.java");
+        stored.count(5, 1, 1, 0, true);
+        when(hotspotRepository.findByJobNameAndToolAndKindAndNameIn(eq(JOB_NAME), eq(CHECKSTYLE),
+                eq(HotspotEntity.FILE), anyCollection())).thenReturn(Collections.singletonList(stored));
+
+        service.apply(JOB_NAME, CHECKSTYLE, 2, 200L, createCounts("A.java", 6, 6, 0));
+
+        verify(hotspotRepository, never()).closeInterval(anyString(), anyString(), anyLong());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(stored.getCurrentCount()).isEqualTo(1);
+            softly.assertThat(stored.getPeakCount()).isEqualTo(6);
+            softly.assertThat(stored.getWarningBuilds()).isEqualTo(7);
+            softly.assertThat(stored.getFirstBuild()).isEqualTo(2);
+            softly.assertThat(stored.getLastBuild()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void shouldConvertWarningMillisToWeeks() {
+        HotspotEntity hotspot = new HotspotEntity(JOB_NAME, CHECKSTYLE, HotspotEntity.PACKAGE, "edu.hm");
+
+        hotspot.setWarningMillis(3 * WEEK / 2);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(hotspot.getWarningWeeks()).isEqualTo(1.5));
+    }
+
+    private Map<String, Map<String, int[]>> createCounts(final String fileName, final int warnings, final int newIssues,
+            final int fixedIssues) {
+        Map<String, int[]> counts = new HashMap<>();
+        counts.put(fileName, new int[] {warnings, newIssues, fixedIssues});
+        return Collections.singletonMap(HotspotEntity.FILE, counts);
+    }
+}
@@ -0,0 +1,98 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.IssueLifecycleEntity;
+import edu.hm.hafner.dashboard.db.repository.IssueLifecycleRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link IssueLifecycleEntityService}.
+ */
+class IssueLifecycleEntityServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldInsertNewIssuesAndUpdateOpenIssuesInBulk() {
+        IssueLifecycleRepository repository = mock(IssueLifecycleRepository.class);
+        IssueLifecycleEntityService service = new IssueLifecycleEntityService(repository);
+        IssueLifecycleEntity issue = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "a", 3, 300L);
+
+        service.track(JOB_NAME, CHECKSTYLE, 3, 300L, Collections.singletonList(issue), Collections.emptyList());
+
+        verify(repository).saveAll(Collections.singletonList(issue));
+        verify(repository).updateLastSeenBuildOfOpenIssues(JOB_NAME, CHECKSTYLE, 3);
+    }
+
+    @Test
+    void shouldFixAndReopenStoredIssues() {
+        IssueLifecycleRepository repository = mock(IssueLifecycleRepository.class);
+        IssueLifecycleEntityService service = new IssueLifecycleEntityService(repository);
+        IssueLifecycleEntity fixed = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "fixed", 1, 100L);
+        fixed.setLastSeenBuild(4);
+        IssueLifecycleEntity reopened = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "reopened", 1, 100L);
+        reopened.setFixedInBuild(3);
+        when(repository.findByJobNameAndToolAndFingerprintIn(eq(JOB_NAME), eq(CHECKSTYLE), anyCollection()))
+                .thenReturn(Collections.singletonList(fixed), Collections.singletonList(reopened));
+
+        service.track(JOB_NAME, CHECKSTYLE, 5, 500L,
+                Collections.singletonList(new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "reopened", 5, 500L)),
+                Collections.singletonList("fixed"));
+
+        ArgumentCaptor<List<IssueLifecycleEntity>> changed = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(changed.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(changed.getValue()).containsExactly(fixed, reopened);
+            softly.assertThat(fixed.getFixedInBuild()).isEqualTo(5);
+            softly.assertThat(fixed.isOpen()).isFalse();
+            softly.assertThat(reopened.isOpen()).isTrue();
+            softly.assertThat(reopened.getReopenCount()).isEqualTo(1);
+            softly.assertThat(reopened.getFirstSeenBuild()).isEqualTo(1);
+            softly.assertThat(reopened.getLastSeenBuild()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void shouldIgnoreOutdatedFix() {
+        IssueLifecycleRepository repository = mock(IssueLifecycleRepository.class);
+        IssueLifecycleEntityService service = new IssueLifecycleEntityService(repository);
+        IssueLifecycleEntity issue = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "a", 1, 100L);
+        issue.setLastSeenBuild(6);
+        when(repository.findByJobNameAndToolAndFingerprintIn(eq(JOB_NAME), eq(CHECKSTYLE), anyCollection()))
+                .thenReturn(Collections.singletonList(issue));
+
+        service.track(JOB_NAME, CHECKSTYLE, 5, 500L, Collections.emptyList(), Arrays.asList("a", "unknown"));
+
+        verify(repository).saveAll(Collections.emptyList());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(issue.isOpen()).isTrue();
+            softly.assertThat(issue.getLastSeenBuild()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    void shouldMoveFirstSeenBuildIfOlderBuildArrivesLate() {
+        IssueLifecycleEntity issue = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "a", 5, 500L);
+
+        issue.seenIn(2, 200L);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(issue.getFirstSeenBuild()).isEqualTo(2);
+            softly.assertThat(issue.getFirstSeenTimestamp()).isEqualTo(200L);
+            softly.assertThat(issue.getLastSeenBuild()).isEqualTo(5);
+            softly.assertThat(issue.getReopenCount()).isZero();
+        });
+    }
+}
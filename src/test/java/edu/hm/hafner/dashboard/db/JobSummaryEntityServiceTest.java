@@ -0,0 +1,146 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.JobEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
+import edu.hm.hafner.dashboard.db.repository.JobSummaryRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link JobSummaryEntityService}.
+ */
+class JobSummaryEntityServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+    private static final String PMD = "pmd";
+
+    @Test
+    void shouldCreateSummaryWithoutDeltaForFirstBuild() {
+        JobSummaryRepository repository = mock(JobSummaryRepository.class);
+        JobSummaryEntityService service = new JobSummaryEntityService(repository);
+
+        boolean isChanged = service.applyBuild(JOB_NAME, 3, 300L, createTools(5, 2, QualityGateStatusEntity.PASSED));
+
+        ArgumentCaptor<JobSummaryEntity> summary = ArgumentCaptor.forClass(JobSummaryEntity.class);
+        verify(repository).save(summary.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(isChanged).isTrue();
+            softly.assertThat(summary.getValue().getJobName()).isEqualTo(JOB_NAME);
+            softly.assertThat(summary.getValue().getLatestBuildNumber()).isEqualTo(3);
+            softly.assertThat(summary.getValue().getLatestBuildTimestamp()).isEqualTo(300L);
+            softly.assertThat(summary.getValue().getTotalSize()).isEqualTo(7);
+            softly.assertThat(summary.getValue().getDelta()).isEqualTo(0);
+            softly.assertThat(summary.getValue().getTools()).extracting(ToolSummaryEntity::getDelta).containsExactly(0, 0);
+            softly.assertThat(summary.getValue().getQualityGateStatus()).isEqualTo(QualityGateStatusEntity.PASSED);
+        });
+    }
+
+    @Test
+    void shouldComputeDeltaToReplacedBuild() {
+        JobSummaryRepository repository = mock(JobSummaryRepository.class);
+        JobSummaryEntityService service = new JobSummaryEntityService(repository);
+        JobSummaryEntity stored = new JobSummaryEntity(JOB_NAME);
+        stored.update(3, 300L, createTools(5, 2, QualityGateStatusEntity.PASSED));
+        when(repository.findByJobName(JOB_NAME)).thenReturn(Optional.of(stored));
+
+        service.applyBuild(JOB_NAME, 4, 400L, Collections.singletonList(
+                new ToolSummaryEntity(CHECKSTYLE, "CheckStyle", 8, QualityGateStatusEntity.FAILED)));
+
+        verify(repository).save(stored);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(stored.getLatestBuildNumber()).isEqualTo(4);
+            softly.assertThat(stored.getTotalSize()).isEqualTo(8);
+            softly.assertThat(stored.getDelta()).isEqualTo(1);
+            softly.assertThat(stored.getTools())
+                    .extracting(ToolSummaryEntity::getToolId, ToolSummaryEntity::getTotalSize, ToolSummaryEntity::getDelta)
+                    .containsExactly(tuple(CHECKSTYLE, 8, 3));
+            softly.assertThat(stored.getQualityGateStatus()).isEqualTo(QualityGateStatusEntity.FAILED);
+        });
+    }
+
+    @Test
+    void shouldKeepPreviousBuildIfLatestBuildIsSavedAgain() {
+        JobSummaryRepository repository = mock(JobSummaryRepository.class);
+        JobSummaryEntityService service = new JobSummaryEntityService(repository);
+        JobSummaryEntity stored = new JobSummaryEntity(JOB_NAME);
+        stored.update(3, 300L, createTools(5, 2, QualityGateStatusEntity.PASSED));
+        stored.update(4, 400L, createTools(6, 2, QualityGateStatusEntity.PASSED));
+        when(repository.findByJobName(JOB_NAME)).thenReturn(Optional.of(stored));
+
+        service.applyBuild(JOB_NAME, 4, 400L, createTools(9, 1, QualityGateStatusEntity.WARNING));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(stored.getTotalSize()).isEqualTo(10);
+            softly.assertThat(stored.getDelta()).isEqualTo(3);
+            softly.assertThat(stored.getTools())
+                    .extracting(ToolSummaryEntity::getToolId, ToolSummaryEntity::getDelta)
+                    .containsExactly(tuple(CHECKSTYLE, 4), tuple(PMD, -1));
+            softly.assertThat(stored.getQualityGateStatus()).isEqualTo(QualityGateStatusEntity.WARNING);
+        });
+    }
+
+    @Test
+    void shouldIgnoreOlderBuild() {
+        JobSummaryRepository repository = mock(JobSummaryRepository.class);
+        JobSummaryEntityService service = new JobSummaryEntityService(repository);
+        JobSummaryEntity stored = new JobSummaryEntity(JOB_NAME);
+        stored.update(4, 400L, createTools(6, 2, QualityGateStatusEntity.PASSED));
+        when(repository.findByJobName(JOB_NAME)).thenReturn(Optional.of(stored));
+
+        boolean isChanged = service.applyBuild(JOB_NAME, 2, 200L, createTools(1, 1, QualityGateStatusEntity.FAILED));
+
+        verify(repository, never()).save(any());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(isChanged).isFalse();
+            softly.assertThat(stored.getLatestBuildNumber()).isEqualTo(4);
+            softly.assertThat(stored.getTotalSize()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    void shouldUpdateAttributesOfJobs() {
+        JobSummaryRepository repository = mock(JobSummaryRepository.class);
+        JobSummaryEntityService service = new JobSummaryEntityService(repository);
+        JobSummaryEntity stored = new JobSummaryEntity(JOB_NAME);
+        stored.update(4, 400L, createTools(6, 2, QualityGateStatusEntity.PASSED));
+        when(repository.findByJobName(JOB_NAME)).thenReturn(Optional.of(stored));
+        JobEntity job = new JobEntity(1, JOB_NAME, "url", "Success");
+        job.setControllerName("controller");
+        JobEntity newJob = new JobEntity(2, "newJob", "newUrl", "Failure");
+
+        service.updateJobs(Arrays.asList(job, newJob));
+
+        ArgumentCaptor<List<JobSummaryEntity>> summaries = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(summaries.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summaries.getValue().get(0)).isSameAs(stored);
+            softly.assertThat(summaries.getValue())
+                    .extracting(JobSummaryEntity::getJobName, JobSummaryEntity::getUrl,
+                            JobSummaryEntity::getLastBuildStatus, JobSummaryEntity::getLatestBuildNumber)
+                    .containsExactly(tuple(JOB_NAME, "url", "Success", 4), tuple("newJob", "newUrl", "Failure", 0));
+            softly.assertThat(stored.getControllerName()).isEqualTo("controller");
+            softly.assertThat(stored.getTotalSize()).isEqualTo(8);
+        });
+    }
+
+    private List<ToolSummaryEntity> createTools(final int checkstyle, final int pmd,
+            final QualityGateStatusEntity status) {
+        return Arrays.asList(new ToolSummaryEntity(CHECKSTYLE, "CheckStyle", checkstyle, status),
+                new ToolSummaryEntity(PMD, "PMD", pmd, QualityGateStatusEntity.INACTIVE));
+    }
+}
@@ -0,0 +1,126 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.JobWarningSnapshotEntity;
+import edu.hm.hafner.dashboard.db.model.PortfolioTrendEntity;
+import edu.hm.hafner.dashboard.db.model.WarningCountEntity;
+import edu.hm.hafner.dashboard.db.repository.JobWarningSnapshotRepository;
+import edu.hm.hafner.dashboard.db.repository.PortfolioTrendRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link PortfolioTrendEntityService}.
+ */
+class PortfolioTrendEntityServiceTest {
+    private static final int JOB_ID = 1;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 3, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2020, 3, 2);
+    private static final String CHECKSTYLE = "CheckStyle";
+    private static final String HIGH = "HIGH";
+    private static final String LOW = "LOW";
+
+    @Test
+    void shouldAddWarningsOfFirstSnapshot() {
+        PortfolioTrendRepository portfolioTrendRepository = mock(PortfolioTrendRepository.class);
+        JobWarningSnapshotRepository jobWarningSnapshotRepository = mock(JobWarningSnapshotRepository.class);
+        PortfolioTrendEntityService service = new PortfolioTrendEntityService(portfolioTrendRepository, jobWarningSnapshotRepository);
+        JobWarningSnapshotEntity snapshot = createSnapshot(FIRST_DAY, 1, 3, 2);
+
+        boolean isChanged = service.applySnapshot(snapshot);
+
+        ArgumentCaptor<PortfolioTrendEntity> changes = ArgumentCaptor.forClass(PortfolioTrendEntity.class);
+        verify(portfolioTrendRepository, times(2)).save(changes.capture());
+        verify(jobWarningSnapshotRepository).save(snapshot);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(isChanged).isTrue();
+            softly.assertThat(changes.getAllValues())
+                    .extracting(PortfolioTrendEntity::getDay, PortfolioTrendEntity::getSeverity, PortfolioTrendEntity::getDelta)
+                    .containsExactly(tuple(FIRST_DAY, HIGH, 3L), tuple(FIRST_DAY, LOW, 2L));
+        });
+    }
+
+    @Test
+    void shouldSubtractChangeAtNextSnapshotIfOlderBuildArrivesLate() {
+        PortfolioTrendRepository portfolioTrendRepository = mock(PortfolioTrendRepository.class);
+        JobWarningSnapshotRepository jobWarningSnapshotRepository = mock(JobWarningSnapshotRepository.class);
+        PortfolioTrendEntityService service = new PortfolioTrendEntityService(portfolioTrendRepository, jobWarningSnapshotRepository);
+        when(jobWarningSnapshotRepository.findFirstByJobIdAndDayGreaterThanOrderByDayAsc(JOB_ID, FIRST_DAY))
+                .thenReturn(Optional.of(createSnapshot(SECOND_DAY, 2, 1, 0)));
+        PortfolioTrendEntity storedChange = new PortfolioTrendEntity(SECOND_DAY, CHECKSTYLE, HIGH);
+        storedChange.setDelta(1);
+        when(portfolioTrendRepository.findByDayAndToolAndSeverity(SECOND_DAY, CHECKSTYLE, HIGH)).thenReturn(Optional.of(storedChange));
+
+        service.applySnapshot(createSnapshot(FIRST_DAY, 1, 4, 0));
+
+        ArgumentCaptor<PortfolioTrendEntity> changes = ArgumentCaptor.forClass(PortfolioTrendEntity.class);
+        verify(portfolioTrendRepository, times(2)).save(changes.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(changes.getAllValues())
+                    .extracting(PortfolioTrendEntity::getDay, PortfolioTrendEntity::getDelta)
+                    .containsExactly(tuple(FIRST_DAY, 4L), tuple(SECOND_DAY, -3L));
+            softly.assertThat(changes.getAllValues().get(1)).isSameAs(storedChange);
+        });
+    }
+
+    @Test
+    void shouldReplaceSnapshotOfSameDayWithNewerBuild() {
+        PortfolioTrendRepository portfolioTrendRepository = mock(PortfolioTrendRepository.class);
+        JobWarningSnapshotRepository jobWarningSnapshotRepository = mock(JobWarningSnapshotRepository.class);
+        PortfolioTrendEntityService service = new PortfolioTrendEntityService(portfolioTrendRepository, jobWarningSnapshotRepository);
+        JobWarningSnapshotEntity stored = createSnapshot(FIRST_DAY, 1, 3, 2);
+        when(jobWarningSnapshotRepository.findByJobIdAndDay(JOB_ID, FIRST_DAY)).thenReturn(Optional.of(stored));
+
+        boolean isChanged = service.applySnapshot(createSnapshot(FIRST_DAY, 2, 3, 0));
+
+        ArgumentCaptor<PortfolioTrendEntity> changes = ArgumentCaptor.forClass(PortfolioTrendEntity.class);
+        verify(portfolioTrendRepository).save(changes.capture());
+        verify(jobWarningSnapshotRepository).save(stored);
+        verify(jobWarningSnapshotRepository, never()).findFirstByJobIdAndDayLessThanOrderByDayDesc(JOB_ID, FIRST_DAY);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(isChanged).isTrue();
+            softly.assertThat(changes.getValue().getSeverity()).isEqualTo(LOW);
+            softly.assertThat(changes.getValue().getDelta()).isEqualTo(-2L);
+            softly.assertThat(stored.getBuildNumber()).isEqualTo(2);
+            softly.assertThat(stored.getCount(CHECKSTYLE, LOW)).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void shouldIgnoreOlderBuildAndSameBuildAgain() {
+        PortfolioTrendRepository portfolioTrendRepository = mock(PortfolioTrendRepository.class);
+        JobWarningSnapshotRepository jobWarningSnapshotRepository = mock(JobWarningSnapshotRepository.class);
+        PortfolioTrendEntityService service = new PortfolioTrendEntityService(portfolioTrendRepository, jobWarningSnapshotRepository);
+        when(jobWarningSnapshotRepository.findByJobIdAndDay(JOB_ID, FIRST_DAY)).thenReturn(Optional.of(createSnapshot(FIRST_DAY, 2, 3, 2)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(service.applySnapshot(createSnapshot(FIRST_DAY, 1, 5, 5))).isFalse();
+            softly.assertThat(service.applySnapshot(createSnapshot(FIRST_DAY, 2, 3, 2))).isFalse();
+        });
+        verify(portfolioTrendRepository, never()).save(any(PortfolioTrendEntity.class));
+        verify(jobWarningSnapshotRepository, never()).save(any(JobWarningSnapshotEntity.class));
+    }
+
+    private JobWarningSnapshotEntity createSnapshot(final LocalDate day, final int buildNumber, final int high, final int low) {
+        JobWarningSnapshotEntity snapshot = new JobWarningSnapshotEntity(JOB_ID, day);
+        snapshot.setBuildNumber(buildNumber);
+        if (high > 0) {
+            snapshot.getCounts().add(new WarningCountEntity(CHECKSTYLE, HIGH, high));
+        }
+        if (low > 0) {
+            snapshot.getCounts().add(new WarningCountEntity(CHECKSTYLE, LOW, low));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.QualityGateBuildEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatisticEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.repository.QualityGateBuildRepository;
+import edu.hm.hafner.dashboard.db.repository.QualityGateStatisticRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link QualityGateEntityService}.
+ */
+class QualityGateEntityServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+    private static final String PMD = "pmd";
+
+    @Test
+    void shouldCountStatusesOfBuild() {
+        QualityGateBuildRepository buildRepository = mock(QualityGateBuildRepository.class);
+        QualityGateStatisticRepository statisticRepository = mock(QualityGateStatisticRepository.class);
+        QualityGateEntityService service = new QualityGateEntityService(buildRepository, statisticRepository);
+        Map<String, QualityGateStatusEntity> statusByTool = new LinkedHashMap<>();
+        statusByTool.put(CHECKSTYLE, QualityGateStatusEntity.PASSED);
+        statusByTool.put(PMD, QualityGateStatusEntity.FAILED);
+
+        boolean applied = service.apply(JOB_NAME, 1, 100L, statusByTool);
+
+        ArgumentCaptor<QualityGateBuildEntity> build = ArgumentCaptor.forClass(QualityGateBuildEntity.class);
+        ArgumentCaptor<List<QualityGateStatisticEntity>> statistics = ArgumentCaptor.forClass(List.class);
+        verify(buildRepository).save(build.capture());
+        verify(statisticRepository).saveAll(statistics.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(applied).isTrue();
+            softly.assertThat(build.getValue().getPassedCount()).isEqualTo(1);
+            softly.assertThat(build.getValue().getFailedCount()).isEqualTo(1);
+            softly.assertThat(build.getValue().getWarningCount()).isZero();
+            softly.assertThat(statistics.getValue()).extracting(QualityGateStatisticEntity::getTool)
+                    .containsExactly(CHECKSTYLE, PMD);
+            softly.assertThat(statistics.getValue()).extracting(QualityGateStatisticEntity::getStreakStatus)
+                    .containsExactly(QualityGateStatusEntity.PASSED, QualityGateStatusEntity.FAILED);
+        });
+    }
+
+    @Test
+    void shouldSkipCountedBuild() {
+        QualityGateBuildRepository buildRepository = mock(QualityGateBuildRepository.class);
+        QualityGateStatisticRepository statisticRepository = mock(QualityGateStatisticRepository.class);
+        QualityGateEntityService service = new QualityGateEntityService(buildRepository, statisticRepository);
+        when(buildRepository.existsByJobNameAndBuildNumber(JOB_NAME, 1)).thenReturn(true);
+
+        boolean applied = service.apply(JOB_NAME, 1, 100L,
+                Collections.singletonMap(CHECKSTYLE, QualityGateStatusEntity.PASSED));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(applied).isFalse());
+        verify(statisticRepository, never()).saveAll(anyCollection());
+        verify(buildRepository, never()).save(any(QualityGateBuildEntity.class));
+    }
+
+    @Test
+    void shouldMaintainStreaksAndPassRate() {
+        QualityGateStatisticEntity statistic = new QualityGateStatisticEntity(JOB_NAME, CHECKSTYLE);
+
+        statistic.add(1, QualityGateStatusEntity.PASSED);
+        statistic.add(2, QualityGateStatusEntity.PASSED);
+        statistic.add(3, QualityGateStatusEntity.INACTIVE);
+        statistic.add(4, QualityGateStatusEntity.PASSED);
+        statistic.add(5, QualityGateStatusEntity.FAILED);
+        statistic.add(6, QualityGateStatusEntity.FAILED);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statistic.getStreakStatus()).isEqualTo(QualityGateStatusEntity.FAILED);
+            softly.assertThat(statistic.getStreak()).isEqualTo(2);
+            softly.assertThat(statistic.getLongestPassedStreak()).isEqualTo(3);
+            softly.assertThat(statistic.getInactiveCount()).isEqualTo(1);
+            softly.assertThat(statistic.getPassRate()).isCloseTo(0.6, offset(1e-9));
+            softly.assertThat(statistic.getLastBuild()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    void shouldOnlyCountLateBuild() {
+        QualityGateStatisticEntity statistic = new QualityGateStatisticEntity(JOB_NAME, CHECKSTYLE);
+        statistic.add(5, QualityGateStatusEntity.PASSED);
+
+        statistic.add(2, QualityGateStatusEntity.FAILED);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statistic.getStreakStatus()).isEqualTo(QualityGateStatusEntity.PASSED);
+            softly.assertThat(statistic.getStreak()).isEqualTo(1);
+            softly.assertThat(statistic.getFailedCount()).isEqualTo(1);
+            softly.assertThat(statistic.getPassRate()).isCloseTo(0.5, offset(1e-9));
+            softly.assertThat(statistic.getLastBuild()).isEqualTo(5);
+        });
+    }
+}
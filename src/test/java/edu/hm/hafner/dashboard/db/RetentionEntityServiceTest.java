@@ -0,0 +1,68 @@
+package edu.hm.hafner.dashboard.db;
+
+import edu.hm.hafner.dashboard.db.model.RetentionMarkEntity;
+import edu.hm.hafner.dashboard.db.repository.BuildRepository;
+import edu.hm.hafner.dashboard.db.repository.IssueRepository;
+import edu.hm.hafner.dashboard.db.repository.ReportArchiveRepository;
+import edu.hm.hafner.dashboard.db.repository.ResultRepository;
+import edu.hm.hafner.dashboard.db.repository.RetentionMarkRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link RetentionEntityService}.
+ */
+class RetentionEntityServiceTest {
+    private static final String JOB_NAME = "jobName";
+
+    private final BuildRepository buildRepository = mock(BuildRepository.class);
+    private final ResultRepository resultRepository = mock(ResultRepository.class);
+    private final IssueRepository issueRepository = mock(IssueRepository.class);
+    private final RetentionMarkRepository retentionMarkRepository = mock(RetentionMarkRepository.class);
+    private final RetentionEntityService service = new RetentionEntityService(buildRepository, resultRepository,
+            issueRepository, mock(ReportArchiveRepository.class), retentionMarkRepository);
+
+    @Test
+    void shouldKeepNewestBuildWhenDroppingBuilds() {
+        when(buildRepository.findLatestBuildNumbers(JOB_NAME, PageRequest.of(0, 1))).thenReturn(Collections.singletonList(5));
+        when(resultRepository.findIdsOfBuilds(JOB_NAME, Arrays.asList(3, 4))).thenReturn(Arrays.asList(30, 40));
+        when(retentionMarkRepository.findByJobName(JOB_NAME)).thenReturn(Optional.empty());
+
+        List<Integer> dropped = service.drop(JOB_NAME, Arrays.asList(3, 4, 5));
+
+        ArgumentCaptor<RetentionMarkEntity> mark = ArgumentCaptor.forClass(RetentionMarkEntity.class);
+        verify(retentionMarkRepository).save(mark.capture());
+        verify(buildRepository).findByJobEntityNameAndNumberIn(JOB_NAME, Arrays.asList(3, 4));
+        verify(issueRepository).deleteByResultIds(Arrays.asList(30, 40));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(dropped).containsExactly(3, 4);
+            softly.assertThat(mark.getValue().getDroppedBuildNumber()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void shouldNotDropTheOnlyBuild() {
+        when(buildRepository.findLatestBuildNumbers(JOB_NAME, PageRequest.of(0, 1))).thenReturn(Collections.singletonList(5));
+
+        List<Integer> dropped = service.drop(JOB_NAME, Collections.singletonList(5));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(dropped).isEmpty());
+        verify(resultRepository, never()).findIdsOfBuilds(anyString(), anyCollection());
+        verify(retentionMarkRepository, never()).save(any());
+    }
+}
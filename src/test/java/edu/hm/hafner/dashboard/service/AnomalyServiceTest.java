@@ -0,0 +1,123 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.AnomalyProperties;
+import edu.hm.hafner.dashboard.db.AnomalyEntityService;
+import edu.hm.hafner.dashboard.db.model.AnomalyEntity;
+import edu.hm.hafner.dashboard.db.model.TrendStatisticEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link AnomalyService}.
+ */
+class AnomalyServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldFlagSpikeAfterWarmup() {
+        List<AnomalyEntity> anomalies = new ArrayList<>();
+        AnomalyService anomalyService = createService(anomalies);
+        int[] totals = {100, 102, 99, 101, 100, 103, 100, 180, 101};
+
+        for (int number = 0; number < totals.length; number++) {
+            anomalyService.onBuildPersisted(createEvent(number + 1, totals[number], 1));
+        }
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(anomalies).hasSize(1);
+            softly.assertThat(anomalies.get(0).getBuildNumber()).isEqualTo(8);
+            softly.assertThat(anomalies.get(0).getMetric()).isEqualTo(AnomalyService.TOTAL);
+            softly.assertThat(anomalies.get(0).getToolName()).isEqualTo("CheckStyle");
+            softly.assertThat(anomalies.get(0).getValue()).isEqualTo(180);
+            softly.assertThat(anomalies.get(0).getExpected()).isBetween(99.0, 103.0);
+        });
+    }
+
+    @Test
+    void shouldNotFlagDropsOrSpikesDuringWarmup() {
+        List<AnomalyEntity> anomalies = new ArrayList<>();
+        AnomalyService anomalyService = createService(anomalies);
+        int[] totals = {10, 500, 10, 10, 10, 10, 10, 0, 10};
+
+        for (int number = 0; number < totals.length; number++) {
+            anomalyService.onBuildPersisted(createEvent(number + 1, totals[number], 0));
+        }
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(anomalies).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreBuildsOlderThanStatistics() {
+        List<AnomalyEntity> anomalies = new ArrayList<>();
+        AnomalyService anomalyService = createService(anomalies);
+        for (int number = 1; number <= 6; number++) {
+            anomalyService.onBuildPersisted(createEvent(number, 10, 0));
+        }
+
+        anomalyService.onBuildPersisted(createEvent(3, 1000, 1000));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(anomalies).isEmpty());
+    }
+
+    @Test
+    void shouldFollowLastingChangeOfLevel() {
+        TrendStatisticEntity statistic = new TrendStatisticEntity(JOB_NAME, CHECKSTYLE, AnomalyService.TOTAL);
+
+        for (int number = 1; number <= 50; number++) {
+            statistic.add(number, number <= 10 ? 10 : 200, 0.3);
+        }
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statistic.getCount()).isEqualTo(50);
+            softly.assertThat(statistic.getLastBuild()).isEqualTo(50);
+            softly.assertThat(statistic.getMean()).isCloseTo(200, offset(0.1));
+            softly.assertThat(statistic.getMedian()).isCloseTo(200, offset(1.0));
+        });
+    }
+
+    private AnomalyService createService(final List<AnomalyEntity> anomalies) {
+        AnomalyEntityService entityService = mock(AnomalyEntityService.class);
+        Map<String, TrendStatisticEntity> statistics = new HashMap<>();
+        when(entityService.findStatistic(eq(JOB_NAME), eq(CHECKSTYLE), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(statistics.get(invocation.<String>getArgument(2))));
+        doAnswer(invocation -> {
+            TrendStatisticEntity statistic = invocation.getArgument(0);
+            statistics.put(statistic.getMetric(), statistic);
+            AnomalyEntity anomaly = invocation.getArgument(1);
+            if (anomaly != null) {
+                anomalies.add(anomaly);
+            }
+            return null;
+        }).when(entityService).save(any(TrendStatisticEntity.class), any());
+        return new AnomalyService(entityService, new AnomalyProperties());
+    }
+
+    private BuildPersistedEvent createEvent(final int number, final int totalSize, final int newSize) {
+        Result result = new Result();
+        result.setWarningId(CHECKSTYLE);
+        result.setName("CheckStyle");
+        result.setTotalSize(totalSize);
+        result.setNewSize(newSize);
+        Build build = new Build(0, number, "url/" + number + "/");
+        build.setTimestamp(number * 100L);
+        build.addResult(result);
+        return new BuildPersistedEvent(1, JOB_NAME, build);
+    }
+}
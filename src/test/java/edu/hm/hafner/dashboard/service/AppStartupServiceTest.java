@@ -1,15 +1,21 @@
 package edu.hm.hafner.dashboard.service;
 
+import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.Result;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,13 +34,16 @@ class AppStartupServiceTest {
         JobService jobService = mock(JobService.class);
         BuildService buildService = mock(BuildService.class);
 
-        AppStartupService appStartupService = new AppStartupService(jobService, buildService);
+        AppStartupService appStartupService = new AppStartupService(jobService, buildService, mock(ReportArchiveService.class));
         SoftAssertions.assertSoftly(softly -> {
             when(jobService.findJobByName("notExist")).thenReturn(null);
             softly.assertThat(appStartupService.findJobByName("notExist")).isNull();
 
             when(jobService.findJobByName(JOB_NAME)).thenReturn(createJob(1));
             softly.assertThat(appStartupService.findJobByName(JOB_NAME)).isEqualTo(createJob(1));
+
+            when(jobService.findJobReferenceByName(JOB_NAME)).thenReturn(createJob(1));
+            softly.assertThat(appStartupService.findJobReferenceByName(JOB_NAME)).isEqualTo(createJob(1));
         });
     }
 
@@ -43,7 +52,7 @@ class AppStartupServiceTest {
         JobService jobService = mock(JobService.class);
         BuildService buildService = mock(BuildService.class);
 
-        AppStartupService appStartupService = new AppStartupService(jobService, buildService);
+        AppStartupService appStartupService = new AppStartupService(jobService, buildService, mock(ReportArchiveService.class));
         SoftAssertions.assertSoftly(softly -> {
             List<Job> jobs = new ArrayList<>();
 
@@ -61,18 +70,14 @@ class AppStartupServiceTest {
         JobService jobService = mock(JobService.class);
         BuildService buildService = mock(BuildService.class);
 
-        AppStartupService appStartupService = new AppStartupService(jobService, buildService);
+        AppStartupService appStartupService = new AppStartupService(jobService, buildService, mock(ReportArchiveService.class));
         SoftAssertions.assertSoftly(softly -> {
 
-            Job jobWithoutBuilds = createJob(1);
-            when(buildService.getLatestBuild(jobWithoutBuilds)).thenThrow(new NoSuchElementException("No Build not found"));
-            softly.assertThatThrownBy(() -> appStartupService.getLatestBuildNumberFromJob(jobWithoutBuilds))
-                    .isInstanceOf(NoSuchElementException.class)
-                    .hasMessage("No Build not found");
+            when(buildService.getLatestBuildNumber("notExist")).thenReturn(0);
+            softly.assertThat(appStartupService.getLatestBuildNumberFromJob("notExist")).isEqualTo(0);
 
-            Job job = createJobWithBuilds();
-            when(buildService.getLatestBuild(job)).thenReturn(createBuild(NUMBER_OF_BUILDS));
-            softly.assertThat(appStartupService.getLatestBuildNumberFromJob(job)).isEqualTo(NUMBER_OF_BUILDS);
+            when(buildService.getLatestBuildNumber(JOB_NAME)).thenReturn(NUMBER_OF_BUILDS);
+            softly.assertThat(appStartupService.getLatestBuildNumberFromJob(JOB_NAME)).isEqualTo(NUMBER_OF_BUILDS);
         });
     }
 
@@ -82,7 +87,7 @@ class AppStartupServiceTest {
         BuildService buildService = mock(BuildService.class);
         Job job = createJob(1);
 
-        AppStartupService appStartupService = new AppStartupService(jobService, buildService);
+        AppStartupService appStartupService = new AppStartupService(jobService, buildService, mock(ReportArchiveService.class));
         SoftAssertions.assertSoftly(softly -> {
             List<Build> emptyBuilds = new ArrayList<>();
 
@@ -95,6 +100,27 @@ class AppStartupServiceTest {
         });
     }
 
+    @Test
+    void shouldFindRestoredReportsOfLatestBuild() {
+        BuildService buildService = mock(BuildService.class);
+        ReportArchiveService reportArchiveService = mock(ReportArchiveService.class);
+        Build build = createBuild(NUMBER_OF_BUILDS);
+        Result result = new Result();
+        result.setWarningId("checkstyle");
+        Report report = new Report();
+        result.setOutstandingIssues(report);
+        build.addResult(result);
+        when(buildService.findBuilds(eq(JOB_NAME), any(BuildWindow.class))).thenReturn(Collections.singletonList(build));
+
+        AppStartupService appStartupService = new AppStartupService(mock(JobService.class), buildService, reportArchiveService);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(appStartupService.findLatestReportsFromJob(JOB_NAME)).containsOnlyKeys("checkstyle");
+            softly.assertThat(appStartupService.findLatestReportsFromJob(JOB_NAME).get("checkstyle")).isSameAs(report);
+        });
+        verify(reportArchiveService, times(2)).restore(result);
+    }
+
     private List<Job> createJobs() {
         List<Job> jobs = new ArrayList<>();
         for (int i = 0; i < NUMBER_OF_JOBS; i++) {
@@ -124,14 +150,6 @@ class AppStartupServiceTest {
         );
     }
 
-    private Job createJobWithBuilds() {
-        Job job = createJob(1);
-        List<Build> builds = createBuilds();
-        builds.forEach(job::addBuild);
-
-        return job;
-    }
-
     private String getUrlForBuildWithBuildNumber(final int number) {
         return "http://localhost:8080/jenkins/job/" + JOB_NAME + "/" + number + "/";
     }
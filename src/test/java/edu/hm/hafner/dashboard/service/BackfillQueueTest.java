@@ -0,0 +1,69 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the Class {@link BackfillQueue}.
+ */
+class BackfillQueueTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String SUCCESS = "Success";
+
+    @Test
+    void shouldPollNewestBuildsFirst() {
+        BackfillQueue backfillQueue = new BackfillQueue();
+        Job job = createJob();
+        backfillQueue.add(new BackfillRequest(job, createBuild(2), 0));
+        backfillQueue.add(new BackfillRequest(job, createBuild(7), 0));
+        backfillQueue.add(new BackfillRequest(job, createBuild(4), 0));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(backfillQueue.size()).isEqualTo(3);
+            softly.assertThat(backfillQueue.poll().getBuild().getNumber()).isEqualTo(7);
+            softly.assertThat(backfillQueue.poll().getBuild().getNumber()).isEqualTo(4);
+            softly.assertThat(backfillQueue.poll().getBuild().getNumber()).isEqualTo(2);
+            softly.assertThat(backfillQueue.poll()).isNull();
+        });
+    }
+
+    @Test
+    void shouldPreferBuildsWithoutFailedAttempts() {
+        BackfillQueue backfillQueue = new BackfillQueue();
+        Job job = createJob();
+        backfillQueue.add(new BackfillRequest(job, createBuild(9), 2));
+        backfillQueue.add(new BackfillRequest(job, createBuild(3), 0));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(backfillQueue.poll().getBuild().getNumber()).isEqualTo(3);
+            BackfillRequest request = backfillQueue.poll();
+            softly.assertThat(request.getBuild().getNumber()).isEqualTo(9);
+            softly.assertThat(request.nextAttempt().getAttempts()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldQueueBuildsOnlyOnce() {
+        BackfillQueue backfillQueue = new BackfillQueue();
+        Job job = createJob();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(backfillQueue.add(new BackfillRequest(job, createBuild(1), 0))).isTrue();
+            softly.assertThat(backfillQueue.add(new BackfillRequest(job, createBuild(1), 1))).isFalse();
+            softly.assertThat(backfillQueue.size()).isEqualTo(1);
+
+            backfillQueue.poll();
+            softly.assertThat(backfillQueue.add(new BackfillRequest(job, createBuild(1), 1))).isTrue();
+        });
+    }
+
+    private Job createJob() {
+        return new Job(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", SUCCESS);
+    }
+
+    private Build createBuild(final int number) {
+        return new Build(number, number, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/" + number + "/");
+    }
+}
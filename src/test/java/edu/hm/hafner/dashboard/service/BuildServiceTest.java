@@ -2,6 +2,7 @@ package edu.hm.hafner.dashboard.service;
 
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.RetentionEntityService;
 import edu.hm.hafner.dashboard.db.model.BuildEntity;
 import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
 import edu.hm.hafner.dashboard.service.dto.Build;
@@ -13,12 +14,21 @@ import io.jenkins.plugins.datatables.TableColumn;
 import io.jenkins.plugins.datatables.TableModel;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,24 +45,48 @@ class BuildServiceTest {
     @Test
     void shouldSaveAllBuilds() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        BuildService buildService = new BuildService(buildEntityService, eventPublisher, mock(RetentionEntityService.class));
+        when(buildEntityService.upsert(any(BuildEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
         SoftAssertions.assertSoftly(softly -> {
-            when(buildEntityService.saveAll(new ArrayList<>())).thenReturn(new ArrayList<>());
             List<Build> builds = buildService.saveAll(createJob(1), new ArrayList<>());
             softly.assertThat(builds).isEmpty();
 
-            List<BuildEntity> buildEntities = createBuildEntities();
-            when(buildEntityService.saveAll(buildEntities)).thenReturn(buildEntities);
             List<Build> buildsToSave = createBuilds();
             builds = buildService.saveAll(createJob(1), buildsToSave);
             softly.assertThat(builds).isEqualTo(buildsToSave);
         });
+        verify(buildEntityService, times(NUMBER_OF_BUILDS)).upsert(any(BuildEntity.class));
+        verify(eventPublisher, times(NUMBER_OF_BUILDS)).publishEvent(any(BuildPersistedEvent.class));
+    }
+
+    @Test
+    void shouldMergeBuildThatHasBeenInsertedConcurrently() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        BuildEntity storedBuildEntity = createBuildEntity(1);
+        when(buildEntityService.upsert(any(BuildEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate build"))
+                .thenReturn(storedBuildEntity);
+
+        List<Build> builds = buildService.saveAll(createJob(1), Collections.singletonList(createBuild(1)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(builds).containsExactly(createBuild(1));
+            ArgumentCaptor<BuildEntity> captor = ArgumentCaptor.forClass(BuildEntity.class);
+            verify(buildEntityService, times(2)).upsert(captor.capture());
+            softly.assertThat(captor.getAllValues().get(1)).isSameAs(captor.getAllValues().get(0));
+            softly.assertThat(captor.getAllValues().get(1).getJobEntity().getId()).isEqualTo(1);
+            softly.assertThat(captor.getAllValues().get(1).getJobEntity().getBuildEntities()).hasSize(1);
+            softly.assertThat(captor.getAllValues().get(1).getNumber()).isEqualTo(1);
+        });
     }
 
     @Test
     void shouldGetLatestBuild() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
 
         SoftAssertions.assertSoftly(softly -> {
             Job jobWithoutBuilds = createJob(1);
@@ -67,10 +101,109 @@ class BuildServiceTest {
         });
     }
 
+    @Test
+    void shouldFindMissingBuilds() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+
+        SoftAssertions.assertSoftly(softly -> {
+            when(buildEntityService.findBuildNumbers(1)).thenReturn(Arrays.asList(0, 1, 2, 3, 4));
+            softly.assertThat(buildService.findMissingBuilds(createJob(1), createBuilds())).isEmpty();
+
+            when(buildEntityService.findBuildNumbers(1)).thenReturn(Arrays.asList(0, 2, 4));
+            List<Build> missingBuilds = buildService.findMissingBuilds(createJob(1), createBuilds());
+            softly.assertThat(missingBuilds).containsExactly(createBuild(3), createBuild(1));
+
+            when(buildEntityService.findBuildNumbers(1)).thenReturn(new ArrayList<>());
+            softly.assertThat(buildService.findMissingBuilds(createJob(1), createBuilds())).hasSize(NUMBER_OF_BUILDS);
+        });
+    }
+
+    @Test
+    void shouldNotFindBuildsDeletedByRetentionPolicy() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        RetentionEntityService retentionEntityService = mock(RetentionEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), retentionEntityService);
+        when(buildEntityService.findBuildNumbers(1)).thenReturn(Arrays.asList(3, 4));
+        when(retentionEntityService.findDroppedBuildNumber(getJobNameForNumber(1))).thenReturn(1);
+
+        assertThat(buildService.findMissingBuilds(createJob(1), createBuilds())).containsExactly(createBuild(2));
+    }
+
+    @Test
+    void shouldBackfillTimestampsOfBuildsStoredWithoutTimestamp() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        when(buildEntityService.findBuildNumbersWithoutTimestamp(1)).thenReturn(Arrays.asList(1, 2, 3, 9));
+        when(buildEntityService.updateTimestamp(eq(1), anyInt(), anyLong(), anyLong())).thenReturn(true);
+        List<Build> jenkinsBuilds = createBuilds();
+        jenkinsBuilds.forEach(build -> {
+            build.setTimestamp(1000L * build.getNumber());
+            build.setDuration(10);
+        });
+        jenkinsBuilds.get(2).setTimestamp(0);
+
+        assertThat(buildService.backfillTimestamps(createJob(1), jenkinsBuilds)).isEqualTo(2);
+        verify(buildEntityService).updateTimestamp(1, 1, 1000L, 10L);
+        verify(buildEntityService).updateTimestamp(1, 3, 3000L, 10L);
+        verify(buildEntityService, times(2)).updateTimestamp(eq(1), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldNotBackfillTimestampsIfAllBuildsHaveTimestamp() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        when(buildEntityService.findBuildNumbersWithoutTimestamp(1)).thenReturn(Collections.emptyList());
+
+        assertThat(buildService.backfillTimestamps(createJob(1), createBuilds())).isEqualTo(0);
+        verify(buildEntityService, times(0)).updateTimestamp(anyInt(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldFindBuildsOfWindowWithTheirBuildTime() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        BuildEntity buildEntity = createBuildEntity(3);
+        buildEntity.setTimestamp(1_589_000_000_000L);
+        buildEntity.setDuration(42_000L);
+        when(buildEntityService.findBuildsBetween(eq(JOB_NAME), anyLong(), anyLong(), anyInt()))
+                .thenReturn(Collections.singletonList(buildEntity));
+
+        long now = System.currentTimeMillis();
+        List<Build> builds = buildService.findBuilds(JOB_NAME, BuildWindow.lastDays(7));
+
+        SoftAssertions.assertSoftly(softly -> {
+            ArgumentCaptor<Long> from = ArgumentCaptor.forClass(Long.class);
+            verify(buildEntityService).findBuildsBetween(eq(JOB_NAME), from.capture(), eq(Long.MAX_VALUE), eq(0));
+            softly.assertThat(from.getValue()).isBetween(now - TimeUnit.DAYS.toMillis(7) - 1000, now - TimeUnit.DAYS.toMillis(7) + 1000);
+            softly.assertThat(builds).hasSize(1);
+            softly.assertThat(builds.get(0).getTimestamp()).isEqualTo(1_589_000_000_000L);
+            softly.assertThat(builds.get(0).getDuration()).isEqualTo(42_000L);
+
+            List<BuildResult<Build>> buildResults = buildService.createBuildResults(builds);
+            softly.assertThat(buildResults.get(0).getBuild().getNumber()).isEqualTo(3);
+            softly.assertThat(buildResults.get(0).getBuild().getBuildTime()).isEqualTo(1_589_000_000L);
+        });
+    }
+
+    @Test
+    void shouldFindLatestBuildsInAscendingOrder() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        when(buildEntityService.findLatestBuilds(JOB_NAME, 3))
+                .thenReturn(Arrays.asList(createBuildEntity(4), createBuildEntity(3), createBuildEntity(2)));
+
+        List<Build> builds = buildService.findBuilds(JOB_NAME, BuildWindow.lastBuilds(3));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(builds).containsExactly(createBuild(2), createBuild(3), createBuild(4));
+        });
+    }
+
     @Test
     void shouldCreateBuildResultForTool() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
 
         SoftAssertions.assertSoftly(softly -> {
             Job job = createJobWithBuildsAndResults();
@@ -95,7 +228,7 @@ class BuildServiceTest {
     @Test
     void shouldCreateBuildViewTable() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
 
         SoftAssertions.assertSoftly(softly -> {
             BuildViewTable buildViewTable = buildService.createBuildViewTable();
@@ -135,10 +268,6 @@ class BuildServiceTest {
         return JOB_NAME + numberOfJob;
     }
 
-    private List<BuildEntity> createBuildEntities() {
-        return IntStream.range(0, NUMBER_OF_BUILDS).mapToObj(this::createBuildEntity).collect(Collectors.toList());
-    }
-
     private BuildEntity createBuildEntity(final int numberOfBuild) {
         return new BuildEntity(
                 numberOfBuild,
@@ -0,0 +1,86 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the Class {@link BuildWatchList}.
+ */
+class BuildWatchListTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String SUCCESS = "Success";
+    private static final long INITIAL_DELAY = 1_000;
+    private static final long MAX_DELAY = 5_000;
+
+    @Test
+    void shouldReturnDueBuildsAfterInitialDelay() {
+        BuildWatchList buildWatchList = new BuildWatchList(createSyncProperties(10));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(buildWatchList.watch(createJob(), createBuild(1), 0)).isTrue();
+            softly.assertThat(buildWatchList.watch(createJob(), createBuild(1), 0)).isFalse();
+            softly.assertThat(buildWatchList.size()).isEqualTo(1);
+
+            softly.assertThat(buildWatchList.getDueBuilds(INITIAL_DELAY - 1)).isEmpty();
+            softly.assertThat(buildWatchList.getDueBuilds(INITIAL_DELAY)).hasSize(1);
+
+            buildWatchList.remove(JOB_NAME, 1);
+            softly.assertThat(buildWatchList.size()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void shouldBackOffExponentially() {
+        BuildWatchList buildWatchList = new BuildWatchList(createSyncProperties(10));
+        buildWatchList.watch(createJob(), createBuild(1), 0);
+        WatchedBuild watchedBuild = buildWatchList.getDueBuilds(INITIAL_DELAY).get(0);
+
+        SoftAssertions.assertSoftly(softly -> {
+            buildWatchList.backOff(watchedBuild, INITIAL_DELAY);
+            softly.assertThat(watchedBuild.getDelayInMillis()).isEqualTo(2 * INITIAL_DELAY);
+            softly.assertThat(watchedBuild.getNextCheckInMillis()).isEqualTo(3 * INITIAL_DELAY);
+            softly.assertThat(buildWatchList.getDueBuilds(2 * INITIAL_DELAY)).isEmpty();
+
+            buildWatchList.backOff(watchedBuild, 3 * INITIAL_DELAY);
+            softly.assertThat(watchedBuild.getDelayInMillis()).isEqualTo(4 * INITIAL_DELAY);
+
+            buildWatchList.backOff(watchedBuild, 7 * INITIAL_DELAY);
+            softly.assertThat(watchedBuild.getDelayInMillis()).isEqualTo(MAX_DELAY);
+            softly.assertThat(watchedBuild.getPolls()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldStopWatchingAfterMaxPolls() {
+        BuildWatchList buildWatchList = new BuildWatchList(createSyncProperties(2));
+        buildWatchList.watch(createJob(), createBuild(1), 0);
+        WatchedBuild watchedBuild = buildWatchList.getDueBuilds(INITIAL_DELAY).get(0);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(buildWatchList.backOff(watchedBuild, INITIAL_DELAY)).isTrue();
+            softly.assertThat(buildWatchList.backOff(watchedBuild, 3 * INITIAL_DELAY)).isFalse();
+            softly.assertThat(buildWatchList.size()).isEqualTo(0);
+        });
+    }
+
+    private SyncProperties createSyncProperties(final int maxPolls) {
+        SyncProperties syncProperties = new SyncProperties();
+        syncProperties.setWatchInitialDelayInMillis(INITIAL_DELAY);
+        syncProperties.setWatchMaxDelayInMillis(MAX_DELAY);
+        syncProperties.setWatchMaxPolls(maxPolls);
+        return syncProperties;
+    }
+
+    private Job createJob() {
+        return new Job(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", SUCCESS);
+    }
+
+    private Build createBuild(final int number) {
+        Build build = new Build(number, number, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/" + number + "/");
+        build.setBuilding(true);
+        return build;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.hm.hafner.dashboard.service;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Test the Class {@link BuildWindow}.
+ */
+class BuildWindowTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 3, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2020, 3, 31);
+
+    @Test
+    void shouldCreateWindowFromRequestParameters() {
+        BuildWindow defaultWindow = BuildWindow.lastBuilds(BuildWindow.DEFAULT_BUILD_COUNT);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(BuildWindow.of(null, null, null, null, defaultWindow)).isSameAs(defaultWindow);
+            softly.assertThat(BuildWindow.all().isAll()).isTrue();
+
+            BuildWindow lastBuilds = BuildWindow.of(100, null, null, null, defaultWindow);
+            softly.assertThat(lastBuilds.getBuildCount()).isEqualTo(100);
+            softly.assertThat(lastBuilds.isTimeRangeDefined()).isFalse();
+
+            BuildWindow lastDays = BuildWindow.of(100, 7, null, null, defaultWindow);
+            softly.assertThat(lastDays.isBuildCountDefined()).isFalse();
+            softly.assertThat(lastDays.isTimeRangeDefined()).isTrue();
+            softly.assertThat(lastDays.getTo()).isEqualTo(Long.MAX_VALUE);
+
+            BuildWindow between = BuildWindow.of(100, 7, FIRST_DAY, LAST_DAY, defaultWindow);
+            softly.assertThat(between.getFrom()).isEqualTo(FIRST_DAY.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            softly.assertThat(between.getTo()).isEqualTo(LAST_DAY.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() - 1);
+
+            BuildWindow openEnd = BuildWindow.of(null, null, FIRST_DAY, null, defaultWindow);
+            softly.assertThat(openEnd.getTo()).isEqualTo(Long.MAX_VALUE);
+        });
+    }
+
+    @Test
+    void shouldRejectInvalidWindows() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> BuildWindow.lastBuilds(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The number of builds must be positive: 0");
+            softly.assertThatThrownBy(() -> BuildWindow.lastDays(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The number of days must be positive: -1");
+            softly.assertThatThrownBy(() -> BuildWindow.between(LAST_DAY, FIRST_DAY))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The first day 2020-03-31 is after the last day 2020-03-01");
+        });
+    }
+}
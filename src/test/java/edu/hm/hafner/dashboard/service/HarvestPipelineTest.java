@@ -0,0 +1,203 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test the Class {@link HarvestPipeline}.
+ */
+class HarvestPipelineTest {
+    private static final String JOB_NAME = "jobName";
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldSpillBuildsAndWriteThemInOrder() {
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        SyncJournalService syncJournalService = mock(SyncJournalService.class);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<Build> builds = invocation.getArgument(1);
+            writerBlocked.await(5, TimeUnit.SECONDS);
+            writes.add("build " + builds.get(0).getNumber() + " with " + builds.get(0).getResults().get(0).getTotalSize());
+            return builds;
+        }).when(appStartupService).saveNewBuildsFromJob(any(Job.class), anyList());
+        doAnswer(invocation -> {
+            SyncPhase phase = invocation.getArgument(1);
+            writes.add(phase.getPhaseType().toLowerCase(Locale.ENGLISH) + " completed");
+            return null;
+        }).when(syncJournalService).completePhase(any(SyncRun.class), any(SyncPhase.class));
+        HarvestPipeline harvestPipeline = createPipeline(appStartupService, syncJournalService, new BackfillQueue());
+        SyncRun syncRun = createSyncRun();
+
+        harvestPipeline.start(syncRun);
+        Job job = new Job(1, JOB_NAME, "url", "Success");
+        for (int number = 1; number <= 5; number++) {
+            harvestPipeline.submitBuild(job, createBuild(number), new SyncPhase("BUILD", JOB_NAME, number, LocalDateTime.now()));
+        }
+        harvestPipeline.submitJob(new SyncPhase("JOB", JOB_NAME, 0, LocalDateTime.now()));
+        int depth = harvestPipeline.getDepth();
+        int spilledDepth = harvestPipeline.getSpilledDepth();
+        long spilledFiles = countSpilledFiles();
+        writerBlocked.countDown();
+        harvestPipeline.finish();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(depth).isBetween(5, 6);
+            softly.assertThat(spilledDepth).isGreaterThanOrEqualTo(3);
+            softly.assertThat(spilledFiles).isEqualTo(spilledDepth);
+            softly.assertThat(writes).containsExactly(
+                    "build 1 with 1", "build completed", "build 2 with 2", "build completed", "build 3 with 3", "build completed",
+                    "build 4 with 4", "build completed", "build 5 with 5", "build completed", "job completed");
+            softly.assertThat(harvestPipeline.getDepth()).isEqualTo(0);
+            softly.assertThat(countSpilledFiles()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void shouldBackfillBuildsThatCanNotBeWritten() {
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        SyncJournalService syncJournalService = mock(SyncJournalService.class);
+        BackfillQueue backfillQueue = new BackfillQueue();
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("duplicate build");
+        doAnswer(invocation -> {
+            throw failure;
+        }).when(appStartupService).saveNewBuildsFromJob(any(Job.class), anyList());
+        HarvestPipeline harvestPipeline = createPipeline(appStartupService, syncJournalService, backfillQueue);
+        SyncRun syncRun = createSyncRun();
+        SyncPhase buildPhase = new SyncPhase("BUILD", JOB_NAME, 3, LocalDateTime.now());
+
+        harvestPipeline.start(syncRun);
+        harvestPipeline.submitBuild(new Job(1, JOB_NAME, "url", "Success"), createBuild(3), buildPhase);
+        harvestPipeline.finish();
+
+        verify(syncJournalService).failPhase(eq(syncRun), any(SyncPhase.class), eq(failure));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(backfillQueue.size()).isEqualTo(1);
+            BackfillRequest request = backfillQueue.poll();
+            softly.assertThat(request.getBuild().getNumber()).isEqualTo(3);
+            softly.assertThat(request.getBuild().getResults()).isEmpty();
+            softly.assertThat(request.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldNotCompleteJobWithBuildsThatCanNotBeWritten() {
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        SyncJournalService syncJournalService = mock(SyncJournalService.class);
+        doAnswer(invocation -> {
+            List<Build> builds = invocation.getArgument(1);
+            if (builds.get(0).getNumber() == 2) {
+                throw new DataIntegrityViolationException("duplicate build");
+            }
+            return builds;
+        }).when(appStartupService).saveNewBuildsFromJob(any(Job.class), anyList());
+        HarvestPipeline harvestPipeline = createPipeline(appStartupService, syncJournalService, new BackfillQueue());
+        SyncRun syncRun = createSyncRun();
+        harvestPipeline.start(syncRun);
+        Job job = new Job(1, JOB_NAME, "url", "Success");
+        for (int number = 1; number <= 3; number++) {
+            harvestPipeline.submitBuild(job, createBuild(number), new SyncPhase("BUILD", JOB_NAME, number, LocalDateTime.now()));
+        }
+        harvestPipeline.submitJob(new SyncPhase("JOB", JOB_NAME, 0, LocalDateTime.now()));
+        harvestPipeline.finish();
+
+        verify(syncJournalService).failPhase(eq(syncRun), argThat(phase -> "JOB".equals(phase.getPhaseType())),
+                any(IllegalStateException.class));
+        verify(syncJournalService, never()).completePhase(eq(syncRun), argThat(phase -> "JOB".equals(phase.getPhaseType())));
+    }
+
+    @Test
+    void shouldKeepWritingAfterFailureOfJournal() {
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        SyncJournalService syncJournalService = mock(SyncJournalService.class);
+        doAnswer(invocation -> {
+            if ("failing".equals(invocation.<SyncPhase>getArgument(1).getJobName())) {
+                throw new QueryTimeoutException("journal not available");
+            }
+            return null;
+        }).when(syncJournalService).completePhase(any(SyncRun.class), any(SyncPhase.class));
+        HarvestPipeline harvestPipeline = createPipeline(appStartupService, syncJournalService, new BackfillQueue());
+        SyncRun syncRun = createSyncRun();
+        Job job = new Job(1, JOB_NAME, "url", "Success");
+
+        harvestPipeline.start(syncRun);
+        harvestPipeline.submitJob(new SyncPhase("JOB", "failing", 0, LocalDateTime.now()));
+        harvestPipeline.submitBuild(job, createBuild(1), new SyncPhase("BUILD", JOB_NAME, 1, LocalDateTime.now()));
+        harvestPipeline.finish();
+
+        verify(appStartupService).saveNewBuildsFromJob(any(Job.class), anyList());
+        verify(syncJournalService).completePhase(eq(syncRun), argThat(phase -> "BUILD".equals(phase.getPhaseType())));
+    }
+
+    private long countSpilledFiles() {
+        try (Stream<Path> files = Files.walk(spillDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private HarvestPipeline createPipeline(final AppStartupService appStartupService, final SyncJournalService syncJournalService,
+            final BackfillQueue backfillQueue) {
+        SyncProperties syncProperties = new SyncProperties();
+        syncProperties.setPipelineCapacity(2);
+        syncProperties.setPipelineWriters(1);
+        syncProperties.setPipelineSpillDirectory(spillDirectory.toString());
+        return new HarvestPipeline(appStartupService, syncJournalService, backfillQueue, syncProperties);
+    }
+
+    private SyncRun createSyncRun() {
+        return new SyncRun(1, SyncStatusEntity.RUNNING.name(), LocalDateTime.now());
+    }
+
+    private Build createBuild(final int number) {
+        Build build = new Build(0, number, "url/" + number + "/");
+        Report report = new Report();
+        IssueBuilder issueBuilder = new IssueBuilder();
+        for (int i = 0; i < number; i++) {
+            report.add(issueBuilder.setMessage("message " + i).build());
+        }
+        Result result = new Result();
+        result.setWarningId("checkstyle");
+        result.setOutstandingIssues(report);
+        result.setTotalSize(report.size());
+        build.addResult(result);
+        return build;
+    }
+}
@@ -0,0 +1,160 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.HotspotEntityService;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.HotspotEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Hotspot;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link HotspotService}.
+ */
+class HotspotServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldCountIssuesPerFileAndPackage() {
+        HotspotEntityService entityService = mock(HotspotEntityService.class);
+        HotspotService hotspotService = createService(entityService);
+        Build build = new Build(0, 7, "url/7/");
+        build.setTimestamp(700L);
+        Result result = new Result();
+        result.setWarningId(CHECKSTYLE);
+        result.setOutstandingIssues(createReport("a/A.java", "a/A.java", "b/B.java"));
+        result.setNewIssues(createReport("a/A.java", "-"));
+        result.setFixedIssues(createReport("b/B.java"));
+        build.addResult(result);
+
+        hotspotService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        ArgumentCaptor<Map<String, Map<String, int[]>>> counts = ArgumentCaptor.forClass(Map.class);
+        verify(entityService).apply(eq(JOB_NAME), eq(CHECKSTYLE), eq(7), eq(700L), counts.capture());
+        Map<String, int[]> files = counts.getValue().get(HotspotEntity.FILE);
+        Map<String, int[]> packages = counts.getValue().get(HotspotEntity.PACKAGE);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(files).containsOnlyKeys("a/A.java", "b/B.java");
+            softly.assertThat(files.get("a/A.java")).containsExactly(3, 1, 0);
+            softly.assertThat(files.get("b/B.java")).containsExactly(1, 0, 1);
+            softly.assertThat(packages).containsOnlyKeys("a", "b");
+            softly.assertThat(packages.get("a")).containsExactly(3, 1, 0);
+        });
+    }
+
+    @Test
+    void shouldRankByPropertyOfMetric() {
+        HotspotEntityService entityService = mock(HotspotEntityService.class);
+        HotspotService hotspotService = createService(entityService);
+        HotspotEntity entity = new HotspotEntity(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE, "A.java");
+        entity.count(2, 3, 3, 0, true);
+        when(entityService.findHotspots(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE, "warningMillis",
+                HotspotService.MAX_HOTSPOTS)).thenReturn(Collections.singletonList(entity));
+
+        List<Hotspot> hotspots = hotspotService.findHotspots(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE,
+                HotspotService.WARNING_WEEKS, Integer.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(hotspots).extracting(Hotspot::getName).containsExactly("A.java");
+            softly.assertThat(hotspots.get(0).getCurrentCount()).isEqualTo(3);
+            softly.assertThat(hotspots.get(0).getChurn()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldRejectUnknownKindOrMetric() {
+        HotspotService hotspotService = createService(mock(HotspotEntityService.class));
+
+        assertThatThrownBy(() -> hotspotService.findHotspots(JOB_NAME, CHECKSTYLE, "module",
+                HotspotService.CHURN, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hotspotService.findHotspots(JOB_NAME, CHECKSTYLE, HotspotEntity.FILE,
+                "size", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDeleteCountedBuildsOnlyIfBuildsHaveBeenDropped() {
+        HotspotEntityService entityService = mock(HotspotEntityService.class);
+        HotspotService hotspotService = createService(entityService);
+
+        hotspotService.onBuildsPruned(new BuildsPrunedEvent(JOB_NAME, Collections.singletonList(1), false));
+        hotspotService.onBuildsPruned(new BuildsPrunedEvent(JOB_NAME, Collections.singletonList(2), true));
+
+        verify(entityService).deleteBuilds(JOB_NAME, Collections.singletonList(2));
+        verify(entityService, never()).deleteBuilds(JOB_NAME, Collections.singletonList(1));
+    }
+
+    @Test
+    void shouldCountStoredBuildsThatHaveNotBeenCounted() {
+        HotspotEntityService entityService = mock(HotspotEntityService.class);
+        JobEntityService jobEntityService = mock(JobEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        ReportArchiveService reportArchiveService = mock(ReportArchiveService.class);
+        HotspotService hotspotService = new HotspotService(entityService, jobEntityService, buildEntityService,
+                reportArchiveService);
+        when(jobEntityService.findAllNames()).thenReturn(Collections.singletonList(JOB_NAME));
+        when(entityService.findCountedBuildNumbers(JOB_NAME)).thenReturn(Collections.singletonList(2));
+        when(buildEntityService.findBuildNumbers(JOB_NAME)).thenReturn(Arrays.asList(3, 1, 2));
+        when(buildEntityService.findBuild(JOB_NAME, 1)).thenReturn(Optional.of(createBuildEntity(1)));
+        when(buildEntityService.findBuild(JOB_NAME, 3)).thenReturn(Optional.of(createBuildEntity(3)));
+
+        hotspotService.countStoredBuilds();
+
+        InOrder inOrder = inOrder(entityService);
+        inOrder.verify(entityService).apply(eq(JOB_NAME), eq(CHECKSTYLE), eq(1), eq(100L), anyMap());
+        inOrder.verify(entityService).apply(eq(JOB_NAME), eq(CHECKSTYLE), eq(3), eq(300L), anyMap());
+        verify(entityService, never()).apply(eq(JOB_NAME), eq(CHECKSTYLE), eq(2), anyLong(), anyMap());
+        verify(buildEntityService, never()).findBuild(JOB_NAME, 2);
+        verify(reportArchiveService, times(2)).restore(any(Result.class));
+    }
+
+    private HotspotService createService(final HotspotEntityService entityService) {
+        return new HotspotService(entityService, mock(JobEntityService.class), mock(BuildEntityService.class),
+                mock(ReportArchiveService.class));
+    }
+
+    private BuildEntity createBuildEntity(final int number) {
+        BuildEntity buildEntity = new BuildEntity(0, number, "url/" + number + "/");
+        buildEntity.setTimestamp(100L * number);
+        buildEntity.addResultEntity(new ResultEntity(number, CHECKSTYLE, "url", "CheckStyle", 0, 0, 0, "PASSED"));
+        return buildEntity;
+    }
+
+    private Report createReport(final String... fileNames) {
+        Report report = new Report();
+        IssueBuilder issueBuilder = new IssueBuilder();
+        for (String fileName : fileNames) {
+            int separator = fileName.lastIndexOf('/');
+            report.add(issueBuilder.setFileName(fileName)
+                    .setPackageName(separator < 0 ? "-" : fileName.substring(0, separator))
+                    .build());
+        }
+        return report;
+    }
+}
@@ -0,0 +1,368 @@
+package edu.hm.hafner.dashboard.service;
+
+import com.sun.net.httpserver.HttpServer;
+import edu.hm.hafner.dashboard.config.RestApiProperties;
+import edu.hm.hafner.dashboard.config.RestApiProperties.RestConfiguration;
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.db.IngestionTaskEntityService;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskEntity;
+import edu.hm.hafner.dashboard.db.model.IngestionTaskStatusEntity;
+import edu.hm.hafner.dashboard.db.repository.IngestionTaskRepository;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.rest.JenkinsClient;
+import edu.hm.hafner.dashboard.service.rest.RestService;
+import edu.hm.hafner.dashboard.ui.WebhookController;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test the Class {@link IngestionQueueService}. Synthetic notifications are posted to the {@link WebhookController}, the
+ * queued builds are fetched from a local stub of Jenkins.
+ */
+class IngestionQueueServiceTest {
+    private static final String JOB_NAME = "folder \u00bb app";
+    private static final String TOKEN = "secret";
+
+    private HttpServer jenkins;
+    private String jenkinsUrl;
+    private final Queue<String> requestedPaths = new ConcurrentLinkedQueue<>();
+    private final Map<String, IngestionTaskEntity> tasks = new ConcurrentHashMap<>();
+    private final Set<String> missingPaths = ConcurrentHashMap.newKeySet();
+
+    private RestService restService;
+    private SyncProperties syncProperties;
+    private AppStartupService appStartupService;
+    private IngestionQueueService ingestionQueueService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void startJenkinsStub() throws IOException {
+        jenkins = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jenkinsUrl = "http://localhost:" + jenkins.getAddress().getPort() + "/";
+        jenkins.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requestedPaths.add(path);
+            if (missingPaths.contains(path)) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = respond(path).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        jenkins.start();
+
+        RestConfiguration restConfiguration = new RestConfiguration();
+        restConfiguration.setEndPoint(jenkinsUrl + "api/json");
+        restConfiguration.setUsername("user");
+        restConfiguration.setApiToken("token");
+        RestApiProperties restApiProperties = new RestApiProperties();
+        restApiProperties.setRestConfiguration(restConfiguration);
+        restService = new RestService(restApiProperties);
+
+        syncProperties = new SyncProperties();
+        syncProperties.setIngestionMaxAttempts(2);
+        syncProperties.setWebhookToken(TOKEN);
+        appStartupService = mock(AppStartupService.class);
+        AppStartupRunner appStartupRunner = new AppStartupRunner(restService, appStartupService, mock(SyncJournalService.class),
+                new BackfillQueue(), new BuildWatchList(syncProperties), new JobDiscovery(syncProperties),
+                mock(HarvestPipeline.class), syncProperties);
+        ingestionQueueService = new IngestionQueueService(new IngestionTaskEntityService(createRepository()), appStartupRunner,
+                restService, syncProperties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new WebhookController(ingestionQueueService, syncProperties)).build();
+    }
+
+    @AfterEach
+    void stopJenkinsStub() {
+        jenkins.stop(0);
+    }
+
+    @Test
+    void shouldQueueCoalesceAndIngestNotifiedBuild() throws Exception {
+        Job job = new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success");
+        when(appStartupService.findJobReferenceByName(JOB_NAME)).thenReturn(job);
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted()).andExpect(content().string("queued"));
+        postNotification(12, TOKEN).andExpect(status().isAccepted()).andExpect(content().string("coalesced"));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).hasSize(1);
+            IngestionTaskEntity task = tasks.values().iterator().next();
+            softly.assertThat(task.getJobName()).isEqualTo(JOB_NAME);
+            softly.assertThat(task.getNotifications()).isEqualTo(2);
+            softly.assertThat(requestedPaths).isEmpty();
+        });
+
+        ingestionQueueService.drain();
+
+        ArgumentCaptor<List<Build>> captor = ArgumentCaptor.forClass(List.class);
+        verify(appStartupService, times(1)).saveNewBuildsFromJob(eq(job), captor.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(captor.getValue()).hasSize(1);
+            Build build = captor.getValue().get(0);
+            softly.assertThat(build.getNumber()).isEqualTo(12);
+            softly.assertThat(build.getResults()).hasSize(1);
+            softly.assertThat(tasks).isEmpty();
+            softly.assertThat(requestedPaths).isNotEmpty()
+                    .allMatch(path -> path.startsWith("/job/folder/job/app/12/"));
+        });
+    }
+
+    @Test
+    void shouldSkipBuildThatIsAlreadyStored() throws Exception {
+        when(appStartupService.findJobReferenceByName(JOB_NAME)).thenReturn(new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenReturn(Collections.emptyList());
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted());
+        ingestionQueueService.drain();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).isEmpty();
+            softly.assertThat(requestedPaths).containsExactly("/job/folder/job/app/12/api/json");
+        });
+        verify(appStartupService, times(0)).saveNewBuildsFromJob(any(Job.class), anyList());
+    }
+
+    @Test
+    void shouldRetryFailedTaskUntilMaximumAttempts() throws Exception {
+        when(appStartupService.findJobReferenceByName(anyString())).thenReturn(new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        jenkins.stop(0);
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted());
+        ingestionQueueService.drain();
+        ingestionQueueService.drain();
+        ingestionQueueService.drain();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).hasSize(1);
+            IngestionTaskEntity task = tasks.values().iterator().next();
+            softly.assertThat(task.getStatus()).isEqualTo(IngestionTaskStatusEntity.FAILED);
+            softly.assertThat(task.getAttempts()).isEqualTo(2);
+            softly.assertThat(task.getFailureMessage()).isNotEmpty();
+        });
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted()).andExpect(content().string("coalesced"));
+        SoftAssertions.assertSoftly(softly -> {
+            IngestionTaskEntity task = tasks.values().iterator().next();
+            softly.assertThat(task.getStatus()).isEqualTo(IngestionTaskStatusEntity.PENDING);
+            softly.assertThat(task.getAttempts()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void shouldCountUncheckedFailureOfTask() throws Exception {
+        when(appStartupService.findJobReferenceByName(JOB_NAME))
+                .thenThrow(new IllegalStateException("broken job"))
+                .thenReturn(new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted());
+        ingestionQueueService.drain();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).hasSize(1);
+            IngestionTaskEntity task = tasks.values().iterator().next();
+            softly.assertThat(task.getStatus()).isEqualTo(IngestionTaskStatusEntity.PENDING);
+            softly.assertThat(task.getAttempts()).isEqualTo(1);
+            softly.assertThat(task.getFailureMessage()).isEqualTo("broken job");
+        });
+
+        ingestionQueueService.drain();
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(tasks).isEmpty());
+        verify(appStartupService, times(1)).saveNewBuildsFromJob(any(Job.class), anyList());
+    }
+
+    @Test
+    void shouldFailTaskIfDetailsOfToolAreMissing() throws Exception {
+        when(appStartupService.findJobReferenceByName(JOB_NAME)).thenReturn(new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        missingPaths.add("/job/folder/job/app/12/checkstyle/api/json");
+
+        postNotification(12, TOKEN).andExpect(status().isAccepted());
+        ingestionQueueService.drain();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).hasSize(1);
+            IngestionTaskEntity task = tasks.values().iterator().next();
+            softly.assertThat(task.getStatus()).isEqualTo(IngestionTaskStatusEntity.PENDING);
+            softly.assertThat(task.getAttempts()).isEqualTo(1);
+            softly.assertThat(task.getFailureMessage()).contains("checkstyle");
+        });
+        verify(appStartupService, times(0)).saveNewBuildsFromJob(any(Job.class), anyList());
+    }
+
+    @Test
+    void shouldRejectUrlOfOtherBuild() {
+        AppStartupRunner appStartupRunner = new AppStartupRunner(restService, appStartupService, mock(SyncJournalService.class),
+                new BackfillQueue(), new BuildWatchList(syncProperties), new JobDiscovery(syncProperties),
+                mock(HarvestPipeline.class), syncProperties);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> appStartupRunner.ingestBuild(null, JOB_NAME, 13, jenkinsUrl + "job/folder/job/app/12/"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> appStartupRunner.ingestBuild(null, JOB_NAME, 2, jenkinsUrl + "job/folder/job/app/12"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> appStartupRunner.ingestBuild(null, JOB_NAME, 12, jenkinsUrl + "job/folder/job/app/"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThat(requestedPaths).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldRejectInvalidNotifications() throws Exception {
+        postNotification(12, "wrong").andExpect(status().isUnauthorized());
+        postNotification(0, TOKEN).andExpect(status().isBadRequest());
+        mockMvc.perform(post("/webhook/build").header("X-Dashboard-Token", TOKEN).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"controller\":\"unknown\",\"jobName\":\"app\",\"buildNumber\":1,\"url\":\"" + jenkinsUrl + "job/app/1/\"}"))
+                .andExpect(status().isBadRequest());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tasks).isEmpty();
+            softly.assertThat(requestedPaths).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldIngestBuildWhileFullSyncIsRunning() throws InterruptedException {
+        when(appStartupService.findJobReferenceByName(JOB_NAME)).thenReturn(new Job(1, JOB_NAME, jenkinsUrl + "job/folder/job/app/", "Success"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        CountDownLatch syncStarted = new CountDownLatch(1);
+        CountDownLatch finishSync = new CountDownLatch(1);
+        JobDiscovery jobDiscovery = mock(JobDiscovery.class);
+        when(jobDiscovery.discover(any(JenkinsClient.class))).thenAnswer(invocation -> {
+            syncStarted.countDown();
+            finishSync.await(10, TimeUnit.SECONDS);
+            return Collections.emptyList();
+        });
+        AppStartupRunner appStartupRunner = new AppStartupRunner(restService, appStartupService, mock(SyncJournalService.class),
+                new BackfillQueue(), new BuildWatchList(syncProperties), jobDiscovery, mock(HarvestPipeline.class), syncProperties);
+        Thread fullSync = new Thread(() -> appStartupRunner.run(new DefaultApplicationArguments()));
+        fullSync.start();
+        syncStarted.await(10, TimeUnit.SECONDS);
+
+        boolean isStored = appStartupRunner.ingestBuild(null, JOB_NAME, 12, jenkinsUrl + "job/folder/job/app/12/");
+        boolean isSyncRunning = fullSync.isAlive();
+        finishSync.countDown();
+        fullSync.join(10_000);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(isStored).isTrue();
+            softly.assertThat(isSyncRunning).isTrue();
+        });
+    }
+
+    @Test
+    void shouldRejectUrlsOfOtherHosts() throws Exception {
+        mockMvc.perform(post("/webhook/build").header("X-Dashboard-Token", TOKEN).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"jobName\":\"app\",\"buildNumber\":1,\"url\":\"http://attacker.example.com/job/app/1/\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/webhook/build").header("X-Dashboard-Token", TOKEN).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"jobName\":\"app\",\"buildNumber\":1,\"url\":\"" + jenkinsUrl.replace("localhost", "user@localhost") + "job/app/1/\"}"))
+                .andExpect(status().isBadRequest());
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(tasks).isEmpty());
+    }
+
+    @Test
+    void shouldRejectAllNotificationsIfNoTokenIsConfigured() throws Exception {
+        SyncProperties syncProperties = new SyncProperties();
+        mockMvc = MockMvcBuilders.standaloneSetup(new WebhookController(ingestionQueueService, syncProperties)).build();
+
+        postNotification(12, null).andExpect(status().isForbidden());
+        postNotification(12, TOKEN).andExpect(status().isForbidden());
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(tasks).isEmpty());
+    }
+
+    private ResultActions postNotification(final int buildNumber, final String token)
+            throws Exception {
+        MockHttpServletRequestBuilder request = post("/webhook/build").contentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.header("X-Dashboard-Token", token);
+        }
+        return mockMvc.perform(request.content("{\"jobName\":\"folder/app\",\"buildNumber\":" + buildNumber
+                + ",\"url\":\"" + jenkinsUrl + "job/folder/job/app/" + buildNumber + "\"}"));
+    }
+
+    private String respond(final String path) {
+        String buildUrl = jenkinsUrl + "job/folder/job/app/12/";
+        if (path.endsWith("/warnings-ng/api/json")) {
+            return "{\"tools\":[{\"id\":\"checkstyle\",\"name\":\"CheckStyle\",\"latestUrl\":\"" + buildUrl + "checkstyle\"}]}";
+        }
+        if (path.endsWith("/checkstyle/api/json")) {
+            return "{\"errorMessages\":[],\"infoMessages\":[],\"fixedSize\":0,\"newSize\":0,\"qualityGateStatus\":\"PASSED\",\"totalSize\":0}";
+        }
+        if (path.endsWith("/outstanding/api/json") || path.endsWith("/new/api/json") || path.endsWith("/fixed/api/json")) {
+            return "{\"issues\":[]}";
+        }
+        return "{\"number\":12,\"url\":\"" + buildUrl + "\",\"building\":false}";
+    }
+
+    private IngestionTaskRepository createRepository() {
+        IngestionTaskRepository repository = mock(IngestionTaskRepository.class);
+        when(repository.findByJobNameAndBuildNumber(anyString(), anyInt()))
+                .thenAnswer(invocation -> tasks.get(invocation.getArgument(0) + "#" + invocation.getArgument(1)));
+        when(repository.save(any(IngestionTaskEntity.class))).thenAnswer(invocation -> {
+            IngestionTaskEntity task = invocation.getArgument(0);
+            tasks.put(task.getJobName() + "#" + task.getBuildNumber(), task);
+            return task;
+        });
+        when(repository.findByStatusOrderByReceivedAtAsc(any(IngestionTaskStatusEntity.class), any()))
+                .thenAnswer(invocation -> tasks.values().stream()
+                        .filter(task -> task.getStatus() == invocation.getArgument(0))
+                        .collect(Collectors.toCollection(ArrayList::new)));
+        when(repository.countByStatus(any(IngestionTaskStatusEntity.class)))
+                .thenAnswer(invocation -> tasks.values().stream().filter(task -> task.getStatus() == invocation.getArgument(0)).count());
+        doAnswer(invocation -> {
+            IngestionTaskEntity task = invocation.getArgument(0);
+            return tasks.remove(task.getJobName() + "#" + task.getBuildNumber());
+        }).when(repository).delete(any(IngestionTaskEntity.class));
+        return repository;
+    }
+}
@@ -0,0 +1,144 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.IssueEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.IssueFingerprintEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.dto.IssueDiff;
+import edu.hm.hafner.dashboard.service.dto.IssueDiffRow;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link IssueDiffService}.
+ */
+class IssueDiffServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldCountAddedRemovedAndUnchangedIssues() {
+        IssueDiffService issueDiffService = createService(
+                Arrays.asList(createIssue("a"), createIssue("b"), createIssue("b"), createIssue("c")),
+                Arrays.asList(createIssue("b"), createIssue("c"), createIssue("d"), createIssue("d")));
+
+        IssueDiff added = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.ADDED, 0, 50);
+        IssueDiff removed = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.REMOVED, 0, 50);
+        IssueDiff unchanged = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.UNCHANGED, 0, 50);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(added.getAddedSize()).isEqualTo(2);
+            softly.assertThat(added.getRemovedSize()).isEqualTo(2);
+            softly.assertThat(added.getUnchangedSize()).isEqualTo(2);
+            softly.assertThat(added.getRows()).extracting(IssueDiffRow::getFingerprint).containsExactly("d", "d");
+            softly.assertThat(removed.getRows()).extracting(IssueDiffRow::getFingerprint).containsExactly("a", "b");
+            softly.assertThat(unchanged.getRows()).extracting(IssueDiffRow::getFingerprint).containsExactly("b", "c");
+        });
+    }
+
+    @Test
+    void shouldMatchIssuesWithoutFingerprintByLocation() {
+        IssueDiffService issueDiffService = createService(
+                Arrays.asList(createIssue("-", "A.java", 1), createIssue("-", "A.java", 2)),
+                Arrays.asList(createIssue("-", "A.java", 2), createIssue("-", "B.java", 2)));
+
+        IssueDiff diff = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.ADDED, 0, 50);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(diff.getUnchangedSize()).isEqualTo(1);
+            softly.assertThat(diff.getRows()).extracting(IssueDiffRow::getFileName).containsExactly("B.java");
+        });
+    }
+
+    @Test
+    void shouldReturnPageOfRows() {
+        List<IssueFingerprintEntity> toIssues = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            toIssues.add(createIssue("f" + i));
+        }
+        IssueDiffService issueDiffService = createService(new ArrayList<>(), toIssues);
+
+        IssueDiff diff = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.ADDED, 2, 10);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(diff.getAddedSize()).isEqualTo(25);
+            softly.assertThat(diff.getRows()).extracting(IssueDiffRow::getFingerprint).containsExactly("f20", "f21", "f22", "f23", "f24");
+        });
+    }
+
+    @Test
+    void shouldReadIssuesOfArchivedResultFromArchive() {
+        IssueEntityService issueEntityService = mock(IssueEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        ReportArchiveService reportArchiveService = mock(ReportArchiveService.class);
+        when(buildEntityService.exists(eq(JOB_NAME), anyInt())).thenReturn(true);
+        when(issueEntityService.findFingerprints(JOB_NAME, 1, CHECKSTYLE)).thenReturn(Collections.emptyList());
+        when(issueEntityService.findFingerprints(JOB_NAME, 2, CHECKSTYLE)).thenReturn(Arrays.asList(createIssue("a"), createIssue("c")));
+        when(reportArchiveService.findArchivedIssues(JOB_NAME, 1, CHECKSTYLE, Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW)))
+                .thenReturn(Arrays.asList(createIssueEntity("a"), createIssueEntity("b")));
+        IssueDiffService issueDiffService = new IssueDiffService(issueEntityService, buildEntityService, reportArchiveService);
+
+        IssueDiff diff = issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.REMOVED, 0, 50);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(diff.getAddedSize()).isEqualTo(1);
+            softly.assertThat(diff.getUnchangedSize()).isEqualTo(1);
+            softly.assertThat(diff.getRows()).extracting(IssueDiffRow::getFingerprint).containsExactly("b");
+        });
+        verify(reportArchiveService, never()).findArchivedIssues(eq(JOB_NAME), eq(2), anyString(), any());
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        when(buildEntityService.exists(JOB_NAME, 1)).thenReturn(true);
+        IssueDiffService issueDiffService = new IssueDiffService(mock(IssueEntityService.class), buildEntityService, mock(ReportArchiveService.class));
+
+        assertThatThrownBy(() -> issueDiffService.diff(JOB_NAME, 1, 1, CHECKSTYLE, "changed", 0, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueDiffService.diff(JOB_NAME, 1, 1, CHECKSTYLE, IssueDiff.ADDED, -1, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueDiffService.diff(JOB_NAME, 1, 2, CHECKSTYLE, IssueDiff.ADDED, 0, 50))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private IssueDiffService createService(final List<IssueFingerprintEntity> fromIssues, final List<IssueFingerprintEntity> toIssues) {
+        IssueEntityService issueEntityService = mock(IssueEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        when(buildEntityService.exists(eq(JOB_NAME), anyInt())).thenReturn(true);
+        when(issueEntityService.findFingerprints(JOB_NAME, 1, CHECKSTYLE)).thenReturn(fromIssues);
+        when(issueEntityService.findFingerprints(JOB_NAME, 2, CHECKSTYLE)).thenReturn(toIssues);
+        return new IssueDiffService(issueEntityService, buildEntityService, mock(ReportArchiveService.class));
+    }
+
+    private IssueEntity createIssueEntity(final String fingerprint) {
+        return new IssueEntity(UUID.randomUUID(), 0, 0, 1, 1, "Imports", "", "File.java", fingerprint, "message", "-",
+                CHECKSTYLE, "-", "-", "HIGH", "UnusedImport");
+    }
+
+    private IssueFingerprintEntity createIssue(final String fingerprint) {
+        return createIssue(fingerprint, "File.java", 1);
+    }
+
+    private IssueFingerprintEntity createIssue(final String fingerprint, final String fileName, final int lineStart) {
+        return new IssueFingerprintEntity(fingerprint, "HIGH", fileName, lineStart, "message");
+    }
+}
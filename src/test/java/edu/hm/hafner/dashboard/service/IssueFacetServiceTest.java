@@ -0,0 +1,100 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.IssueEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.IssuePropertiesEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueFacets;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link IssueFacetService}.
+ */
+class IssueFacetServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldCountValuesOfAllColumnsInOnePass() {
+        IssueEntityService issueEntityService = mock(IssueEntityService.class);
+        when(issueEntityService.findProperties(JOB_NAME, 1, CHECKSTYLE, Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW)))
+                .thenReturn(Arrays.asList(
+                        new IssuePropertiesEntity("Imports", "core", "a", "A.java", "Unused", "HIGH"),
+                        new IssuePropertiesEntity("Imports", "core", "a", "B.java", "Unused", "LOW"),
+                        new IssuePropertiesEntity("Javadoc", "ui", null, "C.java", "Missing", "LOW")));
+        IssueFacetService issueFacetService = new IssueFacetService(issueEntityService, mock(ReportArchiveService.class));
+
+        IssueFacets facets = issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "total", 2);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(facets.getTotalSize()).isEqualTo(3);
+            softly.assertThat(facets.getFacets()).containsOnlyKeys("category", "moduleName", "package", "fileName", "type", "severity");
+            softly.assertThat(facets.getFacets().get("category")).containsExactly(
+                    entry("Imports", 2), entry("Javadoc", 1));
+            softly.assertThat(facets.getFacets().get("package")).containsEntry("a", 2).containsEntry("-", 1);
+            softly.assertThat(facets.getFacets().get("fileName")).containsOnlyKeys("A.java", "B.java");
+            softly.assertThat(facets.getDistinctValues()).containsEntry("fileName", 3).containsEntry("severity", 2);
+        });
+    }
+
+    @Test
+    void shouldCacheFacetsUntilBuildIsSavedAgain() {
+        IssueEntityService issueEntityService = mock(IssueEntityService.class);
+        when(issueEntityService.findProperties(anyString(), anyInt(), anyString(), any())).thenReturn(Collections.emptyList());
+        IssueFacetService issueFacetService = new IssueFacetService(issueEntityService, mock(ReportArchiveService.class));
+
+        issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "new", 10);
+        issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "new", 10);
+        issueFacetService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, new Build(0, 12, "url/12/")));
+        issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "new", 10);
+        issueFacetService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, new Build(0, 1, "url/1/")));
+        issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "new", 10);
+
+        verify(issueEntityService, times(2)).findProperties(eq(JOB_NAME), eq(1), eq(CHECKSTYLE), eq(Collections.singletonList(WarningTypeEntity.NEW)));
+    }
+
+    @Test
+    void shouldCountIssuesOfArchivedResult() {
+        IssueEntityService issueEntityService = mock(IssueEntityService.class);
+        when(issueEntityService.findProperties(anyString(), anyInt(), anyString(), any())).thenReturn(Collections.emptyList());
+        ReportArchiveService reportArchiveService = mock(ReportArchiveService.class);
+        when(reportArchiveService.findArchivedIssues(JOB_NAME, 1, CHECKSTYLE, Collections.singletonList(WarningTypeEntity.FIXED)))
+                .thenReturn(Arrays.asList(
+                        new IssueEntity(UUID.randomUUID(), 0, 0, 1, 1, "Imports", "core", "A.java", "a", "message", "-", CHECKSTYLE, "-", "a", "HIGH", "Unused"),
+                        new IssueEntity(UUID.randomUUID(), 0, 0, 2, 2, "Javadoc", "core", "A.java", "b", "message", "-", CHECKSTYLE, "-", "a", "LOW", "Missing")));
+        IssueFacetService issueFacetService = new IssueFacetService(issueEntityService, reportArchiveService);
+
+        IssueFacets facets = issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "fixed", 10);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(facets.getTotalSize()).isEqualTo(2);
+            softly.assertThat(facets.getFacets().get("category")).containsOnlyKeys("Imports", "Javadoc");
+            softly.assertThat(facets.getFacets().get("fileName")).containsExactly(entry("A.java", 2));
+        });
+    }
+
+    @Test
+    void shouldRejectUnknownIssueType() {
+        IssueFacetService issueFacetService = new IssueFacetService(mock(IssueEntityService.class), mock(ReportArchiveService.class));
+
+        assertThatThrownBy(() -> issueFacetService.getFacets(JOB_NAME, 1, CHECKSTYLE, "changed", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.db.IssueLifecycleEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueLifecycleEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueLifecycle;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link IssueLifecycleService}.
+ */
+class IssueLifecycleServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String CHECKSTYLE = "checkstyle";
+
+    @Test
+    void shouldTrackOutstandingIssuesOfFirstBuild() {
+        IssueLifecycleEntityService entityService = mock(IssueLifecycleEntityService.class);
+        IssueLifecycleService issueLifecycleService = new IssueLifecycleService(entityService);
+        Build build = createBuild(createResult(createReport("a", "b"), createReport("c"), createReport("d")));
+
+        issueLifecycleService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        ArgumentCaptor<Collection<IssueLifecycleEntity>> seenIssues = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<String>> fixedFingerprints = ArgumentCaptor.forClass(Collection.class);
+        verify(entityService).track(eq(JOB_NAME), eq(CHECKSTYLE), eq(7), eq(700L), seenIssues.capture(), fixedFingerprints.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(seenIssues.getValue())
+                    .extracting(IssueLifecycleEntity::getFingerprint, IssueLifecycleEntity::getFirstSeenBuild)
+                    .containsExactly(tuple("c", 7), tuple("a", 7), tuple("b", 7));
+            softly.assertThat(seenIssues.getValue()).extracting(IssueLifecycleEntity::getSeverity).containsOnly("HIGH");
+            softly.assertThat(fixedFingerprints.getValue()).containsExactly("d");
+        });
+    }
+
+    @Test
+    void shouldOnlyReadNewAndFixedIssuesOfTrackedTool() {
+        IssueLifecycleEntityService entityService = mock(IssueLifecycleEntityService.class);
+        IssueLifecycleService issueLifecycleService = new IssueLifecycleService(entityService);
+        when(entityService.isTracked(JOB_NAME, CHECKSTYLE)).thenReturn(true);
+        Build build = createBuild(createResult(createReport("a", "b"), createReport("c", "c"), new Report()));
+
+        issueLifecycleService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        ArgumentCaptor<Collection<IssueLifecycleEntity>> seenIssues = ArgumentCaptor.forClass(Collection.class);
+        verify(entityService).track(eq(JOB_NAME), eq(CHECKSTYLE), eq(7), eq(700L), seenIssues.capture(), eq(Collections.emptyList()));
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(seenIssues.getValue())
+                .extracting(IssueLifecycleEntity::getFingerprint)
+                .containsExactly("c"));
+    }
+
+    @Test
+    void shouldMapLifecycles() {
+        IssueLifecycleEntityService entityService = mock(IssueLifecycleEntityService.class);
+        IssueLifecycleService issueLifecycleService = new IssueLifecycleService(entityService);
+        IssueLifecycleEntity entity = new IssueLifecycleEntity(JOB_NAME, CHECKSTYLE, "a", 2, 200L);
+        entity.setLastSeenBuild(6);
+        when(entityService.findLifecycle(JOB_NAME, CHECKSTYLE, "a")).thenReturn(Optional.of(entity));
+        when(entityService.findOldestOpenIssues(JOB_NAME, IssueLifecycleService.MAX_ISSUES))
+                .thenReturn(Collections.singletonList(entity));
+
+        Optional<IssueLifecycle> lifecycle = issueLifecycleService.findLifecycle(JOB_NAME, CHECKSTYLE, "a");
+        List<IssueLifecycle> oldest = issueLifecycleService.findOldestOpenIssues(JOB_NAME, Integer.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(lifecycle).isPresent();
+            softly.assertThat(lifecycle.get().isOpen()).isTrue();
+            softly.assertThat(lifecycle.get().getAgeInBuilds()).isEqualTo(5);
+            softly.assertThat(oldest).extracting(IssueLifecycle::getFingerprint).containsExactly("a");
+            softly.assertThat(issueLifecycleService.findLifecycle(JOB_NAME, CHECKSTYLE, "b")).isEmpty();
+        });
+    }
+
+    private Build createBuild(final Result result) {
+        Build build = new Build(0, 7, "url/7/");
+        build.setTimestamp(700L);
+        build.addResult(result);
+        return build;
+    }
+
+    private Result createResult(final Report outstandingIssues, final Report newIssues, final Report fixedIssues) {
+        Result result = new Result();
+        result.setWarningId(CHECKSTYLE);
+        result.setName("CheckStyle");
+        result.setOutstandingIssues(outstandingIssues);
+        result.setNewIssues(newIssues);
+        result.setFixedIssues(fixedIssues);
+        return result;
+    }
+
+    private Report createReport(final String... fingerprints) {
+        Report report = new Report();
+        IssueBuilder issueBuilder = new IssueBuilder().setSeverity(Severity.WARNING_HIGH);
+        for (String fingerprint : fingerprints) {
+            report.add(issueBuilder.setMessage("message " + fingerprint).setFingerprint(fingerprint).build());
+        }
+        return report;
+    }
+}
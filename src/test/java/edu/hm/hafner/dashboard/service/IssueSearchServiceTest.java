@@ -0,0 +1,138 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.search.IssueSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link IssueSearchService}.
+ */
+class IssueSearchServiceTest {
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldIndexPersistedBuildAndIgnoreFailures() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, mock(JobEntityService.class), mock(BuildEntityService.class), mock(ReportArchiveService.class));
+        Build build = new Build(0, 7, "url/7/");
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(issueSearchIndex).index(JOB_NAME, build);
+
+        issueSearchService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        verify(issueSearchIndex).index(JOB_NAME, build);
+    }
+
+    @Test
+    void shouldBuildEmptyIndexFromStoredBuilds() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        JobEntityService jobEntityService = mock(JobEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, jobEntityService, buildEntityService, mock(ReportArchiveService.class));
+        when(issueSearchIndex.isEmpty()).thenReturn(true);
+        when(jobEntityService.findAllNames()).thenReturn(Collections.singletonList(JOB_NAME));
+        when(buildEntityService.findBuildNumbers(JOB_NAME)).thenReturn(Arrays.asList(1, 2));
+        when(buildEntityService.findBuild(JOB_NAME, 1)).thenReturn(Optional.of(createBuildEntity(1)));
+        when(buildEntityService.findBuild(JOB_NAME, 2)).thenReturn(Optional.of(createBuildEntity(2)));
+
+        issueSearchService.buildIndexIfEmpty();
+
+        ArgumentCaptor<Build> builds = ArgumentCaptor.forClass(Build.class);
+        verify(issueSearchIndex, times(2)).index(eq(JOB_NAME), builds.capture());
+        assertThat(builds.getAllValues()).extracting(Build::getNumber).containsExactly(1, 2);
+        verify(issueSearchIndex).commit();
+    }
+
+    @Test
+    void shouldRestoreArchivedResultsBeforeIndexing() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        JobEntityService jobEntityService = mock(JobEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        ReportArchiveService reportArchiveService = mock(ReportArchiveService.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, jobEntityService, buildEntityService, reportArchiveService);
+        BuildEntity buildEntity = createBuildEntity(1);
+        ResultEntity resultEntity = buildEntity.addResultEntity(new ResultEntity(5, "checkstyle", "url", "CheckStyle", 0, 0, 0, "PASSED"));
+        resultEntity.setArchived(true);
+        when(issueSearchIndex.isEmpty()).thenReturn(true);
+        when(jobEntityService.findAllNames()).thenReturn(Collections.singletonList(JOB_NAME));
+        when(buildEntityService.findBuildNumbers(JOB_NAME)).thenReturn(Collections.singletonList(1));
+        when(buildEntityService.findBuild(JOB_NAME, 1)).thenReturn(Optional.of(buildEntity));
+
+        issueSearchService.buildIndexIfEmpty();
+
+        ArgumentCaptor<Result> results = ArgumentCaptor.forClass(Result.class);
+        verify(reportArchiveService).restore(results.capture());
+        assertThat(results.getValue().getId()).isEqualTo(5);
+        verify(issueSearchIndex).index(eq(JOB_NAME), any());
+    }
+
+    @Test
+    void shouldNotBuildIndexThatContainsIssues() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        JobEntityService jobEntityService = mock(JobEntityService.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, jobEntityService, mock(BuildEntityService.class), mock(ReportArchiveService.class));
+
+        issueSearchService.buildIndexIfEmpty();
+
+        verify(jobEntityService, never()).findAllNames();
+        verify(issueSearchIndex, never()).index(anyString(), any());
+    }
+
+    @Test
+    void shouldCommitIndexAndIgnoreFailures() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, mock(JobEntityService.class), mock(BuildEntityService.class), mock(ReportArchiveService.class));
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(issueSearchIndex).commit();
+
+        issueSearchService.commitIndex();
+
+        verify(issueSearchIndex).commit();
+    }
+
+    @Test
+    void shouldLimitPageSize() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, mock(JobEntityService.class), mock(BuildEntityService.class), mock(ReportArchiveService.class));
+
+        issueSearchService.search("text", JOB_NAME, null, null, 2, 1000);
+
+        verify(issueSearchIndex).search("text", JOB_NAME, null, null, 2, IssueSearchService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void shouldRemoveIssuesOfPrunedBuildsAndIgnoreFailures() {
+        IssueSearchIndex issueSearchIndex = mock(IssueSearchIndex.class);
+        IssueSearchService issueSearchService = new IssueSearchService(issueSearchIndex, mock(JobEntityService.class), mock(BuildEntityService.class), mock(ReportArchiveService.class));
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(issueSearchIndex).delete(JOB_NAME, Arrays.asList(1, 2));
+
+        issueSearchService.onBuildsPruned(new BuildsPrunedEvent(JOB_NAME, Arrays.asList(1, 2), false));
+
+        verify(issueSearchIndex).delete(JOB_NAME, Arrays.asList(1, 2));
+    }
+
+    private BuildEntity createBuildEntity(final int number) {
+        return new BuildEntity(0, number, "url/" + number + "/");
+    }
+}
@@ -0,0 +1,129 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.rest.JenkinsClient;
+import edu.hm.hafner.dashboard.service.rest.response.JobsResponse;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link JobDiscovery}.
+ */
+class JobDiscoveryTest {
+    private static final String URL = "http://localhost:8080/jenkins/";
+    private static final String FOLDER = "com.cloudbees.hudson.plugins.folder.Folder";
+    private static final String MULTIBRANCH = "org.jenkinsci.plugins.workflow.multibranch.WorkflowMultiBranchProject";
+    private static final String FREESTYLE = "hudson.model.FreeStyleProject";
+    private static final String PIPELINE = "org.jenkinsci.plugins.workflow.job.WorkflowJob";
+
+    @Test
+    void shouldDiscoverNestedJobs() {
+        JenkinsClient client = createClient();
+        JobDiscovery jobDiscovery = new JobDiscovery(createSyncProperties(600_000));
+
+        SoftAssertions.assertSoftly(softly -> {
+            List<String> names = getNames(jobDiscovery.discover(client));
+            softly.assertThat(names).containsExactlyInAnyOrder(
+                    "top",
+                    "team" + JobDiscovery.NAME_SEPARATOR + "app",
+                    "team" + JobDiscovery.NAME_SEPARATOR + "service" + JobDiscovery.NAME_SEPARATOR + "master",
+                    "team" + JobDiscovery.NAME_SEPARATOR + "service" + JobDiscovery.NAME_SEPARATOR + "feature");
+        });
+    }
+
+    @Test
+    void shouldNotWalkCachedFoldersAgain() {
+        JenkinsClient client = createClient();
+        JobDiscovery jobDiscovery = new JobDiscovery(createSyncProperties(600_000));
+
+        List<String> first = getNames(jobDiscovery.discover(client));
+        List<String> second = getNames(jobDiscovery.discover(client));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(second).containsExactlyInAnyOrderElementsOf(first));
+        verify(client, times(2)).getProjects();
+        verify(client, times(1)).getJobs(URL + "job/team/api/json");
+        verify(client, times(1)).getJobs(URL + "job/team/job/service/api/json");
+    }
+
+    @Test
+    void shouldWalkFoldersAgainAfterTimeToLive() {
+        JenkinsClient client = createClient();
+        JobDiscovery jobDiscovery = new JobDiscovery(createSyncProperties(-1));
+
+        jobDiscovery.discover(client);
+        jobDiscovery.discover(client);
+
+        verify(client, times(2)).getJobs(URL + "job/team/api/json");
+    }
+
+    @Test
+    void shouldIsolateFailingFolders() {
+        JenkinsClient client = createClient();
+        when(client.getJobs(URL + "job/team/job/service/api/json")).thenThrow(new ResourceAccessException("timeout"));
+        JobDiscovery jobDiscovery = new JobDiscovery(createSyncProperties(600_000));
+
+        SoftAssertions.assertSoftly(softly -> {
+            List<String> names = getNames(jobDiscovery.discover(client));
+            softly.assertThat(names).containsExactlyInAnyOrder("top", "team" + JobDiscovery.NAME_SEPARATOR + "app");
+        });
+    }
+
+    @Test
+    void shouldReturnNullIfControllerIsNotAvailable() {
+        JenkinsClient client = mock(JenkinsClient.class);
+        when(client.getProjects()).thenReturn(null);
+        JobDiscovery jobDiscovery = new JobDiscovery(createSyncProperties(600_000));
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(jobDiscovery.discover(client)).isNull());
+    }
+
+    private JenkinsClient createClient() {
+        JenkinsClient client = mock(JenkinsClient.class);
+        when(client.getName()).thenReturn("default");
+        when(client.getProjects()).thenAnswer(invocation -> createResponse(
+                createJob("top", URL + "job/top/", FREESTYLE),
+                createJob("team", URL + "job/team/", FOLDER)));
+        when(client.getJobs(URL + "job/team/api/json")).thenAnswer(invocation -> createResponse(
+                createJob("app", URL + "job/team/job/app/", PIPELINE),
+                createJob("service", URL + "job/team/job/service/", MULTIBRANCH)));
+        when(client.getJobs(URL + "job/team/job/service/api/json")).thenAnswer(invocation -> createResponse(
+                createJob("master", URL + "job/team/job/service/job/master/", PIPELINE),
+                createJob("feature", URL + "job/team/job/service/job/feature/", PIPELINE)));
+        return client;
+    }
+
+    private SyncProperties createSyncProperties(final long topologyTtlInMillis) {
+        SyncProperties syncProperties = new SyncProperties();
+        syncProperties.setDiscoveryThreads(2);
+        syncProperties.setDiscoveryFrontierSize(1);
+        syncProperties.setTopologyTtlInMillis(topologyTtlInMillis);
+        return syncProperties;
+    }
+
+    private JobsResponse createResponse(final Job... jobs) {
+        JobsResponse jobsResponse = new JobsResponse();
+        jobsResponse.setJobs(jobs);
+        return jobsResponse;
+    }
+
+    private Job createJob(final String name, final String url, final String className) {
+        Job job = new Job(0, name, url, null);
+        job.setClassName(className);
+        job.setColor(FOLDER.equals(className) || MULTIBRANCH.equals(className) ? null : "blue");
+        return job;
+    }
+
+    private List<String> getNames(final List<Job> jobs) {
+        return jobs.stream().map(Job::getName).collect(Collectors.toList());
+    }
+}
@@ -1,9 +1,15 @@
 package edu.hm.hafner.dashboard.service;
 
 import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.JobSummaryEntityService;
 import edu.hm.hafner.dashboard.db.model.JobEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
 import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.JobSummary;
+import edu.hm.hafner.dashboard.service.table.job.JobTableModel;
 import edu.hm.hafner.dashboard.service.table.job.JobViewTable;
 import io.jenkins.plugins.datatables.TableColumn;
 import io.jenkins.plugins.datatables.TableModel;
@@ -11,11 +17,15 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -31,7 +41,7 @@ class JobServiceTest {
     @Test
     void shouldFindAllJobs() {
         JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobService jobService = new JobService(jobEntityService, mock(JobSummaryEntityService.class));
         SoftAssertions.assertSoftly(softly -> {
             List<JobEntity> allJobs = new ArrayList<>();
             when(jobEntityService.findAll()).thenReturn(allJobs);
@@ -57,7 +67,7 @@ class JobServiceTest {
     @Test
     void shouldNotFindJobByName() {
         JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobService jobService = new JobService(jobEntityService, mock(JobSummaryEntityService.class));
         SoftAssertions.assertSoftly(softly -> {
             when(jobEntityService.findJobByName(JOB_NAME)).thenReturn(null);
             Job job = jobService.findJobByName(JOB_NAME);
@@ -68,7 +78,7 @@ class JobServiceTest {
     @Test
     void shouldFindJobByName() {
         JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobService jobService = new JobService(jobEntityService, mock(JobSummaryEntityService.class));
         SoftAssertions.assertSoftly(softly -> {
             when(jobEntityService.findJobByName(JOB_NAME + 1)).thenReturn(createJobEntity(1));
             Job job = jobService.findJobByName(JOB_NAME + 1);
@@ -79,7 +89,8 @@ class JobServiceTest {
     @Test
     void shouldSaveAllJobs() {
         JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobSummaryEntityService jobSummaryEntityService = mock(JobSummaryEntityService.class);
+        JobService jobService = new JobService(jobEntityService, jobSummaryEntityService);
         SoftAssertions.assertSoftly(softly -> {
             when(jobEntityService.saveAll(new ArrayList<>())).thenReturn(new ArrayList<>());
             List<Job> jobs = jobService.saveAll(new ArrayList<>());
@@ -90,23 +101,65 @@ class JobServiceTest {
             List<Job> jobsToSave = createJobs();
             jobs = jobService.saveAll(jobsToSave);
             softly.assertThat(jobs).isEqualTo(jobsToSave);
+            verify(jobSummaryEntityService).updateJobs(jobEntities);
+        });
+    }
+
+    @Test
+    void shouldFindJobSummaries() {
+        JobSummaryEntityService jobSummaryEntityService = mock(JobSummaryEntityService.class);
+        JobService jobService = new JobService(mock(JobEntityService.class), jobSummaryEntityService);
+        JobSummaryEntity summary = new JobSummaryEntity(JOB_NAME);
+        summary.setUrl(getUrlForNumber(0));
+        summary.setLastBuildStatus(SUCCESS);
+        summary.update(1, 1000L, Arrays.asList(
+                new ToolSummaryEntity("checkstyle", "CheckStyle", 5, QualityGateStatusEntity.PASSED),
+                new ToolSummaryEntity("pmd", "PMD", 2, QualityGateStatusEntity.INACTIVE)));
+        summary.update(2, 2000L, Arrays.asList(
+                new ToolSummaryEntity("checkstyle", "CheckStyle", 8, QualityGateStatusEntity.FAILED),
+                new ToolSummaryEntity("pmd", "PMD", 1, QualityGateStatusEntity.INACTIVE)));
+        when(jobSummaryEntityService.findAll()).thenReturn(Collections.singletonList(summary));
+
+        List<JobSummary> summaries = jobService.getJobSummaries();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summaries).hasSize(1);
+            JobSummary jobSummary = summaries.get(0);
+            softly.assertThat(jobSummary.getJobName()).isEqualTo(JOB_NAME);
+            softly.assertThat(jobSummary.getUrl()).isEqualTo(getUrlForNumber(0));
+            softly.assertThat(jobSummary.getLastBuildStatus()).isEqualTo(SUCCESS);
+            softly.assertThat(jobSummary.getLatestBuildNumber()).isEqualTo(2);
+            softly.assertThat(jobSummary.getLatestBuildTimestamp()).isEqualTo(2000L);
+            softly.assertThat(jobSummary.getTotalSize()).isEqualTo(9);
+            softly.assertThat(jobSummary.getDelta()).isEqualTo(2);
+            softly.assertThat(jobSummary.getQualityGateStatus()).isEqualTo("FAILED");
+            softly.assertThat(jobSummary.getTools()).extracting("name", "totalSize", "delta", "qualityGateStatus")
+                    .containsExactly(tuple("CheckStyle", 8, 3, "FAILED"), tuple("PMD", 1, -1, "INACTIVE"));
+
+            List<Object> rows = jobService.convertRowsForTheJobViewTable(summaries);
+            JobTableModel.JobsRow row = (JobTableModel.JobsRow) rows.get(0);
+            softly.assertThat(row.getLatestBuild()).isEqualTo("#2");
+            softly.assertThat(row.getTotalWarnings()).isEqualTo(9);
+            softly.assertThat(row.getDelta()).isEqualTo("+2");
+            softly.assertThat(row.getQualityGate()).isEqualTo("FAILED");
+            softly.assertThat(row.getTools()).isEqualTo("CheckStyle: 8 (+3), PMD: 1 (-1)");
         });
     }
 
     @Test
     void shouldCreateJobViewTable() {
         JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobService jobService = new JobService(jobEntityService, mock(JobSummaryEntityService.class));
         SoftAssertions.assertSoftly(softly -> {
             JobViewTable jobViewTable = jobService.createJobViewTable();
             TableModel tableModel = jobViewTable.getTableModel("jobs");
             softly.assertThat(tableModel.getId()).isEqualTo("jobs");
-            softly.assertThat(tableModel.getColumnsDefinition()).isEqualTo("[{  \"data\": \"jobName\",  \"defaultContent\": \"\"},{  \"data\": \"jobStatus\",  \"defaultContent\": \"\"},{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"}]");
+            softly.assertThat(tableModel.getColumnsDefinition()).isEqualTo("[{  \"data\": \"jobName\",  \"defaultContent\": \"\"},{  \"data\": \"jobStatus\",  \"defaultContent\": \"\"},{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"},{  \"data\": \"controllerName\",  \"defaultContent\": \"\"},{  \"data\": \"latestBuild\",  \"defaultContent\": \"\"},{  \"data\": \"totalWarnings\",  \"defaultContent\": \"\"},{  \"data\": \"delta\",  \"defaultContent\": \"\"},{  \"data\": \"qualityGate\",  \"defaultContent\": \"\"},{  \"data\": \"tools\",  \"defaultContent\": \"\"}]");
             softly.assertThat(tableModel.getRows()).isEmpty();
             softly.assertThat(jobViewTable.getTableRows("jobs")).isEmpty();
 
             List<TableColumn> tc = tableModel.getColumns();
-            softly.assertThat(tc.size()).isEqualTo(3);
+            softly.assertThat(tc.size()).isEqualTo(9);
             softly.assertThat(tc.get(0).getHeaderLabel()).isEqualTo("Job Name");
             softly.assertThat(tc.get(0).getDefinition()).isEqualTo("{  \"data\": \"jobName\",  \"defaultContent\": \"\"}");
             softly.assertThat(tc.get(0).getHeaderClass()).isEqualTo("");
@@ -121,6 +174,17 @@ class JobServiceTest {
             softly.assertThat(tc.get(2).getDefinition()).isEqualTo("{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"}");
             softly.assertThat(tc.get(2).getHeaderClass()).isEqualTo("");
             softly.assertThat(tc.get(2).getWidth()).isEqualTo(1);
+
+            softly.assertThat(tc.get(3).getHeaderLabel()).isEqualTo("Controller");
+            softly.assertThat(tc.get(3).getDefinition()).isEqualTo("{  \"data\": \"controllerName\",  \"defaultContent\": \"\"}");
+            softly.assertThat(tc.get(3).getHeaderClass()).isEqualTo("");
+            softly.assertThat(tc.get(3).getWidth()).isEqualTo(1);
+
+            softly.assertThat(tc.get(4).getHeaderLabel()).isEqualTo("Latest Build");
+            softly.assertThat(tc.get(5).getHeaderLabel()).isEqualTo("Warnings");
+            softly.assertThat(tc.get(6).getHeaderLabel()).isEqualTo("Delta");
+            softly.assertThat(tc.get(7).getHeaderLabel()).isEqualTo("Quality Gate");
+            softly.assertThat(tc.get(8).getHeaderLabel()).isEqualTo("Tools");
         });
     }
 
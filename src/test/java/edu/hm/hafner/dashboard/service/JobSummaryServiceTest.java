@@ -0,0 +1,127 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.BuildEntityService;
+import edu.hm.hafner.dashboard.db.JobSummaryEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link JobSummaryService}.
+ */
+class JobSummaryServiceTest {
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldApplyWarningsPerToolOfSavedBuild() {
+        JobSummaryEntityService entityService = mock(JobSummaryEntityService.class);
+        JobSummaryService service = new JobSummaryService(entityService, mock(BuildEntityService.class));
+        Build build = new Build(0, 7, "url/7/");
+        build.setTimestamp(700L);
+        build.addResult(createResult("checkstyle", 5, "PASSED"));
+        build.addResult(createResult("pmd", 2, null));
+        build.addResult(createResult("checkstyle", 1, "FAILED"));
+        build.addResult(createResult(null, 9, "FAILED"));
+
+        service.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        ArgumentCaptor<List<ToolSummaryEntity>> tools = ArgumentCaptor.forClass(List.class);
+        verify(entityService).applyBuild(eq(JOB_NAME), eq(7), eq(700L), tools.capture());
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(tools.getValue())
+                .extracting(ToolSummaryEntity::getToolId, ToolSummaryEntity::getName, ToolSummaryEntity::getTotalSize,
+                        ToolSummaryEntity::getQualityGateStatus)
+                .containsExactly(tuple("checkstyle", "checkstyle Warnings", 6, QualityGateStatusEntity.FAILED),
+                        tuple("pmd", "pmd Warnings", 2, QualityGateStatusEntity.INACTIVE)));
+    }
+
+    @Test
+    void shouldCreateMissingSummariesFromTwoLatestBuilds() {
+        JobSummaryEntityService entityService = mock(JobSummaryEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        JobSummaryService service = new JobSummaryService(entityService, buildEntityService);
+        JobSummaryEntity summary = new JobSummaryEntity(JOB_NAME, "url", "Success", null);
+        when(entityService.findMissingSummaries()).thenReturn(Collections.singletonList(summary));
+        when(entityService.create(summary)).thenReturn(true);
+        when(buildEntityService.findLatestBuilds(JOB_NAME, 2)).thenReturn(Arrays.asList(
+                createBuildEntity(9, 4), createBuildEntity(8, 3)));
+        when(entityService.applyBuild(anyString(), anyInt(), anyLong(), anyList())).thenReturn(true);
+
+        service.createMissingSummaries();
+
+        InOrder order = inOrder(entityService);
+        order.verify(entityService).create(summary);
+        order.verify(entityService).applyBuild(eq(JOB_NAME), eq(8), eq(800L), anyList());
+        order.verify(entityService).applyBuild(eq(JOB_NAME), eq(9), eq(900L), anyList());
+    }
+
+    @Test
+    void shouldApplyLatestBuildsToSummaryStoredConcurrently() {
+        JobSummaryEntityService entityService = mock(JobSummaryEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        JobSummaryService service = new JobSummaryService(entityService, buildEntityService);
+        JobSummaryEntity summary = new JobSummaryEntity(JOB_NAME, "url", "Success", null);
+        when(entityService.findMissingSummaries()).thenReturn(Collections.singletonList(summary));
+        when(entityService.create(summary)).thenThrow(new DataIntegrityViolationException("duplicate summary"));
+        when(buildEntityService.findLatestBuilds(JOB_NAME, 2)).thenReturn(Collections.singletonList(createBuildEntity(9, 4)));
+
+        service.createMissingSummaries();
+
+        verify(entityService).applyBuild(eq(JOB_NAME), eq(9), eq(900L), anyList());
+    }
+
+    @Test
+    void shouldNotReadBuildsIfNoSummaryIsMissing() {
+        JobSummaryEntityService entityService = mock(JobSummaryEntityService.class);
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        JobSummaryService service = new JobSummaryService(entityService, buildEntityService);
+        when(entityService.findMissingSummaries()).thenReturn(Collections.emptyList());
+
+        service.createMissingSummaries();
+
+        verify(buildEntityService, never()).findLatestBuilds(anyString(), anyInt());
+        verify(entityService, never()).create(any());
+    }
+
+    private Result createResult(final String warningId, final int totalSize, final String qualityGateStatus) {
+        Result result = new Result();
+        result.setWarningId(warningId);
+        result.setName(warningId + " Warnings");
+        result.setTotalSize(totalSize);
+        result.setQualityGateStatus(qualityGateStatus);
+        return result;
+    }
+
+    private BuildEntity createBuildEntity(final int number, final int totalSize) {
+        BuildEntity buildEntity = new BuildEntity(number, number, "url/" + number + "/");
+        buildEntity.setTimestamp(number * 100L);
+        buildEntity.addResultEntity(new ResultEntity(number, "checkstyle", "url/" + number + "/checkstyle",
+                "CheckStyle Warnings", 0, 0, totalSize, "PASSED"));
+        return buildEntity;
+    }
+}
@@ -0,0 +1,113 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.db.PortfolioTrendEntityService;
+import edu.hm.hafner.dashboard.db.model.JobWarningSnapshotEntity;
+import edu.hm.hafner.dashboard.db.model.PortfolioTrendEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.echarts.LinesChartModel;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link PortfolioTrendService}.
+ */
+class PortfolioTrendServiceTest {
+    private static final String CHECKSTYLE = "CheckStyle";
+    private static final String PMD = "PMD";
+    private static final String HIGH = Severity.WARNING_HIGH.getName();
+    private static final String LOW = Severity.WARNING_LOW.getName();
+
+    @Test
+    void shouldApplySnapshotOfPersistedBuild() {
+        PortfolioTrendEntityService entityService = mock(PortfolioTrendEntityService.class);
+        PortfolioTrendService portfolioTrendService = new PortfolioTrendService(entityService);
+        LocalDate day = LocalDate.of(2020, 3, 1);
+        Build build = new Build(0, 7, "url/7/");
+        build.setTimestamp(day.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        build.addResult(createResult(CHECKSTYLE, Severity.WARNING_HIGH, Severity.WARNING_HIGH, Severity.WARNING_LOW));
+        build.addResult(createResult(PMD));
+
+        portfolioTrendService.onBuildPersisted(new BuildPersistedEvent(3, "jobName", build));
+
+        ArgumentCaptor<JobWarningSnapshotEntity> snapshot = ArgumentCaptor.forClass(JobWarningSnapshotEntity.class);
+        verify(entityService).applySnapshot(snapshot.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(snapshot.getValue().getJobId()).isEqualTo(3);
+            softly.assertThat(snapshot.getValue().getBuildNumber()).isEqualTo(7);
+            softly.assertThat(snapshot.getValue().getDay()).isEqualTo(day);
+            softly.assertThat(snapshot.getValue().getCounts()).hasSize(2);
+            softly.assertThat(snapshot.getValue().getCount(CHECKSTYLE, HIGH)).isEqualTo(2);
+            softly.assertThat(snapshot.getValue().getCount(CHECKSTYLE, LOW)).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldSumUpChangesPerDay() {
+        PortfolioTrendEntityService entityService = mock(PortfolioTrendEntityService.class);
+        PortfolioTrendService portfolioTrendService = new PortfolioTrendService(entityService);
+        LocalDate today = LocalDate.now();
+        when(entityService.findAll()).thenReturn(Arrays.asList(
+                createChange(today.minusDays(3), CHECKSTYLE, HIGH, 5),
+                createChange(today.minusDays(3), PMD, LOW, 2),
+                createChange(today.minusDays(1), CHECKSTYLE, HIGH, -3),
+                createChange(today.minusDays(1), CHECKSTYLE, LOW, 4)));
+
+        SortedMap<LocalDate, Map<String, Integer>> byTool = portfolioTrendService.sumUpChanges("tool", 0);
+        SortedMap<LocalDate, Map<String, Integer>> bySeverity = portfolioTrendService.sumUpChanges("severity", 2);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(byTool).hasSize(4);
+            softly.assertThat(byTool.get(today.minusDays(3))).containsEntry(CHECKSTYLE, 5).containsEntry(PMD, 2);
+            softly.assertThat(byTool.get(today.minusDays(2))).containsEntry(CHECKSTYLE, 5).containsEntry(PMD, 2);
+            softly.assertThat(byTool.get(today)).containsEntry(CHECKSTYLE, 6).containsEntry(PMD, 2);
+
+            softly.assertThat(bySeverity.keySet()).containsExactly(today.minusDays(1), today);
+            softly.assertThat(bySeverity.get(today)).containsEntry(HIGH, 2).containsEntry(LOW, 6);
+        });
+    }
+
+    @Test
+    void shouldCreateEmptyChartWithoutChanges() {
+        PortfolioTrendService portfolioTrendService = new PortfolioTrendService(mock(PortfolioTrendEntityService.class));
+
+        LinesChartModel model = portfolioTrendService.createTrendChart("tool", 0, 0);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(model.getDomainAxisLabels()).isEmpty();
+            softly.assertThat(model.getSeries()).isEmpty();
+        });
+    }
+
+    private PortfolioTrendEntity createChange(final LocalDate day, final String tool, final String severity, final long delta) {
+        PortfolioTrendEntity change = new PortfolioTrendEntity(day, tool, severity);
+        change.setDelta(delta);
+        return change;
+    }
+
+    private Result createResult(final String name, final Severity... severities) {
+        Report report = new Report();
+        IssueBuilder issueBuilder = new IssueBuilder();
+        for (int i = 0; i < severities.length; i++) {
+            report.add(issueBuilder.setMessage("message " + i).setSeverity(severities[i]).build());
+        }
+        Result result = new Result();
+        result.setName(name);
+        result.setOutstandingIssues(report);
+        return result;
+    }
+}
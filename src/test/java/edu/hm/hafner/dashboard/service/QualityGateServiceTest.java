@@ -0,0 +1,136 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.QualityGateEntityService;
+import edu.hm.hafner.dashboard.db.model.QualityGateBuildEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatisticEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.QualityGateSummary;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.echarts.LineSeries;
+import edu.hm.hafner.echarts.LinesChartModel;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link QualityGateService}.
+ */
+class QualityGateServiceTest {
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldNormalizeStatus() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(QualityGateStatusEntity.fromString("PASSED")).isEqualTo(QualityGateStatusEntity.PASSED);
+            softly.assertThat(QualityGateStatusEntity.fromString(" success ")).isEqualTo(QualityGateStatusEntity.PASSED);
+            softly.assertThat(QualityGateStatusEntity.fromString("Unstable")).isEqualTo(QualityGateStatusEntity.WARNING);
+            softly.assertThat(QualityGateStatusEntity.fromString("FAILURE")).isEqualTo(QualityGateStatusEntity.FAILED);
+            softly.assertThat(QualityGateStatusEntity.fromString(null)).isEqualTo(QualityGateStatusEntity.INACTIVE);
+            softly.assertThat(QualityGateStatusEntity.fromString("")).isEqualTo(QualityGateStatusEntity.INACTIVE);
+            softly.assertThat(QualityGateStatusEntity.fromString("something")).isEqualTo(QualityGateStatusEntity.UNKNOWN);
+            softly.assertThat(QualityGateStatusEntity.UNKNOWN.isEvaluated()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldApplyNormalizedStatusOfResults() {
+        QualityGateEntityService entityService = mock(QualityGateEntityService.class);
+        QualityGateService qualityGateService = new QualityGateService(entityService);
+        Build build = new Build(0, 7, "url/7/");
+        build.setTimestamp(700L);
+        build.addResult(createResult("checkstyle", "PASSED"));
+        build.addResult(createResult("pmd", "FAILED"));
+        build.addResult(createResult(null, "FAILED"));
+
+        qualityGateService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, build));
+
+        ArgumentCaptor<Map<String, QualityGateStatusEntity>> statusByTool = ArgumentCaptor.forClass(Map.class);
+        verify(entityService).apply(eq(JOB_NAME), eq(7), eq(700L), statusByTool.capture());
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(statusByTool.getValue()).containsExactly(
+                entry("checkstyle", QualityGateStatusEntity.PASSED), entry("pmd", QualityGateStatusEntity.FAILED)));
+    }
+
+    @Test
+    void shouldIgnoreBuildWithoutResults() {
+        QualityGateEntityService entityService = mock(QualityGateEntityService.class);
+        QualityGateService qualityGateService = new QualityGateService(entityService);
+
+        qualityGateService.onBuildPersisted(new BuildPersistedEvent(1, JOB_NAME, new Build(0, 7, "url/7/")));
+
+        verify(entityService, never()).apply(eq(JOB_NAME), eq(7), eq(0L), anyMap());
+    }
+
+    @Test
+    void shouldCreateTrendInOrderOfBuilds() {
+        QualityGateEntityService entityService = mock(QualityGateEntityService.class);
+        QualityGateService qualityGateService = new QualityGateService(entityService);
+        QualityGateBuildEntity second = new QualityGateBuildEntity(JOB_NAME, 2, 200L);
+        second.count(QualityGateStatusEntity.FAILED);
+        QualityGateBuildEntity first = new QualityGateBuildEntity(JOB_NAME, 1, 100L);
+        first.count(QualityGateStatusEntity.PASSED);
+        first.count(QualityGateStatusEntity.WARNING);
+        when(entityService.findBuilds(JOB_NAME, QualityGateService.MAX_BUILDS)).thenReturn(Arrays.asList(second, first));
+
+        LinesChartModel model = qualityGateService.createTrendChart(JOB_NAME, Integer.MAX_VALUE, 0);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(model.getDomainAxisLabels()).containsExactly("#1", "#2");
+            softly.assertThat(model.getBuildNumbers()).containsExactly(1, 2);
+            softly.assertThat(model.getSeries()).extracting(LineSeries::getName).containsExactly("Passed", "Warning", "Failed");
+            softly.assertThat(model.getSeries().get(0).getData()).containsExactly(1, 0);
+            softly.assertThat(model.getSeries().get(2).getData()).containsExactly(0, 1);
+        });
+    }
+
+    @Test
+    void shouldMapSummaries() {
+        QualityGateEntityService entityService = mock(QualityGateEntityService.class);
+        QualityGateService qualityGateService = new QualityGateService(entityService);
+        QualityGateStatisticEntity statistic = new QualityGateStatisticEntity(JOB_NAME, "checkstyle");
+        statistic.add(1, QualityGateStatusEntity.PASSED);
+        when(entityService.findStatistics()).thenReturn(Collections.singletonList(statistic));
+
+        List<QualityGateSummary> summaries = qualityGateService.findSummaries();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summaries).hasSize(1);
+            softly.assertThat(summaries.get(0).getStatus()).isEqualTo("PASSED");
+            softly.assertThat(summaries.get(0).getPassRate()).isEqualTo(1.0);
+            softly.assertThat(summaries.get(0).getStreak()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldDeleteHistoryOnlyIfBuildsHaveBeenDropped() {
+        QualityGateEntityService entityService = mock(QualityGateEntityService.class);
+        QualityGateService qualityGateService = new QualityGateService(entityService);
+
+        qualityGateService.onBuildsPruned(new BuildsPrunedEvent(JOB_NAME, Collections.singletonList(1), false));
+        qualityGateService.onBuildsPruned(new BuildsPrunedEvent(JOB_NAME, Collections.singletonList(2), true));
+
+        verify(entityService).deleteBuilds(JOB_NAME, Collections.singletonList(2));
+        verify(entityService, never()).deleteBuilds(JOB_NAME, Collections.singletonList(1));
+    }
+
+    private Result createResult(final String warningId, final String qualityGateStatus) {
+        Result result = new Result();
+        result.setWarningId(warningId);
+        result.setName(warningId + " Warnings");
+        result.setQualityGateStatus(qualityGateStatus);
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.SyncProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test the Class {@link ReadModelEventMulticaster}.
+ */
+class ReadModelEventMulticasterTest {
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldRunListenersInOrderAndIsolateFailures() throws InterruptedException {
+        ReadModelEventMulticaster multicaster = new ReadModelEventMulticaster(new SyncProperties());
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<BuildPersistedEvent>>) event -> {
+            calls.add("failing " + event.getPayload().getBuild().getNumber());
+            throw new IllegalStateException("read model is broken");
+        });
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<BuildPersistedEvent>>) event ->
+                calls.add("working " + event.getPayload().getBuild().getNumber()));
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<BuildsPrunedEvent>>) event ->
+                calls.add("pruned " + event.getPayload().getBuildNumbers()));
+
+        multicaster.multicastEvent(createEvent(new BuildPersistedEvent(1, JOB_NAME, new Build(0, 1, "url/1/"))));
+        multicaster.multicastEvent(createEvent(new BuildsPrunedEvent(JOB_NAME, Collections.singletonList(1), false)));
+        multicaster.multicastEvent(createEvent(new BuildPersistedEvent(1, JOB_NAME, new Build(0, 2, "url/2/"))));
+        multicaster.destroy();
+
+        assertThat(calls).containsExactly("failing 1", "working 1", "pruned [1]", "failing 2", "working 2");
+    }
+
+    @Test
+    void shouldRunListenersOfOtherEventsInPublishingThread() throws InterruptedException {
+        ReadModelEventMulticaster multicaster = new ReadModelEventMulticaster(new SyncProperties());
+        multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<String>>) event -> {
+            throw new IllegalStateException(event.getPayload());
+        });
+
+        assertThatThrownBy(() -> multicaster.multicastEvent(createEvent("other event")))
+                .isInstanceOf(IllegalStateException.class).hasMessage("other event");
+        multicaster.destroy();
+    }
+
+    private <T> ApplicationEvent createEvent(final T payload) {
+        return new PayloadApplicationEvent<>(this, payload);
+    }
+}
@@ -0,0 +1,138 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.ArchiveProperties;
+import edu.hm.hafner.dashboard.db.ReportArchiveEntityService;
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.ReportArchiveEntity;
+import edu.hm.hafner.dashboard.db.model.ReportEntity;
+import edu.hm.hafner.dashboard.db.model.ResultEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import edu.hm.hafner.dashboard.service.columnar.ReportArchiveCodec;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link ReportArchiveService}.
+ */
+class ReportArchiveServiceTest {
+    private static final long TIMESTAMP = 1000L;
+
+    @Test
+    void shouldArchiveResultsInBatches() {
+        ReportArchiveEntityService entityService = mock(ReportArchiveEntityService.class);
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        ResultEntity first = createResultEntity(1, 2);
+        ResultEntity second = createResultEntity(2, 1);
+        ResultEntity third = createResultEntity(3, 0);
+        when(entityService.findResultsToArchive(TIMESTAMP, 2)).thenReturn(Arrays.asList(first, second),
+                Collections.singletonList(third));
+        when(entityService.archive(any(), any())).thenReturn(true);
+
+        int archived = new ReportArchiveService(entityService, properties).compact(TIMESTAMP);
+
+        ArgumentCaptor<ReportArchiveEntity> archive = ArgumentCaptor.forClass(ReportArchiveEntity.class);
+        verify(entityService).archive(eq(first), archive.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(archived).isEqualTo(3);
+            softly.assertThat(archive.getValue().getResultId()).isEqualTo(1);
+            softly.assertThat(archive.getValue().getIssueCount()).isEqualTo(2);
+            softly.assertThat(ReportArchiveCodec.decode(archive.getValue().getData()).get(WarningTypeEntity.NEW))
+                    .hasSize(2);
+        });
+        verify(entityService).archive(eq(third), any());
+    }
+
+    @Test
+    void shouldStopIfNoResultIsArchived() {
+        ReportArchiveEntityService entityService = mock(ReportArchiveEntityService.class);
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setBatchSize(1);
+        when(entityService.findResultsToArchive(TIMESTAMP, 1)).thenReturn(
+                Collections.singletonList(createResultEntity(1, 1)));
+        when(entityService.archive(any(), any())).thenReturn(false);
+
+        assertThat(new ReportArchiveService(entityService, properties).compact(TIMESTAMP)).isZero();
+        verify(entityService).findResultsToArchive(TIMESTAMP, 1);
+    }
+
+    @Test
+    void shouldNotArchiveIfDisabled() {
+        ReportArchiveEntityService entityService = mock(ReportArchiveEntityService.class);
+
+        new ReportArchiveService(entityService, new ArchiveProperties()).compact();
+
+        verify(entityService, never()).findResultsToArchive(anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldRestoreIssuesOfArchivedResult() {
+        ReportArchiveEntityService entityService = mock(ReportArchiveEntityService.class);
+        ResultEntity resultEntity = createResultEntity(5, 3);
+        when(entityService.findArchive(5)).thenReturn(Optional.of(
+                new ReportArchiveEntity(5, 3, TIMESTAMP, ReportArchiveCodec.encode(resultEntity.getReports()))));
+        ReportArchiveService reportArchiveService = new ReportArchiveService(entityService, new ArchiveProperties());
+
+        Result result = new Result(5, "checkstyle", "url", "CheckStyle", 0, 3, 3, "PASSED");
+        reportArchiveService.restore(result);
+        assertThat(result.getNewIssues().size()).isZero();
+
+        result.setArchived(true);
+        reportArchiveService.restore(result);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.isArchived()).isFalse();
+            softly.assertThat(result.getNewIssues().size()).isEqualTo(3);
+            softly.assertThat(result.getOutstandingIssues().size()).isZero();
+            softly.assertThat(result.getNewIssues().get(0).getFileName()).isEqualTo("src/File0.java");
+        });
+        verify(entityService).findArchive(5);
+    }
+
+    @Test
+    void shouldFindArchivedIssuesOfTool() {
+        ReportArchiveEntityService entityService = mock(ReportArchiveEntityService.class);
+        ResultEntity resultEntity = createResultEntity(5, 3);
+        when(entityService.findArchive("jobName", 1, "checkstyle")).thenReturn(Optional.of(
+                new ReportArchiveEntity(5, 3, TIMESTAMP, ReportArchiveCodec.encode(resultEntity.getReports()))));
+        ReportArchiveService reportArchiveService = new ReportArchiveService(entityService, new ArchiveProperties());
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(reportArchiveService.findArchivedIssues("jobName", 1, "checkstyle",
+                    Arrays.asList(WarningTypeEntity.OUTSTANDING, WarningTypeEntity.NEW)))
+                    .extracting(IssueEntity::getFingerprint).containsExactly("fingerprint0", "fingerprint1", "fingerprint2");
+            softly.assertThat(reportArchiveService.findArchivedIssues("jobName", 1, "checkstyle",
+                    Collections.singletonList(WarningTypeEntity.FIXED))).isEmpty();
+            softly.assertThat(reportArchiveService.findArchivedIssues("jobName", 2, "checkstyle",
+                    Collections.singletonList(WarningTypeEntity.NEW))).isEmpty();
+        });
+    }
+
+    private ResultEntity createResultEntity(final int id, final int newIssues) {
+        ResultEntity resultEntity = new ResultEntity(id, "checkstyle", "url", "CheckStyle", 0, newIssues, newIssues, "PASSED");
+        resultEntity.addReportEntity(new ReportEntity(WarningTypeEntity.OUTSTANDING));
+        ReportEntity report = resultEntity.addReportEntity(new ReportEntity(WarningTypeEntity.NEW));
+        for (int i = 0; i < newIssues; i++) {
+            report.addIssueEntity(new IssueEntity(UUID.randomUUID(), 0, 0, i, i, "Imports", "", "src/File" + i + ".java",
+                    "fingerprint" + i, "message", "-", "checkstyle", "-", "-", "LOW", "UnusedImport"));
+        }
+        resultEntity.addReportEntity(new ReportEntity(WarningTypeEntity.FIXED));
+        return resultEntity;
+    }
+}
@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
+import static org.mockito.Mockito.mock;
+
 /**
  * Test the Class {@link ResultService}.
  *
@@ -32,7 +34,7 @@ class ResultServiceTest {
 
     @Test
     void shouldGetUsedToolsFromBuild() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
 
         SoftAssertions.assertSoftly(softly -> {
@@ -46,7 +48,7 @@ class ResultServiceTest {
 
     @Test
     void shouldGetInfoMessagesAndErrorMessagesFromResultWithToolId() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
 
         SoftAssertions.assertSoftly(softly -> {
@@ -61,7 +63,7 @@ class ResultServiceTest {
 
     @Test
     void shouldNotGetInfoMessagesAndErrorMessagesFromResultWithToolId() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
         Job job = new Job(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", SUCCESS);
         job.addBuild(build);
@@ -81,7 +83,7 @@ class ResultServiceTest {
 
     @Test
     void shouldGetResultByToolId() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
 
         SoftAssertions.assertSoftly(softly -> {
@@ -130,7 +132,7 @@ class ResultServiceTest {
 
     @Test
     void shouldNotGetResultByToolId() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Build build = createBuildWithResults(1, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
         Job job = new Job(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", SUCCESS);
         job.addBuild(build);
@@ -147,7 +149,7 @@ class ResultServiceTest {
 
     @Test
     void createIssueViewTable() {
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
 
         SoftAssertions.assertSoftly(softly -> {
             IssueViewTable issueViewTable = resultService.createIssueViewTable();
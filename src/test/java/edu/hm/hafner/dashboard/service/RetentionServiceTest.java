@@ -0,0 +1,185 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.config.RetentionProperties;
+import edu.hm.hafner.dashboard.db.JobEntityService;
+import edu.hm.hafner.dashboard.db.RetentionEntityService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link RetentionService}.
+ */
+class RetentionServiceTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String OTHER_JOB_NAME = "otherJob";
+    private static final long NOW = TimeUnit.DAYS.toMillis(1000);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    void shouldCompactIssuesOfBuildsBeyondLatestBuildsAndDays() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        properties.setKeepIssuesBuilds(10);
+        properties.setKeepIssuesDays(30);
+        when(entityService.findNumberBeforeLatestBuilds(JOB_NAME, 10)).thenReturn(42);
+        long timestamp = NOW - TimeUnit.DAYS.toMillis(30);
+        when(entityService.findResultsToCompact(JOB_NAME, 42, timestamp, 2))
+                .thenReturn(Arrays.asList(1, 2), Collections.singletonList(3), Collections.emptyList());
+        when(entityService.findBuildNumbersOfResults(Arrays.asList(1, 2))).thenReturn(Collections.singletonList(5));
+
+        int batches = createService(entityService, properties, JOB_NAME).enforce(NOW);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(batches).isEqualTo(2));
+        verify(entityService).compact(Arrays.asList(1, 2));
+        verify(entityService).compact(Collections.singletonList(3));
+        verify(entityService, never()).findBuildsToDrop(anyString(), anyInt(), anyLong(), anyInt());
+        ArgumentCaptor<BuildsPrunedEvent> event = ArgumentCaptor.forClass(BuildsPrunedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(event.capture());
+        BuildsPrunedEvent pruned = event.getAllValues().get(0);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pruned.getJobName()).isEqualTo(JOB_NAME);
+            softly.assertThat(pruned.getBuildNumbers()).containsExactly(5);
+            softly.assertThat(pruned.isDropped()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCompactIssuesByNumberOnlyWithoutDays() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        properties.setKeepIssuesBuilds(10);
+        properties.setKeepIssuesDays(0);
+        when(entityService.findNumberBeforeLatestBuilds(JOB_NAME, 10)).thenReturn(42);
+        when(entityService.findResultsToCompact(JOB_NAME, 42, 0, 2))
+                .thenReturn(Collections.singletonList(1), Collections.emptyList());
+
+        createService(entityService, properties, JOB_NAME).enforce(NOW);
+
+        verify(entityService).compact(Collections.singletonList(1));
+    }
+
+    @Test
+    void shouldDropBuildsBeyondHardLimitsBeforeCompaction() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        properties.setKeepIssuesBuilds(0);
+        properties.setKeepIssuesDays(0);
+        properties.setMaxBuilds(100);
+        properties.setMaxAgeInDays(365);
+        when(entityService.findNumberBeforeLatestBuilds(JOB_NAME, 100)).thenReturn(7);
+        long timestamp = NOW - TimeUnit.DAYS.toMillis(365);
+        when(entityService.findBuildsToDrop(JOB_NAME, 7, timestamp, 2))
+                .thenReturn(Arrays.asList(1, 2), Collections.emptyList());
+        when(entityService.drop(JOB_NAME, Arrays.asList(1, 2))).thenReturn(Arrays.asList(1, 2));
+
+        int batches = createService(entityService, properties, JOB_NAME).enforce(NOW);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(batches).isEqualTo(1));
+        verify(entityService).drop(JOB_NAME, Arrays.asList(1, 2));
+        verify(entityService, never()).findResultsToCompact(anyString(), anyInt(), anyLong(), anyInt());
+        ArgumentCaptor<BuildsPrunedEvent> event = ArgumentCaptor.forClass(BuildsPrunedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(event.getValue().getBuildNumbers()).containsExactly(1, 2);
+            softly.assertThat(event.getValue().isDropped()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldStopDroppingIfOnlyTheNewestBuildIsLeft() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        properties.setKeepIssuesBuilds(0);
+        properties.setKeepIssuesDays(0);
+        properties.setMaxAgeInDays(365);
+        when(entityService.findBuildsToDrop(eq(JOB_NAME), anyInt(), anyLong(), anyInt()))
+                .thenReturn(Collections.singletonList(9));
+        when(entityService.drop(JOB_NAME, Collections.singletonList(9))).thenReturn(Collections.emptyList());
+
+        int batches = createService(entityService, properties, JOB_NAME).enforce(NOW);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(batches).isEqualTo(1));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldStopAfterMaximumNumberOfBatches() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        properties.setMaxBatchesPerRun(3);
+        when(entityService.findNumberBeforeLatestBuilds(anyString(), anyInt())).thenReturn(42);
+        when(entityService.findResultsToCompact(anyString(), anyInt(), anyLong(), anyInt()))
+                .thenReturn(Arrays.asList(1, 2));
+
+        int batches = createService(entityService, properties, JOB_NAME, OTHER_JOB_NAME).enforce(NOW);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(batches).isEqualTo(3));
+        verify(entityService, times(3)).compact(anyCollection());
+        verify(entityService, never()).findNumberBeforeLatestBuilds(eq(OTHER_JOB_NAME), anyInt());
+    }
+
+    @Test
+    void shouldContinueWithNextJobIfDeletingFails() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = createProperties();
+        when(entityService.findNumberBeforeLatestBuilds(anyString(), anyInt())).thenReturn(42);
+        when(entityService.findResultsToCompact(eq(JOB_NAME), anyInt(), anyLong(), anyInt()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(entityService.findResultsToCompact(eq(OTHER_JOB_NAME), anyInt(), anyLong(), anyInt()))
+                .thenReturn(Collections.singletonList(5), Collections.emptyList());
+
+        createService(entityService, properties, JOB_NAME, OTHER_JOB_NAME).enforce(NOW);
+
+        verify(entityService).compact(Collections.singletonList(5));
+    }
+
+    @Test
+    void shouldNotDeleteAnythingIfDisabledOrWithoutLimits() {
+        RetentionEntityService entityService = mock(RetentionEntityService.class);
+        RetentionProperties properties = new RetentionProperties();
+        createService(entityService, properties, JOB_NAME).enforce();
+
+        properties.setEnabled(true);
+        properties.setKeepIssuesBuilds(0);
+        properties.setKeepIssuesDays(0);
+        createService(entityService, properties, JOB_NAME).enforce(NOW);
+
+        verify(entityService, never()).findResultsToCompact(anyString(), anyInt(), anyLong(), anyInt());
+        verify(entityService, never()).findBuildsToDrop(anyString(), anyInt(), anyLong(), anyInt());
+    }
+
+    private RetentionProperties createProperties() {
+        RetentionProperties properties = new RetentionProperties();
+        properties.setEnabled(true);
+        properties.setBatchSize(2);
+        properties.setBatchDelayInMillis(0);
+        return properties;
+    }
+
+    private RetentionService createService(final RetentionEntityService entityService,
+            final RetentionProperties properties, final String... jobNames) {
+        JobEntityService jobEntityService = mock(JobEntityService.class);
+        when(jobEntityService.findAllNames()).thenReturn(Arrays.asList(jobNames));
+        return new RetentionService(entityService, jobEntityService, properties, eventPublisher);
+    }
+}
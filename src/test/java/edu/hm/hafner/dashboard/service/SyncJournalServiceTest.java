@@ -0,0 +1,163 @@
+package edu.hm.hafner.dashboard.service;
+
+import edu.hm.hafner.dashboard.db.SyncRunEntityService;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseEntity;
+import edu.hm.hafner.dashboard.db.model.SyncPhaseTypeEntity;
+import edu.hm.hafner.dashboard.db.model.SyncRunEntity;
+import edu.hm.hafner.dashboard.db.model.SyncStatusEntity;
+import edu.hm.hafner.dashboard.service.dto.SyncPhase;
+import edu.hm.hafner.dashboard.service.dto.SyncRun;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link SyncJournalService}.
+ */
+class SyncJournalServiceTest {
+    private static final int RUN_ID = 7;
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldStartNewRun() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        when(syncRunEntityService.findInterruptedRun()).thenReturn(null);
+        when(syncRunEntityService.save(any(SyncRunEntity.class))).thenAnswer(invocation -> {
+            SyncRunEntity syncRunEntity = invocation.getArgument(0);
+            syncRunEntity.setId(RUN_ID);
+            return syncRunEntity;
+        });
+
+        SoftAssertions.assertSoftly(softly -> {
+            SyncRun syncRun = syncJournalService.startRun();
+            softly.assertThat(syncRun.getId()).isEqualTo(RUN_ID);
+            softly.assertThat(syncRun.getStatus()).isEqualTo(SyncStatusEntity.RUNNING.name());
+            softly.assertThat(syncRun.getResumeCount()).isEqualTo(0);
+            softly.assertThat(syncRun.getHarvestedJobs()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldResumeInterruptedRun() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        SyncRunEntity interruptedRun = createSyncRunEntity();
+        interruptedRun.setCheckpointJobName(JOB_NAME + 2);
+        interruptedRun.setCheckpointBuildNumber(3);
+        when(syncRunEntityService.findInterruptedRun()).thenReturn(interruptedRun);
+        when(syncRunEntityService.save(any(SyncRunEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(syncRunEntityService.findCompletedJobNames(RUN_ID)).thenReturn(Arrays.asList(JOB_NAME + 0, JOB_NAME + 1));
+
+        SoftAssertions.assertSoftly(softly -> {
+            SyncRun syncRun = syncJournalService.startRun();
+            softly.assertThat(syncRun.getId()).isEqualTo(RUN_ID);
+            softly.assertThat(syncRun.getResumeCount()).isEqualTo(1);
+            softly.assertThat(syncRun.getCheckpointJobName()).isEqualTo(JOB_NAME + 2);
+            softly.assertThat(syncRun.getCheckpointBuildNumber()).isEqualTo(3);
+            softly.assertThat(syncRun.getHarvestedJobs()).containsExactlyInAnyOrder(JOB_NAME + 0, JOB_NAME + 1);
+        });
+    }
+
+    @Test
+    void shouldMoveCheckpointOnCompletedPhases() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        when(syncRunEntityService.savePhase(anyInt(), any(SyncPhaseEntity.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        SyncRun syncRun = new SyncRun(RUN_ID, SyncStatusEntity.RUNNING.name(), LocalDateTime.now());
+
+        SoftAssertions.assertSoftly(softly -> {
+            SyncPhase buildPhase = syncJournalService.startBuildPhase(JOB_NAME, 5);
+            syncJournalService.completePhase(syncRun, buildPhase);
+            softly.assertThat(buildPhase.getStatus()).isEqualTo(SyncStatusEntity.COMPLETED.name());
+            softly.assertThat(syncRun.getCheckpointJobName()).isEqualTo(JOB_NAME);
+            softly.assertThat(syncRun.getCheckpointBuildNumber()).isEqualTo(5);
+            softly.assertThat(syncRun.getHarvestedJobs()).isEmpty();
+
+            SyncPhase jobPhase = syncJournalService.startJobPhase(JOB_NAME);
+            syncJournalService.completePhase(syncRun, jobPhase);
+            softly.assertThat(syncRun.getCheckpointBuildNumber()).isEqualTo(5);
+            softly.assertThat(syncRun.getHarvestedJobs()).containsExactly(JOB_NAME);
+        });
+    }
+
+    @Test
+    void shouldRecordFailedPhaseWithoutMovingCheckpoint() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        when(syncRunEntityService.savePhase(anyInt(), any(SyncPhaseEntity.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        SyncRun syncRun = new SyncRun(RUN_ID, SyncStatusEntity.RUNNING.name(), LocalDateTime.now());
+
+        SyncPhase buildPhase = syncJournalService.startBuildPhase(JOB_NAME, 5);
+        syncJournalService.failPhase(syncRun, buildPhase, new IllegalStateException("Jenkins is not reachable"));
+
+        ArgumentCaptor<SyncPhaseEntity> captor = ArgumentCaptor.forClass(SyncPhaseEntity.class);
+        verify(syncRunEntityService).savePhase(eq(RUN_ID), captor.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            SyncPhaseEntity savedPhase = captor.getValue();
+            softly.assertThat(savedPhase.getStatus()).isEqualTo(SyncStatusEntity.FAILED);
+            softly.assertThat(savedPhase.getPhaseType()).isEqualTo(SyncPhaseTypeEntity.BUILD);
+            softly.assertThat(savedPhase.getFailureMessage()).isEqualTo("Jenkins is not reachable");
+            softly.assertThat(syncRun.getCheckpointJobName()).isNull();
+            softly.assertThat(syncRun.getCheckpointBuildNumber()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void shouldFinishRun() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        SyncRun syncRun = new SyncRun(RUN_ID, SyncStatusEntity.RUNNING.name(), LocalDateTime.now());
+
+        syncJournalService.failRun(syncRun, "failure");
+
+        ArgumentCaptor<SyncRunEntity> captor = ArgumentCaptor.forClass(SyncRunEntity.class);
+        verify(syncRunEntityService).save(captor.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            SyncRunEntity savedRun = captor.getValue();
+            softly.assertThat(savedRun.getId()).isEqualTo(RUN_ID);
+            softly.assertThat(savedRun.getStatus()).isEqualTo(SyncStatusEntity.FAILED);
+            softly.assertThat(savedRun.getFinishedAt()).isNotNull();
+            softly.assertThat(savedRun.getFailureMessage()).isEqualTo("failure");
+        });
+    }
+
+    @Test
+    void shouldGetLatestRunsWithCounts() {
+        SyncRunEntityService syncRunEntityService = mock(SyncRunEntityService.class);
+        SyncJournalService syncJournalService = new SyncJournalService(syncRunEntityService);
+        when(syncRunEntityService.findLatestRuns()).thenReturn(Collections.singletonList(createSyncRunEntity()));
+        when(syncRunEntityService.countPhases(RUN_ID, SyncPhaseTypeEntity.JOB, SyncStatusEntity.COMPLETED)).thenReturn(2L);
+        when(syncRunEntityService.countPhases(RUN_ID, SyncPhaseTypeEntity.JOB, SyncStatusEntity.FAILED)).thenReturn(1L);
+        when(syncRunEntityService.countPhases(RUN_ID, SyncPhaseTypeEntity.BUILD, SyncStatusEntity.COMPLETED)).thenReturn(10L);
+        when(syncRunEntityService.countPhases(RUN_ID, SyncPhaseTypeEntity.BUILD, SyncStatusEntity.FAILED)).thenReturn(3L);
+
+        SoftAssertions.assertSoftly(softly -> {
+            List<SyncRun> syncRuns = syncJournalService.getLatestRuns();
+            softly.assertThat(syncRuns).hasSize(1);
+            SyncRun syncRun = syncRuns.get(0);
+            softly.assertThat(syncRun.getCompletedJobs()).isEqualTo(2);
+            softly.assertThat(syncRun.getFailedJobs()).isEqualTo(1);
+            softly.assertThat(syncRun.getCompletedBuilds()).isEqualTo(10);
+            softly.assertThat(syncRun.getFailedBuilds()).isEqualTo(3);
+        });
+    }
+
+    private SyncRunEntity createSyncRunEntity() {
+        SyncRunEntity syncRunEntity = new SyncRunEntity(SyncStatusEntity.RUNNING, LocalDateTime.now());
+        syncRunEntity.setId(RUN_ID);
+        return syncRunEntity;
+    }
+}
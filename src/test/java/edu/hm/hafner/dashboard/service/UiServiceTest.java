@@ -6,12 +6,20 @@ import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.dashboard.db.BuildEntityService;
 import edu.hm.hafner.dashboard.db.JobEntityService;
-import edu.hm.hafner.dashboard.db.model.JobEntity;
+import edu.hm.hafner.dashboard.db.JobSummaryEntityService;
+import edu.hm.hafner.dashboard.db.RetentionEntityService;
+import edu.hm.hafner.dashboard.db.model.BuildEntity;
+import edu.hm.hafner.dashboard.db.model.JobSummaryEntity;
+import edu.hm.hafner.dashboard.db.model.QualityGateStatusEntity;
+import edu.hm.hafner.dashboard.db.model.ToolSummaryEntity;
 import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
 import edu.hm.hafner.dashboard.service.dto.Build;
 import edu.hm.hafner.dashboard.service.dto.Job;
 import edu.hm.hafner.dashboard.service.dto.Result;
+import edu.hm.hafner.dashboard.service.echart.TrendDownsampler;
 import edu.hm.hafner.dashboard.service.echart.resultchart.BarChartModel;
+import edu.hm.hafner.dashboard.service.echart.tooltrendchart.AnomalyLineSeries;
+import edu.hm.hafner.dashboard.service.mapper.Mapper;
 import edu.hm.hafner.dashboard.service.table.build.BuildRepositoryStatistics;
 import edu.hm.hafner.dashboard.service.table.build.BuildTableModel;
 import edu.hm.hafner.dashboard.service.table.build.BuildViewTable;
@@ -26,12 +34,17 @@ import io.jenkins.plugins.datatables.TableColumn;
 import io.jenkins.plugins.datatables.TableModel;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -54,19 +67,19 @@ class UiServiceTest {
         ResultService resultService = mock(ResultService.class);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         SoftAssertions.assertSoftly(softly -> {
             when(jobService.createJobViewTable()).thenReturn(new JobViewTable(new JobRepositoryStatistics()));
             JobViewTable jobViewTable = uiService.createJobViewTable();
 
             TableModel tableModel = jobViewTable.getTableModel("jobs");
             softly.assertThat(tableModel.getId()).isEqualTo("jobs");
-            softly.assertThat(tableModel.getColumnsDefinition()).isEqualTo("[{  \"data\": \"jobName\",  \"defaultContent\": \"\"},{  \"data\": \"jobStatus\",  \"defaultContent\": \"\"},{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"}]");
+            softly.assertThat(tableModel.getColumnsDefinition()).isEqualTo("[{  \"data\": \"jobName\",  \"defaultContent\": \"\"},{  \"data\": \"jobStatus\",  \"defaultContent\": \"\"},{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"},{  \"data\": \"controllerName\",  \"defaultContent\": \"\"},{  \"data\": \"latestBuild\",  \"defaultContent\": \"\"},{  \"data\": \"totalWarnings\",  \"defaultContent\": \"\"},{  \"data\": \"delta\",  \"defaultContent\": \"\"},{  \"data\": \"qualityGate\",  \"defaultContent\": \"\"},{  \"data\": \"tools\",  \"defaultContent\": \"\"}]");
             softly.assertThat(tableModel.getRows()).isEmpty();
             softly.assertThat(jobViewTable.getTableRows("jobs")).isEmpty();
 
             List<TableColumn> tc = tableModel.getColumns();
-            softly.assertThat(tc.size()).isEqualTo(3);
+            softly.assertThat(tc.size()).isEqualTo(9);
             softly.assertThat(tc.get(0).getHeaderLabel()).isEqualTo("Job Name");
             softly.assertThat(tc.get(0).getDefinition()).isEqualTo("{  \"data\": \"jobName\",  \"defaultContent\": \"\"}");
             softly.assertThat(tc.get(0).getHeaderClass()).isEqualTo("");
@@ -81,6 +94,11 @@ class UiServiceTest {
             softly.assertThat(tc.get(2).getDefinition()).isEqualTo("{  \"data\": \"jobUrl\",  \"defaultContent\": \"\"}");
             softly.assertThat(tc.get(2).getHeaderClass()).isEqualTo("");
             softly.assertThat(tc.get(2).getWidth()).isEqualTo(1);
+
+            softly.assertThat(tc.get(3).getHeaderLabel()).isEqualTo("Controller");
+            softly.assertThat(tc.get(3).getDefinition()).isEqualTo("{  \"data\": \"controllerName\",  \"defaultContent\": \"\"}");
+            softly.assertThat(tc.get(3).getHeaderClass()).isEqualTo("");
+            softly.assertThat(tc.get(3).getWidth()).isEqualTo(1);
         });
     }
 
@@ -91,7 +109,7 @@ class UiServiceTest {
         ResultService resultService = mock(ResultService.class);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         SoftAssertions.assertSoftly(softly -> {
             when(buildService.createBuildViewTable()).thenReturn(new BuildViewTable(new BuildRepositoryStatistics()));
             BuildViewTable buildViewTable = uiService.createBuildViewTable();
@@ -119,7 +137,7 @@ class UiServiceTest {
     @Test
     void shouldCreateIssueViewTable() {
         ResultService resultService = mock(ResultService.class);
-        UiService uiService = new UiService(mock(JobService.class), mock(BuildService.class), resultService, mock(AppStartupRunner.class));
+        UiService uiService = createUiService(mock(JobService.class), mock(BuildService.class), resultService, mock(AppStartupRunner.class));
 
         SoftAssertions.assertSoftly(softly -> {
             when(resultService.createIssueViewTable()).thenReturn(new IssueViewTable(new IssueRepositoryStatistics()));
@@ -182,19 +200,19 @@ class UiServiceTest {
 
     @Test
     void shouldPrepareRowsForJobViewTable() {
-        JobEntityService jobEntityService = mock(JobEntityService.class);
-        JobService jobService = new JobService(jobEntityService);
+        JobSummaryEntityService jobSummaryEntityService = mock(JobSummaryEntityService.class);
+        JobService jobService = new JobService(mock(JobEntityService.class), jobSummaryEntityService);
         BuildService buildService = mock(BuildService.class);
         ResultService resultService = mock(ResultService.class);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         SoftAssertions.assertSoftly(softly -> {
-            when(jobEntityService.findAll()).thenReturn(new ArrayList<>());
+            when(jobSummaryEntityService.findAll()).thenReturn(new ArrayList<>());
             List<Object> objects = uiService.prepareRowsForJobViewTable();
             softly.assertThat(objects).isEmpty();
 
-            when(jobEntityService.findAll()).thenReturn(createJobEntities());
+            when(jobSummaryEntityService.findAll()).thenReturn(createJobSummaryEntities());
             objects = uiService.prepareRowsForJobViewTable();
             softly.assertThat(objects).hasSize(NUMBER_OF_JOBS);
             softly.assertThat(objects).isInstanceOf(List.class);
@@ -203,6 +221,11 @@ class UiServiceTest {
                 softly.assertThat(jobsRow.getJobName()).isEqualTo(getJobNameForNumber(i));
                 softly.assertThat(jobsRow.getJobUrl()).isEqualTo(getUrlForNumber(i));
                 softly.assertThat(jobsRow.getJobStatus()).isEqualTo(SUCCESS);
+                softly.assertThat(jobsRow.getLatestBuild()).isEqualTo("#" + (i + 1));
+                softly.assertThat(jobsRow.getTotalWarnings()).isEqualTo(i);
+                softly.assertThat(jobsRow.getDelta()).isEqualTo("0");
+                softly.assertThat(jobsRow.getQualityGate()).isEqualTo("PASSED");
+                softly.assertThat(jobsRow.getTools()).isEqualTo("CheckStyle: " + i + " (0)");
             }
 
         });
@@ -212,11 +235,11 @@ class UiServiceTest {
     void shouldGetUsedToolsFromLastBuild() {
         JobService jobService = mock(JobService.class);
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
-        ResultService resultService = new ResultService();
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         List<Job> jobs = new ArrayList<>();
         for (int i = 0; i < 3; i++) {
             jobs.add(createJobWithBuildsAndResults(i));
@@ -235,17 +258,17 @@ class UiServiceTest {
     @Test
     void shouldGetRowsForBuildViewTable() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Job job = createJobWithBuildsAndResults(1);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
 
-            List<Object> objects = uiService.getRowsForBuildViewTable(job.getName());
+            List<Object> objects = uiService.getRowsForBuildViewTable(job.getName(), BuildWindow.all());
             for (int i = 0; i < objects.size(); i++) {
                 BuildTableModel.BuildsRow buildsRow = (BuildTableModel.BuildsRow) objects.get(i);
                 softly.assertThat(buildsRow.getBuildNumber()).isEqualTo(i);
@@ -257,16 +280,16 @@ class UiServiceTest {
     @Test
     void shouldGetAggregatedAnalysisResultsTrendCharts() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = createJobWithBuildsAndResults(1);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
-            LinesChartModel linesChartModel = uiService.getAggregatedAnalysisResultsTrendCharts(job.getName());
+            LinesChartModel linesChartModel = uiService.getAggregatedAnalysisResultsTrendCharts(job.getName(), BuildWindow.all(), TrendDownsampler.DEFAULT_MAX_POINTS);
             softly.assertThat(linesChartModel.getDomainAxisLabels()).isEqualTo(Arrays.asList("#0", "#1", "#2", "#3", "#4"));
             softly.assertThat(linesChartModel.getBuildNumbers()).isEqualTo(Arrays.asList(0, 1, 2, 3, 4));
             softly.assertThat(linesChartModel.getSeries().get(0).getData()).isEqualTo(Arrays.asList(40, 40, 40, 40, 40));
@@ -275,38 +298,85 @@ class UiServiceTest {
         });
     }
 
+    @Test
+    void shouldReadOnlyTheBuildsOfTheWindow() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        JobService jobService = mock(JobService.class);
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
+        AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
+
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
+        Job job = createJobWithBuildsAndResults(1);
+        List<BuildEntity> buildEntities = job.getBuilds().subList(3, 5).stream().map(Mapper::mapToEntity).collect(Collectors.toList());
+        Collections.reverse(buildEntities);
+        when(buildEntityService.findBuildsBetween(eq(job.getName()), anyLong(), eq(Long.MAX_VALUE), eq(0))).thenReturn(buildEntities);
+        when(buildEntityService.findLatestBuilds(job.getName(), 2)).thenReturn(buildEntities);
+        SoftAssertions.assertSoftly(softly -> {
+            LinesChartModel linesChartModel = uiService.getAggregatedAnalysisResultsTrendCharts(job.getName(), BuildWindow.lastDays(7), TrendDownsampler.DEFAULT_MAX_POINTS);
+            softly.assertThat(linesChartModel.getDomainAxisLabels()).isEqualTo(Arrays.asList("#3", "#4"));
+            softly.assertThat(linesChartModel.getSeries().get(0).getData()).isEqualTo(Arrays.asList(40, 40));
+            softly.assertThat(uiService.getRowsForBuildViewTable(job.getName(), BuildWindow.lastDays(7))).hasSize(2);
+            linesChartModel = uiService.getTrendChartForTool(job.getName(), "toolName" + 1 + " Warnings", BuildWindow.lastBuilds(2), TrendDownsampler.DEFAULT_MAX_POINTS);
+            softly.assertThat(linesChartModel.getBuildNumbers()).isEqualTo(Arrays.asList(3, 4));
+        });
+        verify(jobService, never()).findJobByName(job.getName());
+    }
+
     @Test
     void shouldGetTrendChartForTool() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = createJobWithBuildsAndResults(1);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
-            LinesChartModel linesChartModel = uiService.getTrendChartForTool(job.getName(), "toolName" + 1 + " Warnings");
+            LinesChartModel linesChartModel = uiService.getTrendChartForTool(job.getName(), "toolName" + 1 + " Warnings", BuildWindow.all(), TrendDownsampler.DEFAULT_MAX_POINTS);
             softly.assertThat(linesChartModel.getDomainAxisLabels()).isEqualTo(Arrays.asList("#0", "#1", "#2", "#3", "#4"));
             softly.assertThat(linesChartModel.getBuildNumbers()).isEqualTo(Arrays.asList(0, 1, 2, 3, 4));
             softly.assertThat(linesChartModel.getSeries().get(0).getData()).isEqualTo(Arrays.asList(20, 20, 20, 20, 20));
         });
     }
 
+    @Test
+    void shouldHighlightAnomaliesInTrendChartForTool() {
+        BuildEntityService buildEntityService = mock(BuildEntityService.class);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
+        JobService jobService = mock(JobService.class);
+        AnomalyService anomalyService = mock(AnomalyService.class);
+
+        UiService uiService = createUiService(jobService, buildService, new ResultService(mock(ReportArchiveService.class)), mock(AppStartupRunner.class), anomalyService);
+        Job job = createJobWithBuildsAndResults(1);
+        when(jobService.findJobByName(job.getName())).thenReturn(job);
+        when(anomalyService.findAnomalousBuilds(job.getName(), "toolName1 Warnings")).thenReturn(Collections.singleton(3));
+
+        LinesChartModel linesChartModel = uiService.getTrendChartForTool(job.getName(), "toolName1 Warnings", BuildWindow.all(), TrendDownsampler.DEFAULT_MAX_POINTS);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(linesChartModel.getSeries().get(0)).isInstanceOf(AnomalyLineSeries.class);
+            AnomalyLineSeries series = (AnomalyLineSeries) linesChartModel.getSeries().get(0);
+            softly.assertThat(series.getMarkPoint().getData()).hasSize(1);
+            softly.assertThat(series.getMarkPoint().getData().get(0).getCoord()).containsExactly(3, 20);
+        });
+    }
+
     @Test
     void shouldGetNewVersusFixedTrendChart() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = createJobWithBuildsAndResults(1);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
-            LinesChartModel linesChartModel = uiService.getNewVersusFixedAggregatedTrendChart(job.getName());
+            LinesChartModel linesChartModel = uiService.getNewVersusFixedAggregatedTrendChart(job.getName(), BuildWindow.all(), TrendDownsampler.DEFAULT_MAX_POINTS);
             softly.assertThat(linesChartModel.getDomainAxisLabels()).isEqualTo(Arrays.asList("#0", "#1", "#2", "#3", "#4"));
             softly.assertThat(linesChartModel.getSeries().get(0).getData()).isEqualTo(Arrays.asList(30, 30, 30, 30, 30));
             softly.assertThat(linesChartModel.getSeries().get(1).getData()).isEqualTo(Arrays.asList(30, 30, 30, 30, 30));
@@ -316,16 +386,16 @@ class UiServiceTest {
     @Test
     void shouldGetNewVersusFixedTrendChartForTool() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = createJobWithBuildsAndResults(1);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
-            LinesChartModel linesChartModel = uiService.getNewVersusFixedTrendChartForTool(job.getName(), "toolName" + 1 + " Warnings");
+            LinesChartModel linesChartModel = uiService.getNewVersusFixedTrendChartForTool(job.getName(), "toolName" + 1 + " Warnings", BuildWindow.all(), TrendDownsampler.DEFAULT_MAX_POINTS);
             softly.assertThat(linesChartModel.getDomainAxisLabels()).isEqualTo(Arrays.asList("#0", "#1", "#2", "#3", "#4"));
             softly.assertThat(linesChartModel.getSeries().get(0).getData()).isEqualTo(Arrays.asList(10, 10, 10, 10, 10));
         });
@@ -334,12 +404,12 @@ class UiServiceTest {
     @Test
     void shouldGetBuildWithBuildNumberFromJob() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         SoftAssertions.assertSoftly(softly -> {
             Job jobWithoutBuilds = createJob(3);
             when(jobService.findJobByName(jobWithoutBuilds.getName())).thenThrow(new NoSuchElementException("Build number " + 3 + " for the Job " + getJobNameForNumber(3) + " not found"));
@@ -362,12 +432,12 @@ class UiServiceTest {
     @Test
     void shouldGetResultSummarize() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = createJobWithBuildsAndResults(1);
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
@@ -390,13 +460,13 @@ class UiServiceTest {
     @Test
     void shouldGetIssuesDataForToolWithTotalSize() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Job job = createJobWithBuildsAndResults(1);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         int buildNumber = 0;
         when(jobService.findJobByName(job.getName())).thenReturn(job);
         SoftAssertions.assertSoftly(softly -> {
@@ -413,12 +483,12 @@ class UiServiceTest {
     @Test
     void shouldGetIssuesDataForToolWithIssueType() {
         BuildEntityService buildEntityService = mock(BuildEntityService.class);
-        BuildService buildService = new BuildService(buildEntityService);
+        BuildService buildService = new BuildService(buildEntityService, mock(ApplicationEventPublisher.class), mock(RetentionEntityService.class));
         JobService jobService = mock(JobService.class);
-        ResultService resultService = new ResultService();
+        ResultService resultService = new ResultService(mock(ReportArchiveService.class));
         Job job = createJobWithBuildsAndResults(1);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
 
         int buildNumber = 0;
         when(jobService.findJobByName(job.getName())).thenReturn(job);
@@ -451,7 +521,7 @@ class UiServiceTest {
         ResultService resultService = mock(ResultService.class);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
 
         SoftAssertions.assertSoftly(softly -> {
@@ -474,7 +544,7 @@ class UiServiceTest {
         ResultService resultService = mock(ResultService.class);
         AppStartupRunner appStartupRunner = mock(AppStartupRunner.class);
 
-        UiService uiService = new UiService(jobService, buildService, resultService, appStartupRunner);
+        UiService uiService = createUiService(jobService, buildService, resultService, appStartupRunner);
         Job job = new Job(1, JOB_NAME, "http://localhost:8080/jenkins/job/" + JOB_NAME + "/", SUCCESS);
         Build build = createBuildWithResults(BUILD_NUMBER, BUILD_NUMBER, JOB_NAME, NUMBER_OF_RESULTS);
         job.addBuild(build);
@@ -563,16 +633,17 @@ class UiServiceTest {
                 SUCCESS);
     }
 
-    private List<JobEntity> createJobEntities() {
-        return IntStream.range(0, NUMBER_OF_JOBS).mapToObj(this::createJobEntity).collect(Collectors.toList());
+    private List<JobSummaryEntity> createJobSummaryEntities() {
+        return IntStream.range(0, NUMBER_OF_JOBS).mapToObj(this::createJobSummaryEntity).collect(Collectors.toList());
     }
 
-    private JobEntity createJobEntity(final int numberOfJob) {
-        return new JobEntity(
-                numberOfJob,
-                getJobNameForNumber(numberOfJob),
-                getUrlForNumber(numberOfJob),
-                SUCCESS);
+    private JobSummaryEntity createJobSummaryEntity(final int numberOfJob) {
+        JobSummaryEntity summary = new JobSummaryEntity(getJobNameForNumber(numberOfJob));
+        summary.setUrl(getUrlForNumber(numberOfJob));
+        summary.setLastBuildStatus(SUCCESS);
+        summary.update(numberOfJob + 1, 0, Collections.singletonList(
+                new ToolSummaryEntity("checkstyle", "CheckStyle", numberOfJob, QualityGateStatusEntity.PASSED)));
+        return summary;
     }
 
     private String getUrlForNumber(final int number) {
@@ -627,6 +698,20 @@ class UiServiceTest {
         return build;
     }
 
+    private UiService createUiService(final JobService jobService, final BuildService buildService,
+            final ResultService resultService, final AppStartupRunner appStartupRunner) {
+        return createUiService(jobService, buildService, resultService, appStartupRunner, mock(AnomalyService.class));
+    }
+
+    private UiService createUiService(final JobService jobService, final BuildService buildService,
+            final ResultService resultService, final AppStartupRunner appStartupRunner,
+            final AnomalyService anomalyService) {
+        return new UiService(jobService, buildService, resultService, appStartupRunner, mock(SyncJournalService.class),
+                mock(PortfolioTrendService.class), mock(IssueLifecycleService.class), mock(IssueDiffService.class),
+                mock(IssueSearchService.class), mock(IssueFacetService.class), mock(HotspotService.class),
+                anomalyService, mock(QualityGateService.class));
+    }
+
     private List<String> createErrorMessage(final int i) {
         return Arrays.asList("Error", "Message", ": " + i);
     }
@@ -0,0 +1,158 @@
+package edu.hm.hafner.dashboard.service.columnar;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.service.columnar.ColumnarReport.Column;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the analytics queries of the dashboard on a {@link Report} with the same queries on a {@link ColumnarReport}.
+ * The benchmark is not run by the tests, run it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarReportBenchmark {
+    private static final Severity[] SEVERITIES = {Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_NORMAL,
+            Severity.WARNING_LOW};
+    private static final String FILE_NAME = "src/main/java/File7.java";
+
+    @Param({"10000", "100000"})
+    private int issues;
+
+    private Report report;
+    private ColumnarReport columnarReport;
+    private int[] rows;
+
+    /**
+     * Creates the reports with random issues.
+     */
+    @Setup
+    public void createReports() {
+        Random random = new Random(1);
+        report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (int i = 0; i < issues; i++) {
+            report.add(builder.setCategory("Category" + random.nextInt(50))
+                    .setModuleName("module" + random.nextInt(5))
+                    .setPackageName("edu.hm.package" + random.nextInt(200))
+                    .setFileName("src/main/java/File" + random.nextInt(2000) + ".java")
+                    .setType("Type" + random.nextInt(300))
+                    .setSeverity(SEVERITIES[random.nextInt(SEVERITIES.length)])
+                    .setLineStart(random.nextInt(1000))
+                    .build());
+        }
+        columnarReport = ColumnarReport.of(report);
+        rows = new int[columnarReport.size()];
+    }
+
+    /**
+     * Counts the issues per severity with the {@link Report}.
+     *
+     * @param blackhole the sink of the results
+     */
+    @Benchmark
+    public void countSeveritiesOfReport(final Blackhole blackhole) {
+        for (Severity severity : SEVERITIES) {
+            blackhole.consume(report.getSizeOf(severity));
+        }
+    }
+
+    /**
+     * Counts the issues per severity with the {@link ColumnarReport}.
+     *
+     * @param blackhole the sink of the results
+     */
+    @Benchmark
+    public void countSeveritiesOfColumnarReport(final Blackhole blackhole) {
+        for (Severity severity : SEVERITIES) {
+            blackhole.consume(columnarReport.getSizeOf(severity));
+        }
+    }
+
+    /**
+     * Counts the issues per category with the {@link Report}.
+     *
+     * @return the counts
+     */
+    @Benchmark
+    public Map<String, int[]> countCategoriesOfReport() {
+        Map<String, int[]> counts = new HashMap<>();
+        for (Issue issue : report) {
+            counts.computeIfAbsent(issue.getCategory(), category -> new int[1])[0]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the issues per category with the {@link ColumnarReport}.
+     *
+     * @return the counts
+     */
+    @Benchmark
+    public int[] countCategoriesOfColumnarReport() {
+        int[] counts = new int[columnarReport.getDistinctValues(Column.CATEGORY)];
+        columnarReport.countValues(Column.CATEGORY, counts);
+        return counts;
+    }
+
+    /**
+     * Filters the issues of a file with the {@link Report}.
+     *
+     * @return the number of issues of the file
+     */
+    @Benchmark
+    public int filterFileOfReport() {
+        int count = 0;
+        for (Issue issue : report) {
+            if (FILE_NAME.equals(issue.getFileName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Filters the issues of a file with the {@link ColumnarReport}.
+     *
+     * @return the number of issues of the file
+     */
+    @Benchmark
+    public int filterFileOfColumnarReport() {
+        return columnarReport.select(Column.FILE_NAME, FILE_NAME, rows);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ColumnarReportBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.hm.hafner.dashboard.service.columnar;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.service.columnar.ColumnarReport.Column;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the Class {@link ColumnarReport}.
+ */
+class ColumnarReportTest {
+    @Test
+    void shouldEncodeColumnsOfIssues() {
+        Report report = new Report();
+        report.add(new IssueBuilder().setCategory("Imports").setFileName("src/Main.java").setLineStart(3).setLineEnd(4)
+                .setColumnStart(5).setColumnEnd(6).setSeverity(Severity.WARNING_HIGH).build());
+        report.add(new IssueBuilder().setCategory("Javadoc").setFileName("src/Parser.java")
+                .setSeverity(Severity.WARNING_LOW).build());
+        report.add(new IssueBuilder().setCategory("Imports").setFileName("src/Main.java").setLineStart(7)
+                .setSeverity(Severity.WARNING_LOW).build());
+
+        ColumnarReport columnarReport = ColumnarReport.of(report);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(columnarReport.size()).isEqualTo(3);
+        softly.assertThat(columnarReport.getDistinctValues(Column.CATEGORY)).isEqualTo(2);
+        softly.assertThat(columnarReport.getDistinctValues(Column.MODULE_NAME)).isEqualTo(1);
+        softly.assertThat(columnarReport.getCode(Column.CATEGORY, 0)).isEqualTo(columnarReport.getCode(Column.CATEGORY, 2));
+        softly.assertThat(columnarReport.getValue(Column.FILE_NAME, columnarReport.getCode(Column.FILE_NAME, 1)))
+                .isEqualTo("src/Parser.java");
+        softly.assertThat(columnarReport.getCode(Column.CATEGORY, "Imports")).isEqualTo(0);
+        softly.assertThat(columnarReport.getCode(Column.CATEGORY, "Design")).isEqualTo(ColumnarReport.NOT_FOUND);
+        softly.assertThat(columnarReport.getLineStart(0)).isEqualTo(3);
+        softly.assertThat(columnarReport.getLineEnd(0)).isEqualTo(4);
+        softly.assertThat(columnarReport.getColumnStart(0)).isEqualTo(5);
+        softly.assertThat(columnarReport.getColumnEnd(0)).isEqualTo(6);
+        softly.assertThat(columnarReport.getLineStart(2)).isEqualTo(7);
+        softly.assertThat(columnarReport.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(report.getSizeOf(Severity.WARNING_HIGH));
+        softly.assertThat(columnarReport.getSizeOf(Severity.WARNING_LOW)).isEqualTo(2);
+        softly.assertThat(columnarReport.getSizeOf(Severity.ERROR)).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    void shouldCountValuesOfAllAndOfSelectedIssues() {
+        ColumnarReport.Builder builder = new ColumnarReport.Builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i % 3 == 0 ? "Imports" : "Javadoc", null, "", "File" + i % 2 + ".java", "-", "LOW");
+        }
+        ColumnarReport report = builder.build();
+
+        int[] counts = new int[report.getDistinctValues(Column.CATEGORY)];
+        report.countValues(Column.CATEGORY, counts);
+        assertThat(counts).containsExactly(34, 66);
+
+        int[] rows = new int[report.size()];
+        int selected = report.select(Column.FILE_NAME, "File0.java", rows);
+        assertThat(selected).isEqualTo(50);
+        int[] selectedCounts = new int[report.getDistinctValues(Column.CATEGORY)];
+        report.countValues(Column.CATEGORY, rows, selected, selectedCounts);
+        assertThat(selectedCounts).containsExactly(17, 33);
+
+        assertThat(report.select(Column.FILE_NAME, "Other.java", rows)).isZero();
+        assertThat(report.getValue(Column.MODULE_NAME, 0)).isEqualTo(ColumnarReport.UNDEFINED);
+        assertThat(report.getSizeOf(Column.PACKAGE_NAME, null)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.hm.hafner.dashboard.service.columnar;
+
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+import edu.hm.hafner.dashboard.db.model.ReportEntity;
+import edu.hm.hafner.dashboard.db.model.WarningTypeEntity;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test the Class {@link ReportArchiveCodec}.
+ */
+class ReportArchiveCodecTest {
+    @Test
+    void shouldDecodeEncodedIssues() {
+        ReportEntity outstanding = new ReportEntity(WarningTypeEntity.OUTSTANDING);
+        IssueEntity first = createIssue("src/Main.java", 3, -1, "Unused import");
+        IssueEntity second = createIssue("src/Main.java", 200_000, 7, null);
+        outstanding.addIssueEntity(first);
+        outstanding.addIssueEntity(second);
+        ReportEntity fixed = new ReportEntity(WarningTypeEntity.FIXED);
+        IssueEntity third = createIssue("src/Parser.java", 0, 0, "Missing comment \u00e4");
+        fixed.addIssueEntity(third);
+
+        Map<WarningTypeEntity, List<IssueEntity>> issues = ReportArchiveCodec.decode(
+                ReportArchiveCodec.encode(Arrays.asList(outstanding, new ReportEntity(WarningTypeEntity.NEW), fixed)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(issues.get(WarningTypeEntity.NEW)).isEmpty();
+            softly.assertThat(issues.get(WarningTypeEntity.OUTSTANDING)).hasSize(2);
+            softly.assertThat(issues.get(WarningTypeEntity.FIXED)).hasSize(1);
+            assertSameIssue(softly, issues.get(WarningTypeEntity.OUTSTANDING).get(0), first);
+            assertSameIssue(softly, issues.get(WarningTypeEntity.OUTSTANDING).get(1), second);
+            assertSameIssue(softly, issues.get(WarningTypeEntity.FIXED).get(0), third);
+        });
+    }
+
+    @Test
+    void shouldCompressRepeatedValues() {
+        ReportEntity report = new ReportEntity(WarningTypeEntity.OUTSTANDING);
+        int textSize = 0;
+        for (int i = 0; i < 1000; i++) {
+            IssueEntity issue = createIssue("src/main/java/edu/hm/hafner/File" + i % 10 + ".java", i, i, "Message " + i % 5);
+            report.addIssueEntity(issue);
+            textSize += issue.getFileName().length() + issue.getMessage().length() + issue.getFingerprint().length()
+                    + issue.getCategory().length() + issue.getOrigin().length() + issue.getType().length();
+        }
+
+        assertThat(ReportArchiveCodec.encode(Arrays.asList(report)).length).isLessThan(textSize / 4);
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            output.writeInt(2);
+            output.writeByte(0);
+        }
+
+        assertThatThrownBy(() -> ReportArchiveCodec.decode(bytes.toByteArray()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+
+    private void assertSameIssue(final SoftAssertions softly, final IssueEntity actual, final IssueEntity expected) {
+        softly.assertThat(actual).isEqualToComparingOnlyGivenFields(expected, "id", "category", "columnStart",
+                "columnEnd", "description", "fileName", "fingerprint", "lineStart", "lineEnd", "message",
+                "moduleName", "origin", "packageName", "reference", "severity", "type");
+    }
+
+    private IssueEntity createIssue(final String fileName, final int line, final int column, final String message) {
+        return new IssueEntity(UUID.randomUUID(), column, column + 1, line, line + 2, "Imports", "", fileName,
+                "fingerprint" + line, message, "-", "checkstyle", "edu.hm", "-", "LOW", "UnusedImport");
+    }
+}
@@ -0,0 +1,80 @@
+package edu.hm.hafner.dashboard.service.echart;
+
+import edu.hm.hafner.echarts.LinesDataSet;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test the Class {@link TrendDownsampler}.
+ */
+class TrendDownsamplerTest {
+    private static final String TOTAL = "total";
+    private static final String NEW = "new";
+
+    @Test
+    void shouldKeepSmallDataSets() {
+        LinesDataSet dataSet = createDataSet(10, -1);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(TrendDownsampler.downsample(dataSet, 10)).isSameAs(dataSet);
+            softly.assertThat(TrendDownsampler.downsample(dataSet, 0)).isSameAs(dataSet);
+        });
+    }
+
+    @Test
+    void shouldReduceDataSetToMaximumNumberOfPoints() {
+        LinesDataSet downsampled = TrendDownsampler.downsample(createDataSet(1000, 567), 50);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(downsampled.getDomainAxisSize()).isEqualTo(50);
+            softly.assertThat(downsampled.getDataSetIds()).containsExactlyInAnyOrder(TOTAL, NEW);
+            softly.assertThat(downsampled.getSeries(TOTAL)).hasSize(50);
+            softly.assertThat(downsampled.getSeries(NEW)).hasSize(50);
+            softly.assertThat(downsampled.getBuildNumbers()).hasSize(50).startsWith(1).endsWith(1000).isSorted();
+            softly.assertThat(downsampled.getDomainAxisLabels()).startsWith("#1").endsWith("#1000");
+            softly.assertThat(downsampled.getBuildNumbers()).contains(568);
+            softly.assertThat(downsampled.getSeries(NEW)).contains(100);
+        });
+    }
+
+    @Test
+    void shouldKeepTheSameBuildsForAllSeries() {
+        LinesDataSet downsampled = TrendDownsampler.downsample(createDataSet(200, 42), 20);
+
+        SoftAssertions.assertSoftly(softly -> {
+            for (int index = 0; index < downsampled.getDomainAxisSize(); index++) {
+                int build = downsampled.getBuildNumbers().get(index);
+                softly.assertThat(downsampled.getSeries(TOTAL).get(index)).isEqualTo(build % 10);
+                softly.assertThat(downsampled.getSeries(NEW).get(index)).isEqualTo(build == 43 ? 100 : 0);
+            }
+        });
+    }
+
+    @Test
+    void shouldDeriveNumberOfPointsFromWidth() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(TrendDownsampler.getMaxPoints(null)).isEqualTo(TrendDownsampler.DEFAULT_MAX_POINTS);
+            softly.assertThat(TrendDownsampler.getMaxPoints(0)).isEqualTo(TrendDownsampler.DEFAULT_MAX_POINTS);
+            softly.assertThat(TrendDownsampler.getMaxPoints(800)).isEqualTo(400);
+            softly.assertThat(TrendDownsampler.getMaxPoints(1)).isEqualTo(3);
+        });
+    }
+
+    /**
+     * Creates a data set with a saw tooth series and a series that is zero except for a single spike.
+     */
+    private LinesDataSet createDataSet(final int size, final int spike) {
+        LinesDataSet dataSet = new LinesDataSet();
+        for (int index = 0; index < size; index++) {
+            int build = index + 1;
+            Map<String, Integer> series = new HashMap<>();
+            series.put(TOTAL, build % 10);
+            series.put(NEW, index == spike ? 100 : 0);
+            dataSet.add("#" + build, series, build);
+        }
+        return dataSet;
+    }
+}
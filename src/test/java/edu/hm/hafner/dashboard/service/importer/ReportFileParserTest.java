@@ -0,0 +1,117 @@
+package edu.hm.hafner.dashboard.service.importer;
+
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.config.ImportProperties;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test the Class {@link ReportFileParser}.
+ */
+class ReportFileParserTest {
+    static final String CHECKSTYLE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<checkstyle version=\"8.29\">\n"
+            + "  <file name=\"src/main/java/App.java\">\n"
+            + "    <error line=\"12\" column=\"5\" severity=\"error\" message=\"Missing a Javadoc comment.\""
+            + " source=\"com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocMethodCheck\"/>\n"
+            + "    <error line=\"20\" severity=\"warning\" message=\"Line is longer than 120 characters.\""
+            + " source=\"com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck\"/>\n"
+            + "  </file>\n"
+            + "</checkstyle>\n";
+    static final String PMD = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<pmd version=\"6.21.0\">\n"
+            + "  <file name=\"src/main/java/App.java\">\n"
+            + "    <violation beginline=\"7\" endline=\"9\" begincolumn=\"1\" endcolumn=\"2\" rule=\"UnusedPrivateField\""
+            + " ruleset=\"Best Practices\" package=\"edu.hm\" priority=\"3\">\n"
+            + "      Avoid unused private fields such as 'name'.\n"
+            + "    </violation>\n"
+            + "  </file>\n"
+            + "</pmd>\n";
+    static final String SPOTBUGS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<BugCollection version=\"4.0.0\">\n"
+            + "  <Project projectName=\"app\"/>\n"
+            + "  <BugInstance type=\"NP_NULL_ON_SOME_PATH\" priority=\"1\" category=\"CORRECTNESS\">\n"
+            + "    <ShortMessage>Possible null pointer dereference</ShortMessage>\n"
+            + "    <LongMessage>Possible null pointer dereference of name in App.run()</LongMessage>\n"
+            + "    <Class classname=\"edu.hm.App\"><SourceLine classname=\"edu.hm.App\" sourcepath=\"edu/hm/App.java\"/></Class>\n"
+            + "    <SourceLine classname=\"edu.hm.App\" start=\"42\" end=\"42\" sourcepath=\"edu/hm/App.java\" primary=\"true\"/>\n"
+            + "  </BugInstance>\n"
+            + "  <BugPattern type=\"NP_NULL_ON_SOME_PATH\"><ShortDescription>Possible null pointer</ShortDescription></BugPattern>\n"
+            + "</BugCollection>\n";
+    static final String NATIVE_JSON = "{\"_class\":\"io.jenkins.plugins.analysis.core.restapi.ReportApi\",\"issues\":["
+            + "{\"fileName\":\"app.js\",\"lineStart\":3,\"message\":\"Unexpected var\",\"severity\":\"HIGH\",\"type\":\"no-var\"},"
+            + "{\"fileName\":\"app.js\",\"lineStart\":8,\"message\":\"Missing semicolon\",\"severity\":\"LOW\",\"type\":\"semi\"}]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDetectXmlFormatByRootElement() throws IOException {
+        ParsedReport checkStyle = createParser(Long.MAX_VALUE).parse(write("result.xml", CHECKSTYLE));
+        ParsedReport pmd = createParser(Long.MAX_VALUE).parse(write("pmd.xml", PMD));
+        ParsedReport spotBugs = createParser(1).parse(write("spotbugsXml.xml", SPOTBUGS));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(checkStyle.getToolId()).isEqualTo("checkstyle");
+            softly.assertThat(checkStyle.getToolName()).isEqualTo("CheckStyle");
+            softly.assertThat(checkStyle.getReport().size()).isEqualTo(2);
+            softly.assertThat(checkStyle.getReport().get(0).getFileName()).isEqualTo("src/main/java/App.java");
+            softly.assertThat(checkStyle.getReport().get(0).getLineStart()).isEqualTo(12);
+            softly.assertThat(pmd.getToolId()).isEqualTo("pmd");
+            softly.assertThat(pmd.getReport().size()).isEqualTo(1);
+            softly.assertThat(pmd.getReport().get(0).getType()).isEqualTo("UnusedPrivateField");
+            softly.assertThat(spotBugs.getToolId()).isEqualTo("spotbugs");
+            softly.assertThat(spotBugs.getReport().size()).isEqualTo(1);
+            softly.assertThat(spotBugs.getReport().get(0).getType()).isEqualTo("NP_NULL_ON_SOME_PATH");
+        });
+    }
+
+    @Test
+    void shouldReportInvalidXml() throws IOException {
+        Path file = write("checkstyle-result.xml", CHECKSTYLE.substring(0, CHECKSTYLE.indexOf("</file>")));
+
+        assertThatThrownBy(() -> createParser(Long.MAX_VALUE).parse(file)).isInstanceOf(IOException.class)
+                .hasMessageContaining("checkstyle-result.xml");
+    }
+
+    @Test
+    void shouldParseNativeJson() throws IOException {
+        ParsedReport parsedReport = createParser(1).parse(write("eslint.json", NATIVE_JSON));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(parsedReport.getToolId()).isEqualTo("eslint");
+            softly.assertThat(parsedReport.getReport().size()).isEqualTo(2);
+            softly.assertThat(parsedReport.getReport().get(0).getSeverity()).isEqualTo(Severity.WARNING_HIGH);
+            softly.assertThat(parsedReport.getReport().get(1).getType()).isEqualTo("semi");
+        });
+    }
+
+    @Test
+    void shouldIgnoreUnknownFormats() throws IOException {
+        ParsedReport parsedReport = createParser(Long.MAX_VALUE).parse(write("pom.xml", "<project/>"));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(parsedReport).isNull();
+            softly.assertThat(ReportFileParser.isReportFile(directory.resolve("build.log"))).isFalse();
+            softly.assertThat(ReportFileParser.isReportFile(directory.resolve("PMD.XML"))).isTrue();
+        });
+    }
+
+    private ReportFileParser createParser(final long memoryMapThresholdInBytes) {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setMemoryMapThresholdInBytes(memoryMapThresholdInBytes);
+        return new ReportFileParser(importProperties);
+    }
+
+    private Path write(final String fileName, final String content) throws IOException {
+        return Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
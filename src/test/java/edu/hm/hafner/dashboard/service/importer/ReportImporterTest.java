@@ -0,0 +1,135 @@
+package edu.hm.hafner.dashboard.service.importer;
+
+import edu.hm.hafner.dashboard.config.ImportProperties;
+import edu.hm.hafner.dashboard.service.AppStartupService;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.Job;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the Class {@link ReportImporter}.
+ */
+class ReportImporterTest {
+    private static final String JOB_NAME = "app";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldImportMissingBuildsInAscendingOrder() throws IOException {
+        write(JOB_NAME + "/1/checkstyle-result.xml", ReportFileParserTest.CHECKSTYLE);
+        write(JOB_NAME + "/1/eslint.json", ReportFileParserTest.NATIVE_JSON);
+        write(JOB_NAME + "/2/checkstyle-main.xml", ReportFileParserTest.CHECKSTYLE.replace("Line is longer", "Line is way longer"));
+        write(JOB_NAME + "/2/checkstyle-test.xml", ReportFileParserTest.CHECKSTYLE.replace("App.java", "AppTest.java"));
+        write(JOB_NAME + "/2/spotbugsXml.xml", ReportFileParserTest.SPOTBUGS);
+        write(JOB_NAME + "/2/build.log", "BUILD SUCCESSFUL");
+        write(JOB_NAME + "/latest/pmd.xml", ReportFileParserTest.PMD);
+
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        Job job = new Job(1, JOB_NAME, directory.resolve(JOB_NAME).toUri().toString(), "Imported");
+        when(appStartupService.saveNewJobs(anyList())).thenReturn(Collections.singletonList(job));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        int importedBuilds = createImporter(appStartupService).importDirectory(directory);
+
+        ArgumentCaptor<List<Build>> captor = ArgumentCaptor.forClass(List.class);
+        verify(appStartupService, times(2)).saveNewBuildsFromJob(eq(job), captor.capture());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(importedBuilds).isEqualTo(2);
+            List<Build> builds = captor.getAllValues().stream().map(list -> list.get(0)).collect(Collectors.toList());
+            softly.assertThat(builds).extracting(Build::getNumber).containsExactly(1, 2);
+
+            Build first = builds.get(0);
+            softly.assertThat(first.getResults()).extracting(Result::getWarningId).containsExactly("checkstyle", "eslint");
+            softly.assertThat(first.getResults().get(0).getTotalSize()).isEqualTo(2);
+            softly.assertThat(first.getResults().get(0).getNewSize()).isEqualTo(0);
+
+            Build second = builds.get(1);
+            softly.assertThat(second.getResults()).extracting(Result::getWarningId).containsExactly("checkstyle", "spotbugs");
+            Result checkStyle = second.getResults().get(0);
+            softly.assertThat(checkStyle.getTotalSize()).isEqualTo(4);
+            softly.assertThat(checkStyle.getNewSize()).isEqualTo(3);
+            softly.assertThat(checkStyle.getFixedSize()).isEqualTo(1);
+            softly.assertThat(checkStyle.getInfoMessages()).hasSize(2);
+            softly.assertThat(second.getResults().get(1).getTotalSize()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldCompareFirstImportedBuildWithLatestStoredBuild() throws IOException {
+        write(JOB_NAME + "/3/checkstyle-result.xml", ReportFileParserTest.CHECKSTYLE);
+        Path storedFile = write("stored/checkstyle-result.xml", ReportFileParserTest.CHECKSTYLE.replace("Line is longer", "Line is way longer"));
+        ParsedReport storedReport = createParser().parse(storedFile);
+
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        Job job = new Job(1, JOB_NAME, "url", "Imported");
+        when(appStartupService.findJobByName(JOB_NAME)).thenReturn(job);
+        when(appStartupService.findLatestReportsFromJob(JOB_NAME))
+                .thenReturn(Collections.singletonMap(storedReport.getToolId(), storedReport.getReport()));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        createImporter(appStartupService).importDirectory(directory);
+
+        ArgumentCaptor<List<Build>> captor = ArgumentCaptor.forClass(List.class);
+        verify(appStartupService).saveNewBuildsFromJob(eq(job), captor.capture());
+        Result checkStyle = captor.getValue().get(0).getResults().get(0);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(checkStyle.getTotalSize()).isEqualTo(2);
+            softly.assertThat(checkStyle.getNewSize()).isEqualTo(1);
+            softly.assertThat(checkStyle.getFixedSize()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldSkipStoredBuilds() throws IOException {
+        write(JOB_NAME + "/1/pmd.xml", ReportFileParserTest.PMD);
+        AppStartupService appStartupService = mock(AppStartupService.class);
+        when(appStartupService.findJobByName(JOB_NAME)).thenReturn(new Job(1, JOB_NAME, "url", "Imported"));
+        when(appStartupService.findMissingBuildsFromJob(any(Job.class), anyList())).thenReturn(Collections.emptyList());
+
+        int importedBuilds = createImporter(appStartupService).importDirectory(directory);
+
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(importedBuilds).isEqualTo(0));
+        verify(appStartupService, never()).saveNewJobs(anyList());
+        verify(appStartupService, never()).saveNewBuildsFromJob(any(Job.class), anyList());
+    }
+
+    private ReportImporter createImporter(final AppStartupService appStartupService) {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setThreads(2);
+        importProperties.setBuildsInFlight(1);
+        importProperties.setMemoryMapThresholdInBytes(512);
+        return new ReportImporter(appStartupService, new ReportFileParser(importProperties), importProperties);
+    }
+
+    private ReportFileParser createParser() {
+        return new ReportFileParser(new ImportProperties());
+    }
+
+    private Path write(final String fileName, final String content) throws IOException {
+        Path file = directory.resolve(fileName);
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
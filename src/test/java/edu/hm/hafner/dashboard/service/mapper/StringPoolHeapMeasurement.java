@@ -0,0 +1,89 @@
+package edu.hm.hafner.dashboard.service.mapper;
+
+import edu.hm.hafner.dashboard.db.model.IssueEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the heap that is retained by the issues of a large build, with and without sharing the repeated attributes
+ * in a {@link StringPool}. Every attribute is created as a new string, like the attributes of a parsed JSON response.
+ * The cardinalities of the attributes are similar to the ones of a large project. The measurement is not run by the
+ * tests, run it with the {@link #main(String[])} method and a heap of at least 2 GB, e.g. {@code -Xmx2g}.
+ */
+public final class StringPoolHeapMeasurement {
+    private static final int ISSUES = 1_000_000;
+    private static final String[] SEVERITIES = {"ERROR", "HIGH", "NORMAL", "LOW"};
+
+    private StringPoolHeapMeasurement() {
+        // prevents instantiation
+    }
+
+    /**
+     * Runs the measurement and prints the retained heap of the issues.
+     *
+     * @param args not used
+     * @throws InterruptedException if interrupted while waiting for the garbage collector
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        long withoutPool = measure(UnaryOperator.identity());
+        StringPool pool = new StringPool(16_384, 512);
+        long withPool = measure(pool::get);
+
+        System.out.println("Retained heap of " + ISSUES + " issues without the pool: " + toMegabytes(withoutPool) + " MB");
+        System.out.println("Retained heap of " + ISSUES + " issues with the pool:    " + toMegabytes(withPool) + " MB");
+    }
+
+    private static long measure(final UnaryOperator<String> pool) throws InterruptedException {
+        long before = getUsedHeap();
+        List<IssueEntity> issues = createIssues(pool);
+        long after = getUsedHeap();
+        if (issues.size() != ISSUES) {
+            throw new IllegalStateException("Created " + issues.size() + " issues");
+        }
+        return after - before;
+    }
+
+    private static List<IssueEntity> createIssues(final UnaryOperator<String> pool) {
+        Random random = new Random(1);
+        List<IssueEntity> issues = new ArrayList<>(ISSUES);
+        for (int i = 0; i < ISSUES; i++) {
+            int file = random.nextInt(20_000);
+            int line = random.nextInt(1000);
+            issues.add(new IssueEntity(UUID.randomUUID(), 0, 0, line, line,
+                    pool.apply(copy("Category" + random.nextInt(50))),
+                    "",
+                    pool.apply(copy("src/main/java/edu/hm/hafner/package" + file / 100 + "/File" + file + ".java")),
+                    Integer.toHexString(random.nextInt()),
+                    "Message " + random.nextInt(100_000),
+                    pool.apply(copy("module" + random.nextInt(20))),
+                    pool.apply(copy("checkstyle")),
+                    pool.apply(copy("edu.hm.hafner.package" + file / 100)),
+                    "-",
+                    pool.apply(copy(SEVERITIES[random.nextInt(SEVERITIES.length)])),
+                    pool.apply(copy("Type" + random.nextInt(300)))));
+        }
+        return issues;
+    }
+
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static String copy(final String value) {
+        return new String(value);
+    }
+
+    private static long getUsedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long toMegabytes(final long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
@@ -0,0 +1,99 @@
+package edu.hm.hafner.dashboard.service.mapper;
+
+import edu.hm.hafner.dashboard.service.rest.response.IssuesResponse;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the Class {@link StringPool}.
+ */
+class StringPoolTest {
+    @Test
+    void shouldShareEqualStrings() {
+        StringPool pool = new StringPool(16, 10);
+        String first = new String("Checkstyle");
+        String second = new String("Checkstyle");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pool.get(first)).isSameAs(first);
+            softly.assertThat(pool.get(second)).isSameAs(first);
+            softly.assertThat(pool.get(null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldNotPoolLongStrings() {
+        StringPool pool = new StringPool(16, 3);
+        String first = new String("long");
+
+        pool.get(first);
+
+        assertThat(pool.get(new String("long"))).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldReplaceStringOfSameSlot() {
+        StringPool pool = new StringPool(1, 100);
+        String first = new String("a");
+        String second = new String("b");
+
+        pool.get(first);
+        pool.get(second);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pool.get(new String("b"))).isSameAs(second);
+            softly.assertThat(pool.get(new String("a"))).isNotSameAs(first);
+        });
+    }
+
+    @Test
+    void shouldReturnEqualStringsConcurrently() throws Exception {
+        StringPool pool = new StringPool(64, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String value = "value" + i % 100;
+                        if (!value.equals(pool.get(value))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldShareAttributesOfParsedIssues() {
+        IssuesResponse.Issue first = new IssuesResponse.Issue();
+        IssuesResponse.Issue second = new IssuesResponse.Issue();
+
+        first.setCategory(new String("Design"));
+        second.setCategory(new String("Design"));
+        first.setMessage(new String("message"));
+        second.setMessage(new String("message"));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(second.getCategory()).isSameAs(first.getCategory());
+            softly.assertThat(second.getMessage()).isNotSameAs(first.getMessage());
+        });
+    }
+}
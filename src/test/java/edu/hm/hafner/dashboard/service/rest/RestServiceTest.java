@@ -0,0 +1,138 @@
+package edu.hm.hafner.dashboard.service.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import edu.hm.hafner.dashboard.config.RestApiProperties;
+import edu.hm.hafner.dashboard.config.RestApiProperties.RestConfiguration;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test the Class {@link RestService}.
+ */
+class RestServiceTest {
+    private static final String JOB_NAME = "jobName";
+
+    @Test
+    void shouldCreateClientsForAllControllers() {
+        RestApiProperties restApiProperties = new RestApiProperties();
+        restApiProperties.setRestConfiguration(createRestConfiguration(null, "http://localhost:8080/jenkins/api/json"));
+        restApiProperties.setControllers(Arrays.asList(
+                createRestConfiguration("ci", "http://ci:8080/api/json"),
+                createRestConfiguration("release", "http://release:8080/api/json")));
+        RestService restService = new RestService(restApiProperties);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(restService.getClients().stream().map(JenkinsClient::getName).collect(Collectors.toList()))
+                    .containsExactly(RestApiProperties.DEFAULT_CONTROLLER, "ci", "release");
+            softly.assertThat(restService.getClient(null).getName()).isEqualTo(RestApiProperties.DEFAULT_CONTROLLER);
+            softly.assertThat(restService.getClient("unknown")).isNull();
+
+            softly.assertThat(restService.getClient(null).qualify(JOB_NAME)).isEqualTo(JOB_NAME);
+            softly.assertThat(restService.getClient("ci").qualify(JOB_NAME)).isEqualTo("ci:" + JOB_NAME);
+            softly.assertThat(restService.getClient("release").qualify(JOB_NAME)).isEqualTo("release:" + JOB_NAME);
+        });
+    }
+
+    @Test
+    void shouldCreateClientsWithoutDefaultController() {
+        RestApiProperties restApiProperties = new RestApiProperties();
+        restApiProperties.setControllers(Arrays.asList(createRestConfiguration("ci", "http://ci:8080/api/json")));
+        RestService restService = new RestService(restApiProperties);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(restService.getClients()).hasSize(1);
+            softly.assertThat(restService.getClient(null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldRejectControllersWithoutUniqueName() {
+        RestApiProperties restApiProperties = new RestApiProperties();
+        restApiProperties.setControllers(Arrays.asList(
+                createRestConfiguration("ci", "http://ci:8080/api/json"),
+                createRestConfiguration("ci", "http://ci2:8080/api/json")));
+
+        assertThatThrownBy(() -> new RestService(restApiProperties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("http://ci2:8080/api/json");
+    }
+
+    @Test
+    void shouldAcceptOnlyUrlsOfController() {
+        JenkinsClient client = new JenkinsClient("ci", createRestConfiguration("ci", "http://ci:8080/jenkins/api/json"), false);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(client.isOwnUrl("http://ci:8080/jenkins/job/app/1/")).isTrue();
+            softly.assertThat(client.isOwnUrl("HTTP://CI:8080/jenkins/job/app/1/")).isTrue();
+            softly.assertThat(client.isOwnUrl("http://ci:8080/jenkins")).isTrue();
+            softly.assertThat(client.isOwnUrl("http://ci:8080/jenkins-other/job/app/1/")).isFalse();
+            softly.assertThat(client.isOwnUrl("http://ci:8080/jenkins/../admin/")).isFalse();
+            softly.assertThat(client.isOwnUrl("http://ci:9090/jenkins/job/app/1/")).isFalse();
+            softly.assertThat(client.isOwnUrl("https://ci:8080/jenkins/job/app/1/")).isFalse();
+            softly.assertThat(client.isOwnUrl("http://ci.attacker.com:8080/jenkins/job/app/1/")).isFalse();
+            softly.assertThat(client.isOwnUrl("http://user@ci:8080/jenkins/job/app/1/")).isFalse();
+            softly.assertThat(client.isOwnUrl("not an url")).isFalse();
+            softly.assertThat(client.isOwnUrl(null)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldSendCredentialsOnlyToController() throws IOException {
+        List<String> controllerHeaders = new CopyOnWriteArrayList<>();
+        List<String> otherHeaders = new CopyOnWriteArrayList<>();
+        HttpServer controller = startServer(controllerHeaders);
+        HttpServer other = startServer(otherHeaders);
+        try {
+            JenkinsClient client = new JenkinsClient("ci", createRestConfiguration("ci",
+                    "http://localhost:" + controller.getAddress().getPort() + "/api/json"), false);
+
+            client.getBuild("http://localhost:" + controller.getAddress().getPort() + "/job/app/1/api/json");
+            client.getBuild("http://localhost:" + other.getAddress().getPort() + "/job/app/1/api/json");
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(controllerHeaders).hasSize(1).allMatch(header -> header.startsWith("Basic "));
+                softly.assertThat(otherHeaders).containsExactly("none");
+            });
+        }
+        finally {
+            controller.stop(0);
+            other.stop(0);
+        }
+    }
+
+    private HttpServer startServer(final List<String> authorizationHeaders) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            authorizationHeaders.add(authorization == null ? "none" : authorization);
+            byte[] body = "{\"number\":1,\"building\":false}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private RestConfiguration createRestConfiguration(final String name, final String endPoint) {
+        RestConfiguration restConfiguration = new RestConfiguration();
+        restConfiguration.setName(name);
+        restConfiguration.setEndPoint(endPoint);
+        restConfiguration.setUsername("user");
+        restConfiguration.setApiToken("token");
+        return restConfiguration;
+    }
+}
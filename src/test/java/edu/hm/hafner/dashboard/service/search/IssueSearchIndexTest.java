@@ -0,0 +1,181 @@
+package edu.hm.hafner.dashboard.service.search;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.dashboard.config.SearchProperties;
+import edu.hm.hafner.dashboard.service.dto.Build;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchHit;
+import edu.hm.hafner.dashboard.service.dto.IssueSearchResult;
+import edu.hm.hafner.dashboard.service.dto.Result;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Test the Class {@link IssueSearchIndex}.
+ */
+class IssueSearchIndexTest {
+    private static final String JOB_NAME = "jobName";
+    private static final String OTHER_JOB_NAME = "otherJob";
+
+    @Test
+    void shouldFindIssuesByMessageDescriptionAndFileName() throws IOException {
+        try (IssueSearchIndex index = new IssueSearchIndex(new SearchProperties())) {
+            index.index(JOB_NAME, createBuild(1));
+
+            IssueSearchResult byMessage = index.search("unused", null, null, null, 0, 10);
+            IssueSearchResult byDescription = index.search("javadoc", null, null, null, 0, 10);
+            IssueSearchResult byFileName = index.search("fileName:Parser.java", null, null, null, 0, 10);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(byMessage.getTotalHits()).isEqualTo(1);
+                softly.assertThat(byMessage.getHits()).extracting(IssueSearchHit::getMessage).containsExactly("Unused import java.util.List");
+                softly.assertThat(byMessage.getHits()).extracting(IssueSearchHit::getBuildNumber).containsExactly(1);
+                softly.assertThat(byMessage.getHits()).extracting(IssueSearchHit::getLineStart).containsExactly(3);
+                softly.assertThat(byDescription.getHits()).extracting(IssueSearchHit::getFileName).containsExactly("src/Parser.java");
+                softly.assertThat(byFileName.getTotalHits()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Test
+    void shouldFilterAndCountFacets() throws IOException {
+        try (IssueSearchIndex index = new IssueSearchIndex(new SearchProperties())) {
+            index.index(JOB_NAME, createBuild(1));
+            index.index(OTHER_JOB_NAME, createBuild(7));
+
+            IssueSearchResult all = index.search("", null, null, null, 0, 10);
+            IssueSearchResult filtered = index.search("", OTHER_JOB_NAME, "checkstyle", "HIGH", 0, 10);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(all.getTotalHits()).isEqualTo(6);
+                softly.assertThat(all.getFacets().get(IssueSearchIndex.JOB))
+                        .containsEntry(JOB_NAME, 3L).containsEntry(OTHER_JOB_NAME, 3L);
+                softly.assertThat(all.getFacets().get(IssueSearchIndex.TOOL))
+                        .containsEntry("checkstyle", 4L).containsEntry("pmd", 2L);
+                softly.assertThat(all.getFacets().get(IssueSearchIndex.SEVERITY))
+                        .containsEntry("HIGH", 2L).containsEntry("LOW", 4L);
+                softly.assertThat(filtered.getHits()).extracting(IssueSearchHit::getJobName, IssueSearchHit::getBuildNumber)
+                        .containsExactly(tuple(OTHER_JOB_NAME, 7));
+                softly.assertThat(filtered.getFacets().get(IssueSearchIndex.JOB)).containsOnlyKeys(OTHER_JOB_NAME);
+            });
+        }
+    }
+
+    @Test
+    void shouldReplaceIssuesOfBuildThatIsIndexedAgain(@TempDir final Path directory) throws IOException {
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setIndexDirectory(directory.toString());
+        try (IssueSearchIndex index = new IssueSearchIndex(searchProperties)) {
+            assertThat(index.isEmpty()).isTrue();
+
+            index.index(JOB_NAME, createBuild(1));
+            index.index(JOB_NAME, createBuild(1));
+
+            assertThat(index.search("", null, null, null, 0, 10).getTotalHits()).isEqualTo(3);
+        }
+        try (IssueSearchIndex index = new IssueSearchIndex(searchProperties)) {
+            assertThat(index.isEmpty()).isFalse();
+            assertThat(index.search("unused", JOB_NAME, null, null, 0, 10).getTotalHits()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldIndexIssueOnceWithFirstAndLastBuild() throws IOException {
+        try (IssueSearchIndex index = new IssueSearchIndex(new SearchProperties())) {
+            index.index(JOB_NAME, createBuild(2));
+            index.index(JOB_NAME, createBuild(3));
+            index.index(JOB_NAME, createBuild(1));
+            Build fixedBuild = new Build(0, 4, "url/4/");
+            fixedBuild.addResult(createResult("pmd", new IssueBuilder().setMessage("Avoid long methods")
+                    .setFileName("src/Main.java").setSeverity(Severity.WARNING_LOW).setFingerprint("long").build()));
+            index.index(JOB_NAME, fixedBuild);
+
+            IssueSearchResult all = index.search("", null, null, null, 0, 10);
+            IssueSearchResult fixed = index.search("unused", null, null, null, 0, 10);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(all.getTotalHits()).isEqualTo(4);
+                softly.assertThat(fixed.getHits()).extracting(IssueSearchHit::getFirstBuildNumber, IssueSearchHit::getBuildNumber)
+                        .containsExactly(tuple(1, 3));
+                softly.assertThat(index.search("fingerprint", null, "pmd", null, 0, 10).getTotalHits()).isZero();
+                softly.assertThat(index.search("long", null, "pmd", null, 0, 10).getHits())
+                        .extracting(IssueSearchHit::getFingerprint, IssueSearchHit::getFirstBuildNumber, IssueSearchHit::getBuildNumber)
+                        .containsExactlyInAnyOrder(tuple("-", 1, 3), tuple("long", 4, 4));
+            });
+        }
+    }
+
+    @Test
+    void shouldRemoveIssuesThatHaveBeenSeenLastInDeletedBuilds() throws IOException {
+        try (IssueSearchIndex index = new IssueSearchIndex(new SearchProperties())) {
+            index.index(JOB_NAME, createBuild(1));
+            Build build = new Build(0, 2, "url/2/");
+            build.addResult(createResult("pmd", new IssueBuilder().setMessage("Avoid long methods")
+                    .setFileName("src/Main.java").setSeverity(Severity.WARNING_LOW).build()));
+            index.index(JOB_NAME, build);
+            index.index(OTHER_JOB_NAME, createBuild(1));
+
+            index.delete(JOB_NAME, Collections.singletonList(1));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(index.search("", JOB_NAME, null, null, 0, 10).getHits())
+                        .extracting(IssueSearchHit::getMessage, IssueSearchHit::getFirstBuildNumber)
+                        .containsExactly(tuple("Avoid long methods", 1));
+                softly.assertThat(index.search("", OTHER_JOB_NAME, null, null, 0, 10).getTotalHits()).isEqualTo(3);
+            });
+        }
+    }
+
+    @Test
+    void shouldPageHitsAndRejectInvalidRequests() throws IOException {
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setMaxResultWindow(4);
+        try (IssueSearchIndex index = new IssueSearchIndex(searchProperties)) {
+            index.index(JOB_NAME, createBuild(1));
+
+            IssueSearchResult secondPage = index.search("", null, null, null, 1, 2);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(secondPage.getTotalHits()).isEqualTo(3);
+                softly.assertThat(secondPage.getHits()).hasSize(1);
+            });
+            assertThatThrownBy(() -> index.search("", null, null, null, 2, 2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> index.search("message:(unclosed", null, null, null, 0, 2)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private Build createBuild(final int number) {
+        Build build = new Build(0, number, "url/" + number + "/");
+        build.addResult(createResult("checkstyle",
+                new IssueBuilder().setMessage("Unused import java.util.List").setFileName("src/Main.java").setLineStart(3)
+                        .setSeverity(Severity.WARNING_HIGH).setCategory("Imports").build(),
+                new IssueBuilder().setMessage("Missing comment").setDescription("Add a Javadoc comment").setFileName("src/Parser.java")
+                        .setSeverity(Severity.WARNING_LOW).setCategory("Javadoc").build()));
+        build.addResult(createResult("pmd",
+                new IssueBuilder().setMessage("Avoid long methods").setFileName("src/Main.java")
+                        .setSeverity(Severity.WARNING_LOW).build()));
+        return build;
+    }
+
+    private Result createResult(final String tool, final Issue... issues) {
+        Report report = new Report();
+        for (Issue issue : issues) {
+            report.add(issue);
+        }
+        Result result = new Result();
+        result.setWarningId(tool);
+        result.setOutstandingIssues(report);
+        return result;
+    }
+}